@@ -26,6 +26,7 @@ import org.flowable.app.engine.impl.util.CommandContextUtil;
 import org.flowable.common.engine.api.repository.EngineResource;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.util.DeploymentContentHashUtil;
 
 /**
  * @author Tijs Rademakers
@@ -42,7 +43,8 @@ public class DeployCmd implements Command<AppDeployment> {
     public AppDeployment execute(CommandContext commandContext) {
         AppEngineConfiguration appEngineConfiguration = CommandContextUtil.getAppEngineConfiguration(commandContext);
         AppDeploymentEntity deployment = deploymentBuilder.getDeployment();
-        
+        deployment.setContentHash(DeploymentContentHashUtil.computeContentHash(deployment.getResources(), EngineResource::getBytes));
+
         if (deploymentBuilder.isDuplicateFilterEnabled()) {
 
             List<AppDeployment> existingDeployments = new ArrayList<>();
@@ -84,6 +86,11 @@ public class DeployCmd implements Command<AppDeployment> {
     
     protected boolean deploymentsDiffer(AppDeploymentEntity deployment, AppDeploymentEntity saved) {
 
+        // Only deployments that were deployed before the content hash was stored need to be compared by reading their resources
+        if (deployment.getContentHash() != null && saved.getContentHash() != null) {
+            return !deployment.getContentHash().equals(saved.getContentHash());
+        }
+
         if (deployment.getResources() == null || saved.getResources() == null) {
             return true;
         }
@@ -39,6 +39,7 @@ public class AppDeploymentEntityImpl extends AbstractAppEngineNoRevisionEntity i
     protected String tenantId = AppEngineConfiguration.NO_TENANT_ID;
     protected Map<String, EngineResource> resources;
     protected Date deploymentTime;
+    protected String contentHash;
     protected boolean isNew;
 
     /**
@@ -164,6 +165,16 @@ public class AppDeploymentEntityImpl extends AbstractAppEngineNoRevisionEntity i
         this.deploymentTime = deploymentTime;
     }
 
+    @Override
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    @Override
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
     @Override
     public boolean isNew() {
         return isNew;
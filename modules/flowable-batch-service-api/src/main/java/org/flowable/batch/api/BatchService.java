@@ -13,6 +13,7 @@
 package org.flowable.batch.api;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service which provides access to batch entities.
@@ -45,6 +46,18 @@ public interface BatchService {
     
     List<BatchPart> findBatchPartsByBatchIdAndStatus(String batchId, String status);
     
+    /**
+     * Counts the batch parts of the batch with the given status, or all batch parts of the batch when the status is null.
+     */
+    long countBatchPartsByBatchIdAndStatus(String batchId, String status);
+    
+    /**
+     * Counts the batch parts of the batch per status, with one query that doesn't fetch the batch parts themselves.
+     *
+     * @return the number of batch parts per status, statuses without batch parts are not included
+     */
+    Map<String, Long> countBatchPartsByBatchIdGroupedByStatus(String batchId);
+    
     List<BatchPart> findBatchPartsByScopeIdAndType(String scopeId, String scopeType);
     
     BatchPart createBatchPart(Batch batch, String status, String scopeId, String subScopeId, String scopeType);
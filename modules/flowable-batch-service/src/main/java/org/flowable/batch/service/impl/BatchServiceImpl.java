@@ -13,6 +13,7 @@
 package org.flowable.batch.service.impl;
 
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.batch.api.Batch;
 import org.flowable.batch.api.BatchBuilder;
@@ -95,6 +96,16 @@ public class BatchServiceImpl extends CommonServiceImpl<BatchServiceConfiguratio
         return getBatchPartEntityManager().findBatchPartsByBatchIdAndStatus(batchId, status);
     }
     
+    @Override
+    public long countBatchPartsByBatchIdAndStatus(String batchId, String status) {
+        return getBatchPartEntityManager().countBatchPartsByBatchIdAndStatus(batchId, status);
+    }
+
+    @Override
+    public Map<String, Long> countBatchPartsByBatchIdGroupedByStatus(String batchId) {
+        return getBatchPartEntityManager().countBatchPartsByBatchIdGroupedByStatus(batchId);
+    }
+
     @Override
     public List<BatchPart> findBatchPartsByScopeIdAndType(String scopeId, String scopeType) {
         return getBatchPartEntityManager().findBatchPartsByScopeIdAndType(scopeId, scopeType);
@@ -13,6 +13,7 @@
 package org.flowable.batch.service.impl.persistence.entity;
 
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.batch.api.BatchPart;
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
@@ -23,6 +24,10 @@ public interface BatchPartEntityManager extends EntityManager<BatchPartEntity> {
     
     List<BatchPart> findBatchPartsByBatchIdAndStatus(String batchId, String status);
     
+    long countBatchPartsByBatchIdAndStatus(String batchId, String status);
+    
+    Map<String, Long> countBatchPartsByBatchIdGroupedByStatus(String batchId);
+    
     List<BatchPart> findBatchPartsByScopeIdAndType(String scopeId, String scopeType);
 
     BatchPartEntity createBatchPart(BatchEntity parentBatch, String status, String scopeId, String subScopeId, String scopeType);
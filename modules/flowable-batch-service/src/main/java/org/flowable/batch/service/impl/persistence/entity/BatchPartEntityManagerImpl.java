@@ -14,6 +14,7 @@
 package org.flowable.batch.service.impl.persistence.entity;
 
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.batch.api.BatchPart;
 import org.flowable.batch.service.BatchServiceConfiguration;
@@ -39,6 +40,16 @@ public class BatchPartEntityManagerImpl
         return dataManager.findBatchPartsByBatchIdAndStatus(batchId, status);
     }
     
+    @Override
+    public long countBatchPartsByBatchIdAndStatus(String batchId, String status) {
+        return dataManager.countBatchPartsByBatchIdAndStatus(batchId, status);
+    }
+    
+    @Override
+    public Map<String, Long> countBatchPartsByBatchIdGroupedByStatus(String batchId) {
+        return dataManager.countBatchPartsByBatchIdGroupedByStatus(batchId);
+    }
+    
     @Override
     public List<BatchPart> findBatchPartsByScopeIdAndType(String scopeId, String scopeType) {
         return dataManager.findBatchPartsByScopeIdAndType(scopeId, scopeType);
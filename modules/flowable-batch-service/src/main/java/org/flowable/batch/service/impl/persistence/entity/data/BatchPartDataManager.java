@@ -13,6 +13,7 @@
 package org.flowable.batch.service.impl.persistence.entity.data;
 
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.batch.api.BatchPart;
 import org.flowable.batch.service.impl.persistence.entity.BatchPartEntity;
@@ -24,5 +25,9 @@ public interface BatchPartDataManager extends DataManager<BatchPartEntity> {
     
     List<BatchPart> findBatchPartsByBatchIdAndStatus(String batchId, String status);
     
+    long countBatchPartsByBatchIdAndStatus(String batchId, String status);
+    
+    Map<String, Long> countBatchPartsByBatchIdGroupedByStatus(String batchId);
+    
     List<BatchPart> findBatchPartsByScopeIdAndType(String scopeId, String scopeType);
 }
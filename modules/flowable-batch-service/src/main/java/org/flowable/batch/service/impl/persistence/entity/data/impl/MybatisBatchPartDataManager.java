@@ -14,6 +14,7 @@ package org.flowable.batch.service.impl.persistence.entity.data.impl;
 
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.batch.api.BatchPart;
 import org.flowable.batch.service.BatchServiceConfiguration;
@@ -60,6 +61,29 @@ public class MybatisBatchPartDataManager extends AbstractDataManager<BatchPartEn
         return getDbSqlSession().selectList("selectBatchPartsByBatchIdAndStatus", params);
     }
     
+    @Override
+    public long countBatchPartsByBatchIdAndStatus(String batchId, String status) {
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("batchId", batchId);
+        params.put("status", status);
+        
+        return (Long) getDbSqlSession().selectOne("selectBatchPartCountByBatchIdAndStatus", params);
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, Long> countBatchPartsByBatchIdGroupedByStatus(String batchId) {
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("batchId", batchId);
+        
+        List<Map<String, Object>> statusCounts = getDbSqlSession().selectList("selectBatchPartCountByBatchIdGroupedByStatus", params);
+        Map<String, Long> countsByStatus = new HashMap<>();
+        for (Map<String, Object> statusCount : statusCounts) {
+            countsByStatus.put((String) statusCount.get("status"), ((Number) statusCount.get("count")).longValue());
+        }
+        return countsByStatus;
+    }
+    
     @Override
     @SuppressWarnings("unchecked")
     public List<BatchPart> findBatchPartsByScopeIdAndType(String scopeId, String scopeType) {
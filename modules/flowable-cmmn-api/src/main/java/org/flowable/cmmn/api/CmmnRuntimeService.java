@@ -167,6 +167,12 @@ public interface CmmnRuntimeService {
     boolean hasVariable(String caseInstanceId, String variableName);
     
     void setVariables(String caseInstanceId, Map<String, Object> variables);
+
+    /**
+     * Sets the variables of multiple case instances in one transaction. The variables of every case instance are set the same way as with
+     * {@link #setVariables(String, Map)}, but the existing variables of all case instances are fetched at once and all changes are flushed together.
+     */
+    void setVariablesForCaseInstances(Map<String, ? extends Map<String, ? extends Object>> variablesByCaseInstanceId);
     
     void setVariable(String caseInstanceId, String variableName, Object variableValue);
     
@@ -423,6 +423,9 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected int expressionCacheSize = 4096;
     protected int expressionTextLengthCacheLimit = -1; // negative value to have no max length
 
+    protected boolean isCompiledScriptCacheEnabled;
+    protected int compiledScriptCacheSize = 1024;
+
     protected ScriptingEngines scriptingEngines;
     protected List<ResolverFactory> resolverFactories;
 
@@ -448,6 +451,13 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
 
     protected boolean isCreateDiagramOnDeploy = true;
 
+    /**
+     * When enabled, the missing diagrams of case definitions are not created on deploy, but the first time they are requested
+     * with {@link CmmnRepositoryService#getCaseDiagram(String)}. The created diagram is stored as a generated resource of the deployment.
+     * Only has effect when {@link #isCreateDiagramOnDeploy} is enabled.
+     */
+    protected boolean isCreateDiagramOnFirstAccess;
+
     protected String activityFontName = "Arial";
     protected String labelFontName = "Arial";
     protected String annotationFontName = "Arial";
@@ -475,6 +485,22 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected int caseQueryLimit = 20000;
     protected int historicCaseQueryLimit = 20000;
 
+    /**
+     * Keeps a count on each case instance of how many tasks, jobs, event subscriptions and identity links reference it,
+     * and on each plan item instance of how many timer jobs, external worker jobs and identity links it has.
+     * Deleting a case or plan item instance then skips the queries for relations that are known to be empty.
+     *
+     * Maintaining the counts means more updates of the case and plan item instances, and thus more optimistic locking
+     * opportunities when tasks or jobs of the same case instance are handled concurrently.
+     */
+    protected boolean enableCaseInstanceRelationshipCounts;
+
+    /**
+     * When enabled, the satisfied sentry part instances of a case instance and of all its plan item instances are fetched with one query
+     * when the case instance is fetched together with its plan item instance tree, instead of with one query per plan item instance on first access.
+     */
+    protected boolean enableEagerSentryPartInstanceFetching;
+
     // Variable support
     protected VariableTypes variableTypes;
     protected List<VariableType> customPreVariableTypes;
@@ -494,6 +520,12 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
      */
     protected boolean jsonVariableTypeTrackObjects = true;
 
+    /**
+     * When true, json variable values that are too long to be stored as text are stored gzip compressed in the byte array table.
+     * Compressed and uncompressed values can always be read, independent of this setting.
+     */
+    protected boolean jsonVariableTypeCompressLargeValues = false;
+
 
     // Set Http Client config defaults
     protected HttpClientConfig httpClientConfig = new HttpClientConfig();
@@ -528,6 +560,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected FailedJobCommandFactory failedJobCommandFactory;
     protected InternalJobParentStateResolver internalJobParentStateResolver;
     protected List<String> enabledJobCategories;
+    protected int jobPartitionCount;
     protected String jobExecutionScope = JobServiceConfiguration.JOB_EXECUTION_SCOPE_CMMN;
     protected String historyJobExecutionScope = JobServiceConfiguration.JOB_EXECUTION_SCOPE_CMMN;
     
@@ -673,6 +706,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
      */
     protected int asyncExecutorDefaultAsyncJobAcquireWaitTime = 10 * 1000;
 
+    /**
+     * The time window (in milliseconds) within which the timer acquisition thread acquires timer jobs ahead of their due date.
+     * The acquired timer jobs are locked and kept in an in-memory timing wheel, from which they are moved to the executable jobs at their due date.
+     * Default value = 0, which means timer jobs are only acquired once they are due.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected int asyncExecutorTimerJobPrefetchWindow;
+
     /**
      * The time (in milliseconds) the async job (both timer and async continuations) acquisition thread will wait
      * when the queue is full to execute the next query. By default set to 0 (for backwards compatibility)
@@ -1446,9 +1488,11 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             resolverFactories.add(new BeansResolverFactory());
         }
         if (scriptingEngines == null) {
-
             scriptingEngines = new ScriptingEngines(new ScriptBindingsFactory(this, resolverFactories));
         }
+        if (isCompiledScriptCacheEnabled && scriptingEngines.getCompiledScriptCache() == null) {
+            scriptingEngines.setCompiledScriptCache(new DefaultDeploymentCache<>(compiledScriptCacheSize));
+        }
     }
     
     public void afterInitEventRegistryEventBusConsumer() {
@@ -1516,7 +1560,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             variableTypes.addType(new JodaDateTimeType());
             variableTypes.addType(new DoubleType());
             variableTypes.addType(new UUIDType());
-            variableTypes.addType(new JsonType(getMaxLengthString(), objectMapper, jsonVariableTypeTrackObjects));
+            variableTypes.addType(new JsonType(getMaxLengthString(), objectMapper, jsonVariableTypeTrackObjects, jsonVariableTypeCompressLargeValues));
             // longJsonType only needed for reading purposes
             variableTypes.addType(JsonType.longJsonType(getMaxLengthString(), objectMapper, jsonVariableTypeTrackObjects));
             variableTypes.addType(new CmmnAggregatedVariableType(this));
@@ -1832,6 +1876,8 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             if (enabledJobCategories != null) {
                 this.jobServiceConfiguration.setEnabledJobCategories(enabledJobCategories);
             }
+
+            this.jobServiceConfiguration.setJobPartitionCount(this.jobPartitionCount);
         }
     }
 
@@ -1929,6 +1975,9 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             defaultAsyncExecutor.setDefaultTimerJobAcquireWaitTimeInMillis(asyncExecutorDefaultTimerJobAcquireWaitTime);
             defaultAsyncExecutor.setDefaultAsyncJobAcquireWaitTimeInMillis(asyncExecutorDefaultAsyncJobAcquireWaitTime);
 
+            // Timer job prefetching
+            defaultAsyncExecutor.setTimerJobPrefetchWindowInMillis(asyncExecutorTimerJobPrefetchWindow);
+
             // Queue full wait time
             defaultAsyncExecutor.setDefaultQueueSizeFullWaitTimeInMillis(asyncExecutorDefaultQueueSizeFullWaitTime);
 
@@ -2741,6 +2790,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isCompiledScriptCacheEnabled() {
+        return isCompiledScriptCacheEnabled;
+    }
+
+    public CmmnEngineConfiguration setCompiledScriptCacheEnabled(boolean isCompiledScriptCacheEnabled) {
+        this.isCompiledScriptCacheEnabled = isCompiledScriptCacheEnabled;
+        return this;
+    }
+
+    public int getCompiledScriptCacheSize() {
+        return compiledScriptCacheSize;
+    }
+
+    public CmmnEngineConfiguration setCompiledScriptCacheSize(int compiledScriptCacheSize) {
+        this.compiledScriptCacheSize = compiledScriptCacheSize;
+        return this;
+    }
+
     public DelegateExpressionFieldInjectionMode getDelegateExpressionFieldInjectionMode() {
         return delegateExpressionFieldInjectionMode;
     }
@@ -2977,6 +3044,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isEnableCaseInstanceRelationshipCounts() {
+        return enableCaseInstanceRelationshipCounts;
+    }
+
+    public CmmnEngineConfiguration setEnableCaseInstanceRelationshipCounts(boolean enableCaseInstanceRelationshipCounts) {
+        this.enableCaseInstanceRelationshipCounts = enableCaseInstanceRelationshipCounts;
+        return this;
+    }
+
     public int getTaskQueryLimit() {
         return taskQueryLimit;
     }
@@ -3021,6 +3097,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         this.historicCaseQueryLimit = historicCaseQueryLimit;
     }
 
+    public boolean isEnableEagerSentryPartInstanceFetching() {
+        return enableEagerSentryPartInstanceFetching;
+    }
+
+    public CmmnEngineConfiguration setEnableEagerSentryPartInstanceFetching(boolean enableEagerSentryPartInstanceFetching) {
+        this.enableEagerSentryPartInstanceFetching = enableEagerSentryPartInstanceFetching;
+        return this;
+    }
+
     public boolean isSerializableVariableTypeTrackDeserializedObjects() {
         return serializableVariableTypeTrackDeserializedObjects;
     }
@@ -3039,6 +3124,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isJsonVariableTypeCompressLargeValues() {
+        return jsonVariableTypeCompressLargeValues;
+    }
+
+    public CmmnEngineConfiguration setJsonVariableTypeCompressLargeValues(boolean jsonVariableTypeCompressLargeValues) {
+        this.jsonVariableTypeCompressLargeValues = jsonVariableTypeCompressLargeValues;
+        return this;
+    }
+
     public CaseDiagramGenerator getCaseDiagramGenerator() {
         return caseDiagramGenerator;
     }
@@ -3057,6 +3151,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isCreateDiagramOnFirstAccess() {
+        return isCreateDiagramOnFirstAccess;
+    }
+
+    public CmmnEngineConfiguration setCreateDiagramOnFirstAccess(boolean isCreateDiagramOnFirstAccess) {
+        this.isCreateDiagramOnFirstAccess = isCreateDiagramOnFirstAccess;
+        return this;
+    }
+
     public String getActivityFontName() {
         return activityFontName;
     }
@@ -3453,6 +3556,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public int getAsyncExecutorTimerJobPrefetchWindow() {
+        return asyncExecutorTimerJobPrefetchWindow;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorTimerJobPrefetchWindow(int asyncExecutorTimerJobPrefetchWindow) {
+        this.asyncExecutorTimerJobPrefetchWindow = asyncExecutorTimerJobPrefetchWindow;
+        return this;
+    }
+
     public ExecuteAsyncRunnableFactory getAsyncExecutorExecuteAsyncRunnableFactory() {
         return asyncExecutorExecuteAsyncRunnableFactory;
     }
@@ -3817,6 +3929,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public int getJobPartitionCount() {
+        return jobPartitionCount;
+    }
+
+    public CmmnEngineConfiguration setJobPartitionCount(int jobPartitionCount) {
+        this.jobPartitionCount = jobPartitionCount;
+        return this;
+    }
+
     public String getJobExecutionScope() {
         return jobExecutionScope;
     }
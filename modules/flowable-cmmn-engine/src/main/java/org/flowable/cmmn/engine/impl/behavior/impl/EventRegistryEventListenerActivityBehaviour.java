@@ -26,6 +26,7 @@ import org.flowable.cmmn.engine.impl.behavior.CoreCmmnTriggerableActivityBehavio
 import org.flowable.cmmn.engine.impl.behavior.PlanItemActivityBehavior;
 import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.cmmn.engine.impl.util.CountingEntityUtil;
 import org.flowable.cmmn.engine.impl.util.EventInstanceCmmnUtil;
 import org.flowable.cmmn.model.ExtensionElement;
 import org.flowable.cmmn.model.PlanItemDefinition;
@@ -37,6 +38,7 @@ import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.eventregistry.api.runtime.EventInstance;
 import org.flowable.eventregistry.impl.constant.EventConstants;
+import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.eventsubscription.service.EventSubscriptionService;
 import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntity;
 
@@ -81,6 +83,7 @@ public class EventRegistryEventListenerActivityBehaviour extends CoreCmmnTrigger
         for (EventSubscriptionEntity eventSubscription : eventSubscriptions) {
             if (Objects.equals(eventDefinitionKey, eventSubscription.getEventType())) {
                 eventSubscriptionService.deleteEventSubscription(eventSubscription);
+                CountingEntityUtil.handleDeleteEventSubscriptionCount(eventSubscription, cmmnEngineConfiguration);
             }
         }
         
@@ -110,6 +113,7 @@ public class EventRegistryEventListenerActivityBehaviour extends CoreCmmnTrigger
             List<EventSubscriptionEntity> eventSubscriptions = eventSubscriptionService.findEventSubscriptionsBySubScopeId(planItemInstance.getId());
             for (EventSubscriptionEntity eventSubscription : eventSubscriptions) {
                 eventSubscriptionService.deleteEventSubscription(eventSubscription);
+                CountingEntityUtil.handleDeleteEventSubscriptionCount(eventSubscription, cmmnEngineConfiguration);
             }
 
         } else if (PlanItemTransition.CREATE.equals(transition)) {
@@ -124,7 +128,7 @@ public class EventRegistryEventListenerActivityBehaviour extends CoreCmmnTrigger
         String correlationKey = getCorrelationKey(commandContext, planItemInstanceEntity);
 
         CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
-        cmmnEngineConfiguration.getEventSubscriptionServiceConfiguration().getEventSubscriptionService().createEventSubscriptionBuilder()
+        EventSubscription eventSubscription = cmmnEngineConfiguration.getEventSubscriptionServiceConfiguration().getEventSubscriptionService().createEventSubscriptionBuilder()
             .eventType(eventDefinitionKey)
             .subScopeId(planItemInstanceEntity.getId())
             .scopeId(planItemInstanceEntity.getCaseInstanceId())
@@ -133,6 +137,7 @@ public class EventRegistryEventListenerActivityBehaviour extends CoreCmmnTrigger
             .tenantId(planItemInstanceEntity.getTenantId())
             .configuration(correlationKey)
             .create();
+        CountingEntityUtil.handleInsertEventSubscriptionCount(eventSubscription, cmmnEngineConfiguration);
     }
 
     protected String getCorrelationKey(CommandContext commandContext, PlanItemInstanceEntity planItemInstanceEntity) {
@@ -22,11 +22,13 @@ import org.flowable.cmmn.engine.impl.behavior.CoreCmmnTriggerableActivityBehavio
 import org.flowable.cmmn.engine.impl.behavior.PlanItemActivityBehavior;
 import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.cmmn.engine.impl.util.CountingEntityUtil;
 import org.flowable.cmmn.model.PlanItemTransition;
 import org.flowable.cmmn.model.SignalEventListener;
 import org.flowable.common.engine.api.delegate.Expression;
 import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.eventsubscription.service.EventSubscriptionService;
 import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntity;
 import org.flowable.eventsubscription.service.impl.persistence.entity.SignalEventSubscriptionEntity;
@@ -52,6 +54,7 @@ public class SignalEventListenerActivityBehaviour extends CoreCmmnTriggerableAct
             List<EventSubscriptionEntity> eventSubscriptions = eventSubscriptionService.findEventSubscriptionsBySubScopeId(planItemInstance.getId());
             for (EventSubscriptionEntity eventSubscription : eventSubscriptions) {
                 eventSubscriptionService.deleteEventSubscription(eventSubscription);
+                CountingEntityUtil.handleDeleteEventSubscriptionCount(eventSubscription, cmmnEngineConfiguration);
             }
 
         } else if (PlanItemTransition.CREATE.equals(transition)) {
@@ -62,7 +65,7 @@ public class SignalEventListenerActivityBehaviour extends CoreCmmnTriggerableAct
                 signalName = signalExpression.getValue(planItemInstance).toString();
             }
 
-            cmmnEngineConfiguration.getEventSubscriptionServiceConfiguration().getEventSubscriptionService().createEventSubscriptionBuilder()
+            EventSubscription eventSubscription = cmmnEngineConfiguration.getEventSubscriptionServiceConfiguration().getEventSubscriptionService().createEventSubscriptionBuilder()
                 .eventType(SignalEventSubscriptionEntity.EVENT_TYPE)
                 .eventName(signalName)
                 .subScopeId(planItemInstance.getId())
@@ -71,6 +74,7 @@ public class SignalEventListenerActivityBehaviour extends CoreCmmnTriggerableAct
                 .scopeType(ScopeTypes.CMMN)
                 .tenantId(planItemInstance.getTenantId())
                 .create();
+            CountingEntityUtil.handleInsertEventSubscriptionCount(eventSubscription, cmmnEngineConfiguration);
 
         }
     }
@@ -96,6 +100,7 @@ public class SignalEventListenerActivityBehaviour extends CoreCmmnTriggerableAct
         for (EventSubscriptionEntity eventSubscription : eventSubscriptions) {
             if (eventSubscription instanceof SignalEventSubscriptionEntity && eventSubscription.getEventName().equals(signalName)) {
                 eventSubscriptionService.deleteEventSubscription(eventSubscription);
+                CountingEntityUtil.handleDeleteEventSubscriptionCount(eventSubscription, cmmnEngineConfiguration);
             }
         }
         
@@ -23,6 +23,7 @@ import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntityManage
 import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
 import org.flowable.cmmn.engine.impl.util.CmmnLoggingSessionUtil;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.cmmn.engine.impl.util.CountingEntityUtil;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.logging.CmmnLoggingSessionConstants;
@@ -54,13 +55,13 @@ public class DefaultInternalCmmnJobManager extends ScopeAwareInternalJobManager
 
     @Override
     protected boolean handleJobInsertInternal(Job job) {
-        // Currently, nothing extra needed (but counting relationships can be added later here).
+        CountingEntityUtil.handleInsertJobCount(job, cmmnEngineConfiguration);
         return true;
     }
 
     @Override
     protected void handleJobDeleteInternal(Job job) {
-        // Currently, nothing extra needed (but counting relationships can be added later here).        
+        CountingEntityUtil.handleDeleteJobCount(job, cmmnEngineConfiguration);
     }
 
     @Override
@@ -15,6 +15,7 @@ package org.flowable.cmmn.engine.impl.cmd;
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.cmmn.engine.impl.util.CountingEntityUtil;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.task.api.Task;
@@ -42,6 +43,7 @@ public class CreateCmmnTaskCmd implements Command<Task> {
         CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
         TaskServiceConfiguration taskServiceConfiguration = cmmnEngineConfiguration.getTaskServiceConfiguration();
         Task task = taskServiceConfiguration.getTaskService().createTask(this.taskBuilder);
+        CountingEntityUtil.handleInsertTaskCount(task, cmmnEngineConfiguration);
         if (CountingTaskUtil.isTaskRelatedEntityCountEnabledGlobally(taskServiceConfiguration) && StringUtils.isNotEmpty(task.getParentTaskId())) {
             TaskEntity parentTaskEntity = taskServiceConfiguration.getTaskService().getTask(task.getParentTaskId());
             if (CountingTaskUtil.isTaskRelatedEntityCountEnabled(parentTaskEntity, taskServiceConfiguration)) {
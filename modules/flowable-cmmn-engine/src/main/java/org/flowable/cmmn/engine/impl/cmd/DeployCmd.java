@@ -27,6 +27,7 @@ import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
 import org.flowable.common.engine.api.repository.EngineResource;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.util.DeploymentContentHashUtil;
 
 /**
  * @author Joram Barrez
@@ -44,6 +45,8 @@ public class DeployCmd implements Command<CmmnDeployment> {
         CmmnDeploymentEntity deployment = deploymentBuilder.getDeployment();
         
         CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
+        deployment.setContentHash(DeploymentContentHashUtil.computeContentHash(deployment.getResources(), EngineResource::getBytes));
+
         if (deploymentBuilder.isDuplicateFilterEnabled()) {
 
             List<CmmnDeployment> existingDeployments = new ArrayList<>();
@@ -93,6 +96,11 @@ public class DeployCmd implements Command<CmmnDeployment> {
     
     protected boolean deploymentsDiffer(CmmnDeploymentEntity deployment, CmmnDeploymentEntity saved) {
 
+        // Only deployments that were deployed before the content hash was stored need to be compared by reading their resources
+        if (deployment.getContentHash() != null && saved.getContentHash() != null) {
+            return !deployment.getContentHash().equals(saved.getContentHash());
+        }
+
         if (deployment.getResources() == null || saved.getResources() == null) {
             return true;
         }
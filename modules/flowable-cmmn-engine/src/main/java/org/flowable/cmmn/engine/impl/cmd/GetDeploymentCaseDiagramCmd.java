@@ -13,10 +13,13 @@
 
 package org.flowable.cmmn.engine.impl.cmd;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.Serializable;
 
 import org.flowable.cmmn.api.repository.CaseDefinition;
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.persistence.entity.CmmnResourceEntity;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.interceptor.Command;
@@ -45,10 +48,16 @@ public class GetDeploymentCaseDiagramCmd implements Command<InputStream>, Serial
 
     @Override
     public InputStream execute(CommandContext commandContext) {
-        CaseDefinition caseDefinition = CommandContextUtil.getCmmnEngineConfiguration(commandContext).getDeploymentManager().findDeployedCaseDefinitionById(caseDefinitionId);
+        CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
+        CaseDefinition caseDefinition = cmmnEngineConfiguration.getDeploymentManager().findDeployedCaseDefinitionById(caseDefinitionId);
         String deploymentId = caseDefinition.getDeploymentId();
         String resourceName = caseDefinition.getDiagramResourceName();
         if (resourceName == null) {
+            CmmnResourceEntity diagramResource = cmmnEngineConfiguration.getCaseDefinitionDiagramHelper().createDiagramOnFirstAccess(caseDefinitionId);
+            if (diagramResource != null) {
+                return new ByteArrayInputStream(diagramResource.getBytes());
+            }
+
             LOGGER.info("Resource name is null! No case diagram stream exists.");
             return null;
         } else {
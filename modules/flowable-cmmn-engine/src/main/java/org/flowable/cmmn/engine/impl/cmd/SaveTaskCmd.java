@@ -18,6 +18,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.task.TaskHelper;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.cmmn.engine.impl.util.CountingEntityUtil;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.impl.history.HistoryLevel;
@@ -71,6 +72,12 @@ public class SaveTaskCmd implements Command<Void>, Serializable {
             
             String originalAssignee = originalTaskEntity.getAssignee();
             
+            if (originalTaskEntity instanceof TaskEntity && (!StringUtils.equals(originalTaskEntity.getScopeId(), task.getScopeId())
+                    || !StringUtils.equals(originalTaskEntity.getScopeType(), task.getScopeType()))) {
+                CountingEntityUtil.handleDeleteTaskCount((TaskEntity) originalTaskEntity, cmmnEngineConfiguration);
+                CountingEntityUtil.handleInsertTaskCount(task, cmmnEngineConfiguration);
+            }
+
             cmmnEngineConfiguration.getCmmnHistoryManager().recordTaskInfoChange(task, cmmnEngineConfiguration.getClock().getCurrentTime());
             taskServiceConfiguration.getTaskService().updateTask(task, true);
             
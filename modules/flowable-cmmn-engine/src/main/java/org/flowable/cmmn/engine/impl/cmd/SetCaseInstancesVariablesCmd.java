@@ -0,0 +1,99 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntity;
+import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntityManager;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.persistence.entity.VariableScopeImpl;
+
+/**
+ * Sets the variables of multiple case instances in one transaction.
+ * The existing variables of all case instances are fetched with one query up front,
+ * and all inserts and updates are written in the single flush of this command.
+ */
+public class SetCaseInstancesVariablesCmd implements Command<Void> {
+
+    protected Map<String, ? extends Map<String, ? extends Object>> variablesByCaseInstanceId;
+
+    public SetCaseInstancesVariablesCmd(Map<String, ? extends Map<String, ? extends Object>> variablesByCaseInstanceId) {
+        this.variablesByCaseInstanceId = variablesByCaseInstanceId;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        if (variablesByCaseInstanceId == null) {
+            throw new FlowableIllegalArgumentException("variablesByCaseInstanceId is null");
+        }
+
+        CaseInstanceEntityManager caseInstanceEntityManager = CommandContextUtil.getCaseInstanceEntityManager(commandContext);
+        Map<String, CaseInstanceEntity> caseInstances = new LinkedHashMap<>();
+        for (String caseInstanceId : variablesByCaseInstanceId.keySet()) {
+            if (caseInstanceId == null) {
+                throw new FlowableIllegalArgumentException("caseInstanceId is null");
+            }
+
+            CaseInstanceEntity caseInstanceEntity = caseInstanceEntityManager.findById(caseInstanceId);
+            if (caseInstanceEntity == null) {
+                throw new FlowableObjectNotFoundException("No case instance found for id " + caseInstanceId, CaseInstanceEntity.class);
+            }
+            caseInstances.put(caseInstanceId, caseInstanceEntity);
+        }
+
+        if (caseInstances.isEmpty()) {
+            return null;
+        }
+
+        List<VariableInstanceEntity> variableInstances = CommandContextUtil.getVariableService(commandContext)
+                .createInternalVariableInstanceQuery()
+                .scopeIds(caseInstances.keySet())
+                .withoutSubScopeId()
+                .scopeType(ScopeTypes.CMMN)
+                .list();
+
+        Map<String, List<VariableInstanceEntity>> variableInstancesByCaseInstanceId = new HashMap<>();
+        for (VariableInstanceEntity variableInstance : variableInstances) {
+            variableInstancesByCaseInstanceId.computeIfAbsent(variableInstance.getScopeId(), key -> new ArrayList<>()).add(variableInstance);
+        }
+
+        for (CaseInstanceEntity caseInstanceEntity : caseInstances.values()) {
+            Map<String, ? extends Object> variables = variablesByCaseInstanceId.get(caseInstanceEntity.getId());
+            if (variables == null || variables.isEmpty()) {
+                continue;
+            }
+
+            if (caseInstanceEntity instanceof VariableScopeImpl) {
+                ((VariableScopeImpl) caseInstanceEntity).internalInitializeVariableInstances(
+                        variableInstancesByCaseInstanceId.getOrDefault(caseInstanceEntity.getId(), new ArrayList<>()));
+            }
+            caseInstanceEntity.setVariables(variables);
+
+            CommandContextUtil.getAgenda(commandContext).planEvaluateCriteriaOperation(caseInstanceEntity.getId());
+        }
+
+        return null;
+    }
+
+}
@@ -16,9 +16,14 @@ import org.apache.commons.lang3.StringUtils;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseDefinitionEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.CmmnResourceEntity;
+import org.flowable.cmmn.engine.impl.persistence.entity.deploy.CaseDefinitionCacheEntry;
+import org.flowable.cmmn.engine.impl.repository.CaseDefinitionUtil;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
 import org.flowable.cmmn.model.CmmnModel;
 import org.flowable.common.engine.api.repository.EngineDeployment;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.util.IoUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -74,8 +79,10 @@ public class CaseDefinitionDiagramHelper {
     }
 
     public boolean shouldCreateDiagram(CaseDefinitionEntity caseDefinition, EngineDeployment deployment) {
+        CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration();
         if (deployment.isNew() && caseDefinition.hasGraphicalNotation()
-                && CommandContextUtil.getCmmnEngineConfiguration().isCreateDiagramOnDeploy()) {
+                && cmmnEngineConfiguration.isCreateDiagramOnDeploy()
+                && !cmmnEngineConfiguration.isCreateDiagramOnFirstAccess()) {
 
             // If the 'getProcessDiagramResourceNameFromDeployment' call returns null, it means
             // no diagram image for the process definition was provided in the deployment resources.
@@ -84,4 +91,57 @@ public class CaseDefinitionDiagramHelper {
 
         return false;
     }
+
+    /**
+     * Creates the diagram of a case definition that was deployed without a diagram, when the engine is configured to create diagrams
+     * on first access instead of on deploy (see {@link CmmnEngineConfiguration#isCreateDiagramOnFirstAccess()}).
+     * The diagram is persisted as a generated resource of the deployment and its name is stored on the case definition, so it is only created once.
+     *
+     * @return the diagram resource, or null when no diagram is created for the case definition
+     */
+    public CmmnResourceEntity createDiagramOnFirstAccess(String caseDefinitionId) {
+        CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration();
+        if (!cmmnEngineConfiguration.isCreateDiagramOnDeploy() || !cmmnEngineConfiguration.isCreateDiagramOnFirstAccess()) {
+            return null;
+        }
+
+        CaseDefinitionEntity caseDefinition = cmmnEngineConfiguration.getCaseDefinitionEntityManager().findById(caseDefinitionId);
+        if (caseDefinition == null || !caseDefinition.hasGraphicalNotation()) {
+            return null;
+        }
+
+        if (caseDefinition.getDiagramResourceName() != null) {
+            // The diagram was created by an earlier request, which the cached case definition doesn't know about yet
+            updateCachedDiagramResourceName(caseDefinitionId, caseDefinition.getDiagramResourceName(), cmmnEngineConfiguration);
+            return cmmnEngineConfiguration.getCmmnResourceEntityManager().findResourceByDeploymentIdAndResourceName(
+                    caseDefinition.getDeploymentId(), caseDefinition.getDiagramResourceName());
+        }
+
+        CmmnResourceEntity resource = createDiagramForCaseDefinition(caseDefinition, CaseDefinitionUtil.getCmmnModel(caseDefinitionId));
+        if (resource == null) {
+            return null;
+        }
+
+        cmmnEngineConfiguration.getCmmnResourceEntityManager().insert(resource, false);
+
+        // When the diagram is created concurrently, the revision check of the case definition update fails and the resource is rolled back
+        caseDefinition.setDiagramResourceName(resource.getName());
+
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED,
+                    commandContext -> updateCachedDiagramResourceName(caseDefinitionId, resource.getName(), cmmnEngineConfiguration));
+        } else {
+            updateCachedDiagramResourceName(caseDefinitionId, resource.getName(), cmmnEngineConfiguration);
+        }
+
+        return resource;
+    }
+
+    protected void updateCachedDiagramResourceName(String caseDefinitionId, String diagramResourceName, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        CaseDefinitionCacheEntry cacheEntry = cmmnEngineConfiguration.getCaseDefinitionCache().get(caseDefinitionId);
+        if (cacheEntry != null && cacheEntry.getCaseDefinition() instanceof CaseDefinitionEntity) {
+            ((CaseDefinitionEntity) cacheEntry.getCaseDefinition()).setDiagramResourceName(diagramResourceName);
+        }
+    }
 }
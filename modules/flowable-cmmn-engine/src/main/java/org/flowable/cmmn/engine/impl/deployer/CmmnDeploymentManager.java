@@ -130,6 +130,10 @@ public class CmmnDeploymentManager {
         for (CaseDefinition caseDefinition : new CaseDefinitionQueryImpl().deploymentId(deploymentId).list()) {
             caseDefinitionCache.remove(caseDefinition.getId());
         }
+
+        if (cmmnEngineConfiguration.getScriptingEngines() != null) {
+            cmmnEngineConfiguration.getScriptingEngines().clearCompiledScriptCache();
+        }
     }
 
     public List<EngineDeployer> getDeployers() {
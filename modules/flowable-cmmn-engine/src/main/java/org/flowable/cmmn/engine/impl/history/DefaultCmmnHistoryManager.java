@@ -29,6 +29,7 @@ import org.flowable.cmmn.engine.impl.persistence.entity.HistoricPlanItemInstance
 import org.flowable.cmmn.engine.impl.persistence.entity.HistoricPlanItemInstanceEntityManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.MilestoneInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
+import org.flowable.cmmn.engine.impl.util.CountingEntityUtil;
 import org.flowable.cmmn.model.Milestone;
 import org.flowable.cmmn.model.PlanItemDefinition;
 import org.flowable.cmmn.model.Stage;
@@ -65,6 +66,7 @@ public class DefaultCmmnHistoryManager implements CmmnHistoryManager {
         if (cmmnEngineConfiguration.getHistoryLevel().isAtLeast(HistoryLevel.ACTIVITY)) {
             HistoricCaseInstanceEntityManager historicCaseInstanceEntityManager = cmmnEngineConfiguration.getHistoricCaseInstanceEntityManager();
             HistoricCaseInstanceEntity historicCaseInstanceEntity = cmmnEngineConfiguration.getHistoricCaseInstanceEntityManager().create(caseInstanceEntity);
+            CountingEntityUtil.initHistoricCaseInstanceCount(historicCaseInstanceEntity, caseInstanceEntity, cmmnEngineConfiguration);
             historicCaseInstanceEntityManager.insert(historicCaseInstanceEntity);
         }
     }
@@ -118,6 +120,7 @@ public class DefaultCmmnHistoryManager implements CmmnHistoryManager {
             historicMilestoneInstanceEntity.setTimeStamp(cmmnEngineConfiguration.getClock().getCurrentTime());
             historicMilestoneInstanceEntity.setTenantId(milestoneInstance.getTenantId());
             historicMilestoneInstanceEntityManager.insert(historicMilestoneInstanceEntity);
+            CountingEntityUtil.handleInsertHistoricMilestoneCount(historicMilestoneInstanceEntity.getCaseInstanceId(), cmmnEngineConfiguration);
         }
     }
 
@@ -143,6 +146,7 @@ public class DefaultCmmnHistoryManager implements CmmnHistoryManager {
             historicIdentityLinkEntity.setType(identityLink.getType());
             historicIdentityLinkEntity.setUserId(identityLink.getUserId());
             historicIdentityLinkService.insertHistoricIdentityLink(historicIdentityLinkEntity, false);
+            CountingEntityUtil.handleInsertHistoricIdentityLinkCount(identityLink.getScopeId(), identityLink.getScopeType(), cmmnEngineConfiguration);
         }
     }
 
@@ -173,6 +177,7 @@ public class DefaultCmmnHistoryManager implements CmmnHistoryManager {
             historicEntityLinkEntity.setRootScopeType(entityLink.getRootScopeType());
             historicEntityLinkEntity.setHierarchyType(entityLink.getHierarchyType());
             historicEntityLinkService.insertHistoricEntityLink(historicEntityLinkEntity, false);
+            CountingEntityUtil.handleInsertHistoricEntityLinkCount(entityLink.getScopeId(), entityLink.getScopeType(), cmmnEngineConfiguration);
         }
     }
 
@@ -20,6 +20,7 @@ import java.util.List;
 
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.history.async.CmmnAsyncHistoryConstants;
+import org.flowable.cmmn.engine.impl.util.CountingEntityUtil;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.entitylink.api.history.HistoricEntityLinkService;
 import org.flowable.entitylink.service.impl.persistence.entity.HistoricEntityLinkEntity;
@@ -66,6 +67,8 @@ public class EntityLinkCreatedHistoryJsonTransformer extends AbstractHistoryJson
         historicEntityLinkEntity.setHierarchyType(getStringFromJson(historicalData, CmmnAsyncHistoryConstants.FIELD_HIERARCHY_TYPE));
         
         historicEntityLinkService.insertHistoricEntityLink(historicEntityLinkEntity, false);
+        CountingEntityUtil.handleInsertHistoricEntityLinkCount(historicEntityLinkEntity.getScopeId(), historicEntityLinkEntity.getScopeType(),
+                cmmnEngineConfiguration);
     }
 
 }
@@ -19,6 +19,7 @@ import java.util.List;
 
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.history.async.CmmnAsyncHistoryConstants;
+import org.flowable.cmmn.engine.impl.util.CountingEntityUtil;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.identitylink.service.HistoricIdentityLinkService;
 import org.flowable.identitylink.service.impl.persistence.entity.HistoricIdentityLinkEntity;
@@ -60,6 +61,8 @@ public class IdentityLinkCreatedHistoryJsonTransformer extends AbstractHistoryJs
         historicIdentityLinkEntity.setType(getStringFromJson(historicalData, CmmnAsyncHistoryConstants.FIELD_IDENTITY_LINK_TYPE));
         historicIdentityLinkEntity.setUserId(getStringFromJson(historicalData, CmmnAsyncHistoryConstants.FIELD_USER_ID));
         historicIdentityLinkService.insertHistoricIdentityLink(historicIdentityLinkEntity, false);
+        CountingEntityUtil.handleInsertHistoricIdentityLinkCount(historicIdentityLinkEntity.getScopeId(), historicIdentityLinkEntity.getScopeType(),
+                cmmnEngineConfiguration);
     }
 
 }
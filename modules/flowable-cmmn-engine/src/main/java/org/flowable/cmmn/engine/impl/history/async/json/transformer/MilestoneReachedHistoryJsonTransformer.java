@@ -22,6 +22,7 @@ import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.history.async.CmmnAsyncHistoryConstants;
 import org.flowable.cmmn.engine.impl.persistence.entity.HistoricMilestoneInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.HistoricMilestoneInstanceEntityManager;
+import org.flowable.cmmn.engine.impl.util.CountingEntityUtil;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
 
@@ -58,6 +59,7 @@ public class MilestoneReachedHistoryJsonTransformer extends AbstractHistoryJsonT
         historicMilestoneInstanceEntity.setTimeStamp(getDateFromJson(historicalData, CmmnAsyncHistoryConstants.FIELD_CREATE_TIME));
         historicMilestoneInstanceEntity.setTenantId(getStringFromJson(historicalData, CmmnAsyncHistoryConstants.FIELD_TENANT_ID));
         historicMilestoneInstanceEntityManager.insert(historicMilestoneInstanceEntity);
+        CountingEntityUtil.handleInsertHistoricMilestoneCount(historicMilestoneInstanceEntity.getCaseInstanceId(), cmmnEngineConfiguration);
     }
 
 }
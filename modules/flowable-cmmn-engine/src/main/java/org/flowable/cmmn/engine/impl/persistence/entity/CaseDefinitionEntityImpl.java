@@ -43,6 +43,7 @@ public class CaseDefinitionEntityImpl extends AbstractCmmnEngineEntity implement
     public Object getPersistentState() {
         Map<String, Object> persistentState = new HashMap<>();
         persistentState.put("category", this.category);
+        persistentState.put("diagramResourceName", this.diagramResourceName);
         return persistentState;
     }
 
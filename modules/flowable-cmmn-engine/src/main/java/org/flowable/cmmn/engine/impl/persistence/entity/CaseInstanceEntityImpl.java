@@ -36,7 +36,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 /**
  * @author Joram Barrez
  */
-public class CaseInstanceEntityImpl extends AbstractCmmnEngineVariableScopeEntity implements CaseInstanceEntity {
+public class CaseInstanceEntityImpl extends AbstractCmmnEngineVariableScopeEntity implements CaseInstanceEntity, CountingCaseInstanceEntity {
 
     protected String businessKey;
     protected String name;
@@ -55,6 +55,18 @@ public class CaseInstanceEntityImpl extends AbstractCmmnEngineVariableScopeEntit
     protected Date lockTime;
     protected String lockOwner;
 
+    // Counts
+    protected boolean countEnabled;
+    protected int taskCount;
+    protected int jobCount;
+    protected int timerJobCount;
+    protected int suspendedJobCount;
+    protected int deadLetterJobCount;
+    protected int externalWorkerJobCount;
+    protected int eventSubscriptionCount;
+    protected int identityLinkCount;
+    protected int entityLinkCount;
+
     // non persisted
     protected List<PlanItemInstanceEntity> childPlanItemInstances;
     protected List<SentryPartInstanceEntity> satisfiedSentryPartInstances;
@@ -84,6 +96,16 @@ public class CaseInstanceEntityImpl extends AbstractCmmnEngineVariableScopeEntit
         persistentState.put("tenantId", tenantId);
         persistentState.put("lockTime", lockTime);
         persistentState.put("lockOwner", lockOwner);
+        persistentState.put("countEnabled", countEnabled);
+        persistentState.put("taskCount", taskCount);
+        persistentState.put("jobCount", jobCount);
+        persistentState.put("timerJobCount", timerJobCount);
+        persistentState.put("suspendedJobCount", suspendedJobCount);
+        persistentState.put("deadLetterJobCount", deadLetterJobCount);
+        persistentState.put("externalWorkerJobCount", externalWorkerJobCount);
+        persistentState.put("eventSubscriptionCount", eventSubscriptionCount);
+        persistentState.put("identityLinkCount", identityLinkCount);
+        persistentState.put("entityLinkCount", entityLinkCount);
         return persistentState;
     }
 
@@ -224,6 +246,106 @@ public class CaseInstanceEntityImpl extends AbstractCmmnEngineVariableScopeEntit
         this.lockOwner = lockOwner;
     }
 
+    @Override
+    public boolean isCountEnabled() {
+        return countEnabled;
+    }
+
+    @Override
+    public void setCountEnabled(boolean countEnabled) {
+        this.countEnabled = countEnabled;
+    }
+
+    @Override
+    public int getTaskCount() {
+        return taskCount;
+    }
+
+    @Override
+    public void setTaskCount(int taskCount) {
+        this.taskCount = taskCount;
+    }
+
+    @Override
+    public int getJobCount() {
+        return jobCount;
+    }
+
+    @Override
+    public void setJobCount(int jobCount) {
+        this.jobCount = jobCount;
+    }
+
+    @Override
+    public int getTimerJobCount() {
+        return timerJobCount;
+    }
+
+    @Override
+    public void setTimerJobCount(int timerJobCount) {
+        this.timerJobCount = timerJobCount;
+    }
+
+    @Override
+    public int getSuspendedJobCount() {
+        return suspendedJobCount;
+    }
+
+    @Override
+    public void setSuspendedJobCount(int suspendedJobCount) {
+        this.suspendedJobCount = suspendedJobCount;
+    }
+
+    @Override
+    public int getDeadLetterJobCount() {
+        return deadLetterJobCount;
+    }
+
+    @Override
+    public void setDeadLetterJobCount(int deadLetterJobCount) {
+        this.deadLetterJobCount = deadLetterJobCount;
+    }
+
+    @Override
+    public int getExternalWorkerJobCount() {
+        return externalWorkerJobCount;
+    }
+
+    @Override
+    public void setExternalWorkerJobCount(int externalWorkerJobCount) {
+        this.externalWorkerJobCount = externalWorkerJobCount;
+    }
+
+    @Override
+    public int getEventSubscriptionCount() {
+        return eventSubscriptionCount;
+    }
+
+    @Override
+    public void setEventSubscriptionCount(int eventSubscriptionCount) {
+        this.eventSubscriptionCount = eventSubscriptionCount;
+    }
+
+    @Override
+    public int getIdentityLinkCount() {
+        return identityLinkCount;
+    }
+
+    @Override
+    public void setIdentityLinkCount(int identityLinkCount) {
+        this.identityLinkCount = identityLinkCount;
+    }
+
+    @Override
+    public int getEntityLinkCount() {
+        return entityLinkCount;
+    }
+
+    @Override
+    public void setEntityLinkCount(int entityLinkCount) {
+        this.entityLinkCount = entityLinkCount;
+    }
+
     @Override
     public List<PlanItem> getPlanItems() {
         if (caseDefinitionId != null) {
@@ -43,4 +43,10 @@ public interface CaseInstanceEntityManager extends EntityManager<CaseInstanceEnt
     void clearLockTime(String caseInstanceId);
 
     void clearAllLockTimes(String lockOwner);
+
+    /**
+     * Adds the delta to the given count column of a case instance that has counting enabled, without fetching the case instance first.
+     * Only to be used when the case instance isn't in the entity cache, as the cached entity would overwrite the count on flush.
+     */
+    void updateRelationshipCount(String caseInstanceId, String countColumn, int delta);
 }
@@ -27,6 +27,7 @@ import org.flowable.cmmn.engine.impl.persistence.entity.data.CaseInstanceDataMan
 import org.flowable.cmmn.engine.impl.runtime.CaseInstanceQueryImpl;
 import org.flowable.cmmn.engine.impl.task.TaskHelper;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.cmmn.engine.impl.util.CountingEntityUtil;
 import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.persistence.entity.AbstractEngineEntityManager;
@@ -110,26 +111,36 @@ public class CaseInstanceEntityManagerImpl
             getVariableInstanceEntityManager().deleteByScopeIdAndScopeTypes(caseInstanceId, ScopeTypes.CMMN_DEPENDENT);
         }
 
+        boolean countEnabled = CountingEntityUtil.isCaseInstanceRelatedEntityCountEnabled(caseInstanceEntity, engineConfiguration);
+        CountingCaseInstanceEntity countingCaseInstanceEntity = countEnabled ? (CountingCaseInstanceEntity) caseInstanceEntity : null;
+
         // Identity links
-        getIdentityLinkEntityManager().deleteIdentityLinksByScopeIdAndScopeType(caseInstanceId, ScopeTypes.CMMN);
+        if (!countEnabled || countingCaseInstanceEntity.getIdentityLinkCount() > 0) {
+            getIdentityLinkEntityManager().deleteIdentityLinksByScopeIdAndScopeType(caseInstanceId, ScopeTypes.CMMN);
+        }
         
         // Entity links are deleted by a root instance only.
         // (A callback id is always set when the case instance is a child case for a parent case/process instance)
         // Can't simply check for callBackId being null however, as other usages of callbackType still need to be cleaned up
-        if (engineConfiguration.isEnableEntityLinks() && isRootCaseInstance(caseInstanceEntity)) {
+        if (engineConfiguration.isEnableEntityLinks() && isRootCaseInstance(caseInstanceEntity)
+                && (!countEnabled || countingCaseInstanceEntity.getEntityLinkCount() > 0)) {
             getEntityLinkEntityManager().deleteEntityLinksByRootScopeIdAndType(caseInstanceId, ScopeTypes.CMMN);
         }
         
         // Tasks
-        TaskEntityManager taskEntityManager = getTaskEntityManager();
-        List<TaskEntity> taskEntities = taskEntityManager.findTasksByScopeIdAndScopeType(caseInstanceId, ScopeTypes.CMMN);
-        for (TaskEntity taskEntity : taskEntities) {
-            TaskHelper.deleteTask(taskEntity, deleteReason, cascade, true, engineConfiguration);
+        if (!countEnabled || countingCaseInstanceEntity.getTaskCount() > 0) {
+            TaskEntityManager taskEntityManager = getTaskEntityManager();
+            List<TaskEntity> taskEntities = taskEntityManager.findTasksByScopeIdAndScopeType(caseInstanceId, ScopeTypes.CMMN);
+            for (TaskEntity taskEntity : taskEntities) {
+                TaskHelper.deleteTask(taskEntity, deleteReason, cascade, true, engineConfiguration);
+            }
         }
         
         // Event subscriptions
-        EventSubscriptionService eventSubscriptionService = engineConfiguration.getEventSubscriptionServiceConfiguration().getEventSubscriptionService();
-        eventSubscriptionService.deleteEventSubscriptionsForScopeIdAndType(caseInstanceId, ScopeTypes.CMMN);
+        if (!countEnabled || countingCaseInstanceEntity.getEventSubscriptionCount() > 0) {
+            EventSubscriptionService eventSubscriptionService = engineConfiguration.getEventSubscriptionServiceConfiguration().getEventSubscriptionService();
+            eventSubscriptionService.deleteEventSubscriptionsForScopeIdAndType(caseInstanceId, ScopeTypes.CMMN);
+        }
 
         // Sentry part instances
         getSentryPartInstanceEntityManager().deleteByCaseInstanceId(caseInstanceId);
@@ -144,7 +155,9 @@ public class CaseInstanceEntityManagerImpl
         List<PlanItemInstanceEntity> childTaskPlanItemInstances = new ArrayList<>();
         collectPlanItemInstances(caseInstanceEntity, stagePlanItemInstances, childTaskPlanItemInstances);
 
-        getIdentityLinkEntityManager().deleteIdentityLinksByScopeIdAndScopeType(caseInstanceId, ScopeTypes.PLAN_ITEM);
+        if (!countEnabled || countingCaseInstanceEntity.getIdentityLinkCount() > 0) {
+            getIdentityLinkEntityManager().deleteIdentityLinksByScopeIdAndScopeType(caseInstanceId, ScopeTypes.PLAN_ITEM);
+        }
         
         // Plan item instances are removed per stage, in reversed order
         for (int i = stagePlanItemInstances.size() - 1; i>=0; i--) {
@@ -165,37 +178,47 @@ public class CaseInstanceEntityManagerImpl
         JobServiceConfiguration jobServiceConfiguration = engineConfiguration.getJobServiceConfiguration();
 
         // Jobs have dependencies (byte array refs that need to be deleted, so no immediate delete for the moment)
-        JobEntityManager jobEntityManager = engineConfiguration.getJobServiceConfiguration().getJobEntityManager();
-        List<Job> jobs = jobEntityManager.findJobsByQueryCriteria(new JobQueryImpl(commandContext, jobServiceConfiguration)
-                .scopeId(caseInstanceId).scopeType(ScopeTypes.CMMN));
-        for (Job job : jobs) {
-            jobEntityManager.delete(job.getId());
+        if (!countEnabled || countingCaseInstanceEntity.getJobCount() > 0) {
+            JobEntityManager jobEntityManager = engineConfiguration.getJobServiceConfiguration().getJobEntityManager();
+            List<Job> jobs = jobEntityManager.findJobsByQueryCriteria(new JobQueryImpl(commandContext, jobServiceConfiguration)
+                    .scopeId(caseInstanceId).scopeType(ScopeTypes.CMMN));
+            for (Job job : jobs) {
+                jobEntityManager.delete(job.getId());
+            }
         }
-        TimerJobEntityManager timerJobEntityManager = engineConfiguration.getJobServiceConfiguration().getTimerJobEntityManager();
-        List<Job> timerJobs = timerJobEntityManager.findJobsByQueryCriteria(new TimerJobQueryImpl(commandContext, jobServiceConfiguration)
-                .scopeId(caseInstanceId).scopeType(ScopeTypes.CMMN));
-        for (Job timerJob : timerJobs) {
-            timerJobEntityManager.delete(timerJob.getId());
+        if (!countEnabled || countingCaseInstanceEntity.getTimerJobCount() > 0) {
+            TimerJobEntityManager timerJobEntityManager = engineConfiguration.getJobServiceConfiguration().getTimerJobEntityManager();
+            List<Job> timerJobs = timerJobEntityManager.findJobsByQueryCriteria(new TimerJobQueryImpl(commandContext, jobServiceConfiguration)
+                    .scopeId(caseInstanceId).scopeType(ScopeTypes.CMMN));
+            for (Job timerJob : timerJobs) {
+                timerJobEntityManager.delete(timerJob.getId());
+            }
         }
-        SuspendedJobEntityManager suspendedJobEntityManager = engineConfiguration.getJobServiceConfiguration().getSuspendedJobEntityManager();
-        List<Job> suspendedJobs = suspendedJobEntityManager.findJobsByQueryCriteria(new SuspendedJobQueryImpl(commandContext, jobServiceConfiguration)
-                .scopeId(caseInstanceId).scopeType(ScopeTypes.CMMN));
-        for (Job suspendedJob : suspendedJobs) {
-            suspendedJobEntityManager.delete(suspendedJob.getId());
+        if (!countEnabled || countingCaseInstanceEntity.getSuspendedJobCount() > 0) {
+            SuspendedJobEntityManager suspendedJobEntityManager = engineConfiguration.getJobServiceConfiguration().getSuspendedJobEntityManager();
+            List<Job> suspendedJobs = suspendedJobEntityManager.findJobsByQueryCriteria(new SuspendedJobQueryImpl(commandContext, jobServiceConfiguration)
+                    .scopeId(caseInstanceId).scopeType(ScopeTypes.CMMN));
+            for (Job suspendedJob : suspendedJobs) {
+                suspendedJobEntityManager.delete(suspendedJob.getId());
+            }
         }
-        DeadLetterJobEntityManager deadLetterJobEntityManager = engineConfiguration.getJobServiceConfiguration().getDeadLetterJobEntityManager();
-        List<Job> deadLetterJobs = deadLetterJobEntityManager.findJobsByQueryCriteria(
-                new DeadLetterJobQueryImpl(commandContext, jobServiceConfiguration).scopeId(caseInstanceId).scopeType(ScopeTypes.CMMN));
-        for (Job deadLetterJob : deadLetterJobs) {
-            deadLetterJobEntityManager.delete(deadLetterJob.getId());
+        if (!countEnabled || countingCaseInstanceEntity.getDeadLetterJobCount() > 0) {
+            DeadLetterJobEntityManager deadLetterJobEntityManager = engineConfiguration.getJobServiceConfiguration().getDeadLetterJobEntityManager();
+            List<Job> deadLetterJobs = deadLetterJobEntityManager.findJobsByQueryCriteria(
+                    new DeadLetterJobQueryImpl(commandContext, jobServiceConfiguration).scopeId(caseInstanceId).scopeType(ScopeTypes.CMMN));
+            for (Job deadLetterJob : deadLetterJobs) {
+                deadLetterJobEntityManager.delete(deadLetterJob.getId());
+            }
         }
 
-        ExternalWorkerJobEntityManager externalWorkerJobEntityManager = engineConfiguration.getJobServiceConfiguration().getExternalWorkerJobEntityManager();
-        List<ExternalWorkerJob> externalWorkerJobs = externalWorkerJobEntityManager.findJobsByQueryCriteria(
-                new ExternalWorkerJobQueryImpl(commandContext, jobServiceConfiguration).scopeId(caseInstanceId).scopeType(ScopeTypes.CMMN));
-        for (ExternalWorkerJob externalWorkerJob : externalWorkerJobs) {
-            externalWorkerJobEntityManager.delete(externalWorkerJob.getId());
-            getIdentityLinkEntityManager().deleteIdentityLinksByScopeIdAndScopeType(externalWorkerJob.getCorrelationId(), ScopeTypes.EXTERNAL_WORKER);
+        if (!countEnabled || countingCaseInstanceEntity.getExternalWorkerJobCount() > 0) {
+            ExternalWorkerJobEntityManager externalWorkerJobEntityManager = engineConfiguration.getJobServiceConfiguration().getExternalWorkerJobEntityManager();
+            List<ExternalWorkerJob> externalWorkerJobs = externalWorkerJobEntityManager.findJobsByQueryCriteria(
+                    new ExternalWorkerJobQueryImpl(commandContext, jobServiceConfiguration).scopeId(caseInstanceId).scopeType(ScopeTypes.CMMN));
+            for (ExternalWorkerJob externalWorkerJob : externalWorkerJobs) {
+                externalWorkerJobEntityManager.delete(externalWorkerJob.getId());
+                getIdentityLinkEntityManager().deleteIdentityLinksByScopeIdAndScopeType(externalWorkerJob.getCorrelationId(), ScopeTypes.EXTERNAL_WORKER);
+            }
         }
 
         // Actual case instance
@@ -245,6 +268,11 @@ public class CaseInstanceEntityManagerImpl
         dataManager.clearAllLockTimes(lockOwner);
     }
 
+    @Override
+    public void updateRelationshipCount(String caseInstanceId, String countColumn, int delta) {
+        dataManager.updateRelationshipCount(caseInstanceId, countColumn, delta);
+    }
+
     @Override
     public void updateCaseInstanceBusinessKey(CaseInstanceEntity caseInstanceEntity, String businessKey) {
         if (businessKey != null) {
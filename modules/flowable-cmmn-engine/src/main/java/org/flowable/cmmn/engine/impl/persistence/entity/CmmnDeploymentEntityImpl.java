@@ -39,6 +39,7 @@ public class CmmnDeploymentEntityImpl extends AbstractCmmnEngineNoRevisionEntity
     protected String parentDeploymentId;
     protected Map<String, EngineResource> resources;
     protected Date deploymentTime;
+    protected String contentHash;
     protected boolean isNew;
 
     /**
@@ -175,6 +176,16 @@ public class CmmnDeploymentEntityImpl extends AbstractCmmnEngineNoRevisionEntity
         this.deploymentTime = deploymentTime;
     }
 
+    @Override
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    @Override
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
     @Override
     public boolean isNew() {
         return isNew;
@@ -0,0 +1,51 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.persistence.entity;
+
+/**
+ * Keeps a count of the runtime entities that reference a case instance through their scope id,
+ * so that deleting the case instance can skip the relations that are known to be empty.
+ */
+public interface CountingCaseInstanceEntity {
+
+    boolean isCountEnabled();
+    void setCountEnabled(boolean isCountEnabled);
+
+    int getTaskCount();
+    void setTaskCount(int taskCount);
+
+    int getJobCount();
+    void setJobCount(int jobCount);
+
+    int getTimerJobCount();
+    void setTimerJobCount(int timerJobCount);
+
+    int getSuspendedJobCount();
+    void setSuspendedJobCount(int suspendedJobCount);
+
+    int getDeadLetterJobCount();
+    void setDeadLetterJobCount(int deadLetterJobCount);
+
+    int getExternalWorkerJobCount();
+    void setExternalWorkerJobCount(int externalWorkerJobCount);
+
+    int getEventSubscriptionCount();
+    void setEventSubscriptionCount(int eventSubscriptionCount);
+
+    int getIdentityLinkCount();
+    void setIdentityLinkCount(int identityLinkCount);
+
+    int getEntityLinkCount();
+    void setEntityLinkCount(int entityLinkCount);
+
+}
@@ -0,0 +1,35 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.persistence.entity;
+
+/**
+ * Keeps a count of the historic entities that reference a historic case instance through their scope id,
+ * so that deleting the historic case instance can skip the relations that are known to be empty.
+ *
+ * The counts are only incremented, as historic entities are only deleted together with their historic case instance.
+ */
+public interface CountingHistoricCaseInstanceEntity {
+
+    boolean isCountEnabled();
+    void setCountEnabled(boolean isCountEnabled);
+
+    int getIdentityLinkCount();
+    void setIdentityLinkCount(int identityLinkCount);
+
+    int getEntityLinkCount();
+    void setEntityLinkCount(int entityLinkCount);
+
+    int getMilestoneCount();
+    void setMilestoneCount(int milestoneCount);
+
+}
@@ -26,4 +26,13 @@ public interface CountingPlanItemInstanceEntity {
     int getSentryPartInstanceCount();
     void setSentryPartInstanceCount(int sentryPartInstanceCount);
 
+    int getTimerJobCount();
+    void setTimerJobCount(int timerJobCount);
+
+    int getExternalWorkerJobCount();
+    void setExternalWorkerJobCount(int externalWorkerJobCount);
+
+    int getIdentityLinkCount();
+    void setIdentityLinkCount(int identityLinkCount);
+
 }
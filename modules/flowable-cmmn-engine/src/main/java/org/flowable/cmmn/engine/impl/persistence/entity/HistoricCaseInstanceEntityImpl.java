@@ -26,7 +26,7 @@ import org.flowable.variable.service.impl.persistence.entity.HistoricVariableIns
 /**
  * @author Joram Barrez
  */
-public class HistoricCaseInstanceEntityImpl extends AbstractCmmnEngineEntity implements HistoricCaseInstanceEntity {
+public class HistoricCaseInstanceEntityImpl extends AbstractCmmnEngineEntity implements HistoricCaseInstanceEntity, CountingHistoricCaseInstanceEntity {
     
     protected String businessKey;
     protected String name;
@@ -41,6 +41,10 @@ public class HistoricCaseInstanceEntityImpl extends AbstractCmmnEngineEntity imp
     protected String referenceId;
     protected String referenceType;
     protected String tenantId = CmmnEngineConfiguration.NO_TENANT_ID;
+    protected boolean countEnabled;
+    protected int identityLinkCount;
+    protected int entityLinkCount;
+    protected int milestoneCount;
     protected List<HistoricVariableInstanceEntity> queryVariables;
     
     // non persisted
@@ -92,6 +96,10 @@ public class HistoricCaseInstanceEntityImpl extends AbstractCmmnEngineEntity imp
         persistentState.put("referenceId", referenceId);
         persistentState.put("referenceType", referenceType);
         persistentState.put("tenantId", tenantId);
+        persistentState.put("countEnabled", countEnabled);
+        persistentState.put("identityLinkCount", identityLinkCount);
+        persistentState.put("entityLinkCount", entityLinkCount);
+        persistentState.put("milestoneCount", milestoneCount);
         return persistentState;
     }
     
@@ -199,6 +207,38 @@ public class HistoricCaseInstanceEntityImpl extends AbstractCmmnEngineEntity imp
     public void setTenantId(String tenantId) {
         this.tenantId = tenantId;
     }
+    @Override
+    public boolean isCountEnabled() {
+        return countEnabled;
+    }
+    @Override
+    public void setCountEnabled(boolean countEnabled) {
+        this.countEnabled = countEnabled;
+    }
+    @Override
+    public int getIdentityLinkCount() {
+        return identityLinkCount;
+    }
+    @Override
+    public void setIdentityLinkCount(int identityLinkCount) {
+        this.identityLinkCount = identityLinkCount;
+    }
+    @Override
+    public int getEntityLinkCount() {
+        return entityLinkCount;
+    }
+    @Override
+    public void setEntityLinkCount(int entityLinkCount) {
+        this.entityLinkCount = entityLinkCount;
+    }
+    @Override
+    public int getMilestoneCount() {
+        return milestoneCount;
+    }
+    @Override
+    public void setMilestoneCount(int milestoneCount) {
+        this.milestoneCount = milestoneCount;
+    }
 
     @Override
     public Map<String, Object> getCaseVariables() {
@@ -39,4 +39,10 @@ public interface HistoricCaseInstanceEntityManager extends EntityManager<Histori
     long countByCriteria(HistoricCaseInstanceQuery query);
     
     void deleteHistoricCaseInstances(HistoricCaseInstanceQueryImpl historicCaseInstanceQuery);
+
+    /**
+     * Adds the delta to the given count column of a historic case instance that has counting enabled, without fetching the historic case instance first.
+     * Only to be used when the historic case instance isn't in the entity cache, as the cached entity would overwrite the count on flush.
+     */
+    void updateRelationshipCount(String historicCaseInstanceId, String countColumn, int delta);
 }
\ No newline at end of file
@@ -69,4 +69,9 @@ public class HistoricCaseInstanceEntityManagerImpl
     public void deleteHistoricCaseInstances(HistoricCaseInstanceQueryImpl historicCaseInstanceQuery) {
         dataManager.deleteHistoricCaseInstances(historicCaseInstanceQuery);
     }
+
+    @Override
+    public void updateRelationshipCount(String historicCaseInstanceId, String countColumn, int delta) {
+        dataManager.updateRelationshipCount(historicCaseInstanceId, countColumn, delta);
+    }
 }
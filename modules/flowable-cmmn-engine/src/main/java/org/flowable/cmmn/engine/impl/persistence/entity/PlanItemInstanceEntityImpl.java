@@ -79,6 +79,9 @@ public class PlanItemInstanceEntityImpl extends AbstractCmmnEngineVariableScopeE
     protected boolean countEnabled;
     protected int variableCount;
     protected int sentryPartInstanceCount;
+    protected int timerJobCount;
+    protected int externalWorkerJobCount;
+    protected int identityLinkCount;
     
     // Non-persisted
     protected PlanItem planItem;
@@ -124,6 +127,9 @@ public class PlanItemInstanceEntityImpl extends AbstractCmmnEngineVariableScopeE
         persistentState.put("countEnabled", countEnabled);
         persistentState.put("variableCount", variableCount);
         persistentState.put("sentryPartInstanceCount", sentryPartInstanceCount);
+        persistentState.put("timerJobCount", timerJobCount);
+        persistentState.put("externalWorkerJobCount", externalWorkerJobCount);
+        persistentState.put("identityLinkCount", identityLinkCount);
         persistentState.put("tenantId", tenantId);
         return persistentState;
     }
@@ -576,6 +582,36 @@ public class PlanItemInstanceEntityImpl extends AbstractCmmnEngineVariableScopeE
         this.sentryPartInstanceCount = sentryPartInstanceCount;
     }
 
+    @Override
+    public int getTimerJobCount() {
+        return timerJobCount;
+    }
+
+    @Override
+    public void setTimerJobCount(int timerJobCount) {
+        this.timerJobCount = timerJobCount;
+    }
+
+    @Override
+    public int getExternalWorkerJobCount() {
+        return externalWorkerJobCount;
+    }
+
+    @Override
+    public void setExternalWorkerJobCount(int externalWorkerJobCount) {
+        this.externalWorkerJobCount = externalWorkerJobCount;
+    }
+
+    @Override
+    public int getIdentityLinkCount() {
+        return identityLinkCount;
+    }
+
+    @Override
+    public void setIdentityLinkCount(int identityLinkCount) {
+        this.identityLinkCount = identityLinkCount;
+    }
+
     @Override
     public FlowableListener getCurrentFlowableListener() {
         return currentFlowableListener;
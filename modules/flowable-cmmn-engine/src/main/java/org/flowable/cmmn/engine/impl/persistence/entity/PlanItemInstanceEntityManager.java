@@ -52,4 +52,10 @@ public interface PlanItemInstanceEntityManager extends EntityManager<PlanItemIns
     void deleteByCaseInstanceId(String caseInstanceId);
 
     void updatePlanItemInstancesCaseDefinitionId(String caseInstanceId, String caseDefinitionId);
+
+    /**
+     * Adds the delta to the given count column of a plan item instance that has counting enabled, without fetching the plan item instance first.
+     * Only to be used when the plan item instance isn't in the entity cache, as the cached entity would overwrite the count on flush.
+     */
+    void updateRelationshipCount(String planItemInstanceId, String countColumn, int delta);
 }
@@ -31,6 +31,7 @@ import org.flowable.cmmn.engine.impl.persistence.entity.data.PlanItemInstanceDat
 import org.flowable.cmmn.engine.impl.runtime.PlanItemInstanceQueryImpl;
 import org.flowable.cmmn.engine.impl.util.CaseInstanceUtil;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.cmmn.engine.impl.util.CountingEntityUtil;
 import org.flowable.cmmn.engine.impl.util.ExpressionUtil;
 import org.flowable.cmmn.model.EventListener;
 import org.flowable.cmmn.model.PlanFragment;
@@ -100,6 +101,7 @@ public class PlanItemInstanceEntityManagerImpl
             }
         }
         planItemInstanceEntity.setTenantId(builder.getTenantId());
+        ((CountingPlanItemInstanceEntity) planItemInstanceEntity).setCountEnabled(CountingEntityUtil.isCaseInstanceRelatedEntityCountEnabledGlobally(engineConfiguration));
 
         insert(planItemInstanceEntity);
 
@@ -432,7 +434,10 @@ public class PlanItemInstanceEntityManagerImpl
             }
         }
         
-        if (planItemInstanceEntity.getPlanItemDefinitionType().equals(PlanItemDefinitionType.TIMER_EVENT_LISTENER)) {
+        boolean countEnabled = CountingEntityUtil.isPlanItemInstanceRelatedEntityCountEnabled(planItemInstanceEntity, engineConfiguration);
+
+        if (planItemInstanceEntity.getPlanItemDefinitionType().equals(PlanItemDefinitionType.TIMER_EVENT_LISTENER)
+                && (!countEnabled || countingPlanItemInstanceEntity.getTimerJobCount() > 0)) {
             TimerJobEntityManager timerJobEntityManager = engineConfiguration.getJobServiceConfiguration().getTimerJobEntityManager();
             List<TimerJobEntity> timerJobsEntities = timerJobEntityManager
                 .findJobsByScopeIdAndSubScopeId(planItemInstanceEntity.getCaseInstanceId(), planItemInstanceEntity.getId());
@@ -441,7 +446,8 @@ public class PlanItemInstanceEntityManagerImpl
             }
         }
 
-        if (planItemInstanceEntity.getPlanItemDefinitionType().equals(PlanItemDefinitionType.CASE_PAGE_TASK)) {
+        if (planItemInstanceEntity.getPlanItemDefinitionType().equals(PlanItemDefinitionType.CASE_PAGE_TASK)
+                && (!countEnabled || countingPlanItemInstanceEntity.getIdentityLinkCount() > 0)) {
             IdentityLinkEntityManager identityLinkEntityManager = engineConfiguration.getIdentityLinkServiceConfiguration().getIdentityLinkEntityManager();
             List<IdentityLinkEntity> identityLinkEntities = identityLinkEntityManager
                 .findIdentityLinksBySubScopeIdAndType(planItemInstanceEntity.getId(), ScopeTypes.PLAN_ITEM);
@@ -450,7 +456,8 @@ public class PlanItemInstanceEntityManagerImpl
             }
         }
 
-        if (planItemInstanceEntity.getPlanItemDefinitionType().equals(PlanItemDefinitionType.EXTERNAL_WORKER_TASK)) {
+        if (planItemInstanceEntity.getPlanItemDefinitionType().equals(PlanItemDefinitionType.EXTERNAL_WORKER_TASK)
+                && (!countEnabled || countingPlanItemInstanceEntity.getExternalWorkerJobCount() > 0)) {
             ExternalWorkerJobEntityManager externalWorkerJobEntityManager = engineConfiguration
                     .getJobServiceConfiguration().getExternalWorkerJobEntityManager();
             List<ExternalWorkerJobEntity> externalWorkerJobEntities = externalWorkerJobEntityManager
@@ -480,6 +487,11 @@ public class PlanItemInstanceEntityManagerImpl
         }
     }
 
+    @Override
+    public void updateRelationshipCount(String planItemInstanceId, String countColumn, int delta) {
+        dataManager.updateRelationshipCount(planItemInstanceId, countColumn, delta);
+    }
+
     protected CaseInstanceEntityManager getCaseInstanceEntityManager() {
         return engineConfiguration.getCaseInstanceEntityManager();
     }
@@ -40,4 +40,6 @@ public interface CaseInstanceDataManager extends DataManager<CaseInstanceEntity>
     void clearLockTime(String caseInstanceId);
 
     void clearAllLockTimes(String lockOwner);
+
+    void updateRelationshipCount(String caseInstanceId, String countColumn, int delta);
 }
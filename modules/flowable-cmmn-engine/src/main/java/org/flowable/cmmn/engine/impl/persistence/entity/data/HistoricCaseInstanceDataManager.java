@@ -38,4 +38,6 @@ public interface HistoricCaseInstanceDataManager extends DataManager<HistoricCas
     void deleteByCaseDefinitionId(String caseDefinitionId);
     
     void deleteHistoricCaseInstances(HistoricCaseInstanceQueryImpl historicCaseInstanceQuery);
+
+    void updateRelationshipCount(String historicCaseInstanceId, String countColumn, int delta);
 }
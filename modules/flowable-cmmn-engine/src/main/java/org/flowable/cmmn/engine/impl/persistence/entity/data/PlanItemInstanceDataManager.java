@@ -41,5 +41,7 @@ public interface PlanItemInstanceDataManager extends DataManager<PlanItemInstanc
     void deleteByStageInstanceId(String stageInstanceId);
     
     void deleteByCaseInstanceId(String caseInstanceId);
+
+    void updateRelationshipCount(String planItemInstanceId, String countColumn, int delta);
     
 }
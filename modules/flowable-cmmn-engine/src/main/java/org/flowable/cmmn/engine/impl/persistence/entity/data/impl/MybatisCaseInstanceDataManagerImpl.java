@@ -17,6 +17,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.cmmn.api.runtime.CaseInstance;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
@@ -24,6 +25,7 @@ import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntityImpl;
 import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntityImpl;
+import org.flowable.cmmn.engine.impl.persistence.entity.SentryPartInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.data.AbstractCmmnDataManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.data.CaseInstanceDataManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.data.impl.matcher.CaseInstanceByCaseDefinitionIdMatcher;
@@ -143,6 +145,11 @@ public class MybatisCaseInstanceDataManagerImpl extends AbstractCmmnDataManager<
             }
 
             caseInstanceEntity.setChildPlanItemInstances(directPlanItemInstances);
+
+            if (cmmnEngineConfiguration.isEnableEagerSentryPartInstanceFetching()) {
+                fetchSentryPartInstances(caseInstanceEntity, allPlanItemInstances, planItemInstanceMap);
+            }
+
             return caseInstanceEntity;
 
         } else {
@@ -151,6 +158,36 @@ public class MybatisCaseInstanceDataManagerImpl extends AbstractCmmnDataManager<
         }
     }
 
+    /**
+     * Fetches the sentry part instances of the case instance and all of its plan item instances with one query.
+     * Only the plan item instances that were fetched together with the case instance get their sentry part instances set,
+     * the plan item instances that were already in the cache keep their sentry part instances (or fetch them on first access).
+     */
+    protected void fetchSentryPartInstances(CaseInstanceEntity caseInstanceEntity, List<PlanItemInstanceEntity> fetchedPlanItemInstances,
+            Map<String, PlanItemInstanceEntity> planItemInstanceMap) {
+
+        List<SentryPartInstanceEntity> caseInstanceSentryPartInstances = new ArrayList<>(1);
+        Map<String, List<SentryPartInstanceEntity>> planItemInstanceSentryPartInstances = new HashMap<>();
+        for (SentryPartInstanceEntity sentryPartInstanceEntity : cmmnEngineConfiguration.getSentryPartInstanceDataManager()
+                .findSentryPartInstancesByCaseInstanceId(caseInstanceEntity.getId())) {
+
+            if (sentryPartInstanceEntity.getPlanItemInstanceId() == null) {
+                caseInstanceSentryPartInstances.add(sentryPartInstanceEntity);
+            } else {
+                planItemInstanceSentryPartInstances.computeIfAbsent(sentryPartInstanceEntity.getPlanItemInstanceId(), key -> new ArrayList<>(1))
+                        .add(sentryPartInstanceEntity);
+            }
+        }
+
+        caseInstanceEntity.setSatisfiedSentryPartInstances(caseInstanceSentryPartInstances);
+        for (PlanItemInstanceEntity planItemInstanceEntity : fetchedPlanItemInstances) {
+            if (planItemInstanceMap.get(planItemInstanceEntity.getId()) == planItemInstanceEntity) {
+                List<SentryPartInstanceEntity> sentryPartInstances = planItemInstanceSentryPartInstances.get(planItemInstanceEntity.getId());
+                planItemInstanceEntity.setSatisfiedSentryPartInstances(sentryPartInstances != null ? sentryPartInstances : new ArrayList<>(1));
+            }
+        }
+    }
+
     @Override
     public List<CaseInstanceEntity> findCaseInstancesByCaseDefinitionId(String caseDefinitionId) {
         return getList("selectCaseInstancesByCaseDefinitionId", caseDefinitionId, caseInstanceByCaseDefinitionIdMatcher, true);
@@ -234,4 +271,14 @@ public class MybatisCaseInstanceDataManagerImpl extends AbstractCmmnDataManager<
         getDbSqlSession().update("clearAllCaseInstanceLockTimes", params);
     }
 
+    @Override
+    public void updateRelationshipCount(String caseInstanceId, String countColumn, int delta) {
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("id", caseInstanceId);
+        params.put("countColumn", countColumn);
+        params.put("delta", delta);
+        params.put("countEnabled", true);
+        getDbSqlSession().update("updateCaseInstanceRelationshipCount", params);
+    }
+
 }
@@ -13,6 +13,7 @@
 package org.flowable.cmmn.engine.impl.persistence.entity.data.impl;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 
 import org.flowable.cmmn.api.history.HistoricCaseInstance;
@@ -114,4 +115,14 @@ public class MybatisHistoricCaseInstanceDataManagerImpl extends AbstractCmmnData
     public void deleteHistoricCaseInstances(HistoricCaseInstanceQueryImpl historicCaseInstanceQuery) {
         getDbSqlSession().delete("bulkDeleteHistoricCaseInstances", historicCaseInstanceQuery, getManagedEntityClass());
     }
+
+    @Override
+    public void updateRelationshipCount(String historicCaseInstanceId, String countColumn, int delta) {
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("id", historicCaseInstanceId);
+        params.put("countColumn", countColumn);
+        params.put("delta", delta);
+        params.put("countEnabled", true);
+        getDbSqlSession().update("updateHistoricCaseInstanceRelationshipCount", params);
+    }
 }
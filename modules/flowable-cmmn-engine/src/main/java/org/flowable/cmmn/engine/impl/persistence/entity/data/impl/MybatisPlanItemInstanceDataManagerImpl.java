@@ -138,6 +138,16 @@ public class MybatisPlanItemInstanceDataManagerImpl extends AbstractCmmnDataMana
     public void deleteByCaseInstanceId(String caseInstanceId) {
         bulkDelete("deletePlanItemInstancesByCaseInstanceId", planItemInstanceByCaseInstanceIdCachedEntityMatcher, caseInstanceId);
     }
+
+    @Override
+    public void updateRelationshipCount(String planItemInstanceId, String countColumn, int delta) {
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("id", planItemInstanceId);
+        params.put("countColumn", countColumn);
+        params.put("delta", delta);
+        params.put("countEnabled", true);
+        getDbSqlSession().update("updatePlanItemInstanceRelationshipCount", params);
+    }
     
     public static class PlanItemInstanceByCaseInstanceIdCachedEntityMatcher extends CachedEntityMatcherAdapter<PlanItemInstanceEntity> {
 
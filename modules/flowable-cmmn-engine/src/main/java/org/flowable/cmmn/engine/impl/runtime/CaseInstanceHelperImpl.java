@@ -29,11 +29,13 @@ import org.flowable.cmmn.engine.impl.listener.CaseInstanceLifeCycleListenerUtil;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseDefinitionEntityManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntityManager;
+import org.flowable.cmmn.engine.impl.persistence.entity.CountingCaseInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
 import org.flowable.cmmn.engine.impl.repository.CaseDefinitionUtil;
 import org.flowable.cmmn.engine.impl.task.TaskHelper;
 import org.flowable.cmmn.engine.impl.util.CmmnLoggingSessionUtil;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.cmmn.engine.impl.util.CountingEntityUtil;
 import org.flowable.cmmn.engine.impl.util.EntityLinkUtil;
 import org.flowable.cmmn.engine.impl.util.EventInstanceCmmnUtil;
 import org.flowable.cmmn.engine.impl.util.JobUtil;
@@ -415,6 +417,10 @@ public class CaseInstanceHelperImpl implements CaseInstanceHelper {
         String authenticatedUserId = Authentication.getAuthenticatedUserId();
         caseInstanceEntity.setStartUserId(authenticatedUserId);
         
+        if (caseInstanceEntity instanceof CountingCaseInstanceEntity) {
+            ((CountingCaseInstanceEntity) caseInstanceEntity).setCountEnabled(CountingEntityUtil.isCaseInstanceRelatedEntityCountEnabledGlobally(cmmnEngineConfiguration));
+        }
+        
         caseInstanceEntityManager.insert(caseInstanceEntity);
         caseInstanceEntity.setSatisfiedSentryPartInstances(new ArrayList<>(1));
 
@@ -59,6 +59,7 @@ import org.flowable.cmmn.engine.impl.cmd.RemoveVariableCmd;
 import org.flowable.cmmn.engine.impl.cmd.RemoveVariablesCmd;
 import org.flowable.cmmn.engine.impl.cmd.SetCaseInstanceBusinessKeyCmd;
 import org.flowable.cmmn.engine.impl.cmd.SetCaseInstanceNameCmd;
+import org.flowable.cmmn.engine.impl.cmd.SetCaseInstancesVariablesCmd;
 import org.flowable.cmmn.engine.impl.cmd.SetLocalVariableCmd;
 import org.flowable.cmmn.engine.impl.cmd.SetLocalVariablesCmd;
 import org.flowable.cmmn.engine.impl.cmd.SetVariableCmd;
@@ -223,6 +224,11 @@ public class CmmnRuntimeServiceImpl extends CommonEngineServiceImpl<CmmnEngineCo
     public void setVariables(String caseInstanceId, Map<String, Object> variables) {
         commandExecutor.execute(new SetVariablesCmd(caseInstanceId, variables));
     }
+
+    @Override
+    public void setVariablesForCaseInstances(Map<String, ? extends Map<String, ? extends Object>> variablesByCaseInstanceId) {
+        commandExecutor.execute(new SetCaseInstancesVariablesCmd(variablesByCaseInstanceId));
+    }
     
     @Override
     public void setLocalVariable(String planItemInstanceId, String variableName, Object variableValue) {
@@ -19,6 +19,7 @@ import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.event.FlowableCmmnEventBuilder;
+import org.flowable.cmmn.engine.impl.util.CountingEntityUtil;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.common.engine.api.scope.ScopeTypes;
@@ -49,6 +50,7 @@ public class TaskHelper {
 
     public static void insertTask(TaskEntity taskEntity, boolean fireCreateEvent, CmmnEngineConfiguration cmmnEngineConfiguration) {
         cmmnEngineConfiguration.getTaskServiceConfiguration().getTaskService().insertTask(taskEntity, fireCreateEvent);
+        CountingEntityUtil.handleInsertTaskCount(taskEntity, cmmnEngineConfiguration);
 
         if (taskEntity.getOwner() != null) {
             addOwnerIdentityLink(taskEntity, cmmnEngineConfiguration);
@@ -124,6 +126,7 @@ public class TaskHelper {
 
             cmmnEngineConfiguration.getListenerNotificationHelper().executeTaskListeners(task, TaskListener.EVENTNAME_DELETE);
             cmmnEngineConfiguration.getTaskServiceConfiguration().getTaskService().deleteTask(task, fireEvents);
+            CountingEntityUtil.handleDeleteTaskCount(task, cmmnEngineConfiguration);
         }
     }
 
@@ -0,0 +1,286 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.util;
+
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.api.runtime.PlanItemInstance;
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntity;
+import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntityImpl;
+import org.flowable.cmmn.engine.impl.persistence.entity.CountingCaseInstanceEntity;
+import org.flowable.cmmn.engine.impl.persistence.entity.CountingHistoricCaseInstanceEntity;
+import org.flowable.cmmn.engine.impl.persistence.entity.CountingPlanItemInstanceEntity;
+import org.flowable.cmmn.engine.impl.persistence.entity.HistoricCaseInstanceEntity;
+import org.flowable.cmmn.engine.impl.persistence.entity.HistoricCaseInstanceEntityImpl;
+import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
+import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntityImpl;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.entitylink.api.EntityLink;
+import org.flowable.eventsubscription.api.EventSubscription;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntity;
+import org.flowable.job.service.impl.persistence.entity.ExternalWorkerJobEntity;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.SuspendedJobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.flowable.task.api.Task;
+
+/**
+ * Maintains the relationship counts of case and plan item instances.
+ *
+ * Similar to the execution counts of the process engine, there are two flags: the global
+ * {@link CmmnEngineConfiguration#isEnableCaseInstanceRelationshipCounts()} flag and the flag on the case or plan item instance itself,
+ * which is set when the instance is created. Counts are only maintained and used when both are true,
+ * as the counts of instances created while counting was disabled can't be guessed.
+ * A historic case instance created together with a counting case instance keeps counts of its historic milestones, identity links and entity links.
+ *
+ * The counted instance isn't fetched to change a count: the cached entity is changed when it is in the entity cache,
+ * otherwise the count column is updated directly.
+ */
+public class CountingEntityUtil {
+
+    public static final String TASK_COUNT_COLUMN = "TASK_COUNT_";
+    public static final String JOB_COUNT_COLUMN = "JOB_COUNT_";
+    public static final String TIMER_JOB_COUNT_COLUMN = "TIMER_JOB_COUNT_";
+    public static final String SUSPENDED_JOB_COUNT_COLUMN = "SUSP_JOB_COUNT_";
+    public static final String DEADLETTER_JOB_COUNT_COLUMN = "DEADLETTER_JOB_COUNT_";
+    public static final String EXTERNAL_WORKER_JOB_COUNT_COLUMN = "EXTERNAL_WORKER_JOB_COUNT_";
+    public static final String EVENT_SUBSCRIPTION_COUNT_COLUMN = "EVT_SUBSCR_COUNT_";
+    public static final String IDENTITY_LINK_COUNT_COLUMN = "ID_LINK_COUNT_";
+    public static final String ENTITY_LINK_COUNT_COLUMN = "ENTITY_LINK_COUNT_";
+    public static final String MILESTONE_COUNT_COLUMN = "MILESTONE_COUNT_";
+
+    public static boolean isCaseInstanceRelatedEntityCountEnabledGlobally(CmmnEngineConfiguration cmmnEngineConfiguration) {
+        return cmmnEngineConfiguration.isEnableCaseInstanceRelationshipCounts();
+    }
+
+    public static boolean isCaseInstanceRelatedEntityCountEnabled(CaseInstanceEntity caseInstanceEntity, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        return caseInstanceEntity instanceof CountingCaseInstanceEntity && isCaseInstanceRelatedEntityCountEnabledGlobally(cmmnEngineConfiguration)
+                && ((CountingCaseInstanceEntity) caseInstanceEntity).isCountEnabled();
+    }
+
+    public static boolean isPlanItemInstanceRelatedEntityCountEnabled(PlanItemInstanceEntity planItemInstanceEntity, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        return planItemInstanceEntity instanceof CountingPlanItemInstanceEntity && isCaseInstanceRelatedEntityCountEnabledGlobally(cmmnEngineConfiguration)
+                && ((CountingPlanItemInstanceEntity) planItemInstanceEntity).isCountEnabled();
+    }
+
+    public static void handleInsertJobCount(Job job, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        handleJobCount(job, 1, cmmnEngineConfiguration);
+    }
+
+    public static void handleDeleteJobCount(Job job, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        handleJobCount(job, -1, cmmnEngineConfiguration);
+    }
+
+    protected static void handleJobCount(Job job, int delta, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        if (!isCaseInstanceRelatedEntityCountEnabledGlobally(cmmnEngineConfiguration) || !ScopeTypes.CMMN.equals(job.getScopeType())) {
+            return;
+        }
+
+        if (job instanceof JobEntity) {
+            updateCaseInstanceCount(job.getScopeId(), JOB_COUNT_COLUMN, delta,
+                    (caseInstance, countDelta) -> caseInstance.setJobCount(caseInstance.getJobCount() + countDelta), cmmnEngineConfiguration);
+
+        } else if (job instanceof TimerJobEntity) {
+            updateCaseInstanceCount(job.getScopeId(), TIMER_JOB_COUNT_COLUMN, delta,
+                    (caseInstance, countDelta) -> caseInstance.setTimerJobCount(caseInstance.getTimerJobCount() + countDelta), cmmnEngineConfiguration);
+            updatePlanItemInstanceCount(job.getSubScopeId(), TIMER_JOB_COUNT_COLUMN, delta,
+                    (planItemInstance, countDelta) -> planItemInstance.setTimerJobCount(planItemInstance.getTimerJobCount() + countDelta), cmmnEngineConfiguration);
+
+        } else if (job instanceof SuspendedJobEntity) {
+            updateCaseInstanceCount(job.getScopeId(), SUSPENDED_JOB_COUNT_COLUMN, delta,
+                    (caseInstance, countDelta) -> caseInstance.setSuspendedJobCount(caseInstance.getSuspendedJobCount() + countDelta), cmmnEngineConfiguration);
+
+        } else if (job instanceof DeadLetterJobEntity) {
+            updateCaseInstanceCount(job.getScopeId(), DEADLETTER_JOB_COUNT_COLUMN, delta,
+                    (caseInstance, countDelta) -> caseInstance.setDeadLetterJobCount(caseInstance.getDeadLetterJobCount() + countDelta), cmmnEngineConfiguration);
+
+        } else if (job instanceof ExternalWorkerJobEntity) {
+            updateCaseInstanceCount(job.getScopeId(), EXTERNAL_WORKER_JOB_COUNT_COLUMN, delta,
+                    (caseInstance, countDelta) -> caseInstance.setExternalWorkerJobCount(caseInstance.getExternalWorkerJobCount() + countDelta), cmmnEngineConfiguration);
+            updatePlanItemInstanceCount(job.getSubScopeId(), EXTERNAL_WORKER_JOB_COUNT_COLUMN, delta,
+                    (planItemInstance, countDelta) -> planItemInstance.setExternalWorkerJobCount(planItemInstance.getExternalWorkerJobCount() + countDelta),
+                    cmmnEngineConfiguration);
+        }
+    }
+
+    public static void handleInsertTaskCount(Task task, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        handleTaskCount(task, 1, cmmnEngineConfiguration);
+    }
+
+    public static void handleDeleteTaskCount(Task task, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        handleTaskCount(task, -1, cmmnEngineConfiguration);
+    }
+
+    protected static void handleTaskCount(Task task, int delta, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        if (isCaseInstanceRelatedEntityCountEnabledGlobally(cmmnEngineConfiguration) && ScopeTypes.CMMN.equals(task.getScopeType())) {
+            updateCaseInstanceCount(task.getScopeId(), TASK_COUNT_COLUMN, delta,
+                    (caseInstance, countDelta) -> caseInstance.setTaskCount(caseInstance.getTaskCount() + countDelta), cmmnEngineConfiguration);
+        }
+    }
+
+    public static void handleInsertEventSubscriptionCount(EventSubscription eventSubscription, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        handleEventSubscriptionCount(eventSubscription, 1, cmmnEngineConfiguration);
+    }
+
+    public static void handleDeleteEventSubscriptionCount(EventSubscription eventSubscription, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        handleEventSubscriptionCount(eventSubscription, -1, cmmnEngineConfiguration);
+    }
+
+    protected static void handleEventSubscriptionCount(EventSubscription eventSubscription, int delta, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        if (isCaseInstanceRelatedEntityCountEnabledGlobally(cmmnEngineConfiguration) && ScopeTypes.CMMN.equals(eventSubscription.getScopeType())) {
+            updateCaseInstanceCount(eventSubscription.getScopeId(), EVENT_SUBSCRIPTION_COUNT_COLUMN, delta,
+                    (caseInstance, countDelta) -> caseInstance.setEventSubscriptionCount(caseInstance.getEventSubscriptionCount() + countDelta),
+                    cmmnEngineConfiguration);
+        }
+    }
+
+    /**
+     * The identity link count of a case instance covers the identity links of the case instance itself and of its plan item instances,
+     * as both are deleted by case instance id when the case instance is deleted.
+     */
+    public static void handleCaseInstanceIdentityLinkCount(CaseInstance caseInstance, int delta, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        if (caseInstance instanceof CaseInstanceEntity && isCaseInstanceRelatedEntityCountEnabled((CaseInstanceEntity) caseInstance, cmmnEngineConfiguration)) {
+            CountingCaseInstanceEntity countingCaseInstanceEntity = (CountingCaseInstanceEntity) caseInstance;
+            countingCaseInstanceEntity.setIdentityLinkCount(countingCaseInstanceEntity.getIdentityLinkCount() + delta);
+        }
+    }
+
+    public static void handlePlanItemInstanceIdentityLinkCount(PlanItemInstance planItemInstance, int delta, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        if (!isCaseInstanceRelatedEntityCountEnabledGlobally(cmmnEngineConfiguration)) {
+            return;
+        }
+
+        if (planItemInstance instanceof PlanItemInstanceEntity
+                && isPlanItemInstanceRelatedEntityCountEnabled((PlanItemInstanceEntity) planItemInstance, cmmnEngineConfiguration)) {
+            CountingPlanItemInstanceEntity countingPlanItemInstanceEntity = (CountingPlanItemInstanceEntity) planItemInstance;
+            countingPlanItemInstanceEntity.setIdentityLinkCount(countingPlanItemInstanceEntity.getIdentityLinkCount() + delta);
+        }
+
+        if (delta > 0) {
+            // Only incremented: the plan item instance identity links are deleted in bulk when the case instance is deleted
+            updateCaseInstanceCount(planItemInstance.getCaseInstanceId(), IDENTITY_LINK_COUNT_COLUMN, delta,
+                    (caseInstance, countDelta) -> caseInstance.setIdentityLinkCount(caseInstance.getIdentityLinkCount() + countDelta), cmmnEngineConfiguration);
+        }
+    }
+
+    /**
+     * Entity links are deleted by root scope id when the root case instance is deleted, so the entity link count of a case instance
+     * covers all entity links of which it is the root. It is only incremented for the same reason.
+     */
+    public static void handleInsertEntityLinkCount(EntityLink entityLink, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        if (isCaseInstanceRelatedEntityCountEnabledGlobally(cmmnEngineConfiguration) && ScopeTypes.CMMN.equals(entityLink.getRootScopeType())) {
+            updateCaseInstanceCount(entityLink.getRootScopeId(), ENTITY_LINK_COUNT_COLUMN, 1,
+                    (caseInstance, countDelta) -> caseInstance.setEntityLinkCount(caseInstance.getEntityLinkCount() + countDelta), cmmnEngineConfiguration);
+        }
+    }
+
+    public static boolean isHistoricCaseInstanceRelatedEntityCountEnabled(HistoricCaseInstanceEntity historicCaseInstanceEntity,
+            CmmnEngineConfiguration cmmnEngineConfiguration) {
+        return historicCaseInstanceEntity instanceof CountingHistoricCaseInstanceEntity && isCaseInstanceRelatedEntityCountEnabledGlobally(cmmnEngineConfiguration)
+                && ((CountingHistoricCaseInstanceEntity) historicCaseInstanceEntity).isCountEnabled();
+    }
+
+    /**
+     * Only a historic case instance that is created together with its counting case instance keeps counts.
+     * A historic case instance that is created from async history data can't know whether its related history data has already been written.
+     */
+    public static void initHistoricCaseInstanceCount(HistoricCaseInstanceEntity historicCaseInstanceEntity, CaseInstanceEntity caseInstanceEntity,
+            CmmnEngineConfiguration cmmnEngineConfiguration) {
+        if (historicCaseInstanceEntity instanceof CountingHistoricCaseInstanceEntity && isCaseInstanceRelatedEntityCountEnabled(caseInstanceEntity, cmmnEngineConfiguration)) {
+            ((CountingHistoricCaseInstanceEntity) historicCaseInstanceEntity).setCountEnabled(true);
+        }
+    }
+
+    /**
+     * The historic identity link count of a case instance covers the historic identity links of the case instance and of its plan item instances.
+     */
+    public static void handleInsertHistoricIdentityLinkCount(String scopeId, String scopeType, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        if (isCaseInstanceRelatedEntityCountEnabledGlobally(cmmnEngineConfiguration)
+                && (ScopeTypes.CMMN.equals(scopeType) || ScopeTypes.PLAN_ITEM.equals(scopeType))) {
+            updateHistoricCaseInstanceCount(scopeId, IDENTITY_LINK_COUNT_COLUMN,
+                    historicCaseInstance -> historicCaseInstance.setIdentityLinkCount(historicCaseInstance.getIdentityLinkCount() + 1), cmmnEngineConfiguration);
+        }
+    }
+
+    public static void handleInsertHistoricEntityLinkCount(String scopeId, String scopeType, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        if (isCaseInstanceRelatedEntityCountEnabledGlobally(cmmnEngineConfiguration) && ScopeTypes.CMMN.equals(scopeType)) {
+            updateHistoricCaseInstanceCount(scopeId, ENTITY_LINK_COUNT_COLUMN,
+                    historicCaseInstance -> historicCaseInstance.setEntityLinkCount(historicCaseInstance.getEntityLinkCount() + 1), cmmnEngineConfiguration);
+        }
+    }
+
+    public static void handleInsertHistoricMilestoneCount(String caseInstanceId, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        if (isCaseInstanceRelatedEntityCountEnabledGlobally(cmmnEngineConfiguration)) {
+            updateHistoricCaseInstanceCount(caseInstanceId, MILESTONE_COUNT_COLUMN,
+                    historicCaseInstance -> historicCaseInstance.setMilestoneCount(historicCaseInstance.getMilestoneCount() + 1), cmmnEngineConfiguration);
+        }
+    }
+
+    /**
+     * Updates the count on the cached case instance, when there is one, as that entity will be flushed anyway.
+     * Otherwise the count column is updated directly, instead of fetching the case instance only to change its count.
+     */
+    protected static void updateCaseInstanceCount(String caseInstanceId, String countColumn, int delta,
+            ObjIntConsumer<CountingCaseInstanceEntity> countUpdater, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        if (caseInstanceId == null || delta == 0) {
+            return;
+        }
+
+        CaseInstanceEntity cachedCaseInstanceEntity = CommandContextUtil.getEntityCache().findInCache(CaseInstanceEntityImpl.class, caseInstanceId);
+        if (cachedCaseInstanceEntity != null) {
+            if (isCaseInstanceRelatedEntityCountEnabled(cachedCaseInstanceEntity, cmmnEngineConfiguration)) {
+                countUpdater.accept((CountingCaseInstanceEntity) cachedCaseInstanceEntity, delta);
+            }
+        } else {
+            cmmnEngineConfiguration.getCaseInstanceEntityManager().updateRelationshipCount(caseInstanceId, countColumn, delta);
+        }
+    }
+
+    protected static void updatePlanItemInstanceCount(String planItemInstanceId, String countColumn, int delta,
+            ObjIntConsumer<CountingPlanItemInstanceEntity> countUpdater, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        if (planItemInstanceId == null || delta == 0) {
+            return;
+        }
+
+        PlanItemInstanceEntity cachedPlanItemInstanceEntity = CommandContextUtil.getEntityCache().findInCache(PlanItemInstanceEntityImpl.class, planItemInstanceId);
+        if (cachedPlanItemInstanceEntity != null) {
+            if (isPlanItemInstanceRelatedEntityCountEnabled(cachedPlanItemInstanceEntity, cmmnEngineConfiguration)) {
+                countUpdater.accept((CountingPlanItemInstanceEntity) cachedPlanItemInstanceEntity, delta);
+            }
+        } else {
+            cmmnEngineConfiguration.getPlanItemInstanceEntityManager().updateRelationshipCount(planItemInstanceId, countColumn, delta);
+        }
+    }
+
+    protected static void updateHistoricCaseInstanceCount(String historicCaseInstanceId, String countColumn,
+            Consumer<CountingHistoricCaseInstanceEntity> countIncrementer, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        if (historicCaseInstanceId == null) {
+            return;
+        }
+
+        HistoricCaseInstanceEntity cachedHistoricCaseInstanceEntity = CommandContextUtil.getEntityCache()
+                .findInCache(HistoricCaseInstanceEntityImpl.class, historicCaseInstanceId);
+        if (cachedHistoricCaseInstanceEntity != null) {
+            if (isHistoricCaseInstanceRelatedEntityCountEnabled(cachedHistoricCaseInstanceEntity, cmmnEngineConfiguration)) {
+                countIncrementer.accept((CountingHistoricCaseInstanceEntity) cachedHistoricCaseInstanceEntity);
+            }
+        } else {
+            cmmnEngineConfiguration.getHistoricCaseInstanceEntityManager().updateRelationshipCount(historicCaseInstanceId, countColumn, 1);
+        }
+    }
+
+}
@@ -59,8 +59,9 @@ public class EntityLinkUtil {
                     }
                 }
 
-                copyAndCreateEntityLink(subScopeId, parentElementId, referenceScopeId, referenceScopeType, 
+                EntityLinkEntity newEntityLink = copyAndCreateEntityLink(subScopeId, parentElementId, referenceScopeId, referenceScopeType,
                         newHierarchyType, parentEntityLink, entityLinkService, historyManager);
+                CountingEntityUtil.handleInsertEntityLinkCount(newEntityLink, cmmnEngineConfiguration);
 
                 parentIds.add(parentEntityLink.getScopeId());
             }
@@ -82,8 +83,9 @@ public class EntityLinkUtil {
             rootScopeType = ScopeTypes.CMMN;
         }
 
-        createEntityLink(scopeId, subScopeId, parentElementId, referenceScopeId, referenceScopeType, 
+        EntityLinkEntity newEntityLink = createEntityLink(scopeId, subScopeId, parentElementId, referenceScopeId, referenceScopeType,
                 hierarchyType, rootScopeId, rootScopeType, entityLinkService, historyManager);
+        CountingEntityUtil.handleInsertEntityLinkCount(newEntityLink, cmmnEngineConfiguration);
     }
     protected static EntityLinkEntity copyAndCreateEntityLink(String subScopeId, String parentElementId,
             String referenceScopeId, String referenceScopeType, String hierarchyType,
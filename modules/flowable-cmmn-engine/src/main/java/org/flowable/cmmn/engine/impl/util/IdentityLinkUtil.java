@@ -40,6 +40,7 @@ public class IdentityLinkUtil {
                 .getIdentityLinkService().createScopeIdentityLink(null, caseInstance.getId(), ScopeTypes.CMMN, userId, groupId, type);
         
         CommandContextUtil.getCmmnHistoryManager().recordIdentityLinkCreated(identityLinkEntity);
+        CountingEntityUtil.handleCaseInstanceIdentityLinkCount(caseInstance, 1, cmmnEngineConfiguration);
         
         return identityLinkEntity;
     }
@@ -57,6 +58,8 @@ public class IdentityLinkUtil {
         for (IdentityLinkEntity identityLinkEntity : removedIdentityLinkEntities) {
             CommandContextUtil.getCmmnHistoryManager().recordIdentityLinkDeleted(identityLinkEntity);
         }
+        
+        CountingEntityUtil.handleCaseInstanceIdentityLinkCount(caseInstance, -removedIdentityLinkEntities.size(), cmmnEngineConfiguration);
     }
 
     public static void handleTaskIdentityLinkAdditions(TaskEntity taskEntity, List<IdentityLinkEntity> identityLinkEntities, CmmnEngineConfiguration cmmnEngineConfiguration) {
@@ -72,6 +75,7 @@ public class IdentityLinkUtil {
                 .createSubScopeIdentityLink(null, planItemInstance.getCaseInstanceId(), planItemInstance.getId(), ScopeTypes.PLAN_ITEM, userId, groupId, type);
         
         cmmnEngineConfiguration.getCmmnHistoryManager().recordIdentityLinkCreated(identityLinkEntity);
+        CountingEntityUtil.handlePlanItemInstanceIdentityLinkCount(planItemInstance, 1, cmmnEngineConfiguration);
         
         return identityLinkEntity;
     }
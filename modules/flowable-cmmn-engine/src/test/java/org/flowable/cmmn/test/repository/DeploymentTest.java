@@ -20,6 +20,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import org.flowable.cmmn.api.repository.CaseDefinition;
+import org.flowable.cmmn.engine.impl.persistence.entity.CmmnDeploymentEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.deploy.CaseDefinitionCacheEntry;
 import org.flowable.cmmn.engine.test.CmmnDeployment;
 import org.flowable.cmmn.engine.test.FlowableCmmnTestCase;
@@ -132,6 +133,47 @@ public class DeploymentTest extends FlowableCmmnTestCase {
         IOUtils.closeSilently(caseDiagramInputStream);
     }
 
+    @Test
+    public void testCaseDiagramCreationOnFirstAccess() throws Exception {
+        cmmnEngineConfiguration.setCreateDiagramOnFirstAccess(true);
+
+        String deploymentId = null;
+        try {
+            deploymentId = cmmnRepositoryService.createDeployment()
+                    .addClasspathResource("org/flowable/cmmn/test/repository/DeploymentTest.testCaseDefinitionDI.cmmn")
+                    .deploy()
+                    .getId();
+
+            // No diagram is created on deploy
+            CaseDefinition caseDefinition = cmmnRepositoryService.createCaseDefinitionQuery().deploymentId(deploymentId).singleResult();
+            assertThat(caseDefinition.getDiagramResourceName()).isNull();
+            assertThat(cmmnRepositoryService.getDeploymentResourceNames(deploymentId)).hasSize(1);
+
+            // The diagram is created and stored when it is requested the first time
+            InputStream caseDiagramInputStream = cmmnRepositoryService.getCaseDiagram(caseDefinition.getId());
+            assertThat(caseDiagramInputStream).isNotNull();
+            IOUtils.closeSilently(caseDiagramInputStream);
+
+            String diagramResourceName = "org/flowable/cmmn/test/repository/DeploymentTest.testCaseDefinitionDI.caseB.png";
+            assertThat(cmmnRepositoryService.getCaseDefinition(caseDefinition.getId()).getDiagramResourceName()).isEqualTo(diagramResourceName);
+            assertThat(cmmnRepositoryService.createCaseDefinitionQuery().deploymentId(deploymentId).singleResult().getDiagramResourceName())
+                    .isEqualTo(diagramResourceName);
+            assertThat(cmmnRepositoryService.getDeploymentResourceNames(deploymentId)).hasSize(2).contains(diagramResourceName);
+
+            // Requesting the diagram again returns the stored diagram
+            caseDiagramInputStream = cmmnRepositoryService.getCaseDiagram(caseDefinition.getId());
+            assertThat(caseDiagramInputStream).isNotNull();
+            IOUtils.closeSilently(caseDiagramInputStream);
+            assertThat(cmmnRepositoryService.getDeploymentResourceNames(deploymentId)).hasSize(2);
+
+        } finally {
+            cmmnEngineConfiguration.setCreateDiagramOnFirstAccess(false);
+            if (deploymentId != null) {
+                cmmnRepositoryService.deleteDeployment(deploymentId, true);
+            }
+        }
+    }
+
     @Test
     public void testBulkInsertCmmnDeployments() {
 
@@ -171,4 +213,30 @@ public class DeploymentTest extends FlowableCmmnTestCase {
 
         deploymentIds.forEach(deploymentId -> cmmnRepositoryService.deleteDeployment(deploymentId, true));
     }
+
+    @Test
+    public void testDeploySameResourcesTwiceWithDuplicateFiltering() {
+        String deploymentId = cmmnRepositoryService.createDeployment()
+            .name("duplicate")
+            .addClasspathResource("org/flowable/cmmn/test/one-human-task-model.cmmn")
+            .enableDuplicateFiltering()
+            .deploy()
+            .getId();
+
+        try {
+            CmmnDeploymentEntity deployment = (CmmnDeploymentEntity) cmmnRepositoryService.createDeploymentQuery().deploymentId(deploymentId).singleResult();
+            assertThat(deployment.getContentHash()).hasSize(64);
+
+            assertThat(cmmnRepositoryService.createDeployment()
+                .name("duplicate")
+                .addClasspathResource("org/flowable/cmmn/test/one-human-task-model.cmmn")
+                .enableDuplicateFiltering()
+                .deploy()
+                .getId()).isEqualTo(deploymentId);
+            assertThat(cmmnRepositoryService.createDeploymentQuery().count()).isEqualTo(1);
+
+        } finally {
+            cmmnRepositoryService.deleteDeployment(deploymentId, true);
+        }
+    }
 }
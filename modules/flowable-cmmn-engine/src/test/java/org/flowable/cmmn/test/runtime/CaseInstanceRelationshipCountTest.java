@@ -0,0 +1,164 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.api.runtime.PlanItemInstance;
+import org.flowable.cmmn.engine.impl.persistence.entity.CountingCaseInstanceEntity;
+import org.flowable.cmmn.engine.impl.persistence.entity.CountingHistoricCaseInstanceEntity;
+import org.flowable.cmmn.engine.impl.persistence.entity.CountingPlanItemInstanceEntity;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.cmmn.engine.test.CmmnDeployment;
+import org.flowable.cmmn.engine.test.FlowableCmmnTestCase;
+import org.flowable.cmmn.engine.test.impl.CmmnHistoryTestHelper;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.task.api.Task;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CaseInstanceRelationshipCountTest extends FlowableCmmnTestCase {
+
+    @Before
+    public void enableCaseInstanceRelationshipCounts() {
+        cmmnEngineConfiguration.setEnableCaseInstanceRelationshipCounts(true);
+    }
+
+    @After
+    public void resetCaseInstanceRelationshipCounts() {
+        cmmnEngineConfiguration.setEnableCaseInstanceRelationshipCounts(false);
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/runtime/CaseInstanceRelationshipCountTest.oneTaskWithListeners.cmmn")
+    public void testRelationshipCounts() {
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("relationshipCount").start();
+        cmmnRuntimeService.addUserIdentityLink(caseInstance.getId(), "kermit", "interested");
+
+        CountingCaseInstanceEntity countingCaseInstanceEntity = getCountingCaseInstanceEntity(caseInstance.getId());
+        assertThat(countingCaseInstanceEntity.isCountEnabled()).isTrue();
+        assertThat(countingCaseInstanceEntity.getTaskCount()).isEqualTo(1);
+        assertThat(countingCaseInstanceEntity.getTimerJobCount()).isEqualTo(1);
+        assertThat(countingCaseInstanceEntity.getJobCount()).isZero();
+        assertThat(countingCaseInstanceEntity.getEventSubscriptionCount()).isEqualTo(1);
+        assertThat(countingCaseInstanceEntity.getIdentityLinkCount()).isEqualTo(1);
+        assertThat(countingCaseInstanceEntity.getEntityLinkCount()).isEqualTo(1);
+
+        PlanItemInstance timerPlanItemInstance = cmmnRuntimeService.createPlanItemInstanceQuery()
+                .caseInstanceId(caseInstance.getId())
+                .planItemInstanceName("timerListener")
+                .singleResult();
+        CountingPlanItemInstanceEntity countingTimerPlanItemInstance = getCountingPlanItemInstanceEntity(timerPlanItemInstance.getId());
+        assertThat(countingTimerPlanItemInstance.isCountEnabled()).isTrue();
+        assertThat(countingTimerPlanItemInstance.getTimerJobCount()).isEqualTo(1);
+
+        Task taskA = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).singleResult();
+        cmmnTaskService.complete(taskA.getId());
+        cmmnRuntimeService.deleteUserIdentityLink(caseInstance.getId(), "kermit", "interested");
+
+        countingCaseInstanceEntity = getCountingCaseInstanceEntity(caseInstance.getId());
+        assertThat(countingCaseInstanceEntity.getTaskCount()).isZero();
+        assertThat(countingCaseInstanceEntity.getIdentityLinkCount()).isZero();
+
+        cmmnRuntimeService.terminateCaseInstance(caseInstance.getId());
+
+        assertThat(cmmnRuntimeService.createCaseInstanceQuery().caseInstanceId(caseInstance.getId()).count()).isZero();
+        assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).count()).isZero();
+        assertThat(cmmnManagementService.createTimerJobQuery().caseInstanceId(caseInstance.getId()).count()).isZero();
+        assertThat(cmmnRuntimeService.createEventSubscriptionQuery().scopeId(caseInstance.getId()).count()).isZero();
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/runtime/CaseInstanceRelationshipCountTest.oneTaskWithListeners.cmmn")
+    public void testCountsOnlyMaintainedWhenEnabledAtCreation() {
+        cmmnEngineConfiguration.setEnableCaseInstanceRelationshipCounts(false);
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("relationshipCount").start();
+
+        cmmnEngineConfiguration.setEnableCaseInstanceRelationshipCounts(true);
+        cmmnRuntimeService.addUserIdentityLink(caseInstance.getId(), "kermit", "interested");
+
+        CountingCaseInstanceEntity countingCaseInstanceEntity = getCountingCaseInstanceEntity(caseInstance.getId());
+        assertThat(countingCaseInstanceEntity.isCountEnabled()).isFalse();
+        assertThat(countingCaseInstanceEntity.getTaskCount()).isZero();
+        assertThat(countingCaseInstanceEntity.getIdentityLinkCount()).isZero();
+
+        // The delete can't rely on the counts and needs to query for the related entities
+        cmmnRuntimeService.terminateCaseInstance(caseInstance.getId());
+
+        assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).count()).isZero();
+        assertThat(cmmnManagementService.createTimerJobQuery().caseInstanceId(caseInstance.getId()).count()).isZero();
+        assertThat(cmmnRuntimeService.createEventSubscriptionQuery().scopeId(caseInstance.getId()).count()).isZero();
+        assertThat(cmmnRuntimeService.getIdentityLinksForCaseInstance(caseInstance.getId())).isEmpty();
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/runtime/CaseInstanceRelationshipCountTest.oneTaskWithListeners.cmmn")
+    public void testCountUpdatedWithoutFetchingCaseInstance() {
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("relationshipCount").start();
+
+        // The case instance isn't fetched when creating a standalone task, so its count column is updated directly
+        Task task = cmmnTaskService.createTaskBuilder()
+                .name("standalone")
+                .scopeId(caseInstance.getId())
+                .scopeType(ScopeTypes.CMMN)
+                .create();
+
+        CountingCaseInstanceEntity countingCaseInstanceEntity = getCountingCaseInstanceEntity(caseInstance.getId());
+        assertThat(countingCaseInstanceEntity.getTaskCount()).isEqualTo(2);
+
+        cmmnRuntimeService.terminateCaseInstance(caseInstance.getId());
+
+        assertThat(cmmnTaskService.createTaskQuery().taskId(task.getId()).count()).isZero();
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/runtime/CaseInstanceRelationshipCountTest.oneTaskWithListeners.cmmn")
+    public void testHistoricRelationshipCounts() {
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("relationshipCount").start();
+        cmmnRuntimeService.addUserIdentityLink(caseInstance.getId(), "kermit", "interested");
+
+        if (CmmnHistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, cmmnEngineConfiguration)) {
+            CountingHistoricCaseInstanceEntity countingHistoricCaseInstanceEntity = getCountingHistoricCaseInstanceEntity(caseInstance.getId());
+            assertThat(countingHistoricCaseInstanceEntity.isCountEnabled()).isTrue();
+            assertThat(countingHistoricCaseInstanceEntity.getIdentityLinkCount()).isEqualTo(1);
+            assertThat(countingHistoricCaseInstanceEntity.getEntityLinkCount()).isEqualTo(1);
+            assertThat(countingHistoricCaseInstanceEntity.getMilestoneCount()).isZero();
+
+            cmmnRuntimeService.terminateCaseInstance(caseInstance.getId());
+            cmmnHistoryService.deleteHistoricCaseInstance(caseInstance.getId());
+
+            assertThat(cmmnHistoryService.createHistoricCaseInstanceQuery().caseInstanceId(caseInstance.getId()).count()).isZero();
+            assertThat(cmmnHistoryService.getHistoricIdentityLinksForCaseInstance(caseInstance.getId())).isEmpty();
+            assertThat(cmmnHistoryService.getHistoricEntityLinkChildrenForCaseInstance(caseInstance.getId())).isEmpty();
+        }
+    }
+
+    protected CountingCaseInstanceEntity getCountingCaseInstanceEntity(String caseInstanceId) {
+        return cmmnEngineConfiguration.getCommandExecutor().execute(commandContext
+                -> (CountingCaseInstanceEntity) CommandContextUtil.getCaseInstanceEntityManager(commandContext).findById(caseInstanceId));
+    }
+
+    protected CountingPlanItemInstanceEntity getCountingPlanItemInstanceEntity(String planItemInstanceId) {
+        return cmmnEngineConfiguration.getCommandExecutor().execute(commandContext
+                -> (CountingPlanItemInstanceEntity) CommandContextUtil.getPlanItemInstanceEntityManager(commandContext).findById(planItemInstanceId));
+    }
+
+    protected CountingHistoricCaseInstanceEntity getCountingHistoricCaseInstanceEntity(String caseInstanceId) {
+        return cmmnEngineConfiguration.getCommandExecutor().execute(commandContext
+                -> (CountingHistoricCaseInstanceEntity) CommandContextUtil.getHistoricCaseInstanceEntityManager(commandContext).findById(caseInstanceId));
+    }
+
+}
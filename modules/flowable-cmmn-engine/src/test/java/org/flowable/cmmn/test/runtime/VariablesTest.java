@@ -14,6 +14,8 @@ package org.flowable.cmmn.test.runtime;
 
 import static java.util.stream.Collectors.toMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 
 import java.io.Serializable;
 import java.util.Collections;
@@ -155,6 +157,27 @@ public class VariablesTest extends FlowableCmmnTestCase {
         assertThat(cmmnRuntimeService.getVariable(caseInstance.getId(), "doesNotExist")).isNull();
     }
 
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/runtime/VariablesTest.testSetVariables.cmmn")
+    public void testSetVariablesForCaseInstances() {
+        CaseInstance caseInstance1 = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("myCase").variable("stringVar", "Old value").start();
+        CaseInstance caseInstance2 = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("myCase").start();
+
+        Map<String, Map<String, Object>> variablesByCaseInstanceId = new HashMap<>();
+        Map<String, Object> variables1 = new HashMap<>();
+        variables1.put("stringVar", "Hello World");
+        variables1.put("intVar", 42);
+        variablesByCaseInstanceId.put(caseInstance1.getId(), variables1);
+        variablesByCaseInstanceId.put(caseInstance2.getId(), Collections.singletonMap("intVar", 43));
+        cmmnRuntimeService.setVariablesForCaseInstances(variablesByCaseInstanceId);
+
+        assertThat(cmmnRuntimeService.getVariables(caseInstance1.getId())).containsOnly(entry("stringVar", "Hello World"), entry("intVar", 42));
+        assertThat(cmmnRuntimeService.getVariables(caseInstance2.getId())).containsOnly(entry("intVar", 43));
+
+        assertThatThrownBy(() -> cmmnRuntimeService.setVariablesForCaseInstances(Collections.singletonMap("unexisting", variables1)))
+                .isInstanceOf(FlowableObjectNotFoundException.class);
+    }
+
     @Test
     @CmmnDeployment
     public void testRemoveVariables() {
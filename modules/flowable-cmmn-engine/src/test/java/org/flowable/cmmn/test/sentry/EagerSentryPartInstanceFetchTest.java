@@ -0,0 +1,83 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.sentry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
+
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.api.runtime.PlanItemInstance;
+import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntity;
+import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
+import org.flowable.cmmn.engine.impl.persistence.entity.SentryPartInstanceEntity;
+import org.flowable.cmmn.engine.impl.persistence.entity.SentryPartInstanceEntityImpl;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.cmmn.engine.test.CmmnDeployment;
+import org.flowable.cmmn.engine.test.FlowableCmmnTestCase;
+import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.task.api.Task;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class EagerSentryPartInstanceFetchTest extends FlowableCmmnTestCase {
+
+    @Before
+    public void enableEagerSentryPartInstanceFetching() {
+        cmmnEngineConfiguration.setEnableEagerSentryPartInstanceFetching(true);
+    }
+
+    @After
+    public void resetEagerSentryPartInstanceFetching() {
+        cmmnEngineConfiguration.setEnableEagerSentryPartInstanceFetching(false);
+    }
+
+    @Test
+    @CmmnDeployment
+    public void testSentryPartInstancesFetchedWithCaseInstance() {
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("eagerSentryPartInstanceFetch").start();
+        Task taskA = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).taskName("A").singleResult();
+        cmmnTaskService.complete(taskA.getId());
+
+        PlanItemInstance planItemInstanceC = cmmnRuntimeService.createPlanItemInstanceQuery().caseInstanceId(caseInstance.getId()).planItemInstanceName("C").singleResult();
+
+        cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+            CaseInstanceEntity caseInstanceEntity = CommandContextUtil.getCaseInstanceEntityManager(commandContext).findById(caseInstance.getId());
+
+            // The sentry part instances are in the cache before the satisfied sentry part instances of a plan item instance are requested
+            EntityCache entityCache = CommandContextUtil.getEntityCache(commandContext);
+            List<SentryPartInstanceEntityImpl> cachedSentryPartInstances = entityCache.findInCache(SentryPartInstanceEntityImpl.class);
+            assertThat(cachedSentryPartInstances)
+                    .extracting(SentryPartInstanceEntity::getPlanItemInstanceId, SentryPartInstanceEntity::getOnPartId)
+                    .containsExactly(tuple(planItemInstanceC.getId(), "sentryOnPartA"));
+
+            PlanItemInstanceEntity planItemInstanceEntityC = caseInstanceEntity.getChildPlanItemInstances().stream()
+                    .filter(planItemInstance -> planItemInstance.getId().equals(planItemInstanceC.getId()))
+                    .findFirst()
+                    .get();
+            assertThat(planItemInstanceEntityC.getSatisfiedSentryPartInstances()).containsExactlyElementsOf(cachedSentryPartInstances);
+            assertThat(caseInstanceEntity.getSatisfiedSentryPartInstances()).isEmpty();
+            return null;
+        });
+
+        Task taskB = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).taskName("B").singleResult();
+        cmmnTaskService.complete(taskB.getId());
+
+        assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).list())
+                .extracting(Task::getName)
+                .containsExactly("C");
+    }
+
+}
@@ -13,8 +13,13 @@
 
 package org.flowable.common.rest.api;
 
+import java.util.Collection;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
 /**
  * @author Tijs Rademakers
  */
@@ -26,7 +31,10 @@ public class DataResponse<T> {
     String sort;
     String order;
     int size;
+    String nextCursor;
+    Collection<String> fields;
 
+    @JsonSerialize(using = DataResponseDataSerializer.class)
     public List<T> getData() {
         return data;
     }
@@ -75,4 +83,28 @@ public class DataResponse<T> {
     public void setSize(int size) {
         this.size = size;
     }
+
+    /**
+     * The cursor to fetch the next page with, only set when the list was paged with a cursor and there are more results.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * The properties of the data elements that are rendered, all properties are rendered when null or empty.
+     */
+    @JsonIgnore
+    public Collection<String> getFields() {
+        return fields;
+    }
+
+    public void setFields(Collection<String> fields) {
+        this.fields = fields;
+    }
 }
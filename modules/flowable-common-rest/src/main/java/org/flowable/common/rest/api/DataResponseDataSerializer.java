@@ -0,0 +1,76 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.rest.api;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+
+/**
+ * Serializes the data of a {@link DataResponse} element by element. When fields are requested (see {@link DataResponse#getFields()}),
+ * only those properties of the elements are written, directly from the elements, without building an intermediate representation.
+ */
+public class DataResponseDataSerializer extends JsonSerializer<List<?>> {
+
+    @Override
+    public void serialize(List<?> data, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        Object currentValue = gen.getCurrentValue();
+        Collection<String> fields = currentValue instanceof DataResponse ? ((DataResponse<?>) currentValue).getFields() : null;
+
+        gen.writeStartArray(data, data.size());
+        for (Object element : data) {
+            if (element == null) {
+                provider.defaultSerializeNull(gen);
+
+            } else if (fields == null || fields.isEmpty()) {
+                provider.defaultSerializeValue(element, gen);
+
+            } else {
+                serializeFields(element, fields, gen, provider);
+            }
+        }
+        gen.writeEndArray();
+    }
+
+    protected void serializeFields(Object element, Collection<String> fields, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        JsonSerializer<Object> serializer = provider.findValueSerializer(element.getClass());
+        Iterator<PropertyWriter> properties = serializer.properties();
+        if (!properties.hasNext()) {
+            // Not a bean, so there are no fields to select
+            serializer.serialize(element, gen, provider);
+            return;
+        }
+
+        gen.writeStartObject(element);
+        while (properties.hasNext()) {
+            PropertyWriter property = properties.next();
+            if (fields.contains(property.getName())) {
+                try {
+                    property.serializeAsField(element, gen, provider);
+                } catch (IOException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw JsonMappingException.from(gen, "Could not serialize field " + property.getName(), e);
+                }
+            }
+        }
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,79 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.rest.api;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Maps the properties of the response elements of a list to the query columns they are built from,
+ * so that a list request with fields (see {@link PaginateRequest#getFields()}) only selects the columns of the requested fields.
+ * All columns are selected when one of the requested fields isn't mapped.
+ *
+ * @param <Q> The type of the query
+ */
+public class FieldProjection<Q> {
+
+    protected final BiConsumer<Q, Set<String>> columnSelector;
+    protected final Map<String, List<String>> fieldColumns = new HashMap<>();
+
+    /**
+     * @param columnSelector Restricts the query to the given columns
+     */
+    public FieldProjection(BiConsumer<Q, Set<String>> columnSelector) {
+        this.columnSelector = columnSelector;
+    }
+
+    /**
+     * Maps the given field to the columns it is built from. Use no columns for the fields that are built from the id only.
+     */
+    public FieldProjection<Q> field(String field, String... columns) {
+        fieldColumns.put(field, Arrays.asList(columns));
+        return this;
+    }
+
+    /**
+     * Restricts the query to the columns of the given fields, when all of them are mapped.
+     */
+    public void selectColumns(Q query, Collection<String> fields) {
+        Set<String> columns = getColumns(fields);
+        if (columns != null) {
+            columnSelector.accept(query, columns);
+        }
+    }
+
+    /**
+     * @return the columns that are needed for the given fields, or null when all columns are needed
+     */
+    public Set<String> getColumns(Collection<String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return null;
+        }
+
+        Set<String> columns = new LinkedHashSet<>();
+        for (String field : fields) {
+            List<String> columnsOfField = fieldColumns.get(field);
+            if (columnsOfField == null) {
+                return null;
+            }
+            columns.addAll(columnsOfField);
+        }
+        return columns;
+    }
+}
@@ -0,0 +1,54 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.rest.api;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Describes how a query can be paged through with a cursor instead of a start offset (see {@link PaginateListUtil}).
+ * The results are ordered by their id and the cursor holds the id of the last result of the previous page,
+ * so the database never needs to skip the results of the previous pages.
+ *
+ * @param <Q> The type of the query
+ * @param <T> The type returned by the query
+ */
+public class KeysetPagination<Q, T> {
+
+    protected final String sort;
+    protected final BiConsumer<Q, String> idAfterFilter;
+    protected final Function<T, String> idProvider;
+
+    /**
+     * @param sort The sort column (the rest attribute) of the id, the results are always ordered by it when a cursor is used
+     * @param idAfterFilter Restricts the query to the results with an id after the given id
+     * @param idProvider Provides the id of a result of the query
+     */
+    public KeysetPagination(String sort, BiConsumer<Q, String> idAfterFilter, Function<T, String> idProvider) {
+        this.sort = sort;
+        this.idAfterFilter = idAfterFilter;
+        this.idProvider = idProvider;
+    }
+
+    public String getSort() {
+        return sort;
+    }
+
+    public BiConsumer<Q, String> getIdAfterFilter() {
+        return idAfterFilter;
+    }
+
+    public Function<T, String> getIdProvider() {
+        return idProvider;
+    }
+}
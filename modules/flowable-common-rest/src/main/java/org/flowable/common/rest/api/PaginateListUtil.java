@@ -12,8 +12,12 @@
  */
 package org.flowable.common.rest.api;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.query.Query;
@@ -56,6 +60,104 @@ public interface PaginateListUtil {
      */
     static <RES, REQ> DataResponse<RES> paginateList(Map<String, String> requestParams, PaginateRequest paginateRequest, Query<?, REQ> query,
         String defaultSort, Map<String, QueryProperty> properties, ListProcessor<REQ, RES> listProcessor) {
+        paginateRequest = fillPaginateRequest(requestParams, paginateRequest);
+        return paginateList(paginateRequest, query, defaultSort, properties, listProcessor);
+    }
+
+    /**
+     * Uses the pagination parameters form the request and makes sure to order the result and set all pagination attributes for the response to render.
+     * When the request contains a cursor, the query is paged through with the cursor instead of with the start offset (see {@link KeysetPagination}).
+     * When the request contains fields, only the columns of those fields are selected (see {@link FieldProjection}).
+     *
+     * @param requestParams The request containing the pagination parameters
+     * @param paginateRequest The paginated request that can be used to get the parameters from
+     * @param query The query to get the paged list from
+     * @param defaultSort The default sort column (the rest attribute) that later will be mapped to an internal engine name
+     * @param properties The sort properties
+     * @param keysetPagination The description of how the query is paged through with a cursor, can be null when a cursor isn't supported
+     * @param fieldProjection The columns of the fields of the response elements, can be null when all columns are always selected
+     * @param listProcessor The processor that would convert the result elements of the query into the response elements
+     * @param <REQ> The type returned by the {@code query}
+     * @param <RES> The type of the response
+     * @param <Q> The type of the {@code query}
+     */
+    static <RES, REQ, Q extends Query<?, REQ>> DataResponse<RES> paginateList(Map<String, String> requestParams, PaginateRequest paginateRequest,
+        Q query, String defaultSort, Map<String, QueryProperty> properties, KeysetPagination<Q, REQ> keysetPagination, FieldProjection<Q> fieldProjection,
+        ListProcessor<REQ, RES> listProcessor) {
+        paginateRequest = fillPaginateRequest(requestParams, paginateRequest);
+        if (fieldProjection != null) {
+            fieldProjection.selectColumns(query, parseFields(paginateRequest.getFields()));
+        }
+
+        if (paginateRequest.getCursor() != null) {
+            if (keysetPagination == null) {
+                throw new FlowableIllegalArgumentException("Param 'cursor' is not supported for this resource");
+            }
+            return paginateListWithCursor(paginateRequest, query, properties, keysetPagination, listProcessor);
+        }
+
+        return paginateList(paginateRequest, query, defaultSort, properties, listProcessor);
+    }
+
+    /**
+     * Uses the cursor of the pagination request to fetch the results after the cursor, ordered by id.
+     * The total is not counted, as that would mean going over all results, and is set to -1.
+     *
+     * @param paginateRequest The paginated request that is used to get the cursor and page size from
+     * @param query The query to get the paged list from
+     * @param properties The sort properties
+     * @param keysetPagination The description of how the query is paged through with a cursor
+     * @param listProcessor The processor that would convert the result elements of the query into the response elements
+     * @param <REQ> The type returned by the {@code query}
+     * @param <RES> The type of the response
+     * @param <Q> The type of the {@code query}
+     */
+    static <RES, REQ, Q extends Query<?, REQ>> DataResponse<RES> paginateListWithCursor(PaginateRequest paginateRequest, Q query,
+        Map<String, QueryProperty> properties, KeysetPagination<Q, REQ> keysetPagination, ListProcessor<REQ, RES> listProcessor) {
+        Integer size = paginateRequest.getSize();
+        if (size == null || size < 0) {
+            size = 10;
+        }
+
+        String sort = keysetPagination.getSort();
+        if (paginateRequest.getSort() != null && !sort.equals(paginateRequest.getSort())) {
+            throw new FlowableIllegalArgumentException("Value for param 'sort' is not valid in combination with a cursor, only '" + sort + "' is supported");
+        }
+        if (paginateRequest.getOrder() != null && !"asc".equals(paginateRequest.getOrder())) {
+            throw new FlowableIllegalArgumentException("Value for param 'order' is not valid in combination with a cursor, only 'asc' is supported");
+        }
+
+        String cursor = paginateRequest.getCursor();
+        if (!cursor.isEmpty()) {
+            keysetPagination.getIdAfterFilter().accept(query, decodeCursor(cursor));
+        }
+        query.orderBy(properties.get(sort));
+        query.asc();
+
+        // One extra result is fetched to know if there is a next page
+        List<REQ> results = query.listPage(0, size + 1);
+        String nextCursor = null;
+        if (results.size() > size) {
+            results = results.subList(0, size);
+            nextCursor = encodeCursor(keysetPagination.getIdProvider().apply(results.get(results.size() - 1)));
+        }
+
+        DataResponse<RES> response = new DataResponse<>();
+        response.setStart(0);
+        response.setSort(sort);
+        response.setOrder("asc");
+        response.setTotal(-1);
+        response.setNextCursor(nextCursor);
+        response.setFields(parseFields(paginateRequest.getFields()));
+
+        List<RES> list = listProcessor.processList(results);
+        response.setSize(list.size());
+        response.setData(list);
+
+        return response;
+    }
+
+    static PaginateRequest fillPaginateRequest(Map<String, String> requestParams, PaginateRequest paginateRequest) {
         if (paginateRequest == null) {
             paginateRequest = new PaginateRequest();
         }
@@ -77,7 +179,41 @@ public interface PaginateListUtil {
             paginateRequest.setSort(requestParams.get("sort"));
         }
 
-        return paginateList(paginateRequest, query, defaultSort, properties, listProcessor);
+        if (paginateRequest.getCursor() == null) {
+            paginateRequest.setCursor(requestParams.get("cursor"));
+        }
+
+        if (paginateRequest.getFields() == null) {
+            paginateRequest.setFields(requestParams.get("fields"));
+        }
+
+        return paginateRequest;
+    }
+
+    static Set<String> parseFields(String fields) {
+        if (fields == null || fields.trim().isEmpty()) {
+            return null;
+        }
+
+        Set<String> fieldNames = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            if (!field.trim().isEmpty()) {
+                fieldNames.add(field.trim());
+            }
+        }
+        return fieldNames;
+    }
+
+    static String encodeCursor(String id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String decodeCursor(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new FlowableIllegalArgumentException("Value for param 'cursor' is not valid : '" + cursor + "'");
+        }
     }
 
     /**
@@ -134,6 +270,7 @@ public interface PaginateListUtil {
         response.setStart(start);
         response.setSort(sort);
         response.setOrder(order);
+        response.setFields(parseFields(paginateRequest.getFields()));
 
         // Get result and set pagination parameters
         List<RES> list = listProcessor.processList(query.listPage(start, size));
@@ -29,6 +29,10 @@ public class PaginateRequest {
 
     protected String order;
 
+    protected String cursor;
+
+    protected String fields;
+
     public Integer getStart() {
         return start;
     }
@@ -60,4 +64,27 @@ public class PaginateRequest {
     public void setOrder(String order) {
         this.order = order;
     }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    /**
+     * Pages with a cursor instead of a start offset, for the resources that support it. Use an empty cursor to fetch the first page,
+     * and the next cursor of the response to fetch the following page.
+     */
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public String getFields() {
+        return fields;
+    }
+
+    /**
+     * A comma separated list of the properties that are rendered for every element of the list, all properties are rendered when not set.
+     */
+    public void setFields(String fields) {
+        this.fields = fields;
+    }
 }
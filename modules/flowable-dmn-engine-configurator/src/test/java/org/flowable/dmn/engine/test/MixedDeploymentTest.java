@@ -16,6 +16,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.tuple;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -486,6 +487,34 @@ public class MixedDeploymentTest extends AbstractFlowableDmnEngineConfiguratorTe
         }
     }
 
+    @Test
+    public void testBulkDeployDecisionsWithSameKey() {
+        List<org.flowable.engine.repository.Deployment> deployments = repositoryService.bulkDeploy(Arrays.asList(
+                repositoryService.createDeployment()
+                        .name("first")
+                        .addClasspathResource("org/flowable/dmn/engine/test/deployment/oneDecisionTaskProcess.bpmn20.xml")
+                        .addClasspathResource("org/flowable/dmn/engine/test/deployment/simple.dmn"),
+                repositoryService.createDeployment()
+                        .name("second")
+                        .addClasspathResource("org/flowable/dmn/engine/test/deployment/simpleV2.dmn")));
+        try {
+            // The decision of the second deployment gets the next version, also when the previous version was deployed in the same transaction
+            DmnRepositoryService dmnRepositoryService = DmnEngines.getDefaultDmnEngine().getDmnRepositoryService();
+            assertThat(dmnRepositoryService.createDecisionQuery().decisionKey("decision1").orderByDecisionVersion().asc().list())
+                    .extracting(DmnDecision::getVersion,
+                            decision -> dmnRepositoryService.createDeploymentQuery().deploymentId(decision.getDeploymentId()).singleResult().getParentDeploymentId())
+                    .containsExactly(
+                            tuple(1, deployments.get(0).getId()),
+                            tuple(2, deployments.get(1).getId()));
+
+        } finally {
+            for (org.flowable.engine.repository.Deployment deployment : deployments) {
+                repositoryService.deleteDeployment(deployment.getId(), true);
+            }
+            deleteAllDmnDeployments();
+        }
+    }
+
     protected void assertDmnProcessExecuted() {
         ProcessInstance processInstance = runtimeService.startProcessInstanceByKeyAndTenantId(
                 "oneDecisionTaskProcess",
@@ -54,6 +54,8 @@ import org.flowable.dmn.engine.impl.RuleEngineExecutorImpl;
 import org.flowable.dmn.engine.impl.agenda.DefaultDmnEngineAgendaFactory;
 import org.flowable.dmn.engine.impl.agenda.DmnEngineAgendaFactory;
 import org.flowable.dmn.engine.impl.agenda.DmnEngineAgendaSessionFactory;
+import org.flowable.dmn.engine.impl.audit.AsyncHistoricDecisionExecutionWriter;
+import org.flowable.dmn.engine.impl.audit.DecisionExecutionAuditLevel;
 import org.flowable.dmn.engine.impl.cfg.StandaloneDmnEngineConfiguration;
 import org.flowable.dmn.engine.impl.cfg.StandaloneInMemDmnEngineConfiguration;
 import org.flowable.dmn.engine.impl.cmd.SchemaOperationsDmnEngineBuild;
@@ -179,6 +181,21 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
 
     protected boolean historyEnabled;
 
+    /**
+     * When enabled, historic decision executions are written by the {@link #asyncHistoricDecisionExecutionWriter} in batches on a separate thread,
+     * instead of in the transaction of the decision execution.
+     */
+    protected boolean asyncHistoryEnabled;
+    protected AsyncHistoricDecisionExecutionWriter asyncHistoricDecisionExecutionWriter;
+    protected int asyncHistoryQueueSize = 2048;
+    protected int asyncHistoryBatchSize = 100;
+
+    /**
+     * The fraction (between 0 and 1) of the decision executions for which a historic decision execution is stored. Failed decision executions are always stored.
+     */
+    protected double decisionExecutionSamplingRate = 1.0;
+    protected DecisionExecutionAuditLevel decisionExecutionAuditLevel = DecisionExecutionAuditLevel.FULL;
+
     protected int decisionCacheLimit = -1; // By default, no limit
     protected DeploymentCache<DecisionCacheEntry> definitionCache;
 
@@ -281,6 +298,30 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
         initHitPolicyBehaviors();
         initRuleEngineExecutor();
         initDecisionRequirementsDiagramGenerator();
+        initAsyncHistoricDecisionExecutionWriter();
+    }
+
+    @Override
+    public void close() {
+        if (asyncHistoricDecisionExecutionWriter != null) {
+            asyncHistoricDecisionExecutionWriter.shutdown();
+        }
+
+        super.close();
+    }
+
+    protected void initAsyncHistoricDecisionExecutionWriter() {
+        if (!historyEnabled || !asyncHistoryEnabled) {
+            return;
+        }
+
+        if (asyncHistoricDecisionExecutionWriter == null) {
+            asyncHistoricDecisionExecutionWriter = new AsyncHistoricDecisionExecutionWriter(this);
+            asyncHistoricDecisionExecutionWriter.setQueueSize(asyncHistoryQueueSize);
+            asyncHistoricDecisionExecutionWriter.setBatchSize(asyncHistoryBatchSize);
+        }
+
+        asyncHistoricDecisionExecutionWriter.start();
     }
 
     // services
@@ -901,6 +942,60 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
         return this;
     }
 
+    public boolean isAsyncHistoryEnabled() {
+        return asyncHistoryEnabled;
+    }
+
+    public DmnEngineConfiguration setAsyncHistoryEnabled(boolean asyncHistoryEnabled) {
+        this.asyncHistoryEnabled = asyncHistoryEnabled;
+        return this;
+    }
+
+    public AsyncHistoricDecisionExecutionWriter getAsyncHistoricDecisionExecutionWriter() {
+        return asyncHistoricDecisionExecutionWriter;
+    }
+
+    public DmnEngineConfiguration setAsyncHistoricDecisionExecutionWriter(AsyncHistoricDecisionExecutionWriter asyncHistoricDecisionExecutionWriter) {
+        this.asyncHistoricDecisionExecutionWriter = asyncHistoricDecisionExecutionWriter;
+        return this;
+    }
+
+    public int getAsyncHistoryQueueSize() {
+        return asyncHistoryQueueSize;
+    }
+
+    public DmnEngineConfiguration setAsyncHistoryQueueSize(int asyncHistoryQueueSize) {
+        this.asyncHistoryQueueSize = asyncHistoryQueueSize;
+        return this;
+    }
+
+    public int getAsyncHistoryBatchSize() {
+        return asyncHistoryBatchSize;
+    }
+
+    public DmnEngineConfiguration setAsyncHistoryBatchSize(int asyncHistoryBatchSize) {
+        this.asyncHistoryBatchSize = asyncHistoryBatchSize;
+        return this;
+    }
+
+    public double getDecisionExecutionSamplingRate() {
+        return decisionExecutionSamplingRate;
+    }
+
+    public DmnEngineConfiguration setDecisionExecutionSamplingRate(double decisionExecutionSamplingRate) {
+        this.decisionExecutionSamplingRate = decisionExecutionSamplingRate;
+        return this;
+    }
+
+    public DecisionExecutionAuditLevel getDecisionExecutionAuditLevel() {
+        return decisionExecutionAuditLevel;
+    }
+
+    public DmnEngineConfiguration setDecisionExecutionAuditLevel(DecisionExecutionAuditLevel decisionExecutionAuditLevel) {
+        this.decisionExecutionAuditLevel = decisionExecutionAuditLevel;
+        return this;
+    }
+
     public int getDecisionCacheLimit() {
         return decisionCacheLimit;
     }
@@ -0,0 +1,300 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.audit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.cmd.InsertHistoricDecisionExecutionsCmd;
+import org.flowable.dmn.engine.impl.persistence.entity.HistoricDecisionExecutionEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Writes historic decision executions on a dedicated pool of worker threads, instead of in the transaction of the decision execution.
+ * <p>
+ * The historic decision executions are put on a bounded queue, together with the audit of the decision execution.
+ * The worker threads take them off the queue in batches, write the execution json of the audits
+ * and insert all historic decision executions of a batch in one transaction, which are flushed as a bulk insert.
+ * <p>
+ * When the queue is full, the historic decision execution is written on the calling thread, unless {@link #dropWhenQueueFull} is set.
+ * Historic decision executions that are still queued when the engine is closed are written during the shutdown.
+ */
+public class AsyncHistoricDecisionExecutionWriter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncHistoricDecisionExecutionWriter.class);
+
+    protected final DmnEngineConfiguration dmnEngineConfiguration;
+
+    /**
+     * The maximum number of historic decision executions that can be waiting to be written.
+     */
+    protected int queueSize = 2048;
+
+    /**
+     * The number of worker threads writing historic decision executions.
+     */
+    protected int threadPoolSize = 1;
+
+    /**
+     * The maximum number of historic decision executions that is inserted in one transaction.
+     */
+    protected int batchSize = 100;
+
+    /**
+     * The time (in milliseconds) a worker thread waits for new historic decision executions before checking whether the writer is still active.
+     */
+    protected long pollTimeout = 500L;
+
+    /**
+     * The time (in seconds) that is waited for the remaining historic decision executions to be written on shutdown.
+     */
+    protected long secondsToWaitOnShutdown = 60L;
+
+    /**
+     * Set this to true to drop historic decision executions when the queue is full, instead of writing them on the calling thread.
+     */
+    protected boolean dropWhenQueueFull;
+
+    protected String threadPoolNamingPattern = "flowable-dmn-async-history-thread-%d";
+
+    protected ThreadFactory threadFactory;
+
+    protected BlockingQueue<HistoricDecisionExecutionEntry> queue;
+    protected ExecutorService executorService;
+    protected volatile boolean active;
+
+    protected final AtomicLong droppedHistoricDecisionExecutionCount = new AtomicLong();
+
+    public AsyncHistoricDecisionExecutionWriter(DmnEngineConfiguration dmnEngineConfiguration) {
+        this.dmnEngineConfiguration = dmnEngineConfiguration;
+    }
+
+    public synchronized void start() {
+        if (active) {
+            return;
+        }
+
+        LOGGER.info("Starting async historic decision execution writer with queue size {}, {} thread(s) and batch size {}", queueSize, threadPoolSize, batchSize);
+        queue = new ArrayBlockingQueue<>(queueSize);
+        if (threadFactory == null) {
+            threadFactory = new BasicThreadFactory.Builder().namingPattern(threadPoolNamingPattern).build();
+        }
+        executorService = Executors.newFixedThreadPool(threadPoolSize, threadFactory);
+        active = true;
+
+        for (int i = 0; i < threadPoolSize; i++) {
+            executorService.execute(this::writeHistoricDecisionExecutions);
+        }
+    }
+
+    public synchronized void shutdown() {
+        if (!active) {
+            return;
+        }
+
+        LOGGER.info("Shutting down async historic decision execution writer");
+        active = false;
+        executorService.shutdown();
+        try {
+            if (!executorService.awaitTermination(secondsToWaitOnShutdown, TimeUnit.SECONDS)) {
+                LOGGER.warn("Timeout during shutdown of async historic decision execution writer. {} historic decision execution(s) could not be written within {} seconds.",
+                        queue.size(), secondsToWaitOnShutdown);
+            }
+        } catch (InterruptedException e) {
+            LOGGER.warn("Interrupted while shutting down the async historic decision execution writer. ", e);
+            Thread.currentThread().interrupt();
+        }
+
+        executorService = null;
+    }
+
+    /**
+     * Queues the historic decision execution to be written.
+     * The execution json of the historic decision execution is written from the given audit when the historic decision execution is inserted.
+     * When the writer is not active, the historic decision execution is written on the calling thread.
+     */
+    public void submit(HistoricDecisionExecutionEntity historicDecisionExecution, DecisionExecutionAuditContainer decisionExecution) {
+        HistoricDecisionExecutionEntry entry = new HistoricDecisionExecutionEntry(historicDecisionExecution, decisionExecution);
+        if (!active) {
+            write(Collections.singletonList(entry));
+            return;
+        }
+
+        if (queue.offer(entry)) {
+            return;
+        }
+
+        if (dropWhenQueueFull) {
+            droppedHistoricDecisionExecutionCount.incrementAndGet();
+            LOGGER.debug("Async historic decision execution queue is full, dropping historic decision execution for decision {}",
+                    historicDecisionExecution.getDecisionDefinitionId());
+        } else {
+            write(Collections.singletonList(entry));
+        }
+    }
+
+    protected void writeHistoricDecisionExecutions() {
+        List<HistoricDecisionExecutionEntry> batch = new ArrayList<>(batchSize);
+        while (active || !queue.isEmpty()) {
+            try {
+                HistoricDecisionExecutionEntry entry = queue.poll(pollTimeout, TimeUnit.MILLISECONDS);
+                if (entry == null) {
+                    continue;
+                }
+
+                batch.add(entry);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    protected void write(List<HistoricDecisionExecutionEntry> batch) {
+        try {
+            ObjectMapper objectMapper = dmnEngineConfiguration.getObjectMapper();
+            if (objectMapper == null) {
+                objectMapper = new ObjectMapper();
+            }
+
+            List<HistoricDecisionExecutionEntity> historicDecisionExecutions = new ArrayList<>(batch.size());
+            for (HistoricDecisionExecutionEntry entry : batch) {
+                HistoricDecisionExecutionEntity historicDecisionExecution = entry.getHistoricDecisionExecution();
+                historicDecisionExecution.setExecutionJson(DecisionExecutionAuditUtil.writeExecutionJson(entry.getDecisionExecution(),
+                        dmnEngineConfiguration.getDecisionExecutionAuditLevel(), objectMapper));
+                historicDecisionExecutions.add(historicDecisionExecution);
+            }
+
+            dmnEngineConfiguration.getCommandExecutor().execute(new InsertHistoricDecisionExecutionsCmd(historicDecisionExecutions));
+
+        } catch (Throwable t) {
+            // The decisions have been executed already, so failing to write their history must not fail anything else
+            LOGGER.warn("Exception while writing {} historic decision execution(s), which was ignored", batch.size(), t);
+        }
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public int getQueuedHistoricDecisionExecutionCount() {
+        return queue != null ? queue.size() : 0;
+    }
+
+    public long getDroppedHistoricDecisionExecutionCount() {
+        return droppedHistoricDecisionExecutionCount.get();
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public int getThreadPoolSize() {
+        return threadPoolSize;
+    }
+
+    public void setThreadPoolSize(int threadPoolSize) {
+        this.threadPoolSize = threadPoolSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getPollTimeout() {
+        return pollTimeout;
+    }
+
+    public void setPollTimeout(long pollTimeout) {
+        this.pollTimeout = pollTimeout;
+    }
+
+    public long getSecondsToWaitOnShutdown() {
+        return secondsToWaitOnShutdown;
+    }
+
+    public void setSecondsToWaitOnShutdown(long secondsToWaitOnShutdown) {
+        this.secondsToWaitOnShutdown = secondsToWaitOnShutdown;
+    }
+
+    public boolean isDropWhenQueueFull() {
+        return dropWhenQueueFull;
+    }
+
+    public void setDropWhenQueueFull(boolean dropWhenQueueFull) {
+        this.dropWhenQueueFull = dropWhenQueueFull;
+    }
+
+    public String getThreadPoolNamingPattern() {
+        return threadPoolNamingPattern;
+    }
+
+    public void setThreadPoolNamingPattern(String threadPoolNamingPattern) {
+        this.threadPoolNamingPattern = threadPoolNamingPattern;
+    }
+
+    public ThreadFactory getThreadFactory() {
+        return threadFactory;
+    }
+
+    public void setThreadFactory(ThreadFactory threadFactory) {
+        this.threadFactory = threadFactory;
+    }
+
+    protected static class HistoricDecisionExecutionEntry {
+
+        protected final HistoricDecisionExecutionEntity historicDecisionExecution;
+        protected final DecisionExecutionAuditContainer decisionExecution;
+
+        protected HistoricDecisionExecutionEntry(HistoricDecisionExecutionEntity historicDecisionExecution, DecisionExecutionAuditContainer decisionExecution) {
+            this.historicDecisionExecution = historicDecisionExecution;
+            this.decisionExecution = decisionExecution;
+        }
+
+        public HistoricDecisionExecutionEntity getHistoricDecisionExecution() {
+            return historicDecisionExecution;
+        }
+
+        public DecisionExecutionAuditContainer getDecisionExecution() {
+            return decisionExecution;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.audit;
+
+/**
+ * Determines how much of the decision execution audit is stored in the execution json of a historic decision execution.
+ */
+public enum DecisionExecutionAuditLevel {
+
+    /**
+     * The complete audit is stored, including the condition and conclusion results of every rule that was evaluated.
+     */
+    FULL,
+
+    /**
+     * Only the executions of the rules that matched (and of the rules that failed with an exception) are stored.
+     * The input variables and the decision result are stored as with {@link #FULL}.
+     */
+    MATCHED_RULES
+}
@@ -12,9 +12,13 @@
  */
 package org.flowable.dmn.engine.impl.audit;
 
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
 import org.flowable.dmn.api.DecisionServiceExecutionAuditContainer;
 import org.flowable.dmn.api.ExecuteDecisionContext;
+import org.flowable.dmn.api.RuleExecutionAuditContainer;
 import org.flowable.dmn.engine.impl.util.CommandContextUtil;
 import org.flowable.dmn.model.Decision;
 import org.flowable.dmn.model.DecisionService;
@@ -22,6 +26,10 @@ import org.flowable.dmn.model.DecisionTable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
 /**
  * @author Yvo Swillens
  */
@@ -57,4 +65,48 @@ public class DecisionExecutionAuditUtil {
         return new DecisionExecutionAuditContainer(decision.getId(), decision.getName(), executeDecisionInfo.getDecisionVersion(), 
                         decisionTable.getHitPolicy(), CommandContextUtil.getDmnEngineConfiguration().isStrictMode(), executeDecisionInfo.getVariables());
     }
+
+    /**
+     * Serializes the decision execution audit to the execution json of a historic decision execution.
+     * With the {@link DecisionExecutionAuditLevel#MATCHED_RULES} audit level, the executions of the rules that did not match are left out.
+     */
+    public static String writeExecutionJson(DecisionExecutionAuditContainer decisionExecution, DecisionExecutionAuditLevel auditLevel, ObjectMapper objectMapper) {
+        try {
+            if (auditLevel == DecisionExecutionAuditLevel.MATCHED_RULES) {
+                JsonNode executionNode = objectMapper.valueToTree(decisionExecution);
+                removeUnmatchedRuleExecutions(decisionExecution, executionNode);
+                return objectMapper.writeValueAsString(executionNode);
+            }
+
+            return objectMapper.writeValueAsString(decisionExecution);
+
+        } catch (Exception e) {
+            throw new FlowableException("Error writing execution json", e);
+        }
+    }
+
+    protected static void removeUnmatchedRuleExecutions(DecisionExecutionAuditContainer decisionExecution, JsonNode executionNode) {
+        JsonNode ruleExecutionsNode = executionNode.get("ruleExecutions");
+        if (ruleExecutionsNode instanceof ObjectNode && decisionExecution.getRuleExecutions() != null) {
+            for (Map.Entry<Integer, RuleExecutionAuditContainer> ruleExecution : decisionExecution.getRuleExecutions().entrySet()) {
+                RuleExecutionAuditContainer ruleExecutionAudit = ruleExecution.getValue();
+                if (!Boolean.TRUE.equals(ruleExecutionAudit.isValid()) && ruleExecutionAudit.getExceptionMessage() == null) {
+                    ((ObjectNode) ruleExecutionsNode).remove(String.valueOf(ruleExecution.getKey()));
+                }
+            }
+        }
+
+        if (decisionExecution instanceof DecisionServiceExecutionAuditContainer) {
+            Map<String, DecisionExecutionAuditContainer> childDecisionExecutions = ((DecisionServiceExecutionAuditContainer) decisionExecution).getChildDecisionExecutions();
+            JsonNode childDecisionExecutionsNode = executionNode.get("childDecisionExecutions");
+            if (childDecisionExecutions != null && childDecisionExecutionsNode != null) {
+                for (Map.Entry<String, DecisionExecutionAuditContainer> childDecisionExecution : childDecisionExecutions.entrySet()) {
+                    JsonNode childDecisionExecutionNode = childDecisionExecutionsNode.get(childDecisionExecution.getKey());
+                    if (childDecisionExecutionNode != null) {
+                        removeUnmatchedRuleExecutions(childDecisionExecution.getValue(), childDecisionExecutionNode);
+                    }
+                }
+            }
+        }
+    }
 }
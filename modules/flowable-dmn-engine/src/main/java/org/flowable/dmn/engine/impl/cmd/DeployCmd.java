@@ -23,6 +23,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.repository.EngineResource;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.util.DeploymentContentHashUtil;
 import org.flowable.dmn.api.DmnDeployment;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.impl.DeploymentSettings;
@@ -52,6 +53,7 @@ public class DeployCmd<T> implements Command<DmnDeployment>, Serializable {
 
         DmnEngineConfiguration dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration(commandContext);
         deployment.setDeploymentTime(dmnEngineConfiguration.getClock().getCurrentTime());
+        deployment.setContentHash(DeploymentContentHashUtil.computeContentHash(deployment.getResources(), EngineResource::getBytes));
 
         if (deploymentBuilder.isDuplicateFilterEnabled()) {
 
@@ -79,13 +81,16 @@ public class DeployCmd<T> implements Command<DmnDeployment>, Serializable {
             if (!existingDeployments.isEmpty()) {
                 DmnDeploymentEntity existingDeployment = (DmnDeploymentEntity) existingDeployments.get(0);
 
-                Map<String, EngineResource> resourceMap = new HashMap<>();
-                List<DmnResourceEntity> resourceList = dmnEngineConfiguration.getResourceEntityManager().findResourcesByDeploymentId(existingDeployment.getId());
-                for (DmnResourceEntity resourceEntity : resourceList) {
-                    resourceMap.put(resourceEntity.getName(), resourceEntity);
+                // The resources only need to be read when one of the deployments has no content hash
+                if (deployment.getContentHash() == null || existingDeployment.getContentHash() == null) {
+                    Map<String, EngineResource> resourceMap = new HashMap<>();
+                    List<DmnResourceEntity> resourceList = dmnEngineConfiguration.getResourceEntityManager().findResourcesByDeploymentId(existingDeployment.getId());
+                    for (DmnResourceEntity resourceEntity : resourceList) {
+                        resourceMap.put(resourceEntity.getName(), resourceEntity);
+                    }
+                    existingDeployment.setResources(resourceMap);
                 }
-                existingDeployment.setResources(resourceMap);
-                
+
                 if (!deploymentsDiffer(deployment, existingDeployment)) {
                     return existingDeployment;
                 }
@@ -116,6 +121,10 @@ public class DeployCmd<T> implements Command<DmnDeployment>, Serializable {
 
     protected boolean deploymentsDiffer(DmnDeploymentEntity deployment, DmnDeploymentEntity saved) {
 
+        if (deployment.getContentHash() != null && saved.getContentHash() != null) {
+            return !deployment.getContentHash().equals(saved.getContentHash());
+        }
+
         if (deployment.getResources() == null || saved.getResources() == null) {
             return true;
         }
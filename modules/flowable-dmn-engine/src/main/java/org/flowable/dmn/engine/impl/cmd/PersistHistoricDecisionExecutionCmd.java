@@ -12,13 +12,20 @@
  */
 package org.flowable.dmn.engine.impl.cmd;
 
+import java.util.concurrent.ThreadLocalRandom;
+
 import org.apache.commons.lang3.BooleanUtils;
-import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
 import org.flowable.dmn.api.ExecuteDecisionContext;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.audit.AsyncHistoricDecisionExecutionWriter;
+import org.flowable.dmn.engine.impl.audit.DecisionExecutionAuditUtil;
 import org.flowable.dmn.engine.impl.persistence.entity.HistoricDecisionExecutionEntity;
 import org.flowable.dmn.engine.impl.persistence.entity.HistoricDecisionExecutionEntityManager;
 import org.flowable.dmn.engine.impl.util.CommandContextUtil;
@@ -45,7 +52,7 @@ public class PersistHistoricDecisionExecutionCmd implements Command<Void> {
 
         DmnEngineConfiguration engineConfiguration = CommandContextUtil.getDmnEngineConfiguration();
 
-        if (engineConfiguration.isHistoryEnabled()) {
+        if (engineConfiguration.isHistoryEnabled() && isSampled(engineConfiguration)) {
             HistoricDecisionExecutionEntityManager historicDecisionExecutionEntityManager = engineConfiguration.getHistoricDecisionExecutionEntityManager();
             HistoricDecisionExecutionEntity decisionExecutionEntity = historicDecisionExecutionEntityManager.create();
             decisionExecutionEntity.setDecisionDefinitionId(executeDecisionContext.getDecisionId());
@@ -63,20 +70,47 @@ public class PersistHistoricDecisionExecutionCmd implements Command<Void> {
                 decisionExecutionEntity.setFailed(failed.booleanValue());
             }
 
+            AsyncHistoricDecisionExecutionWriter asyncHistoricDecisionExecutionWriter = engineConfiguration.getAsyncHistoricDecisionExecutionWriter();
+            if (engineConfiguration.isAsyncHistoryEnabled() && asyncHistoricDecisionExecutionWriter != null) {
+                submitToAsyncWriter(decisionExecutionEntity, asyncHistoricDecisionExecutionWriter);
+                return null;
+            }
+
             ObjectMapper objectMapper = engineConfiguration.getObjectMapper();
             if (objectMapper == null) {
                 objectMapper = new ObjectMapper();
             }
 
-            try {
-                decisionExecutionEntity.setExecutionJson(objectMapper.writeValueAsString(executeDecisionContext.getDecisionExecution()));
-            } catch (Exception e) {
-                throw new FlowableException("Error writing execution json", e);
-            }
+            decisionExecutionEntity.setExecutionJson(DecisionExecutionAuditUtil.writeExecutionJson(executeDecisionContext.getDecisionExecution(),
+                    engineConfiguration.getDecisionExecutionAuditLevel(), objectMapper));
 
             historicDecisionExecutionEntityManager.insert(decisionExecutionEntity);
         }
 
         return null;
     }
+
+    /**
+     * Failed decision executions are always stored, the others according to the sampling rate of the engine configuration.
+     */
+    protected boolean isSampled(DmnEngineConfiguration engineConfiguration) {
+        double samplingRate = engineConfiguration.getDecisionExecutionSamplingRate();
+        if (samplingRate >= 1.0 || BooleanUtils.isTrue(executeDecisionContext.getDecisionExecution().isFailed())) {
+            return true;
+        }
+
+        return samplingRate > 0.0 && ThreadLocalRandom.current().nextDouble() < samplingRate;
+    }
+
+    protected void submitToAsyncWriter(HistoricDecisionExecutionEntity decisionExecutionEntity, AsyncHistoricDecisionExecutionWriter asyncHistoricDecisionExecutionWriter) {
+        DecisionExecutionAuditContainer decisionExecution = executeDecisionContext.getDecisionExecution();
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext == null) {
+            asyncHistoricDecisionExecutionWriter.submit(decisionExecutionEntity, decisionExecution);
+        } else {
+            // The historic decision execution is only handed over once the transaction has been committed, a rollback discards it
+            transactionContext.addTransactionListener(TransactionState.COMMITTED,
+                    commandContext -> asyncHistoricDecisionExecutionWriter.submit(decisionExecutionEntity, decisionExecution));
+        }
+    }
 }
@@ -37,6 +37,7 @@ public class DmnDeploymentEntityImpl extends AbstractDmnEngineNoRevisionEntity i
     protected String parentDeploymentId;
     protected Map<String, EngineResource> resources;
     protected Date deploymentTime;
+    protected String contentHash;
     protected boolean isNew;
 
     /**
@@ -156,6 +157,16 @@ public class DmnDeploymentEntityImpl extends AbstractDmnEngineNoRevisionEntity i
         this.deploymentTime = deploymentTime;
     }
 
+    @Override
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    @Override
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
     @Override
     public boolean isNew() {
         return isNew;
@@ -0,0 +1,104 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.flowable.dmn.api.DmnHistoricDecisionExecution;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.audit.DecisionExecutionAuditLevel;
+import org.flowable.dmn.engine.impl.test.ResourceFlowableDmnTestCase;
+import org.flowable.dmn.engine.test.DmnDeployment;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+public class AsyncHistoryTest extends ResourceFlowableDmnTestCase {
+
+    public AsyncHistoryTest() {
+        super("flowable.dmn.cfg.xml");
+    }
+
+    @Override
+    protected void additionalConfiguration(DmnEngineConfiguration dmnEngineConfiguration) {
+        dmnEngineConfiguration.setAsyncHistoryEnabled(true);
+        dmnEngineConfiguration.setAsyncHistoryBatchSize(10);
+        dmnEngineConfiguration.setDecisionExecutionAuditLevel(DecisionExecutionAuditLevel.MATCHED_RULES);
+    }
+
+    @Override
+    protected void closeDownDmnEngine() {
+        dmnEngineConfiguration.getAsyncHistoricDecisionExecutionWriter().shutdown();
+        super.closeDownDmnEngine();
+    }
+
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/history/HistoryTest.testFirstHitPolicy.dmn")
+    public void testAsyncHistoryWithMatchedRules() throws Exception {
+        assertThat(dmnEngineConfiguration.getAsyncHistoricDecisionExecutionWriter().isActive()).isTrue();
+
+        for (int i = 0; i < 25; i++) {
+            ruleService.createExecuteDecisionBuilder()
+                    .decisionKey("decision1")
+                    .variable("inputVariable1", 11)
+                    .executeWithSingleResult();
+        }
+
+        List<DmnHistoricDecisionExecution> decisionExecutions = waitForHistoricDecisionExecutions(25);
+        assertThat(decisionExecutions).hasSize(25);
+
+        JsonNode executionNode = dmnEngineConfiguration.getObjectMapper().readTree(decisionExecutions.get(0).getExecutionJson());
+        assertThat(executionNode.get("decisionKey").asText()).isEqualTo("decision1");
+        assertThat(executionNode.get("inputVariables").get("inputVariable1").asInt()).isEqualTo(11);
+
+        // The first rule did not match, so only the second rule is part of the audit
+        JsonNode ruleExecutions = executionNode.get("ruleExecutions");
+        assertThat(ruleExecutions.has("1")).isFalse();
+        assertThat(ruleExecutions.has("2")).isTrue();
+    }
+
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/history/HistoryTest.testFirstHitPolicy.dmn")
+    public void testSampling() throws Exception {
+        dmnEngineConfiguration.setDecisionExecutionSamplingRate(0.0);
+        try {
+            for (int i = 0; i < 10; i++) {
+                ruleService.createExecuteDecisionBuilder()
+                        .decisionKey("decision1")
+                        .variable("inputVariable1", 11)
+                        .executeWithSingleResult();
+            }
+
+        } finally {
+            dmnEngineConfiguration.setDecisionExecutionSamplingRate(1.0);
+        }
+
+        ruleService.createExecuteDecisionBuilder()
+                .decisionKey("decision1")
+                .variable("inputVariable1", 11)
+                .executeWithSingleResult();
+
+        assertThat(waitForHistoricDecisionExecutions(1)).hasSize(1);
+        assertThat(dmnEngineConfiguration.getAsyncHistoricDecisionExecutionWriter().getQueuedHistoricDecisionExecutionCount()).isZero();
+        assertThat(historyService.createHistoricDecisionExecutionQuery().count()).isEqualTo(1);
+    }
+
+    protected List<DmnHistoricDecisionExecution> waitForHistoricDecisionExecutions(int expectedCount) throws InterruptedException {
+        long maxWaitTime = System.currentTimeMillis() + 10_000;
+        List<DmnHistoricDecisionExecution> decisionExecutions = historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").list();
+        while (decisionExecutions.size() < expectedCount && System.currentTimeMillis() < maxWaitTime) {
+            Thread.sleep(50);
+            decisionExecutions = historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").list();
+        }
+        return decisionExecutions;
+    }
+}
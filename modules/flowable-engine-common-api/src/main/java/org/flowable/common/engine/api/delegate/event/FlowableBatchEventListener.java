@@ -0,0 +1,31 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.api.delegate.event;
+
+import java.util.List;
+
+/**
+ * An {@link FlowableEventListener} that is able to receive multiple events at once.
+ * When the listener is {@link #isAsync() asynchronous}, the events that are queued for it are delivered in batches
+ * through {@link #onEvents(List)} instead of one by one through {@link #onEvent(FlowableEvent)}.
+ */
+public interface FlowableBatchEventListener extends FlowableEventListener {
+
+    /**
+     * Called when a batch of events has been fired.
+     *
+     * @param events the events, in the order in which they were dispatched
+     */
+    void onEvents(List<FlowableEvent> events);
+
+}
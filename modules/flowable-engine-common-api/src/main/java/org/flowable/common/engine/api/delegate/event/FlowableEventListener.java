@@ -56,4 +56,15 @@ public interface FlowableEventListener {
         return Collections.emptySet();
     }
 
+    /**
+     * Whether this listener can receive its events asynchronously, after the transaction in which they were dispatched has been committed.
+     * Only taken into account when asynchronous event listener dispatching is enabled on the engine configuration,
+     * otherwise the listener is invoked synchronously as before.
+     *
+     * @return true if the events for this listener can be delivered by the asynchronous event listener executor
+     */
+    default boolean isAsync() {
+        return false;
+    }
+
 }
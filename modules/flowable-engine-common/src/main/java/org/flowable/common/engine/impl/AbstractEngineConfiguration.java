@@ -63,6 +63,7 @@ import org.flowable.common.engine.impl.db.LogSqlExecutionTimePlugin;
 import org.flowable.common.engine.impl.db.MybatisTypeAliasConfigurator;
 import org.flowable.common.engine.impl.db.MybatisTypeHandlerConfigurator;
 import org.flowable.common.engine.impl.db.SchemaManager;
+import org.flowable.common.engine.impl.event.AsyncEventListenerExecutor;
 import org.flowable.common.engine.impl.event.EventDispatchAction;
 import org.flowable.common.engine.impl.event.FlowableEventDispatcherImpl;
 import org.flowable.common.engine.impl.interceptor.Command;
@@ -148,6 +149,25 @@ public abstract class AbstractEngineConfiguration {
     protected int jdbcPingConnectionNotUsedFor;
     protected int jdbcDefaultTransactionIsolationLevel;
     protected DataSource dataSource;
+
+    /**
+     * Optional data source, typically a read replica of the primary database, on which query commands
+     * (e.g. {@code taskService.createTaskQuery().list()} or history queries) are executed, taking load off the primary database.
+     * Queries executed within another command, or that can be part of an outer transaction, always use the primary data source.
+     * With externally managed transactions (e.g. Spring or JTA), only queries executed with a command config that
+     * requires a new transaction or doesn't support transactions use this data source.
+     * When no connection to it can be obtained, the primary data source is used.
+     */
+    protected DataSource readOnlyDataSource;
+
+    /**
+     * Time in milliseconds after a write to the primary data source by this engine during which query commands still go to the primary data source.
+     * Should be set to the expected replication lag of the {@link #readOnlyDataSource}, so that the data written by this engine is seen by subsequent queries.
+     * Note that this only covers writes of this engine node: writes of other nodes can always be seen with the delay of the replication.
+     * By default 0: queries always go to the read-only data source.
+     */
+    protected long readOnlyDataSourceStalenessWindow;
+
     protected SchemaManager commonSchemaManager;
     protected SchemaManager schemaManager;
     protected Command<Void> schemaManagementCmd;
@@ -233,6 +253,13 @@ public abstract class AbstractEngineConfiguration {
     protected Map<String, List<FlowableEventListener>> typedEventListeners;
     protected List<EventDispatchAction> additionalEventDispatchActions;
 
+    /**
+     * When enabled, events for event listeners that are {@link FlowableEventListener#isAsync() asynchronous} are delivered
+     * after the transaction has been committed by the {@link #asyncEventListenerExecutor}, instead of synchronously on the engine thread.
+     */
+    protected boolean enableAsyncEventListeners;
+    protected AsyncEventListenerExecutor asyncEventListenerExecutor;
+
     protected LoggingListener loggingListener;
 
     protected boolean transactionsExternallyManaged;
@@ -755,6 +782,9 @@ public abstract class AbstractEngineConfiguration {
         dbSqlSessionFactory.setDatabaseCatalog(databaseCatalog);
         dbSqlSessionFactory.setDatabaseSchema(databaseSchema);
         dbSqlSessionFactory.setMaxNrOfStatementsInBulkInsert(maxNrOfStatementsInBulkInsert);
+        dbSqlSessionFactory.setReadOnlyDataSource(readOnlyDataSource);
+        dbSqlSessionFactory.setReadOnlyDataSourceStalenessWindow(readOnlyDataSourceStalenessWindow);
+        dbSqlSessionFactory.setTransactionsExternallyManaged(transactionsExternallyManaged);
 
         initDbSqlSessionFactoryEntitySettings();
 
@@ -1017,6 +1047,10 @@ public abstract class AbstractEngineConfiguration {
              */
             ((PooledDataSource) dataSource).forceCloseAll();
         }
+
+        if (asyncEventListenerExecutor != null) {
+            asyncEventListenerExecutor.shutdown();
+        }
     }
 
     protected List<EngineConfigurator> getEngineSpecificEngineConfigurators() {
@@ -1099,6 +1133,24 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public DataSource getReadOnlyDataSource() {
+        return readOnlyDataSource;
+    }
+
+    public AbstractEngineConfiguration setReadOnlyDataSource(DataSource readOnlyDataSource) {
+        this.readOnlyDataSource = readOnlyDataSource;
+        return this;
+    }
+
+    public long getReadOnlyDataSourceStalenessWindow() {
+        return readOnlyDataSourceStalenessWindow;
+    }
+
+    public AbstractEngineConfiguration setReadOnlyDataSourceStalenessWindow(long readOnlyDataSourceStalenessWindow) {
+        this.readOnlyDataSourceStalenessWindow = readOnlyDataSourceStalenessWindow;
+        return this;
+    }
+
     public SchemaManager getSchemaManager() {
         return schemaManager;
     }
@@ -1750,10 +1802,29 @@ public abstract class AbstractEngineConfiguration {
 
         this.eventDispatcher.setEnabled(enableEventDispatcher);
 
+        initAsyncEventListenerExecutor();
         initEventListeners();
         initTypedEventListeners();
     }
 
+    protected void initAsyncEventListenerExecutor() {
+        if (!enableAsyncEventListeners) {
+            return;
+        }
+
+        if (asyncEventListenerExecutor == null) {
+            asyncEventListenerExecutor = new AsyncEventListenerExecutor();
+        }
+
+        if (eventDispatcher instanceof FlowableEventDispatcherImpl) {
+            ((FlowableEventDispatcherImpl) eventDispatcher).getEventSupport().setAsyncEventListenerExecutor(asyncEventListenerExecutor);
+            asyncEventListenerExecutor.start();
+        } else {
+            logger.warn("Async event listeners are enabled, but the event dispatcher {} does not support them. Async event listeners will be invoked synchronously.",
+                    eventDispatcher);
+        }
+    }
+
     protected void initEventListeners() {
         if (eventListeners != null) {
             for (FlowableEventListener listenerToAdd : eventListeners) {
@@ -1781,6 +1852,24 @@ public abstract class AbstractEngineConfiguration {
         }
     }
 
+    public boolean isEnableAsyncEventListeners() {
+        return enableAsyncEventListeners;
+    }
+
+    public AbstractEngineConfiguration setEnableAsyncEventListeners(boolean enableAsyncEventListeners) {
+        this.enableAsyncEventListeners = enableAsyncEventListeners;
+        return this;
+    }
+
+    public AsyncEventListenerExecutor getAsyncEventListenerExecutor() {
+        return asyncEventListenerExecutor;
+    }
+
+    public AbstractEngineConfiguration setAsyncEventListenerExecutor(AsyncEventListenerExecutor asyncEventListenerExecutor) {
+        this.asyncEventListenerExecutor = asyncEventListenerExecutor;
+        return this;
+    }
+
     public boolean isLoggingSessionEnabled() {
         return loggingListener != null;
     }
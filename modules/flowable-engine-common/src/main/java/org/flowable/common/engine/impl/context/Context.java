@@ -36,6 +36,13 @@ public class Context {
         return stack.peek();
     }
 
+    /**
+     * @return whether the current command context is executed within another command context, e.g. a command with a new transaction fired from a delegate
+     */
+    public static boolean hasOuterCommandContext() {
+        return getStack(commandContextThreadLocal).size() > 1;
+    }
+
     public static void setCommandContext(CommandContext commandContext) {
         getStack(commandContextThreadLocal).push(commandContext);
     }
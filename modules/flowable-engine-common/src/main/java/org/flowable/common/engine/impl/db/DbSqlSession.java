@@ -59,6 +59,11 @@ public class DbSqlSession implements Session {
     protected Map<Class<? extends Entity>, List<BulkDeleteOperation>> bulkDeleteOperations = new HashMap<>();
     protected List<Entity> updatedObjects = new ArrayList<>();
 
+    /**
+     * Whether this session is connected to the read-only data source of the {@link DbSqlSessionFactory}.
+     */
+    protected boolean readOnly;
+
     public DbSqlSession(DbSqlSessionFactory dbSqlSessionFactory, EntityCache entityCache) {
         this.dbSqlSessionFactory = dbSqlSessionFactory;
         this.entityCache = entityCache;
@@ -73,6 +78,13 @@ public class DbSqlSession implements Session {
         this.connectionMetadataDefaultSchema = schema;
     }
 
+    public DbSqlSession(DbSqlSessionFactory dbSqlSessionFactory, EntityCache entityCache, SqlSession sqlSession, boolean readOnly) {
+        this.dbSqlSessionFactory = dbSqlSessionFactory;
+        this.entityCache = entityCache;
+        this.sqlSession = sqlSession;
+        this.readOnly = readOnly;
+    }
+
     // insert ///////////////////////////////////////////////////////////////////
 
     public void insert(Entity entity, IdGenerator idGenerator) {
@@ -103,6 +115,7 @@ public class DbSqlSession implements Session {
     }
 
     public int update(String statement, Object parameters) {
+        registerWrite();
         String updateStatement = dbSqlSessionFactory.mapStatement(statement);
         return getSqlSession().update(updateStatement, parameters);
     }
@@ -360,11 +373,39 @@ public class DbSqlSession implements Session {
             debugFlush();
         }
 
+        if (hasChangesToFlush()) {
+            registerWrite();
+        }
+
         flushInserts();
         flushUpdates();
         flushDeletes();
     }
 
+    protected void registerWrite() {
+        if (readOnly) {
+            throw new FlowableException("Changes can't be written by a session on the read-only data source");
+        }
+        dbSqlSessionFactory.registerWrite();
+    }
+
+    protected boolean hasChangesToFlush() {
+        if (!updatedObjects.isEmpty() || !bulkDeleteOperations.isEmpty()) {
+            return true;
+        }
+        for (Map<String, Entity> insertedEntities : insertedObjects.values()) {
+            if (!insertedEntities.isEmpty()) {
+                return true;
+            }
+        }
+        for (Map<String, Entity> deletedEntities : deletedObjects.values()) {
+            if (!deletedEntities.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Clears all deleted and inserted objects from the cache, and removes inserts and deletes that cancel each other.
      *
@@ -672,6 +713,10 @@ public class DbSqlSession implements Session {
         return sqlSession;
     }
 
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
     public DbSqlSessionFactory getDbSqlSessionFactory() {
         return dbSqlSessionFactory;
     }
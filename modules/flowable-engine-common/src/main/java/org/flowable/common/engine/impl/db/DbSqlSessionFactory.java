@@ -22,14 +22,29 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
+import javax.sql.DataSource;
+
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.defaults.DefaultSqlSession;
+import org.apache.ibatis.transaction.Transaction;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.cfg.TransactionPropagation;
 import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.Session;
 import org.flowable.common.engine.impl.interceptor.SessionFactory;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
+import org.flowable.common.engine.impl.query.AbstractNativeQuery;
+import org.flowable.common.engine.impl.query.AbstractQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author Tom Baeyens
@@ -37,6 +52,8 @@ import org.flowable.common.engine.impl.persistence.entity.Entity;
  */
 public class DbSqlSessionFactory implements SessionFactory {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(DbSqlSessionFactory.class);
+
     protected Map<String, Map<String, String>> databaseSpecificStatements = new HashMap<>();
 
     protected String databaseType;
@@ -66,6 +83,31 @@ public class DbSqlSessionFactory implements SessionFactory {
     protected Map<String, Class<?>> logicalNameToClassMapping = new ConcurrentHashMap<>();
     
     protected boolean usePrefixId;
+
+    /**
+     * Optional data source (typically a read replica of the primary database) on which query commands are executed.
+     */
+    protected DataSource readOnlyDataSource;
+
+    /**
+     * Time in milliseconds after a write flushed by this engine during which query commands keep going to the primary data source,
+     * to cover the replication lag of the read-only data source.
+     */
+    protected long readOnlyDataSourceStalenessWindow;
+
+    /**
+     * Time in milliseconds during which the read-only data source isn't used anymore after a connection to it couldn't be obtained.
+     */
+    protected long readOnlyDataSourceFailureBackoff = 30000L;
+
+    /**
+     * Whether the transactions are managed outside of the engine (e.g. Spring or JTA), in which case a command with a required transaction
+     * can join an outer transaction whose changes aren't visible on the read-only data source.
+     */
+    protected boolean transactionsExternallyManaged;
+
+    protected volatile long lastWriteTime;
+    protected volatile long readOnlyDataSourceUnavailableUntil;
     
     public DbSqlSessionFactory(boolean usePrefixId) {
         this.usePrefixId = usePrefixId;
@@ -78,7 +120,14 @@ public class DbSqlSessionFactory implements SessionFactory {
 
     @Override
     public Session openSession(CommandContext commandContext) {
-        DbSqlSession dbSqlSession = createDbSqlSession();
+        DbSqlSession dbSqlSession = null;
+        if (isReadOnlyDataSourceUsed(commandContext)) {
+            dbSqlSession = createReadOnlyDbSqlSession(commandContext);
+        }
+        if (dbSqlSession == null) {
+            dbSqlSession = createDbSqlSession();
+        }
+        
         if (getDatabaseSchema() != null && getDatabaseSchema().length() > 0) {
             try {
                 dbSqlSession.getSqlSession().getConnection().setSchema(getDatabaseSchema());
@@ -103,6 +152,84 @@ public class DbSqlSessionFactory implements SessionFactory {
         return new DbSqlSession(this, Context.getCommandContext().getSession(EntityCache.class));
     }
 
+    // read-only data source
+    // /////////////////////////////////////
+
+    protected boolean isReadOnlyDataSourceUsed(CommandContext commandContext) {
+        if (readOnlyDataSource == null || commandContext == null || !isReadOnlyCommand(commandContext.getCommand())
+                || !isExecutedInOwnTransaction(commandContext)) {
+            return false;
+        }
+
+        long now = System.currentTimeMillis();
+        return now >= readOnlyDataSourceUnavailableUntil && now - lastWriteTime >= readOnlyDataSourceStalenessWindow;
+    }
+
+    /**
+     * Returns whether the command only reads data and can therefore be executed on the read-only data source.
+     * By default, these are the (native) queries executed as a command of their own, e.g. {@code taskService.createTaskQuery().list()}.
+     * Queries executed within another command use the command context (and the data source) of that command.
+     */
+    protected boolean isReadOnlyCommand(Command<?> command) {
+        return command instanceof AbstractQuery || command instanceof AbstractNativeQuery;
+    }
+
+    /**
+     * Returns whether the command context isn't part of an outer transaction, so that it can't miss changes of that transaction on the read-only data source.
+     * That is the case for a command context that isn't reused nor nested in another command context, and that is executed
+     * with a new transaction ({@link TransactionPropagation#REQUIRES_NEW}) or without a transaction ({@link TransactionPropagation#NOT_SUPPORTED}).
+     * When the transactions aren't externally managed, a required transaction is always a new transaction for such a command context.
+     */
+    protected boolean isExecutedInOwnTransaction(CommandContext commandContext) {
+        CommandConfig commandConfig = commandContext.getCommandConfig();
+        if (commandConfig == null || commandContext.isReused() || Context.hasOuterCommandContext()) {
+            return false;
+        }
+
+        TransactionPropagation transactionPropagation = commandConfig.getTransactionPropagation();
+        if (transactionPropagation == TransactionPropagation.REQUIRES_NEW || transactionPropagation == TransactionPropagation.NOT_SUPPORTED) {
+            return true;
+        }
+        return transactionPropagation == TransactionPropagation.REQUIRED && !transactionsExternallyManaged;
+    }
+
+    protected DbSqlSession createReadOnlyDbSqlSession(CommandContext commandContext) {
+        SqlSession sqlSession = null;
+        try {
+            // The read-only data source isn't part of the (possibly externally managed) transaction of the primary data source,
+            // so its connection is always managed (and closed) by a JDBC transaction of its own.
+            Configuration configuration = sqlSessionFactory.getConfiguration();
+            Transaction transaction = new JdbcTransactionFactory().newTransaction(readOnlyDataSource, null, false);
+            Executor executor = configuration.newExecutor(transaction, configuration.getDefaultExecutorType());
+            sqlSession = new DefaultSqlSession(configuration, executor, false);
+            sqlSession.getConnection().setReadOnly(true);
+
+            return new DbSqlSession(this, commandContext.getSession(EntityCache.class), sqlSession, true);
+
+        } catch (Exception e) {
+            LOGGER.warn("Could not open a connection to the read-only data source, falling back to the primary data source for the next {} ms",
+                    readOnlyDataSourceFailureBackoff, e);
+            readOnlyDataSourceUnavailableUntil = System.currentTimeMillis() + readOnlyDataSourceFailureBackoff;
+            if (sqlSession != null) {
+                try {
+                    sqlSession.close();
+                } catch (Exception closeException) {
+                    LOGGER.debug("Could not close session of the read-only data source", closeException);
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Called when a session has flushed changes to the primary data source, which starts a new staleness window for the read-only data source.
+     */
+    public void registerWrite() {
+        if (readOnlyDataSource != null) {
+            lastWriteTime = System.currentTimeMillis();
+        }
+    }
+
     // insert, update and delete statements
     // /////////////////////////////////////
 
@@ -346,4 +473,36 @@ public class DbSqlSessionFactory implements SessionFactory {
     public void setUsePrefixId(boolean usePrefixId) {
         this.usePrefixId = usePrefixId;
     }
+
+    public DataSource getReadOnlyDataSource() {
+        return readOnlyDataSource;
+    }
+
+    public void setReadOnlyDataSource(DataSource readOnlyDataSource) {
+        this.readOnlyDataSource = readOnlyDataSource;
+    }
+
+    public long getReadOnlyDataSourceStalenessWindow() {
+        return readOnlyDataSourceStalenessWindow;
+    }
+
+    public void setReadOnlyDataSourceStalenessWindow(long readOnlyDataSourceStalenessWindow) {
+        this.readOnlyDataSourceStalenessWindow = readOnlyDataSourceStalenessWindow;
+    }
+
+    public long getReadOnlyDataSourceFailureBackoff() {
+        return readOnlyDataSourceFailureBackoff;
+    }
+
+    public void setReadOnlyDataSourceFailureBackoff(long readOnlyDataSourceFailureBackoff) {
+        this.readOnlyDataSourceFailureBackoff = readOnlyDataSourceFailureBackoff;
+    }
+
+    public boolean isTransactionsExternallyManaged() {
+        return transactionsExternallyManaged;
+    }
+
+    public void setTransactionsExternallyManaged(boolean transactionsExternallyManaged) {
+        this.transactionsExternallyManaged = transactionsExternallyManaged;
+    }
 }
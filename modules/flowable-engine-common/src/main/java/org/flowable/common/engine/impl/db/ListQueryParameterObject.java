@@ -13,7 +13,10 @@
 
 package org.flowable.common.engine.impl.db;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 
 import org.flowable.common.engine.api.query.Query.NullHandlingOnOrder;
@@ -44,6 +47,7 @@ public class ListQueryParameterObject {
     protected NullHandlingOnOrder nullHandlingOnOrder;
     protected ResultType resultType;
     protected String databaseType;
+    protected Collection<String> selectedColumns;
     
     public ListQueryParameterObject() {
         
@@ -196,6 +200,39 @@ public class ListQueryParameterObject {
         return databaseType;
     }
 
+    public Collection<String> getSelectedColumns() {
+        return selectedColumns;
+    }
+
+    /**
+     * Only selects the given columns (e.g. RES.NAME_) instead of all columns, for the queries that support it.
+     * The properties of the returned entities that are not selected are not set.
+     * Only use this for read-only results that are not used anymore after the query.
+     */
+    public void setSelectedColumns(Collection<String> selectedColumns) {
+        this.selectedColumns = selectedColumns;
+    }
+
+    /**
+     * @return the select clause for the selected columns, or null when all columns are selected.
+     */
+    public String getSelectedColumnsSql() {
+        if (selectedColumns == null) {
+            return null;
+        }
+
+        Set<String> columns = new LinkedHashSet<>();
+        columns.add("RES.ID_");
+        columns.addAll(selectedColumns);
+        // Some databases need the ordered columns to be part of a select distinct
+        for (String orderByColumn : orderByColumnMap.keySet()) {
+            if (!columns.contains(orderByColumn)) {
+                columns.add(orderByColumn);
+            }
+        }
+        return String.join(", ", columns);
+    }
+
     public String getNullHandlingColumn() {
         return nullHandlingColumn;
     }
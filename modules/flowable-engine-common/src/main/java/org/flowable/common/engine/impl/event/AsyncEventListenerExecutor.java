@@ -0,0 +1,313 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.event;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.common.engine.api.delegate.event.FlowableBatchEventListener;
+import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delivers events to {@link FlowableEventListener#isAsync() asynchronous} event listeners on a dedicated pool of worker threads.
+ * <p>
+ * Events are put on a bounded queue (once the transaction that dispatched them has been committed) and are taken off the queue
+ * in batches by the worker threads. When a batch contains multiple events for a {@link FlowableBatchEventListener},
+ * these are delivered with a single {@link FlowableBatchEventListener#onEvents(List)} call.
+ * What happens when the queue is full is determined by the {@link AsyncEventListenerOverflowStrategy}.
+ * <p>
+ * The events for a single listener are delivered in dispatch order when only one worker thread is used.
+ * With more worker threads, events for the same listener can be delivered concurrently.
+ */
+public class AsyncEventListenerExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncEventListenerExecutor.class);
+
+    /**
+     * The maximum number of events that can be waiting for delivery.
+     */
+    protected int queueSize = 2048;
+
+    /**
+     * The number of worker threads delivering events.
+     */
+    protected int threadPoolSize = 1;
+
+    /**
+     * The maximum number of events that is taken from the queue by a worker thread at once.
+     */
+    protected int batchSize = 100;
+
+    /**
+     * The time (in milliseconds) a worker thread waits for new events before checking whether the executor is still active.
+     */
+    protected long pollTimeout = 500L;
+
+    /**
+     * The time (in seconds) that is waited for the remaining events to be delivered on shutdown.
+     */
+    protected long secondsToWaitOnShutdown = 60L;
+
+    protected AsyncEventListenerOverflowStrategy overflowStrategy = AsyncEventListenerOverflowStrategy.BLOCK;
+
+    protected String threadPoolNamingPattern = "flowable-async-event-listener-thread-%d";
+
+    protected ThreadFactory threadFactory;
+
+    protected BlockingQueue<AsyncEventListenerEntry> queue;
+    protected ExecutorService executorService;
+    protected volatile boolean active;
+
+    protected final AtomicLong droppedEventCount = new AtomicLong();
+
+    public synchronized void start() {
+        if (active) {
+            return;
+        }
+
+        LOGGER.info("Starting async event listener executor with queue size {}, {} thread(s) and batch size {}", queueSize, threadPoolSize, batchSize);
+        queue = new ArrayBlockingQueue<>(queueSize);
+        if (threadFactory == null) {
+            threadFactory = new BasicThreadFactory.Builder().namingPattern(threadPoolNamingPattern).build();
+        }
+        executorService = Executors.newFixedThreadPool(threadPoolSize, threadFactory);
+        active = true;
+
+        for (int i = 0; i < threadPoolSize; i++) {
+            executorService.execute(this::deliverEvents);
+        }
+    }
+
+    public synchronized void shutdown() {
+        if (!active) {
+            return;
+        }
+
+        LOGGER.info("Shutting down async event listener executor");
+        active = false;
+        executorService.shutdown();
+        try {
+            if (!executorService.awaitTermination(secondsToWaitOnShutdown, TimeUnit.SECONDS)) {
+                LOGGER.warn("Timeout during shutdown of async event listener executor. {} event(s) could not be delivered within {} seconds.",
+                        queue.size(), secondsToWaitOnShutdown);
+            }
+        } catch (InterruptedException e) {
+            LOGGER.warn("Interrupted while shutting down the async event listener executor. ", e);
+            Thread.currentThread().interrupt();
+        }
+
+        executorService = null;
+    }
+
+    /**
+     * Queues the event for delivery to the given listener.
+     * When the executor is not active, the event is delivered on the calling thread.
+     */
+    public void submit(FlowableEventListener listener, FlowableEvent event) {
+        if (!active) {
+            deliver(listener, event);
+            return;
+        }
+
+        AsyncEventListenerEntry entry = new AsyncEventListenerEntry(listener, event);
+        if (queue.offer(entry)) {
+            return;
+        }
+
+        switch (overflowStrategy) {
+            case BLOCK:
+                try {
+                    queue.put(entry);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    LOGGER.warn("Interrupted while waiting to queue event {} for async event listener {}. Delivering it on the current thread.", event, listener);
+                    deliver(listener, event);
+                }
+                break;
+
+            case DROP:
+                droppedEventCount.incrementAndGet();
+                LOGGER.debug("Async event listener queue is full, dropping event {} for listener {}", event, listener);
+                break;
+
+            case CALLER_RUNS:
+                deliver(listener, event);
+                break;
+        }
+    }
+
+    protected void deliverEvents() {
+        List<AsyncEventListenerEntry> batch = new ArrayList<>(batchSize);
+        while (active || !queue.isEmpty()) {
+            try {
+                AsyncEventListenerEntry entry = queue.poll(pollTimeout, TimeUnit.MILLISECONDS);
+                if (entry == null) {
+                    continue;
+                }
+
+                batch.add(entry);
+                queue.drainTo(batch, batchSize - 1);
+                deliver(batch);
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    protected void deliver(List<AsyncEventListenerEntry> batch) {
+        // Group the events per listener, keeping the order in which they were dispatched
+        Map<FlowableEventListener, List<FlowableEvent>> eventsPerListener = new LinkedHashMap<>();
+        for (AsyncEventListenerEntry entry : batch) {
+            eventsPerListener.computeIfAbsent(entry.getListener(), key -> new ArrayList<>()).add(entry.getEvent());
+        }
+
+        for (Map.Entry<FlowableEventListener, List<FlowableEvent>> listenerEvents : eventsPerListener.entrySet()) {
+            FlowableEventListener listener = listenerEvents.getKey();
+            List<FlowableEvent> events = listenerEvents.getValue();
+            if (listener instanceof FlowableBatchEventListener) {
+                try {
+                    ((FlowableBatchEventListener) listener).onEvents(events);
+                } catch (Throwable t) {
+                    LOGGER.warn("Exception while executing async event-listener {} for {} event(s), which was ignored", listener, events.size(), t);
+                }
+
+            } else {
+                for (FlowableEvent event : events) {
+                    deliver(listener, event);
+                }
+            }
+        }
+    }
+
+    protected void deliver(FlowableEventListener listener, FlowableEvent event) {
+        try {
+            listener.onEvent(event);
+        } catch (Throwable t) {
+            // The transaction has already been committed, so there is nothing that can fail anymore
+            LOGGER.warn("Exception while executing async event-listener {}, which was ignored", listener, t);
+        }
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public int getQueuedEventCount() {
+        return queue != null ? queue.size() : 0;
+    }
+
+    public long getDroppedEventCount() {
+        return droppedEventCount.get();
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public int getThreadPoolSize() {
+        return threadPoolSize;
+    }
+
+    public void setThreadPoolSize(int threadPoolSize) {
+        this.threadPoolSize = threadPoolSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getPollTimeout() {
+        return pollTimeout;
+    }
+
+    public void setPollTimeout(long pollTimeout) {
+        this.pollTimeout = pollTimeout;
+    }
+
+    public long getSecondsToWaitOnShutdown() {
+        return secondsToWaitOnShutdown;
+    }
+
+    public void setSecondsToWaitOnShutdown(long secondsToWaitOnShutdown) {
+        this.secondsToWaitOnShutdown = secondsToWaitOnShutdown;
+    }
+
+    public AsyncEventListenerOverflowStrategy getOverflowStrategy() {
+        return overflowStrategy;
+    }
+
+    public void setOverflowStrategy(AsyncEventListenerOverflowStrategy overflowStrategy) {
+        this.overflowStrategy = overflowStrategy;
+    }
+
+    public String getThreadPoolNamingPattern() {
+        return threadPoolNamingPattern;
+    }
+
+    public void setThreadPoolNamingPattern(String threadPoolNamingPattern) {
+        this.threadPoolNamingPattern = threadPoolNamingPattern;
+    }
+
+    public ThreadFactory getThreadFactory() {
+        return threadFactory;
+    }
+
+    public void setThreadFactory(ThreadFactory threadFactory) {
+        this.threadFactory = threadFactory;
+    }
+
+    protected static class AsyncEventListenerEntry {
+
+        protected final FlowableEventListener listener;
+        protected final FlowableEvent event;
+
+        protected AsyncEventListenerEntry(FlowableEventListener listener, FlowableEvent event) {
+            this.listener = listener;
+            this.event = event;
+        }
+
+        public FlowableEventListener getListener() {
+            return listener;
+        }
+
+        public FlowableEvent getEvent() {
+            return event;
+        }
+    }
+}
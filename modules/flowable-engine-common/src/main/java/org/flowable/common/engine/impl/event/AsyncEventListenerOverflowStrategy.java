@@ -0,0 +1,35 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.event;
+
+/**
+ * Describes what the {@link AsyncEventListenerExecutor} does with an event when its queue is full.
+ */
+public enum AsyncEventListenerOverflowStrategy {
+
+    /**
+     * The thread that dispatches the event waits until there is room in the queue.
+     */
+    BLOCK,
+
+    /**
+     * The event is not delivered to the listener. The number of dropped events is tracked by the executor.
+     */
+    DROP,
+
+    /**
+     * The event is delivered to the listener on the thread that dispatches the event (i.e. after the transaction has been committed).
+     */
+    CALLER_RUNS
+
+}
@@ -0,0 +1,40 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.event;
+
+import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
+import org.flowable.common.engine.impl.cfg.TransactionListener;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+
+/**
+ * Hands over an event to the {@link AsyncEventListenerExecutor} once the transaction has been committed.
+ */
+public class DispatchAsyncEventListenerTransactionListener implements TransactionListener {
+
+    protected AsyncEventListenerExecutor asyncEventListenerExecutor;
+    protected FlowableEventListener listener;
+    protected FlowableEvent flowableEvent;
+
+    public DispatchAsyncEventListenerTransactionListener(AsyncEventListenerExecutor asyncEventListenerExecutor,
+            FlowableEventListener listener, FlowableEvent flowableEvent) {
+        this.asyncEventListenerExecutor = asyncEventListenerExecutor;
+        this.listener = listener;
+        this.flowableEvent = flowableEvent;
+    }
+
+    @Override
+    public void execute(CommandContext commandContext) {
+        asyncEventListenerExecutor.submit(listener, flowableEvent);
+    }
+}
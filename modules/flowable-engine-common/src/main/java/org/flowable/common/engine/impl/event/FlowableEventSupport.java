@@ -39,6 +39,7 @@ public class FlowableEventSupport {
 
     protected List<FlowableEventListener> eventListeners;
     protected Map<FlowableEventType, List<FlowableEventListener>> typedListeners;
+    protected AsyncEventListenerExecutor asyncEventListenerExecutor;
 
     public FlowableEventSupport() {
         eventListeners = new CopyOnWriteArrayList<>();
@@ -110,7 +111,9 @@ public class FlowableEventSupport {
     }
 
     protected void dispatchEvent(FlowableEvent event, FlowableEventListener listener) {
-        if (listener.isFireOnTransactionLifecycleEvent()) {
+        if (asyncEventListenerExecutor != null && listener.isAsync()) {
+            dispatchAsyncEventListener(event, listener);
+        } else if (listener.isFireOnTransactionLifecycleEvent()) {
             dispatchTransactionEventListener(event, listener);
         } else {
             dispatchNormalEventListener(event, listener);
@@ -155,6 +158,17 @@ public class FlowableEventSupport {
         }
     }
 
+    protected void dispatchAsyncEventListener(FlowableEvent event, FlowableEventListener listener) {
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext == null) {
+            asyncEventListenerExecutor.submit(listener, event);
+        } else {
+            // The event is only handed over once the transaction has been committed, a rollback discards it
+            transactionContext.addTransactionListener(TransactionState.COMMITTED,
+                    new DispatchAsyncEventListenerTransactionListener(asyncEventListenerExecutor, listener, event));
+        }
+    }
+
     protected synchronized void addTypedEventListener(FlowableEventListener listener, FlowableEventType type) {
         List<FlowableEventListener> listeners = typedListeners.get(type);
         if (listeners == null) {
@@ -167,4 +181,12 @@ public class FlowableEventSupport {
             listeners.add(listener);
         }
     }
+
+    public AsyncEventListenerExecutor getAsyncEventListenerExecutor() {
+        return asyncEventListenerExecutor;
+    }
+
+    public void setAsyncEventListenerExecutor(AsyncEventListenerExecutor asyncEventListenerExecutor) {
+        this.asyncEventListenerExecutor = asyncEventListenerExecutor;
+    }
 }
@@ -39,6 +39,7 @@ public class CommandContext {
 
     protected Map<String, AbstractEngineConfiguration> engineConfigurations;
     protected Command<?> command;
+    protected CommandConfig commandConfig;
     protected Map<Class<?>, SessionFactory> sessionFactories;
     protected Map<Class<?>, Session> sessions = new HashMap<>();
     protected Throwable exception;
@@ -340,6 +341,14 @@ public class CommandContext {
         return command;
     }
 
+    public CommandConfig getCommandConfig() {
+        return commandConfig;
+    }
+
+    public void setCommandConfig(CommandConfig commandConfig) {
+        this.commandConfig = commandConfig;
+    }
+
     public Map<Class<?>, Session> getSessions() {
         return sessions;
     }
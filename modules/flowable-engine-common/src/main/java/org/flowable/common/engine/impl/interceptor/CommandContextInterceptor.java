@@ -63,6 +63,7 @@ public class CommandContextInterceptor extends AbstractCommandInterceptor {
         // rollback state, and some other command is being fired to compensate (eg. decrementing job retries)
         if (!config.isContextReusePossible() || commandContext == null || commandContext.getException() != null) {
             commandContext = commandContextFactory.createCommandContext(command);
+            commandContext.setCommandConfig(config);
             commandContext.setEngineConfigurations(engineConfigurations);
             commandContext.setCommandExecutor(commandExecutor);
             commandContext.setClassLoader(classLoader);
@@ -21,4 +21,6 @@ public interface PropertyEntityManager extends EntityManager<PropertyEntity> {
 
     List<PropertyEntity> findAll();
 
+    List<PropertyEntity> findByNamePrefix(String namePrefix);
+
 }
\ No newline at end of file
@@ -35,4 +35,9 @@ public class PropertyEntityManagerImpl
         return dataManager.findAll();
     }
 
+    @Override
+    public List<PropertyEntity> findByNamePrefix(String namePrefix) {
+        return dataManager.findByNamePrefix(namePrefix);
+    }
+
 }
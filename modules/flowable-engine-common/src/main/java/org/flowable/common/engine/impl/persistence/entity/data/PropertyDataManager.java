@@ -23,4 +23,6 @@ public interface PropertyDataManager extends DataManager<PropertyEntity> {
 
     List<PropertyEntity> findAll();
 
+    List<PropertyEntity> findByNamePrefix(String namePrefix);
+
 }
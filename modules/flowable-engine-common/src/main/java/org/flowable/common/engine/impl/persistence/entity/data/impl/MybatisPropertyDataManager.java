@@ -47,6 +47,12 @@ public class MybatisPropertyDataManager extends AbstractDataManager<PropertyEnti
         return getDbSqlSession().selectList("selectProperties");
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<PropertyEntity> findByNamePrefix(String namePrefix) {
+        return getDbSqlSession().selectList("selectPropertiesByNamePrefix", namePrefix + "%");
+    }
+
     @Override
     protected IdGenerator getIdGenerator() {
         return idGenerator;
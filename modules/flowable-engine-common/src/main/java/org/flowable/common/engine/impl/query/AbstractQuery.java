@@ -13,7 +13,15 @@
 package org.flowable.common.engine.impl.query;
 
 import java.io.Serializable;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -135,6 +143,53 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
         return executeList(Context.getCommandContext());
     }
 
+    /**
+     * Iterates over the results of this query using keyset pagination (see {@link KeysetPageIterator}).
+     * The query is executed once per page, so only one page of results is kept in memory.
+     * The iteration starts after the id lower bound that is set on this query (if any).
+     * The paging state of this query is restored after every page, so the query can still be used as before.
+     *
+     * @param pageSize the number of results fetched per page
+     * @param idProvider returns the id of a result
+     * @param idAfterGetter returns the lower bound (exclusive) for the ids that is currently set on this query
+     * @param idAfterSetter sets the lower bound (exclusive) for the ids of the next page on this query
+     */
+    protected Iterator<U> iterateByKeyset(int pageSize, Function<U, String> idProvider, Supplier<String> idAfterGetter, Consumer<String> idAfterSetter) {
+        if (orderByColumns != null) {
+            throw new FlowableIllegalArgumentException("Iterating over the results of a query is only supported when ordering by id (the default order)");
+        }
+
+        String initialIdAfter = idAfterGetter.get();
+        return new KeysetPageIterator<>(pageSize,
+                (idAfter, size) -> listKeysetPage(idAfter != null ? idAfter : initialIdAfter, size, idAfterGetter, idAfterSetter), idProvider);
+    }
+
+    /**
+     * Same as {@link #iterateByKeyset(int, Function, Supplier, Consumer)}, but returns a sequential {@link Stream} of the results.
+     */
+    protected Stream<U> streamByKeyset(int pageSize, Function<U, String> idProvider, Supplier<String> idAfterGetter, Consumer<String> idAfterSetter) {
+        Iterator<U> iterator = iterateByKeyset(pageSize, idProvider, idAfterGetter, idAfterSetter);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    protected List<U> listKeysetPage(String idAfter, int pageSize, Supplier<String> idAfterGetter, Consumer<String> idAfterSetter) {
+        String originalIdAfter = idAfterGetter.get();
+        int originalFirstResult = firstResult;
+        int originalMaxResults = maxResults;
+        ResultType originalResultType = resultType;
+
+        idAfterSetter.accept(idAfter);
+        try {
+            return listPage(0, pageSize);
+
+        } finally {
+            idAfterSetter.accept(originalIdAfter);
+            this.firstResult = originalFirstResult;
+            this.maxResults = originalMaxResults;
+            this.resultType = originalResultType;
+        }
+    }
+
     @Override
     public long count() {
         this.resultType = ResultType.COUNT;
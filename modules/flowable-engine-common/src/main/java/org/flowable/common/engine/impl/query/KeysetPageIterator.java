@@ -0,0 +1,81 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.query;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * {@link Iterator} that fetches the results of a query page per page, using keyset pagination:
+ * instead of an offset, every page is fetched with the id of the last result of the previous page as lower bound.
+ * This keeps the cost of fetching a page constant, regardless of how deep the iteration is,
+ * and only keeps one page of results in memory.
+ *
+ * The page fetcher is expected to return the results ordered by id, with an id strictly greater than the given id
+ * (or from the start when the given id is null).
+ */
+public class KeysetPageIterator<U> implements Iterator<U> {
+
+    protected final int pageSize;
+    protected final BiFunction<String, Integer, List<U>> pageFetcher;
+    protected final Function<U, String> idProvider;
+
+    protected List<U> currentPage = Collections.emptyList();
+    protected int currentIndex;
+    protected String lastId;
+    protected boolean lastPageFetched;
+
+    public KeysetPageIterator(int pageSize, BiFunction<String, Integer, List<U>> pageFetcher, Function<U, String> idProvider) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("The page size must be a positive number, but was " + pageSize);
+        }
+        this.pageSize = pageSize;
+        this.pageFetcher = pageFetcher;
+        this.idProvider = idProvider;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (currentIndex < currentPage.size()) {
+            return true;
+        }
+
+        if (lastPageFetched) {
+            return false;
+        }
+
+        currentPage = pageFetcher.apply(lastId, pageSize);
+        currentIndex = 0;
+        if (currentPage.size() < pageSize) {
+            lastPageFetched = true;
+        }
+        if (!currentPage.isEmpty()) {
+            lastId = idProvider.apply(currentPage.get(currentPage.size() - 1));
+        }
+
+        return !currentPage.isEmpty();
+    }
+
+    @Override
+    public U next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return currentPage.get(currentIndex++);
+    }
+
+}
@@ -15,8 +15,11 @@ package org.flowable.common.engine.impl.scripting;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
 import javax.script.ScriptEngineFactory;
@@ -24,6 +27,7 @@ import javax.script.ScriptEngineManager;
 import javax.script.ScriptException;
 
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.variable.api.delegate.VariableScope;
 
 /**
@@ -42,6 +46,13 @@ public class ScriptingEngines {
     protected boolean cacheScriptingEngines = true;
     protected Map<String, ScriptEngine> cachedEngines;
 
+    /**
+     * Cache of compiled scripts, keyed by language and script text. Only used for cached (thread safe) engines that implement {@link Compilable}.
+     */
+    protected DeploymentCache<CompiledScript> compiledScriptCache;
+    protected final AtomicLong compiledScriptCacheHits = new AtomicLong();
+    protected final AtomicLong scriptCompilations = new AtomicLong();
+
     public ScriptingEngines(ScriptBindingsFactory scriptBindingsFactory) {
         this(new ScriptEngineManager());
         this.scriptBindingsFactory = scriptBindingsFactory;
@@ -84,12 +95,51 @@ public class ScriptingEngines {
     protected Object evaluate(String script, String language, Bindings bindings) {
         ScriptEngine scriptEngine = getEngineByName(language);
         try {
+            CompiledScript compiledScript = getCompiledScript(script, language, scriptEngine);
+            if (compiledScript != null) {
+                return compiledScript.eval(bindings);
+            }
             return scriptEngine.eval(script, bindings);
         } catch (ScriptException e) {
             throw new FlowableException("problem evaluating script: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Returns the compiled version of the script, compiling and caching it when needed.
+     * Returns null when compiled scripts can't be cached for the given engine,
+     * in which case the script is evaluated directly by the engine.
+     */
+    protected CompiledScript getCompiledScript(String script, String language, ScriptEngine scriptEngine) throws ScriptException {
+        // A compiled script is bound to the engine that compiled it, so it can only be reused when the engine itself is shared.
+        // Juel resolves the variables while parsing, hence a compiled juel script can't be reused with other bindings.
+        if (compiledScriptCache == null || !(scriptEngine instanceof Compilable) || cachedEngines.get(language) != scriptEngine
+                || DEFAULT_SCRIPTING_LANGUAGE.equals(language)) {
+            return null;
+        }
+
+        String cacheKey = language + ':' + script;
+        CompiledScript compiledScript = compiledScriptCache.get(cacheKey);
+        if (compiledScript != null) {
+            compiledScriptCacheHits.incrementAndGet();
+            return compiledScript;
+        }
+
+        compiledScript = ((Compilable) scriptEngine).compile(script);
+        scriptCompilations.incrementAndGet();
+        compiledScriptCache.add(cacheKey, compiledScript);
+        return compiledScript;
+    }
+
+    /**
+     * Removes all compiled scripts from the cache, e.g. when a deployment is removed.
+     */
+    public void clearCompiledScriptCache() {
+        if (compiledScriptCache != null) {
+            compiledScriptCache.clear();
+        }
+    }
+
     protected ScriptEngine getEngineByName(String language) {
         ScriptEngine scriptEngine = null;
 
@@ -146,4 +196,27 @@ public class ScriptingEngines {
     public void setScriptBindingsFactory(ScriptBindingsFactory scriptBindingsFactory) {
         this.scriptBindingsFactory = scriptBindingsFactory;
     }
+
+    public DeploymentCache<CompiledScript> getCompiledScriptCache() {
+        return compiledScriptCache;
+    }
+
+    public ScriptingEngines setCompiledScriptCache(DeploymentCache<CompiledScript> compiledScriptCache) {
+        this.compiledScriptCache = compiledScriptCache;
+        return this;
+    }
+
+    /**
+     * @return the number of evaluations that reused an already compiled script
+     */
+    public long getCompiledScriptCacheHits() {
+        return compiledScriptCacheHits.get();
+    }
+
+    /**
+     * @return the number of scripts that were compiled and added to the compiled script cache
+     */
+    public long getScriptCompilations() {
+        return scriptCompilations.get();
+    }
 }
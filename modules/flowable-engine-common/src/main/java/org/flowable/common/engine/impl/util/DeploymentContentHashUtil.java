@@ -0,0 +1,85 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import org.flowable.common.engine.api.FlowableException;
+
+/**
+ * Helper methods for the content hash of a deployment, which is stored with the deployment
+ * so duplicate filtering can compare deployments without reading the resources of the previous deployment.
+ */
+public class DeploymentContentHashUtil {
+
+    public static final String HASH_ALGORITHM = "SHA-256";
+
+    private static final char[] HEX_CHARACTERS = "0123456789abcdef".toCharArray();
+
+    // No need to instantiate
+    private DeploymentContentHashUtil() {
+    }
+
+    /**
+     * Returns the hex encoded SHA-256 hash of the given resources, which only depends on the names and the bytes of the resources (not on their order).
+     * Returns null when there are no resources.
+     */
+    public static <T> String computeContentHash(Map<String, T> resources, Function<T, byte[]> bytesFunction) {
+        if (resources == null || resources.isEmpty()) {
+            return null;
+        }
+
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new FlowableException("Could not create " + HASH_ALGORITHM + " message digest", e);
+        }
+
+        for (Map.Entry<String, T> resource : new TreeMap<>(resources).entrySet()) {
+            byte[] bytes = resource.getValue() != null ? bytesFunction.apply(resource.getValue()) : null;
+
+            // The name and the length are part of the hash, so different names and contents can never result in the same input of the digest
+            byte[] nameBytes = resource.getKey().getBytes(StandardCharsets.UTF_8);
+            updateWithInt(messageDigest, nameBytes.length);
+            messageDigest.update(nameBytes);
+            if (bytes != null) {
+                updateWithInt(messageDigest, bytes.length);
+                messageDigest.update(bytes);
+            } else {
+                updateWithInt(messageDigest, -1);
+            }
+        }
+
+        byte[] digest = messageDigest.digest();
+        char[] hash = new char[digest.length * 2];
+        for (int i = 0; i < digest.length; i++) {
+            hash[i * 2] = HEX_CHARACTERS[(digest[i] >> 4) & 0xF];
+            hash[i * 2 + 1] = HEX_CHARACTERS[digest[i] & 0xF];
+        }
+        return new String(hash);
+    }
+
+    private static void updateWithInt(MessageDigest messageDigest, int value) {
+        messageDigest.update((byte) (value >>> 24));
+        messageDigest.update((byte) (value >>> 16));
+        messageDigest.update((byte) (value >>> 8));
+        messageDigest.update((byte) value);
+    }
+
+}
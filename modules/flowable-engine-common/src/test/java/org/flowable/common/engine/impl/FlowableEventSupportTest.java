@@ -21,15 +21,20 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.delegate.event.AbstractFlowableEventListener;
+import org.flowable.common.engine.api.delegate.event.FlowableBatchEventListener;
 import org.flowable.common.engine.api.delegate.event.FlowableEvent;
 import org.flowable.common.engine.api.delegate.event.FlowableEventType;
 import org.flowable.common.engine.impl.cfg.TransactionContext;
 import org.flowable.common.engine.impl.cfg.TransactionListener;
 import org.flowable.common.engine.impl.cfg.TransactionState;
 import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.event.AsyncEventListenerExecutor;
+import org.flowable.common.engine.impl.event.AsyncEventListenerOverflowStrategy;
 import org.flowable.common.engine.impl.event.FlowableEventSupport;
 import org.junit.jupiter.api.Test;
 
@@ -480,6 +485,124 @@ class FlowableEventSupportTest {
 
     }
 
+    @Test
+    void shouldDispatchToAsyncListenersAfterCommit() {
+        AsyncEventListenerExecutor asyncEventListenerExecutor = new AsyncEventListenerExecutor();
+        asyncEventListenerExecutor.setBatchSize(10);
+        flowableEventSupport.setAsyncEventListenerExecutor(asyncEventListenerExecutor);
+
+        TestFlowableEventListener asyncListener = new TestFlowableEventListener();
+        asyncListener.setAsync(true);
+        flowableEventSupport.addEventListener(asyncListener);
+
+        TestFlowableBatchEventListener batchListener = new TestFlowableBatchEventListener();
+        flowableEventSupport.addEventListener(batchListener);
+
+        TestFlowableEventListener normalListener = new TestFlowableEventListener();
+        flowableEventSupport.addEventListener(normalListener);
+
+        try {
+            TestTransactionContext transactionContext = new TestTransactionContext();
+            Context.setTransactionContext(transactionContext);
+            TestFlowableEvent event1 = new TestFlowableEvent(new TestFlowableEventType("event1"));
+            TestFlowableEvent event2 = new TestFlowableEvent(new TestFlowableEventType("event2"));
+
+            flowableEventSupport.dispatchEvent(event1);
+            flowableEventSupport.dispatchEvent(event2);
+
+            assertThat(normalListener.getReceivedEvents())
+                .as("normalListener received events after normal dispatch")
+                .containsExactly(event1, event2);
+            assertThat(asyncListener.getReceivedEvents())
+                .as("asyncListener received events after normal dispatch")
+                .isEmpty();
+            assertThat(batchListener.getReceivedBatches())
+                .as("batchListener received events after normal dispatch")
+                .isEmpty();
+
+            assertThat(transactionContext.getTransactionStateListeners())
+                .containsOnlyKeys(TransactionState.COMMITTED);
+
+            asyncEventListenerExecutor.setPollTimeout(10);
+            asyncEventListenerExecutor.start();
+            transactionContext.getTransactionStateListeners().get(TransactionState.COMMITTED)
+                .forEach(transactionListener -> transactionListener.execute(null));
+            asyncEventListenerExecutor.shutdown();
+
+            assertThat(asyncListener.getReceivedEvents())
+                .as("asyncListener received events after committed")
+                .containsExactly(event1, event2);
+            assertThat(batchListener.getReceivedEvents())
+                .as("batchListener received events after committed")
+                .containsExactly(event1, event2);
+
+        } finally {
+            Context.removeTransactionContext();
+        }
+    }
+
+    @Test
+    void shouldDispatchToAsyncListenersSynchronouslyWithoutExecutor() {
+        TestFlowableEventListener asyncListener = new TestFlowableEventListener();
+        asyncListener.setAsync(true);
+        flowableEventSupport.addEventListener(asyncListener);
+
+        FlowableEvent event = new TestFlowableEvent(new TestFlowableEventType("event"));
+        flowableEventSupport.dispatchEvent(event);
+
+        assertThat(asyncListener.getReceivedEvents())
+            .as("asyncListener")
+            .containsExactly(event);
+    }
+
+    @Test
+    void shouldDropAsyncEventsWhenQueueIsFull() throws InterruptedException {
+        AsyncEventListenerExecutor asyncEventListenerExecutor = new AsyncEventListenerExecutor();
+        asyncEventListenerExecutor.setQueueSize(1);
+        asyncEventListenerExecutor.setOverflowStrategy(AsyncEventListenerOverflowStrategy.DROP);
+        flowableEventSupport.setAsyncEventListenerExecutor(asyncEventListenerExecutor);
+
+        CountDownLatch listenerStarted = new CountDownLatch(1);
+        CountDownLatch releaseListener = new CountDownLatch(1);
+        TestFlowableEventListener asyncListener = new TestFlowableEventListener() {
+
+            @Override
+            public void onEvent(FlowableEvent event) {
+                super.onEvent(event);
+                listenerStarted.countDown();
+                try {
+                    releaseListener.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        asyncListener.setAsync(true);
+        flowableEventSupport.addEventListener(asyncListener);
+
+        asyncEventListenerExecutor.start();
+        try {
+            FlowableEvent event1 = new TestFlowableEvent(new TestFlowableEventType("event1"));
+            flowableEventSupport.dispatchEvent(event1);
+            assertThat(listenerStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // The worker thread is blocked in the listener, the first event fills the queue and the second one is dropped
+            FlowableEvent event2 = new TestFlowableEvent(new TestFlowableEventType("event2"));
+            FlowableEvent event3 = new TestFlowableEvent(new TestFlowableEventType("event3"));
+            flowableEventSupport.dispatchEvent(event2);
+            flowableEventSupport.dispatchEvent(event3);
+
+            assertThat(asyncEventListenerExecutor.getDroppedEventCount()).isEqualTo(1);
+        } finally {
+            releaseListener.countDown();
+            asyncEventListenerExecutor.shutdown();
+        }
+
+        assertThat(asyncListener.getReceivedEvents())
+            .extracting(event -> event.getType().name())
+            .containsExactly("event1", "event2");
+    }
+
     private static class TestFlowableEventType implements FlowableEventType {
 
         protected final String name;
@@ -529,6 +652,7 @@ class FlowableEventSupportTest {
         protected RuntimeException exceptionToThrow;
 
         protected FlowableEventType eventType;
+        protected boolean async;
 
         public TestFlowableEventListener() {
             this(null);
@@ -556,6 +680,15 @@ class FlowableEventSupportTest {
             return eventType == null ? super.getTypes() : Collections.singleton(eventType);
         }
 
+        @Override
+        public boolean isAsync() {
+            return async;
+        }
+
+        public void setAsync(boolean async) {
+            this.async = async;
+        }
+
         public List<FlowableEvent> getReceivedEvents() {
             return receivedEvents;
         }
@@ -573,6 +706,41 @@ class FlowableEventSupportTest {
         }
     }
 
+    private static class TestFlowableBatchEventListener extends AbstractFlowableEventListener implements FlowableBatchEventListener {
+
+        protected final List<List<FlowableEvent>> receivedBatches = new ArrayList<>();
+
+        @Override
+        public void onEvents(List<FlowableEvent> events) {
+            receivedBatches.add(new ArrayList<>(events));
+        }
+
+        @Override
+        public void onEvent(FlowableEvent event) {
+            onEvents(Collections.singletonList(event));
+        }
+
+        @Override
+        public boolean isFailOnException() {
+            return false;
+        }
+
+        @Override
+        public boolean isAsync() {
+            return true;
+        }
+
+        public List<List<FlowableEvent>> getReceivedBatches() {
+            return receivedBatches;
+        }
+
+        public List<FlowableEvent> getReceivedEvents() {
+            List<FlowableEvent> receivedEvents = new ArrayList<>();
+            receivedBatches.forEach(receivedEvents::addAll);
+            return receivedEvents;
+        }
+    }
+
     private static class TestTransactionContext implements TransactionContext {
 
         protected final Map<TransactionState, List<TransactionListener>> transactionStateListeners = new HashMap<>();
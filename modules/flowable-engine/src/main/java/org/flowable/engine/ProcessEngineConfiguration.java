@@ -138,6 +138,13 @@ public abstract class ProcessEngineConfiguration extends AbstractEngineConfigura
 
     protected boolean isCreateDiagramOnDeploy = true;
 
+    /**
+     * When enabled, the missing diagrams of process definitions are not created on deploy, but the first time they are requested
+     * with {@link RepositoryService#getProcessDiagram(String)}. The created diagram is stored as a generated resource of the deployment.
+     * Only has effect when {@link #isCreateDiagramOnDeploy} is enabled.
+     */
+    protected boolean isCreateDiagramOnFirstAccess;
+
     protected boolean alwaysUseArraysForDmnMultiHitPolicies = true;
     
     /**
@@ -577,6 +584,15 @@ public abstract class ProcessEngineConfiguration extends AbstractEngineConfigura
         this.isCreateDiagramOnDeploy = createDiagramOnDeploy;
         return this;
     }
+
+    public boolean isCreateDiagramOnFirstAccess() {
+        return isCreateDiagramOnFirstAccess;
+    }
+
+    public ProcessEngineConfiguration setCreateDiagramOnFirstAccess(boolean createDiagramOnFirstAccess) {
+        this.isCreateDiagramOnFirstAccess = createDiagramOnFirstAccess;
+        return this;
+    }
     
     public boolean isDrawSequenceFlowNameWithNoLabelDI() {
         return drawSequenceFlowNameWithNoLabelDI;
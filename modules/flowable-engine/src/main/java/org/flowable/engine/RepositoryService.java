@@ -22,6 +22,7 @@ import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.dmn.api.DmnDecision;
 import org.flowable.engine.app.AppModel;
+import org.flowable.engine.repository.Deployment;
 import org.flowable.engine.repository.DeploymentBuilder;
 import org.flowable.engine.repository.DeploymentMergeStrategy;
 import org.flowable.engine.repository.DeploymentQuery;
@@ -53,6 +54,17 @@ public interface RepositoryService {
     /** Starts creating a new deployment */
     DeploymentBuilder createDeployment();
 
+    /**
+     * Deploys the given deployments in one transaction: either all deployments are deployed, or none of them when deploying one of them fails.
+     * Each deployment is deployed the same way as with {@link DeploymentBuilder#deploy()}, in the order of the list,
+     * but the inserts of the deployments are combined instead of executed per deployment.
+     *
+     * @param deploymentBuilders
+     *            the deployments, created with {@link #createDeployment()}.
+     * @return the deployments, in the order of the given deployment builders.
+     */
+    List<Deployment> bulkDeploy(List<DeploymentBuilder> deploymentBuilders);
+
     /**
      * Deletes the given deployment.
      * 
@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.flowable.batch.api.Batch;
 import org.flowable.bpmn.model.FlowNode;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -811,6 +812,19 @@ public interface RuntimeService {
      */
     void setVariablesLocal(String executionId, Map<String, ? extends Object> variables);
 
+    /**
+     * Update or create given variables for multiple executions (including parent scopes) in one transaction.
+     * <p>
+     * The variables of every execution are set the same way as with {@link #setVariables(String, Map)},
+     * but the existing variables of all executions are fetched at once and all changes are flushed together.
+     *
+     * @param variablesByExecutionId
+     *     map containing the id of the execution (key) and the name and value of the variables to set on it (value), cannot be null.
+     * @throws FlowableObjectNotFoundException
+     *     when no execution is found for one of the given execution ids.
+     */
+    void setVariablesForExecutions(Map<String, ? extends Map<String, ? extends Object>> variablesByExecutionId);
+
     /**
      * Removes a variable for an execution.
      *
@@ -1129,6 +1143,26 @@ public interface RuntimeService {
      */
     void signalEventReceivedAsyncWithTenantId(String signalName, String tenantId);
 
+    /**
+     * <p>
+     * Notifies the process engine that a signal event of name 'signalName' has been received, for signals with a large number of waiting executions.
+     * The waiting executions are not notified in this call, but by jobs of the async executor:
+     * the subscriptions are paged through in chunks of the configured signal event broadcast batch part size
+     * and every chunk is delivered by its own job, as a part of the returned {@link Batch}.
+     * The status of the batch reflects the progress and is 'completed' once the signal has been delivered to all chunks.
+     * </p>
+     *
+     * @param signalName
+     *     the name of the signal event
+     * @return the batch that tracks the delivery of the signal
+     */
+    Batch signalEventReceivedAsBatch(String signalName);
+
+    /**
+     * Similar to {@link #signalEventReceivedAsBatch(String)}, but within the context of one tenant.
+     */
+    Batch signalEventReceivedAsBatchWithTenantId(String signalName, String tenantId);
+
     /**
      * <p>
      * Notifies the process engine that a signal event of name 'signalName' has been received. This method delivers the signal to all executions waiting on the signal.
@@ -522,6 +522,12 @@ public interface TaskService {
      */
     void setVariables(String taskId, Map<String, ? extends Object> variables);
 
+    /**
+     * set variables on multiple tasks in one transaction. The variables of every task are set the same way as with {@link #setVariables(String, Map)},
+     * but the existing variables of all tasks are fetched at once and all changes are flushed together.
+     */
+    void setVariablesForTasks(Map<String, ? extends Map<String, ? extends Object>> variablesByTaskId);
+
     /**
      * set variable on a task. If the variable is not already existing, it will be created in the task.
      */
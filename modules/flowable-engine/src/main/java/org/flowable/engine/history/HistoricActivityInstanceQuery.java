@@ -34,6 +34,13 @@ public interface HistoricActivityInstanceQuery extends Query<HistoricActivityIns
      */
     HistoricActivityInstanceQuery activityInstanceId(String activityInstanceId);
 
+    /**
+     * Only select historic activity instances with an id after the given id, in the ordering of the ids in the database.
+     * Combined with an ascending order by activity instance id, this allows to page through historic activity instances
+     * by remembering the id of the last instance of a page.
+     */
+    HistoricActivityInstanceQuery activityInstanceIdAfter(String activityInstanceId);
+
     /**
      * Only select historic activity instances with the given process instance. {@link org.flowable.engine.runtime.ProcessInstance} ids and {@link HistoricProcessInstance} ids match.
      */
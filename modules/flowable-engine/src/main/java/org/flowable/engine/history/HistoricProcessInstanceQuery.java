@@ -37,6 +37,13 @@ public interface HistoricProcessInstanceQuery extends Query<HistoricProcessInsta
      */
     HistoricProcessInstanceQuery processInstanceId(String processInstanceId);
 
+    /**
+     * Only select historic process instances with an id after the given id, in the ordering of the ids in the database.
+     * Combined with an ascending order by process instance id, this allows to page through historic process instances
+     * by remembering the id of the last instance of a page.
+     */
+    HistoricProcessInstanceQuery processInstanceIdAfter(String processInstanceId);
+
     /**
      * Only select historic process instances whose id is in the given set of ids. {@link org.flowable.engine.runtime.ProcessInstance} ids and {@link HistoricProcessInstance} ids match.
      */
@@ -55,6 +55,7 @@ public class ExecutionQueryImpl extends AbstractVariableQueryImpl<ExecutionQuery
     protected String processDefinitionEngineVersion;
     protected String activityId;
     protected String executionId;
+    protected String idAfter;
     protected String parentId;
     protected boolean onlyChildExecutions;
     protected boolean onlySubProcessExecutions;
@@ -287,6 +288,19 @@ public class ExecutionQueryImpl extends AbstractVariableQueryImpl<ExecutionQuery
         return this;
     }
 
+    @Override
+    public ExecutionQueryImpl executionIdAfter(String executionId) {
+        if (executionId == null) {
+            throw new FlowableIllegalArgumentException("Execution id is null");
+        }
+        if (inOrStatement) {
+            this.currentOrQueryObject.idAfter = executionId;
+        } else {
+            this.idAfter = executionId;
+        }
+        return this;
+    }
+
     @Override
     public ExecutionQueryImpl activityId(String activityId) {
         if (inOrStatement) {
@@ -964,6 +978,10 @@ public class ExecutionQueryImpl extends AbstractVariableQueryImpl<ExecutionQuery
     public String getExecutionId() {
         return executionId;
     }
+
+    public String getIdAfter() {
+        return idAfter;
+    }
     
     @Override
     public String getId() {
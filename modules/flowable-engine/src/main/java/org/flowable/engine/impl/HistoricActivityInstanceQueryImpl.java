@@ -14,8 +14,10 @@
 package org.flowable.engine.impl;
 
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
@@ -55,6 +57,7 @@ public class HistoricActivityInstanceQueryImpl extends AbstractQuery<HistoricAct
     protected Date finishedBefore;
     protected Date finishedAfter;
     protected List<String> tenantIds;
+    protected String idAfter;
 
     public HistoricActivityInstanceQueryImpl() {
     }
@@ -67,6 +70,27 @@ public class HistoricActivityInstanceQueryImpl extends AbstractQuery<HistoricAct
         super(commandExecutor);
     }
 
+    /**
+     * Iterates over all historic activity instances matching this query, fetching them in pages of the given size.
+     * Pages are fetched using the id of the last result of the previous page (keyset pagination),
+     * so only one page is kept in memory and deep pages are as fast as the first one.
+     * The results are ordered by id, other orderings are not supported.
+     */
+    public Iterator<HistoricActivityInstance> iterate(int pageSize) {
+        return iterateByKeyset(pageSize, HistoricActivityInstance::getId, this::getIdAfter, idAfter -> this.idAfter = idAfter);
+    }
+
+    /**
+     * Same as {@link #iterate(int)}, but returns the results as a sequential {@link Stream}.
+     */
+    public Stream<HistoricActivityInstance> stream(int pageSize) {
+        return streamByKeyset(pageSize, HistoricActivityInstance::getId, this::getIdAfter, idAfter -> this.idAfter = idAfter);
+    }
+
+    public String getIdAfter() {
+        return idAfter;
+    }
+
     @Override
     public long executeCount(CommandContext commandContext) {
         return CommandContextUtil.getHistoricActivityInstanceEntityManager(commandContext).findHistoricActivityInstanceCountByQueryCriteria(this);
@@ -288,6 +312,15 @@ public class HistoricActivityInstanceQueryImpl extends AbstractQuery<HistoricAct
         return this;
     }
 
+    @Override
+    public HistoricActivityInstanceQueryImpl activityInstanceIdAfter(String activityInstanceId) {
+        if (activityInstanceId == null) {
+            throw new FlowableIllegalArgumentException("Activity instance id is null");
+        }
+        this.idAfter = activityInstanceId;
+        return this;
+    }
+
     @Override
     public void delete() {
         if (commandExecutor != null) {
@@ -15,9 +15,11 @@ package org.flowable.engine.impl;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -100,6 +102,7 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
     protected List<HistoricProcessInstanceQueryImpl> orQueryObjects = new ArrayList<>();
     protected HistoricProcessInstanceQueryImpl currentOrQueryObject;
     protected boolean inOrStatement;
+    protected String idAfter;
 
     public HistoricProcessInstanceQueryImpl() {
     }
@@ -124,6 +127,19 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         return this;
     }
 
+    @Override
+    public HistoricProcessInstanceQueryImpl processInstanceIdAfter(String processInstanceId) {
+        if (processInstanceId == null) {
+            throw new FlowableIllegalArgumentException("Process instance id is null");
+        }
+        if (inOrStatement) {
+            this.currentOrQueryObject.idAfter = processInstanceId;
+        } else {
+            this.idAfter = processInstanceId;
+        }
+        return this;
+    }
+
     @Override
     public HistoricProcessInstanceQuery processInstanceIds(Set<String> processInstanceIds) {
         if (processInstanceIds == null) {
@@ -782,6 +798,27 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         return specialOrderBy;
     }
 
+    /**
+     * Iterates over all historic process instances matching this query, fetching them in pages of the given size.
+     * Pages are fetched using the id of the last result of the previous page (keyset pagination),
+     * so only one page is kept in memory and deep pages are as fast as the first one.
+     * The results are ordered by id, other orderings are not supported.
+     */
+    public Iterator<HistoricProcessInstance> iterate(int pageSize) {
+        return iterateByKeyset(pageSize, HistoricProcessInstance::getId, this::getIdAfter, idAfter -> this.idAfter = idAfter);
+    }
+
+    /**
+     * Same as {@link #iterate(int)}, but returns the results as a sequential {@link Stream}.
+     */
+    public Stream<HistoricProcessInstance> stream(int pageSize) {
+        return streamByKeyset(pageSize, HistoricProcessInstance::getId, this::getIdAfter, idAfter -> this.idAfter = idAfter);
+    }
+
+    public String getIdAfter() {
+        return idAfter;
+    }
+
     @Override
     public long executeCount(CommandContext commandContext) {
         ensureVariablesInitialized();
@@ -48,6 +48,7 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
     protected ProcessEngineConfigurationImpl processEngineConfiguration;
     
     protected String executionId;
+    protected String idAfter;
     protected String businessKey;
     protected String businessKeyLike;
     protected boolean includeChildExecutionsWithBusinessKeyQuery;
@@ -131,6 +132,19 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
         return this;
     }
 
+    @Override
+    public ProcessInstanceQueryImpl processInstanceIdAfter(String processInstanceId) {
+        if (processInstanceId == null) {
+            throw new FlowableIllegalArgumentException("Process instance id is null");
+        }
+        if (inOrStatement) {
+            this.currentOrQueryObject.idAfter = processInstanceId;
+        } else {
+            this.idAfter = processInstanceId;
+        }
+        return this;
+    }
+
     @Override
     public ProcessInstanceQuery processInstanceIds(Set<String> processInstanceIds) {
         if (processInstanceIds == null) {
@@ -1023,6 +1037,10 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
         return executionId;
     }
 
+    public String getIdAfter() {
+        return idAfter;
+    }
+
     public String getDeploymentId() {
         return deploymentId;
     }
@@ -14,6 +14,7 @@
 package org.flowable.engine.impl;
 
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
@@ -29,6 +30,7 @@ import org.flowable.engine.impl.cmd.ActivateProcessDefinitionCmd;
 import org.flowable.engine.impl.cmd.AddEditorSourceExtraForModelCmd;
 import org.flowable.engine.impl.cmd.AddEditorSourceForModelCmd;
 import org.flowable.engine.impl.cmd.AddIdentityLinkForProcessDefinitionCmd;
+import org.flowable.engine.impl.cmd.BulkDeployCmd;
 import org.flowable.engine.impl.cmd.ChangeDeploymentTenantIdCmd;
 import org.flowable.engine.impl.cmd.CreateModelCmd;
 import org.flowable.engine.impl.cmd.DeleteDeploymentCmd;
@@ -99,6 +101,18 @@ public class RepositoryServiceImpl extends CommonEngineServiceImpl<ProcessEngine
         return commandExecutor.execute(new DeployCmd<Deployment>(deploymentBuilder));
     }
 
+    @Override
+    public List<Deployment> bulkDeploy(List<DeploymentBuilder> deploymentBuilders) {
+        List<DeploymentBuilderImpl> deploymentBuilderImpls = null;
+        if (deploymentBuilders != null) {
+            deploymentBuilderImpls = new ArrayList<>(deploymentBuilders.size());
+            for (DeploymentBuilder deploymentBuilder : deploymentBuilders) {
+                deploymentBuilderImpls.add((DeploymentBuilderImpl) deploymentBuilder);
+            }
+        }
+        return commandExecutor.execute(new BulkDeployCmd(deploymentBuilderImpls));
+    }
+
     @Override
     public void deleteDeployment(String deploymentId) {
         commandExecutor.execute(new DeleteDeploymentCmd(deploymentId, false));
@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.flowable.batch.api.Batch;
 import org.flowable.bpmn.model.FlowNode;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
@@ -67,8 +68,10 @@ import org.flowable.engine.impl.cmd.RemoveEventConsumerCommand;
 import org.flowable.engine.impl.cmd.RemoveEventListenerCommand;
 import org.flowable.engine.impl.cmd.RemoveExecutionVariablesCmd;
 import org.flowable.engine.impl.cmd.SetExecutionVariablesCmd;
+import org.flowable.engine.impl.cmd.SetExecutionsVariablesCmd;
 import org.flowable.engine.impl.cmd.SetProcessInstanceBusinessKeyCmd;
 import org.flowable.engine.impl.cmd.SetProcessInstanceNameCmd;
+import org.flowable.engine.impl.cmd.SignalEventReceivedBatchCmd;
 import org.flowable.engine.impl.cmd.SignalEventReceivedCmd;
 import org.flowable.engine.impl.cmd.StartProcessInstanceAsyncCmd;
 import org.flowable.engine.impl.cmd.StartProcessInstanceByMessageCmd;
@@ -326,6 +329,11 @@ public class RuntimeServiceImpl extends CommonEngineServiceImpl<ProcessEngineCon
         commandExecutor.execute(new SetExecutionVariablesCmd(executionId, variables, false));
     }
 
+    @Override
+    public void setVariablesForExecutions(Map<String, ? extends Map<String, ? extends Object>> variablesByExecutionId) {
+        commandExecutor.execute(new SetExecutionsVariablesCmd(variablesByExecutionId));
+    }
+
     @Override
     public void setVariablesLocal(String executionId, Map<String, ?> variables) {
         commandExecutor.execute(new SetExecutionVariablesCmd(executionId, variables, true));
@@ -617,6 +625,16 @@ public class RuntimeServiceImpl extends CommonEngineServiceImpl<ProcessEngineCon
         commandExecutor.execute(new SignalEventReceivedCmd(signalName, null, true, tenantId));
     }
 
+    @Override
+    public Batch signalEventReceivedAsBatch(String signalName) {
+        return commandExecutor.execute(new SignalEventReceivedBatchCmd(signalName, null));
+    }
+
+    @Override
+    public Batch signalEventReceivedAsBatchWithTenantId(String signalName, String tenantId) {
+        return commandExecutor.execute(new SignalEventReceivedBatchCmd(signalName, tenantId));
+    }
+
     @Override
     public void signalEventReceived(String signalName, Map<String, Object> processVariables) {
         commandExecutor.execute(new SignalEventReceivedCmd(signalName, null, processVariables, null));
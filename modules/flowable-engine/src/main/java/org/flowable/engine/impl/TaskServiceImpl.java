@@ -68,6 +68,7 @@ import org.flowable.engine.impl.cmd.SaveTaskCmd;
 import org.flowable.engine.impl.cmd.SetTaskDueDateCmd;
 import org.flowable.engine.impl.cmd.SetTaskPriorityCmd;
 import org.flowable.engine.impl.cmd.SetTaskVariablesCmd;
+import org.flowable.engine.impl.cmd.SetTasksVariablesCmd;
 import org.flowable.engine.impl.persistence.entity.CommentEntity;
 import org.flowable.engine.runtime.DataObject;
 import org.flowable.engine.task.Attachment;
@@ -376,6 +377,11 @@ public class TaskServiceImpl extends CommonEngineServiceImpl<ProcessEngineConfig
         commandExecutor.execute(new SetTaskVariablesCmd(taskId, variables, false));
     }
 
+    @Override
+    public void setVariablesForTasks(Map<String, ? extends Map<String, ? extends Object>> variablesByTaskId) {
+        commandExecutor.execute(new SetTasksVariablesCmd(variablesByTaskId));
+    }
+
     @Override
     public void setVariablesLocal(String taskId, Map<String, ? extends Object> variables) {
         commandExecutor.execute(new SetTaskVariablesCmd(taskId, variables, true));
@@ -13,8 +13,10 @@
 package org.flowable.engine.impl.bpmn.behavior;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.bpmn.model.Activity;
@@ -186,6 +188,17 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
     }
 
     public void leaveAsync(ExecutionEntity execution) {
+        leaveAsync(execution, null);
+    }
+
+    /**
+     * Evaluates the completion of the multi instance, when executing the given completion job.
+     * The completion jobs of the other instances that are not yet being executed are consumed by this evaluation,
+     * as their instance completions are already taken into account by the aggregated loop variables.
+     * This way a single completion job evaluates a batch of instance completions, instead of every completion job
+     * needing to lock the process instance just to find that the multi instance is not completed yet.
+     */
+    public void leaveAsync(ExecutionEntity execution, JobEntity completionJob) {
         int nrOfInstances = getLoopVariable(execution, NUMBER_OF_INSTANCES);
         int nrOfCompletedInstances = getLoopVariable(execution, NUMBER_OF_COMPLETED_INSTANCES);
         boolean isCompletionConditionSatisfied = completionConditionSatisfied(execution.getParent());
@@ -193,6 +206,35 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
         if (nrOfCompletedInstances >= nrOfInstances || isCompletionConditionSatisfied) {
 
             leave(execution, nrOfInstances, isCompletionConditionSatisfied);
+
+        } else if (completionJob != null) {
+            deletePendingCompletionJobs(execution, completionJob);
+        }
+    }
+
+    protected void deletePendingCompletionJobs(ExecutionEntity execution, JobEntity completionJob) {
+        ExecutionEntity miRootExecution = execution.getParent();
+        if (miRootExecution == null) {
+            return;
+        }
+
+        Set<String> completedInstanceExecutionIds = new HashSet<>();
+        for (ExecutionEntity childExecution : miRootExecution.getExecutions()) {
+            if (!childExecution.isActive()) {
+                completedInstanceExecutionIds.add(childExecution.getId());
+            }
+        }
+
+        JobService jobService = CommandContextUtil.getProcessEngineConfiguration().getJobServiceConfiguration().getJobService();
+        for (JobEntity job : jobService.findJobsByTypeAndProcessInstanceId(ParallelMultiInstanceActivityCompletionJobHandler.TYPE,
+                execution.getProcessInstanceId())) {
+            // Jobs that are locked are being executed by another thread, those will evaluate the completion themselves
+            if (!job.getId().equals(completionJob.getId())
+                    && job.getLockOwner() == null
+                    && completedInstanceExecutionIds.contains(job.getExecutionId())) {
+
+                jobService.deleteJob(job);
+            }
         }
     }
 
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.bpmn.deployer;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -39,6 +40,7 @@ import org.flowable.engine.DynamicBpmnConstants;
 import org.flowable.engine.DynamicBpmnService;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cmd.BulkDeploymentContext;
 import org.flowable.engine.impl.cmd.DeploymentSettings;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
@@ -127,14 +129,23 @@ public class BpmnDeployer implements EngineDeployer {
 
         final ResourceEntityManager resourceEntityManager = processEngineConfiguration.getResourceEntityManager();
 
+        List<ProcessDefinitionEntity> processDefinitionsNeedingDiagram = new ArrayList<>();
         for (ProcessDefinitionEntity processDefinition : parsedDeployment.getAllProcessDefinitions()) {
             if (processDefinitionDiagramHelper.shouldCreateDiagram(processDefinition, deploymentEntity)) {
-                ResourceEntity resource = processDefinitionDiagramHelper.createDiagramForProcessDefinition(
-                        processDefinition, parsedDeployment.getBpmnParseForProcessDefinition(processDefinition));
-                if (resource != null) {
-                    resourceEntityManager.insert(resource, false);
-                    deploymentEntity.addResource(resource); // now we'll find it if we look for the diagram name later.
-                }
+                processDefinitionsNeedingDiagram.add(processDefinition);
+            }
+        }
+
+        // Generating the diagrams can be done in parallel, the resulting resources are persisted in order by this thread
+        List<ResourceEntity> diagramResources = ParallelDeploymentUtil.map(processDefinitionsNeedingDiagram,
+                processDefinition -> processDefinitionDiagramHelper.createDiagramForProcessDefinition(
+                        processDefinition, parsedDeployment.getBpmnParseForProcessDefinition(processDefinition)),
+                parsedDeploymentBuilderFactory.getExecutorService());
+
+        for (ResourceEntity resource : diagramResources) {
+            if (resource != null) {
+                resourceEntityManager.insert(resource, false);
+                deploymentEntity.addResource(resource); // now we'll find it if we look for the diagram name later.
             }
         }
     }
@@ -158,17 +169,14 @@ public class BpmnDeployer implements EngineDeployer {
     protected Map<ProcessDefinitionEntity, ProcessDefinitionEntity> getPreviousVersionsOfProcessDefinitions(
             ParsedDeployment parsedDeployment) {
 
-        Map<ProcessDefinitionEntity, ProcessDefinitionEntity> result = new LinkedHashMap<>();
-
-        for (ProcessDefinitionEntity newDefinition : parsedDeployment.getAllProcessDefinitions()) {
-            ProcessDefinitionEntity existingDefinition = bpmnDeploymentHelper.getMostRecentVersionOfProcessDefinition(newDefinition);
-
-            if (existingDefinition != null) {
-                result.put(newDefinition, existingDefinition);
-            }
+        // When deploying in bulk, process definitions with the same key might have been deployed in the same command
+        CommandContext commandContext = Context.getCommandContext();
+        BulkDeploymentContext bulkDeploymentContext = BulkDeploymentContext.getBulkDeploymentContext(commandContext);
+        if (bulkDeploymentContext != null) {
+            bulkDeploymentContext.beforeProcessDefinitionVersionLookup(parsedDeployment.getAllProcessDefinitions(), commandContext);
         }
 
-        return result;
+        return bpmnDeploymentHelper.getMostRecentVersionsOfProcessDefinitions(parsedDeployment.getAllProcessDefinitions());
     }
     
     /**
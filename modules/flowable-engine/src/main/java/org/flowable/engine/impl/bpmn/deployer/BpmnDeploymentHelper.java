@@ -12,10 +12,14 @@
  */
 package org.flowable.engine.impl.bpmn.deployer;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
@@ -115,6 +119,53 @@ public class BpmnDeploymentHelper {
         return existingDefinition;
     }
     
+    /**
+     * Gets the most recent persisted process definitions that match the given ones for tenant and key, with one query per tenant instead of one query per process definition.
+     * Process definitions for which no previous version is found are not contained in the returned map.
+     */
+    public Map<ProcessDefinitionEntity, ProcessDefinitionEntity> getMostRecentVersionsOfProcessDefinitions(Collection<ProcessDefinitionEntity> processDefinitions) {
+        Map<ProcessDefinitionEntity, ProcessDefinitionEntity> result = new LinkedHashMap<>();
+        if (processDefinitions.size() == 1) {
+            ProcessDefinitionEntity processDefinition = processDefinitions.iterator().next();
+            ProcessDefinitionEntity existingDefinition = getMostRecentVersionOfProcessDefinition(processDefinition);
+            if (existingDefinition != null) {
+                result.put(processDefinition, existingDefinition);
+            }
+            return result;
+        }
+
+        Map<String, List<ProcessDefinitionEntity>> processDefinitionsByTenantId = new LinkedHashMap<>();
+        for (ProcessDefinitionEntity processDefinition : processDefinitions) {
+            String tenantId = processDefinition.getTenantId();
+            if (ProcessEngineConfiguration.NO_TENANT_ID.equals(tenantId)) {
+                tenantId = null;
+            }
+            processDefinitionsByTenantId.computeIfAbsent(tenantId, key -> new ArrayList<>()).add(processDefinition);
+        }
+
+        ProcessDefinitionEntityManager processDefinitionManager = CommandContextUtil.getProcessEngineConfiguration().getProcessDefinitionEntityManager();
+        for (Map.Entry<String, List<ProcessDefinitionEntity>> entry : processDefinitionsByTenantId.entrySet()) {
+            Set<String> keys = new LinkedHashSet<>();
+            for (ProcessDefinitionEntity processDefinition : entry.getValue()) {
+                keys.add(processDefinition.getKey());
+            }
+
+            Map<String, ProcessDefinitionEntity> existingDefinitionsByKey = new HashMap<>();
+            for (ProcessDefinitionEntity existingDefinition : processDefinitionManager.findLatestProcessDefinitionsByKeys(keys, entry.getKey())) {
+                existingDefinitionsByKey.put(existingDefinition.getKey(), existingDefinition);
+            }
+
+            for (ProcessDefinitionEntity processDefinition : entry.getValue()) {
+                ProcessDefinitionEntity existingDefinition = existingDefinitionsByKey.get(processDefinition.getKey());
+                if (existingDefinition != null) {
+                    result.put(processDefinition, existingDefinition);
+                }
+            }
+        }
+
+        return result;
+    }
+
     /**
      * Gets the most recent persisted derived process definition that matches this one for tenant and key. If none is found, returns null. This method assumes that the tenant and key are properly set on the
      * process definition entity.
@@ -0,0 +1,130 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.bpmn.deployer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+
+/**
+ * Runs the CPU intensive, non persistent, parts of a deployment (parsing, validation, diagram generation) for multiple
+ * resources in parallel. Every worker thread gets its own command context, with the engine configurations of the deploying thread
+ * (the parse handlers use them) but without any sessions, so that a worker can't read or write anything outside of the transaction
+ * of the deploying thread. Everything that is persisted is done by the deploying thread.
+ */
+public class ParallelDeploymentUtil {
+
+    /**
+     * Applies the function to all items, in parallel when an executor service is given and there is more than one item.
+     * When the function fails for an item, the items that haven't been started yet are skipped
+     * and the failure is rethrown once all started items have finished.
+     *
+     * @return the results, in the same order as the items
+     */
+    public static <T, R> List<R> map(List<T> items, Function<T, R> function, ExecutorService executorService) {
+        List<R> results = new ArrayList<>(items.size());
+        if (executorService == null || items.size() < 2) {
+            for (T item : items) {
+                results.add(function.apply(item));
+            }
+            return results;
+        }
+
+        CommandContext commandContext = Context.getCommandContext();
+        AtomicBoolean aborted = new AtomicBoolean();
+        List<Future<R>> futures = new ArrayList<>(items.size());
+        for (T item : items) {
+            futures.add(executorService.submit(() -> {
+                if (aborted.get()) {
+                    return null;
+                }
+                if (commandContext != null) {
+                    Context.setCommandContext(createWorkerCommandContext(commandContext));
+                }
+                try {
+                    return function.apply(item);
+                } finally {
+                    if (commandContext != null) {
+                        Context.removeCommandContext();
+                    }
+                }
+            }));
+        }
+
+        // All workers are waited for, also when one of them failed, as the deployment they work on is rolled back after this
+        Throwable failure = null;
+        boolean interrupted = false;
+        for (Future<R> future : futures) {
+            boolean done = false;
+            while (!done) {
+                try {
+                    R result = future.get();
+                    results.add(result);
+                    done = true;
+
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause();
+                        aborted.set(true);
+                    }
+                    done = true;
+
+                } catch (InterruptedException e) {
+                    if (failure == null) {
+                        failure = e;
+                        aborted.set(true);
+                    }
+                    interrupted = true;
+                }
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (failure instanceof InterruptedException) {
+            throw new FlowableException("Interrupted while processing deployment resources", failure);
+        } else if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        } else if (failure != null) {
+            throw new FlowableException("Error while processing deployment resources", failure);
+        }
+
+        return results;
+    }
+
+    protected static CommandContext createWorkerCommandContext(CommandContext commandContext) {
+        CommandContext workerCommandContext = new CommandContext(commandContext.getCommand());
+        workerCommandContext.setSessionFactories(Collections.emptyMap());
+        workerCommandContext.setEngineConfigurations(commandContext.getEngineConfigurations());
+        workerCommandContext.setCommandExecutor(commandContext.getCommandExecutor());
+        workerCommandContext.setClassLoader(commandContext.getClassLoader());
+        workerCommandContext.setUseClassForNameClassLoading(commandContext.isUseClassForNameClassLoading());
+        workerCommandContext.setClock(commandContext.getClock());
+        workerCommandContext.setObjectMapper(commandContext.getObjectMapper());
+        return workerCommandContext;
+    }
+
+}
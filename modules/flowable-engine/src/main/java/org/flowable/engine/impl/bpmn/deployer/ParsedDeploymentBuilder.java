@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import org.flowable.common.engine.api.repository.EngineDeployment;
 import org.flowable.common.engine.api.repository.EngineResource;
@@ -35,12 +36,19 @@ public class ParsedDeploymentBuilder {
     protected EngineDeployment deployment;
     protected BpmnParser bpmnParser;
     protected Map<String, Object> deploymentSettings;
+    protected ExecutorService executorService;
 
     public ParsedDeploymentBuilder(EngineDeployment deployment,
             BpmnParser bpmnParser, Map<String, Object> deploymentSettings) {
+        this(deployment, bpmnParser, deploymentSettings, null);
+    }
+
+    public ParsedDeploymentBuilder(EngineDeployment deployment,
+            BpmnParser bpmnParser, Map<String, Object> deploymentSettings, ExecutorService executorService) {
         this.deployment = deployment;
         this.bpmnParser = bpmnParser;
         this.deploymentSettings = deploymentSettings;
+        this.executorService = executorService;
     }
 
     public ParsedDeployment build() {
@@ -49,15 +57,27 @@ public class ParsedDeploymentBuilder {
         Map<ProcessDefinitionEntity, EngineResource> processDefinitionsToResourceMap = new LinkedHashMap<>();
 
         DeploymentEntity deploymentEntity = (DeploymentEntity) deployment;
+        List<EngineResource> bpmnResources = new ArrayList<>();
         for (EngineResource resource : deploymentEntity.getResources().values()) {
             if (isBpmnResource(resource.getName())) {
-                LOGGER.debug("Processing BPMN resource {}", resource.getName());
-                BpmnParse parse = createBpmnParseFromResource(resource);
-                for (ProcessDefinitionEntity processDefinition : parse.getProcessDefinitions()) {
-                    processDefinitions.add(processDefinition);
-                    processDefinitionsToBpmnParseMap.put(processDefinition, parse);
-                    processDefinitionsToResourceMap.put(processDefinition, resource);
-                }
+                bpmnResources.add(resource);
+            }
+        }
+
+        // Parsing and validating is independent per resource, so it can be done in parallel.
+        // The results are collected in the resource order, to keep the deployment deterministic.
+        List<BpmnParse> parses = ParallelDeploymentUtil.map(bpmnResources, resource -> {
+            LOGGER.debug("Processing BPMN resource {}", resource.getName());
+            return createBpmnParseFromResource(resource);
+        }, executorService);
+
+        for (int i = 0; i < bpmnResources.size(); i++) {
+            EngineResource resource = bpmnResources.get(i);
+            BpmnParse parse = parses.get(i);
+            for (ProcessDefinitionEntity processDefinition : parse.getProcessDefinitions()) {
+                processDefinitions.add(processDefinition);
+                processDefinitionsToBpmnParseMap.put(processDefinition, parse);
+                processDefinitionsToResourceMap.put(processDefinition, resource);
             }
         }
 
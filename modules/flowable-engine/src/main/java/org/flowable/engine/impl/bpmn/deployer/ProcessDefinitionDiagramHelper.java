@@ -13,13 +13,20 @@
 package org.flowable.engine.impl.bpmn.deployer;
 
 import org.apache.commons.lang3.StringUtils;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.util.IoUtil;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.impl.bpmn.parser.BpmnParse;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.flowable.engine.impl.persistence.entity.ResourceEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.ProcessDefinitionUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,6 +44,13 @@ public class ProcessDefinitionDiagramHelper {
      * The caller must determine whether creating a diagram for this process definition is appropriate or not, for example see {@link #shouldCreateDiagram(ProcessDefinitionEntity, DeploymentEntity)}.
      */
     public ResourceEntity createDiagramForProcessDefinition(ProcessDefinitionEntity processDefinition, BpmnParse bpmnParse) {
+        return createDiagramForProcessDefinition(processDefinition, bpmnParse.getBpmnModel());
+    }
+
+    /**
+     * Generates a diagram resource for a ProcessDefinitionEntity from its BpmnModel, see {@link #createDiagramForProcessDefinition(ProcessDefinitionEntity, BpmnParse)}.
+     */
+    public ResourceEntity createDiagramForProcessDefinition(ProcessDefinitionEntity processDefinition, BpmnModel bpmnModel) {
 
         if (StringUtils.isEmpty(processDefinition.getKey()) || StringUtils.isEmpty(processDefinition.getResourceName())) {
             throw new IllegalStateException("Provided process definition must have both key and resource name set.");
@@ -46,7 +60,7 @@ public class ProcessDefinitionDiagramHelper {
         ProcessEngineConfiguration processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
         try {
             byte[] diagramBytes = IoUtil.readInputStream(
-                    processEngineConfiguration.getProcessDiagramGenerator().generateDiagram(bpmnParse.getBpmnModel(), "png",
+                    processEngineConfiguration.getProcessDiagramGenerator().generateDiagram(bpmnModel, "png",
                             processEngineConfiguration.getActivityFontName(),
                             processEngineConfiguration.getLabelFontName(),
                             processEngineConfiguration.getAnnotationFontName(),
@@ -75,9 +89,11 @@ public class ProcessDefinitionDiagramHelper {
     }
 
     public boolean shouldCreateDiagram(ProcessDefinitionEntity processDefinition, DeploymentEntity deployment) {
+        ProcessEngineConfiguration processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
         if (deployment.isNew()
                 && processDefinition.isGraphicalNotationDefined()
-                && CommandContextUtil.getProcessEngineConfiguration().isCreateDiagramOnDeploy()) {
+                && processEngineConfiguration.isCreateDiagramOnDeploy()
+                && !processEngineConfiguration.isCreateDiagramOnFirstAccess()) {
 
             // If the 'getProcessDiagramResourceNameFromDeployment' call returns null, it means
             // no diagram image for the process definition was provided in the deployment resources.
@@ -86,4 +102,57 @@ public class ProcessDefinitionDiagramHelper {
 
         return false;
     }
+
+    /**
+     * Creates the diagram of a process definition that was deployed without a diagram, when the engine is configured to create diagrams
+     * on first access instead of on deploy (see {@link ProcessEngineConfiguration#isCreateDiagramOnFirstAccess()}).
+     * The diagram is persisted as a generated resource of the deployment and its name is stored on the process definition, so it is only created once.
+     *
+     * @return the diagram resource, or null when no diagram is created for the process definition
+     */
+    public ResourceEntity createDiagramOnFirstAccess(String processDefinitionId) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+        if (!processEngineConfiguration.isCreateDiagramOnDeploy() || !processEngineConfiguration.isCreateDiagramOnFirstAccess()) {
+            return null;
+        }
+
+        ProcessDefinitionEntity processDefinition = processEngineConfiguration.getProcessDefinitionEntityManager().findById(processDefinitionId);
+        if (processDefinition == null || !processDefinition.isGraphicalNotationDefined()) {
+            return null;
+        }
+
+        if (processDefinition.getDiagramResourceName() != null) {
+            // The diagram was created by an earlier request, which the cached process definition doesn't know about yet
+            updateCachedDiagramResourceName(processDefinitionId, processDefinition.getDiagramResourceName(), processEngineConfiguration);
+            return processEngineConfiguration.getResourceEntityManager().findResourceByDeploymentIdAndResourceName(
+                    processDefinition.getDeploymentId(), processDefinition.getDiagramResourceName());
+        }
+
+        ResourceEntity resource = createDiagramForProcessDefinition(processDefinition, ProcessDefinitionUtil.getBpmnModel(processDefinitionId));
+        if (resource == null) {
+            return null;
+        }
+
+        processEngineConfiguration.getResourceEntityManager().insert(resource, false);
+
+        // When the diagram is created concurrently, the revision check of the process definition update fails and the resource is rolled back
+        processDefinition.setDiagramResourceName(resource.getName());
+
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED,
+                    commandContext -> updateCachedDiagramResourceName(processDefinitionId, resource.getName(), processEngineConfiguration));
+        } else {
+            updateCachedDiagramResourceName(processDefinitionId, resource.getName(), processEngineConfiguration);
+        }
+
+        return resource;
+    }
+
+    protected void updateCachedDiagramResourceName(String processDefinitionId, String diagramResourceName, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        ProcessDefinitionCacheEntry cacheEntry = processEngineConfiguration.getProcessDefinitionCache().get(processDefinitionId);
+        if (cacheEntry != null && cacheEntry.getProcessDefinition() instanceof ProcessDefinitionEntity) {
+            ((ProcessDefinitionEntity) cacheEntry.getProcessDefinition()).setDiagramResourceName(diagramResourceName);
+        }
+    }
 }
@@ -28,6 +28,14 @@ public class PerformanceSettings {
      */
     protected boolean enableEagerExecutionTreeFetching = false;
 
+    /**
+     * If true, the execution tree is fetched eagerly for the executions of all process definitions,
+     * without the need to enable it on each process definition.
+     *
+     * Only has an effect when <code>enableEagerExecutionTreeFetching</code> is true.
+     */
+    protected boolean enableEagerExecutionTreeFetchingForAllProcessDefinitions = false;
+
     /**
      * Keeps a count on each execution that holds how many variables, jobs, tasks, event subscriptions, etc. the execution has.
      * 
@@ -69,6 +77,14 @@ public class PerformanceSettings {
         this.enableEagerExecutionTreeFetching = enableEagerExecutionTreeFetching;
     }
 
+    public boolean isEnableEagerExecutionTreeFetchingForAllProcessDefinitions() {
+        return enableEagerExecutionTreeFetchingForAllProcessDefinitions;
+    }
+
+    public void setEnableEagerExecutionTreeFetchingForAllProcessDefinitions(boolean enableEagerExecutionTreeFetchingForAllProcessDefinitions) {
+        this.enableEagerExecutionTreeFetchingForAllProcessDefinitions = enableEagerExecutionTreeFetchingForAllProcessDefinitions;
+    }
+
     public boolean isEnableExecutionRelationshipCounts() {
         return enableExecutionRelationshipCounts;
     }
@@ -26,10 +26,13 @@ import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 
 import javax.xml.namespace.QName;
 
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.transaction.TransactionFactory;
@@ -280,6 +283,9 @@ import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceActivityComplet
 import org.flowable.engine.impl.jobexecutor.ProcessEventJobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationJobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationStatusJobHandler;
+import org.flowable.engine.impl.jobexecutor.SignalEventBroadcastJobHandler;
+import org.flowable.engine.impl.jobexecutor.SignalEventBroadcastPartJobHandler;
+import org.flowable.engine.impl.jobexecutor.SignalEventBroadcastStatusJobHandler;
 import org.flowable.engine.impl.jobexecutor.TimerActivateProcessDefinitionHandler;
 import org.flowable.engine.impl.jobexecutor.TimerStartEventJobHandler;
 import org.flowable.engine.impl.jobexecutor.TimerSuspendProcessDefinitionHandler;
@@ -547,6 +553,16 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected AppDeployer appDeployer;
     protected BpmnParser bpmnParser;
     protected ParsedDeploymentBuilderFactory parsedDeploymentBuilderFactory;
+
+    /**
+     * The number of threads used to parse, validate and generate the diagrams of the BPMN resources of a deployment in parallel.
+     * When 1 or lower (the default), the resources are processed one after another by the deploying thread.
+     * Persisting the deployment is always done by the deploying thread, in the original transaction.
+     */
+    protected int deploymentParseThreadPoolSize = 1;
+    protected ExecutorService deploymentParseExecutorService;
+    protected boolean shutdownDeploymentParseExecutorService;
+
     protected TimerManager timerManager;
     protected EventSubscriptionManager eventSubscriptionManager;
     protected BpmnDeploymentHelper bpmnDeploymentHelper;
@@ -681,6 +697,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected int asyncExecutorDefaultAsyncJobAcquireWaitTime = 10 * 1000;
 
+    /**
+     * The time window (in milliseconds) within which the timer acquisition thread acquires timer jobs ahead of their due date.
+     * The acquired timer jobs are locked and kept in an in-memory timing wheel, from which they are moved to the executable jobs at their due date.
+     * Default value = 0, which means timer jobs are only acquired once they are due.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected int asyncExecutorTimerJobPrefetchWindow;
+
     /**
      * The time (in milliseconds) the async job (both timer and async continuations) acquisition thread will wait when the queue is full to execute the next query. By default set to 0 (for backwards
      * compatibility)
@@ -784,6 +809,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected boolean isAsyncHistoryExecutorResetExpiredJobsEnabled = true;
 
     protected List<String> enabledJobCategories;
+    protected int jobPartitionCount;
     protected String jobExecutionScope;
     protected String historyJobExecutionScope;
     
@@ -791,6 +817,19 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     
     protected String batchStatusTimeCycleConfig = "30 * * * * ?";
 
+    /**
+     * The maximum number of signal event subscriptions that are triggered by one job
+     * when a signal is broadcast as a batch (see {@link RuntimeService#signalEventReceivedAsBatch(String)}).
+     */
+    protected int signalEventBroadcastBatchPartSize = 100;
+
+    /**
+     * The number of process instances that are migrated by one job of a batch migration
+     * (see the batchMigrateProcessInstancesOfProcessDefinition methods of {@link ProcessMigrationService}).
+     * By default every process instance is migrated by its own job.
+     */
+    protected int processInstanceMigrationBatchPartSize = 1;
+
     /**
      * Allows to define a custom factory for creating the {@link Runnable} that is executed by the async executor.
      * <p>
@@ -865,6 +904,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected boolean jsonVariableTypeTrackObjects = true;
 
+    /**
+     * When true, json variable values that are too long to be stored as text are stored gzip compressed in the byte array table.
+     * Compressed and uncompressed values can always be read, independent of this setting.
+     */
+    protected boolean jsonVariableTypeCompressLargeValues = false;
+
     /**
      * Whether the Parallel Multi instance should perform the leave operation through an async exclusive job.
      * When this is true then non exclusive parallel multi instances can run in non exclusive asynchronously without an exception being thrown.
@@ -883,6 +928,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int expressionCacheSize = 4096;
     protected int expressionTextLengthCacheLimit = -1; // negative value to have no max length
 
+    protected boolean isCompiledScriptCacheEnabled;
+    protected int compiledScriptCacheSize = 1024;
+
     protected BusinessCalendarManager businessCalendarManager;
 
     protected StartProcessInstanceInterceptor startProcessInstanceInterceptor;
@@ -1710,6 +1758,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             if (enabledJobCategories != null) {
                 this.jobServiceConfiguration.setEnabledJobCategories(enabledJobCategories);
             }
+
+            this.jobServiceConfiguration.setJobPartitionCount(this.jobPartitionCount);
         }
     }
 
@@ -1890,6 +1940,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (parsedDeploymentBuilderFactory.getBpmnParser() == null) {
             parsedDeploymentBuilderFactory.setBpmnParser(bpmnParser);
         }
+        if (deploymentParseExecutorService == null && deploymentParseThreadPoolSize > 1) {
+            deploymentParseExecutorService = Executors.newFixedThreadPool(deploymentParseThreadPoolSize,
+                    new BasicThreadFactory.Builder().namingPattern("flowable-deployment-parse-%d").daemon(true).build());
+            shutdownDeploymentParseExecutorService = true;
+        }
+        if (parsedDeploymentBuilderFactory.getExecutorService() == null) {
+            parsedDeploymentBuilderFactory.setExecutorService(deploymentParseExecutorService);
+        }
 
         if (timerManager == null) {
             timerManager = new TimerManager();
@@ -2119,6 +2177,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         ProcessInstanceMigrationStatusJobHandler processInstanceMigrationStatusJobHandler = new ProcessInstanceMigrationStatusJobHandler();
         jobHandlers.put(processInstanceMigrationStatusJobHandler.getType(), processInstanceMigrationStatusJobHandler);
 
+        SignalEventBroadcastJobHandler signalEventBroadcastJobHandler = new SignalEventBroadcastJobHandler();
+        jobHandlers.put(signalEventBroadcastJobHandler.getType(), signalEventBroadcastJobHandler);
+
+        SignalEventBroadcastPartJobHandler signalEventBroadcastPartJobHandler = new SignalEventBroadcastPartJobHandler();
+        jobHandlers.put(signalEventBroadcastPartJobHandler.getType(), signalEventBroadcastPartJobHandler);
+
+        SignalEventBroadcastStatusJobHandler signalEventBroadcastStatusJobHandler = new SignalEventBroadcastStatusJobHandler();
+        jobHandlers.put(signalEventBroadcastStatusJobHandler.getType(), signalEventBroadcastStatusJobHandler);
+
         ExternalWorkerTaskCompleteJobHandler externalWorkerTaskCompleteJobHandler = new ExternalWorkerTaskCompleteJobHandler();
         jobHandlers.put(externalWorkerTaskCompleteJobHandler.getType(), externalWorkerTaskCompleteJobHandler);
 
@@ -2257,6 +2324,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             defaultAsyncExecutor.setDefaultTimerJobAcquireWaitTimeInMillis(asyncExecutorDefaultTimerJobAcquireWaitTime);
             defaultAsyncExecutor.setDefaultAsyncJobAcquireWaitTimeInMillis(asyncExecutorDefaultAsyncJobAcquireWaitTime);
 
+            // Timer job prefetching
+            defaultAsyncExecutor.setTimerJobPrefetchWindowInMillis(asyncExecutorTimerJobPrefetchWindow);
+
             // Queue full wait time
             defaultAsyncExecutor.setDefaultQueueSizeFullWaitTimeInMillis(asyncExecutorDefaultQueueSizeFullWaitTime);
 
@@ -2468,7 +2538,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             variableTypes.addType(new JodaDateTimeType());
             variableTypes.addType(new DoubleType());
             variableTypes.addType(new UUIDType());
-            variableTypes.addType(new JsonType(getMaxLengthString(), objectMapper, jsonVariableTypeTrackObjects));
+            variableTypes.addType(new JsonType(getMaxLengthString(), objectMapper, jsonVariableTypeTrackObjects, jsonVariableTypeCompressLargeValues));
             // longJsonType only needed for reading purposes
             variableTypes.addType(JsonType.longJsonType(getMaxLengthString(), objectMapper, jsonVariableTypeTrackObjects));
             variableTypes.addType(new ParallelMultiInstanceLoopVariableType(this));
@@ -2531,6 +2601,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (scriptingEngines == null) {
             scriptingEngines = new ScriptingEngines(new ScriptBindingsFactory(this, resolverFactories));
         }
+        if (isCompiledScriptCacheEnabled && scriptingEngines.getCompiledScriptCache() == null) {
+            scriptingEngines.setCompiledScriptCache(new DefaultDeploymentCache<>(compiledScriptCacheSize));
+        }
     }
 
     public void initExpressionManager() {
@@ -2773,6 +2846,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             // Only shutdown if it was created by this configuration
             asyncHistoryTaskExecutor.shutdown();
         }
+
+        if (deploymentParseExecutorService != null && shutdownDeploymentParseExecutorService) {
+            // Only shutdown if it was created by this configuration
+            deploymentParseExecutorService.shutdown();
+        }
     }
 
 
@@ -3044,6 +3122,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public int getDeploymentParseThreadPoolSize() {
+        return deploymentParseThreadPoolSize;
+    }
+
+    public ProcessEngineConfigurationImpl setDeploymentParseThreadPoolSize(int deploymentParseThreadPoolSize) {
+        this.deploymentParseThreadPoolSize = deploymentParseThreadPoolSize;
+        return this;
+    }
+
+    public ExecutorService getDeploymentParseExecutorService() {
+        return deploymentParseExecutorService;
+    }
+
+    public ProcessEngineConfigurationImpl setDeploymentParseExecutorService(ExecutorService deploymentParseExecutorService) {
+        this.deploymentParseExecutorService = deploymentParseExecutorService;
+        return this;
+    }
+
     public TimerManager getTimerManager() {
         return timerManager;
     }
@@ -3322,6 +3418,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isJsonVariableTypeCompressLargeValues() {
+        return jsonVariableTypeCompressLargeValues;
+    }
+
+    public ProcessEngineConfigurationImpl setJsonVariableTypeCompressLargeValues(boolean jsonVariableTypeCompressLargeValues) {
+        this.jsonVariableTypeCompressLargeValues = jsonVariableTypeCompressLargeValues;
+        return this;
+    }
+
     public boolean isParallelMultiInstanceAsyncLeave() {
         return parallelMultiInstanceAsyncLeave;
     }
@@ -3423,6 +3528,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isCompiledScriptCacheEnabled() {
+        return isCompiledScriptCacheEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setCompiledScriptCacheEnabled(boolean isCompiledScriptCacheEnabled) {
+        this.isCompiledScriptCacheEnabled = isCompiledScriptCacheEnabled;
+        return this;
+    }
+
+    public int getCompiledScriptCacheSize() {
+        return compiledScriptCacheSize;
+    }
+
+    public ProcessEngineConfigurationImpl setCompiledScriptCacheSize(int compiledScriptCacheSize) {
+        this.compiledScriptCacheSize = compiledScriptCacheSize;
+        return this;
+    }
+
     public BusinessCalendarManager getBusinessCalendarManager() {
         return businessCalendarManager;
     }
@@ -4042,6 +4165,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public ProcessEngineConfigurationImpl setEnableEagerExecutionTreeFetchingForAllProcessDefinitions(boolean enableEagerExecutionTreeFetchingForAllProcessDefinitions) {
+        this.performanceSettings.setEnableEagerExecutionTreeFetchingForAllProcessDefinitions(enableEagerExecutionTreeFetchingForAllProcessDefinitions);
+        return this;
+    }
+
     public ProcessEngineConfigurationImpl setEnableExecutionRelationshipCounts(boolean enableExecutionRelationshipCounts) {
         this.performanceSettings.setEnableExecutionRelationshipCounts(enableExecutionRelationshipCounts);
         return this;
@@ -4947,6 +5075,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public int getAsyncExecutorTimerJobPrefetchWindow() {
+        return asyncExecutorTimerJobPrefetchWindow;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorTimerJobPrefetchWindow(int asyncExecutorTimerJobPrefetchWindow) {
+        this.asyncExecutorTimerJobPrefetchWindow = asyncExecutorTimerJobPrefetchWindow;
+        return this;
+    }
+
     public boolean isAsyncExecutorIsMessageQueueMode() {
         return asyncExecutorMessageQueueMode;
     }
@@ -4983,6 +5120,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public int getJobPartitionCount() {
+        return jobPartitionCount;
+    }
+
+    public ProcessEngineConfigurationImpl setJobPartitionCount(int jobPartitionCount) {
+        this.jobPartitionCount = jobPartitionCount;
+        return this;
+    }
+
     public String getJobExecutionScope() {
         return jobExecutionScope;
     }
@@ -5219,4 +5365,22 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.batchStatusTimeCycleConfig = batchStatusTimeCycleConfig;
     }
 
+    public int getSignalEventBroadcastBatchPartSize() {
+        return signalEventBroadcastBatchPartSize;
+    }
+
+    public ProcessEngineConfigurationImpl setSignalEventBroadcastBatchPartSize(int signalEventBroadcastBatchPartSize) {
+        this.signalEventBroadcastBatchPartSize = signalEventBroadcastBatchPartSize;
+        return this;
+    }
+
+    public int getProcessInstanceMigrationBatchPartSize() {
+        return processInstanceMigrationBatchPartSize;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessInstanceMigrationBatchPartSize(int processInstanceMigrationBatchPartSize) {
+        this.processInstanceMigrationBatchPartSize = processInstanceMigrationBatchPartSize;
+        return this;
+    }
+
 }
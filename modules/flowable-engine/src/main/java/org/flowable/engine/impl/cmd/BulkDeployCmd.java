@@ -0,0 +1,64 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.repository.DeploymentBuilderImpl;
+import org.flowable.engine.repository.Deployment;
+
+/**
+ * Deploys multiple deployments in one transaction, each deployment the same way as the {@link DeployCmd} deploys it.
+ * The inserts of the deployments are combined in the flush of this command, except when a deployment depends on a deployment before it, see {@link BulkDeploymentContext}.
+ */
+public class BulkDeployCmd implements Command<List<Deployment>>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected List<DeploymentBuilderImpl> deploymentBuilders;
+
+    public BulkDeployCmd(List<DeploymentBuilderImpl> deploymentBuilders) {
+        this.deploymentBuilders = deploymentBuilders;
+    }
+
+    @Override
+    public List<Deployment> execute(CommandContext commandContext) {
+        if (deploymentBuilders == null) {
+            throw new FlowableIllegalArgumentException("deploymentBuilders is null");
+        }
+
+        BulkDeploymentContext bulkDeploymentContext = new BulkDeploymentContext();
+        BulkDeploymentContext.setBulkDeploymentContext(commandContext, bulkDeploymentContext);
+        try {
+            List<Deployment> deployments = new ArrayList<>(deploymentBuilders.size());
+            for (DeploymentBuilderImpl deploymentBuilder : deploymentBuilders) {
+                if (deploymentBuilder == null) {
+                    throw new FlowableIllegalArgumentException("deploymentBuilder is null");
+                }
+
+                bulkDeploymentContext.beforeDeploy(deploymentBuilder.getDeployment(), commandContext);
+                deployments.add(new DeployCmd<Deployment>(deploymentBuilder).execute(commandContext));
+            }
+            return deployments;
+
+        } finally {
+            BulkDeploymentContext.setBulkDeploymentContext(commandContext, null);
+        }
+    }
+
+}
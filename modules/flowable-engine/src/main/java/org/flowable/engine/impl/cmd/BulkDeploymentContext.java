@@ -0,0 +1,147 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.cache.CachedEntity;
+import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.impl.bpmn.deployer.ResourceNameUtil;
+import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
+
+/**
+ * Keeps track of what was deployed by a {@link BulkDeployCmd}, which deploys multiple deployments in one command.
+ *
+ * The deployments of a bulk deployment are only flushed at the end of the command, so the queries of a deployment
+ * (duplicate filtering, looking up previous process definition versions, ...) would not see the deployments that were deployed before it in the same command.
+ * Therefore, the pending inserts are flushed before a deployment when it has a name, resource or process definition in common with a deployment that is not flushed yet.
+ * Deployments without anything in common are flushed together.
+ *
+ * Only the process definition keys are tracked: the deployers of the other engines (cases, decisions, forms, ...) run in the same command
+ * and look up the previous versions of their definitions in the database. Therefore, the pending inserts are also flushed
+ * before every deployment with resources that are not BPMN resources or process diagrams.
+ */
+public class BulkDeploymentContext {
+
+    protected static final String ATTRIBUTE_NAME = "bulkDeploymentContext";
+
+    protected Set<String> deploymentNames = new HashSet<>();
+    protected Set<String> resourceNames = new HashSet<>();
+    protected Set<String> processDefinitionKeys = new HashSet<>();
+    protected boolean unflushedDeployments;
+
+    public static BulkDeploymentContext getBulkDeploymentContext(CommandContext commandContext) {
+        return (BulkDeploymentContext) commandContext.getAttribute(ATTRIBUTE_NAME);
+    }
+
+    protected static void setBulkDeploymentContext(CommandContext commandContext, BulkDeploymentContext bulkDeploymentContext) {
+        commandContext.addAttribute(ATTRIBUTE_NAME, bulkDeploymentContext);
+    }
+
+    /**
+     * Called before the deployment is deployed: flushes when the deployment has the same name or a resource with the same name as a deployment that is not flushed yet,
+     * or when it has a resource that is deployed by another deployer than the BPMN deployer.
+     */
+    public void beforeDeploy(DeploymentEntity deployment, CommandContext commandContext) {
+        String tenantId = getTenantId(deployment.getTenantId());
+
+        boolean flushNeeded = deployment.getName() != null && deploymentNames.contains(tenantId + deployment.getName());
+        if (!flushNeeded && deployment.getResources() != null) {
+            for (String resourceName : deployment.getResources().keySet()) {
+                if (resourceNames.contains(tenantId + resourceName) || (unflushedDeployments && !isBpmnResource(resourceName))) {
+                    flushNeeded = true;
+                    break;
+                }
+            }
+        }
+
+        if (flushNeeded) {
+            flush(commandContext);
+        }
+
+        unflushedDeployments = true;
+        if (deployment.getName() != null) {
+            deploymentNames.add(tenantId + deployment.getName());
+        }
+        if (deployment.getResources() != null) {
+            for (String resourceName : deployment.getResources().keySet()) {
+                resourceNames.add(tenantId + resourceName);
+            }
+        }
+    }
+
+    /**
+     * Called before the previous versions of the process definitions are looked up: flushes when a process definition with the same key
+     * was deployed by a deployment that is not flushed yet, so the lookup returns that process definition.
+     */
+    public void beforeProcessDefinitionVersionLookup(Collection<ProcessDefinitionEntity> processDefinitions, CommandContext commandContext) {
+        for (ProcessDefinitionEntity processDefinition : processDefinitions) {
+            if (processDefinitionKeys.contains(getTenantId(processDefinition.getTenantId()) + processDefinition.getKey())) {
+                flush(commandContext);
+                break;
+            }
+        }
+
+        for (ProcessDefinitionEntity processDefinition : processDefinitions) {
+            processDefinitionKeys.add(getTenantId(processDefinition.getTenantId()) + processDefinition.getKey());
+        }
+    }
+
+    protected void flush(CommandContext commandContext) {
+        commandContext.getSession(DbSqlSession.class).flush();
+
+        // The flushed entities are persisted now: only changes made after the flush should result in an update when the command is closed
+        EntityCache entityCache = commandContext.getSession(EntityCache.class);
+        for (Map<String, CachedEntity> cachedEntities : entityCache.getAllCachedEntities().values()) {
+            for (CachedEntity cachedEntity : cachedEntities.values()) {
+                Entity entity = cachedEntity.getEntity();
+                Object persistentState = entity.getPersistentState();
+                cachedEntity.setOriginalPersistentState(persistentState);
+                entity.setOriginalPersistentState(persistentState);
+            }
+        }
+
+        deploymentNames.clear();
+        resourceNames.clear();
+        processDefinitionKeys.clear();
+        unflushedDeployments = false;
+    }
+
+    protected boolean isBpmnResource(String resourceName) {
+        for (String suffix : ResourceNameUtil.BPMN_RESOURCE_SUFFIXES) {
+            if (resourceName.endsWith(suffix)) {
+                return true;
+            }
+        }
+        for (String suffix : ResourceNameUtil.DIAGRAM_SUFFIXES) {
+            if (resourceName.endsWith(suffix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected String getTenantId(String tenantId) {
+        // Used as prefix of the tracked names and keys, which are tracked per tenant
+        return (tenantId != null ? tenantId : ProcessEngineConfiguration.NO_TENANT_ID) + '\u0000';
+    }
+
+}
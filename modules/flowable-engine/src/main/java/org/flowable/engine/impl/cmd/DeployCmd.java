@@ -26,6 +26,7 @@ import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.common.engine.api.repository.EngineResource;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.util.DeploymentContentHashUtil;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.compatibility.Flowable5CompatibilityHandler;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
@@ -75,6 +76,7 @@ public class DeployCmd<T> implements Command<Deployment>, Serializable {
 
         ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
         deployment.setDeploymentTime(processEngineConfiguration.getClock().getCurrentTime());
+        deployment.setContentHash(DeploymentContentHashUtil.computeContentHash(deployment.getResources(), EngineResource::getBytes));
 
         if (deploymentBuilder.isDuplicateFilterEnabled()) {
 
@@ -157,6 +159,11 @@ public class DeployCmd<T> implements Command<Deployment>, Serializable {
 
     protected boolean deploymentsDiffer(DeploymentEntity deployment, DeploymentEntity saved) {
 
+        // Only deployments that were deployed before the content hash was stored need to be compared by reading their resources
+        if (deployment.getContentHash() != null && saved.getContentHash() != null) {
+            return !deployment.getContentHash().equals(saved.getContentHash());
+        }
+
         if (deployment.getResources() == null || saved.getResources() == null) {
             return true;
         }
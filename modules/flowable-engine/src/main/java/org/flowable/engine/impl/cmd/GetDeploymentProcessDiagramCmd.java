@@ -13,12 +13,15 @@
 
 package org.flowable.engine.impl.cmd;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.Serializable;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.ResourceEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.slf4j.Logger;
@@ -45,10 +48,16 @@ public class GetDeploymentProcessDiagramCmd implements Command<InputStream>, Ser
 
     @Override
     public InputStream execute(CommandContext commandContext) {
-        ProcessDefinition processDefinition = CommandContextUtil.getProcessEngineConfiguration(commandContext).getDeploymentManager().findDeployedProcessDefinitionById(processDefinitionId);
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        ProcessDefinition processDefinition = processEngineConfiguration.getDeploymentManager().findDeployedProcessDefinitionById(processDefinitionId);
         String deploymentId = processDefinition.getDeploymentId();
         String resourceName = processDefinition.getDiagramResourceName();
         if (resourceName == null) {
+            ResourceEntity diagramResource = processEngineConfiguration.getProcessDefinitionDiagramHelper().createDiagramOnFirstAccess(processDefinitionId);
+            if (diagramResource != null) {
+                return new ByteArrayInputStream(diagramResource.getBytes());
+            }
+
             LOGGER.info("Resource name is null! No process diagram stream exists.");
             return null;
         } else {
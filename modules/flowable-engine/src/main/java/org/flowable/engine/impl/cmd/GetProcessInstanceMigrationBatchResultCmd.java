@@ -14,6 +14,7 @@
 package org.flowable.engine.impl.cmd;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.flowable.batch.api.Batch;
@@ -23,6 +24,7 @@ import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.jobexecutor.AbstractProcessInstanceMigrationJobHandler;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.migration.ProcessInstanceBatchMigrationPartResult;
 import org.flowable.engine.migration.ProcessInstanceBatchMigrationResult;
@@ -53,7 +55,14 @@ public class GetProcessInstanceMigrationBatchResultCmd implements Command<Proces
             List<BatchPart> batchParts = batchService.findBatchPartsByBatchId(batch.getId());
             if (batchParts != null && !batchParts.isEmpty()) {
                 for (BatchPart batchPart : batchParts) {
-                    result.addMigrationPart(convertFromBatchPart(batchPart, objectMapper));
+                    if (batchPart.getScopeId() == null) {
+                        for (ProcessInstanceBatchMigrationPartResult partResult : convertFromMultiInstanceBatchPart(batchPart, objectMapper, processEngineConfiguration)) {
+                            result.addMigrationPart(partResult);
+                        }
+
+                    } else {
+                        result.addMigrationPart(convertFromBatchPart(batchPart, objectMapper));
+                    }
                 }
             }
             return result;
@@ -73,6 +82,55 @@ public class GetProcessInstanceMigrationBatchResultCmd implements Command<Proces
         return result;
     }
 
+    /**
+     * A batch part with more than one process instance results in a part result for every process instance of the batch part.
+     * As long as the batch part is not completed, its document lists the ids of the process instances, afterwards their results.
+     */
+    protected List<ProcessInstanceBatchMigrationPartResult> convertFromMultiInstanceBatchPart(BatchPart batchPart, ObjectMapper objectMapper,
+            ProcessEngineConfigurationImpl processEngineConfiguration) {
+
+        List<ProcessInstanceBatchMigrationPartResult> partResults = new ArrayList<>();
+        String resultDocumentJson = batchPart.getResultDocumentJson(processEngineConfiguration.getEngineCfgKey());
+        if (resultDocumentJson == null) {
+            return partResults;
+        }
+
+        try {
+            JsonNode resultNode = objectMapper.readTree(resultDocumentJson);
+            if (batchPart.getCompleteTime() == null) {
+                for (String processInstanceId : AbstractProcessInstanceMigrationJobHandler.getProcessInstanceIdsFromBatchPartDocument(resultNode)) {
+                    partResults.add(createPartResult(batchPart, processInstanceId));
+                }
+                return partResults;
+            }
+
+            for (JsonNode processInstanceResultNode : resultNode.path(AbstractProcessInstanceMigrationJobHandler.BATCH_RESULT_PROCESS_INSTANCES_LABEL)) {
+                ProcessInstanceBatchMigrationPartResult partResult = createPartResult(batchPart,
+                        processInstanceResultNode.path(AbstractProcessInstanceMigrationJobHandler.BATCH_RESULT_PROCESS_INSTANCE_ID_LABEL).asText(null));
+                partResult.setStatus(ProcessInstanceBatchMigrationResult.STATUS_COMPLETED);
+                partResult.setResult(processInstanceResultNode.path(BATCH_RESULT_STATUS_LABEL).asText(null));
+                if (processInstanceResultNode.has(BATCH_RESULT_MESSAGE_LABEL)) {
+                    partResult.setMigrationMessage(processInstanceResultNode.get(BATCH_RESULT_MESSAGE_LABEL).asText());
+                }
+                partResults.add(partResult);
+            }
+
+        } catch (IOException e) {
+            throw new FlowableException("Error reading batch part " + batchPart.getId());
+        }
+
+        return partResults;
+    }
+
+    protected ProcessInstanceBatchMigrationPartResult createPartResult(BatchPart batchPart, String processInstanceId) {
+        ProcessInstanceBatchMigrationPartResult partResult = new ProcessInstanceBatchMigrationPartResult();
+        partResult.setBatchId(batchPart.getId());
+        partResult.setProcessInstanceId(processInstanceId);
+        partResult.setSourceProcessDefinitionId(batchPart.getBatchSearchKey());
+        partResult.setTargetProcessDefinitionId(batchPart.getBatchSearchKey2());
+        return partResult;
+    }
+
     protected ProcessInstanceBatchMigrationPartResult convertFromBatchPart(BatchPart batchPart, ObjectMapper objectMapper) {
         ProcessInstanceBatchMigrationPartResult partResult = new ProcessInstanceBatchMigrationPartResult();
 
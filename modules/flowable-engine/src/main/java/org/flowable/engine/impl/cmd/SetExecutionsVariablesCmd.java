@@ -0,0 +1,138 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.compatibility.Flowable5CompatibilityHandler;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.Flowable5Util;
+import org.flowable.engine.runtime.Execution;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.persistence.entity.VariableScopeImpl;
+
+/**
+ * Sets the variables of multiple executions in one transaction.
+ * The existing variables of the executions and their process instances are fetched with one query up front,
+ * instead of one query per execution, and all inserts and updates are written in the single flush of this command.
+ */
+public class SetExecutionsVariablesCmd implements Command<Void>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected Map<String, ? extends Map<String, ? extends Object>> variablesByExecutionId;
+
+    public SetExecutionsVariablesCmd(Map<String, ? extends Map<String, ? extends Object>> variablesByExecutionId) {
+        this.variablesByExecutionId = variablesByExecutionId;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        if (variablesByExecutionId == null) {
+            throw new FlowableIllegalArgumentException("variablesByExecutionId is null");
+        }
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        ExecutionEntityManager executionEntityManager = processEngineConfiguration.getExecutionEntityManager();
+
+        Map<String, ExecutionEntity> executions = new LinkedHashMap<>();
+        for (String executionId : variablesByExecutionId.keySet()) {
+            if (executionId == null) {
+                throw new FlowableIllegalArgumentException("executionId is null");
+            }
+
+            ExecutionEntity execution = executionEntityManager.findById(executionId);
+            if (execution == null) {
+                throw new FlowableObjectNotFoundException("execution " + executionId + " doesn't exist", Execution.class);
+            }
+
+            if (execution.isSuspended()) {
+                throw new FlowableException("Cannot set variables because execution '" + executionId + "' is suspended");
+            }
+
+            executions.put(executionId, execution);
+        }
+
+        prefetchVariableInstances(executions.values(), executionEntityManager, processEngineConfiguration);
+
+        for (ExecutionEntity execution : executions.values()) {
+            Map<String, ? extends Object> variables = variablesByExecutionId.get(execution.getId());
+            if (variables == null || variables.isEmpty()) {
+                continue;
+            }
+
+            if (Flowable5Util.isFlowable5ProcessDefinitionId(commandContext, execution.getProcessDefinitionId())) {
+                Flowable5CompatibilityHandler compatibilityHandler = Flowable5Util.getFlowable5CompatibilityHandler();
+                compatibilityHandler.setExecutionVariables(execution.getId(), variables, false);
+                continue;
+            }
+
+            // The variables are fetched already, so the variables can be set without extra lookups
+            for (String variableName : variables.keySet()) {
+                execution.setVariable(variableName, variables.get(variableName), false);
+            }
+
+            // Same as when setting the variables of a single execution: force an update of the revision
+            // to prevent simultaneous inserts of the same variable
+            execution.forceUpdate();
+        }
+
+        return null;
+    }
+
+    protected void prefetchVariableInstances(Iterable<ExecutionEntity> executions, ExecutionEntityManager executionEntityManager,
+            ProcessEngineConfigurationImpl processEngineConfiguration) {
+
+        Set<String> scopeIds = new LinkedHashSet<>();
+        for (ExecutionEntity execution : executions) {
+            scopeIds.add(execution.getId());
+            if (execution.getProcessInstanceId() != null) {
+                scopeIds.add(execution.getProcessInstanceId());
+            }
+        }
+
+        List<VariableInstanceEntity> variableInstances = processEngineConfiguration.getVariableServiceConfiguration().getVariableService()
+                .createInternalVariableInstanceQuery()
+                .executionIds(scopeIds)
+                .withoutTaskId()
+                .list();
+
+        Map<String, List<VariableInstanceEntity>> variableInstancesByExecutionId = new HashMap<>();
+        for (VariableInstanceEntity variableInstance : variableInstances) {
+            variableInstancesByExecutionId.computeIfAbsent(variableInstance.getExecutionId(), key -> new ArrayList<>()).add(variableInstance);
+        }
+
+        for (String scopeId : scopeIds) {
+            ExecutionEntity execution = executionEntityManager.findById(scopeId);
+            if (execution instanceof VariableScopeImpl) {
+                ((VariableScopeImpl) execution).internalInitializeVariableInstances(variableInstancesByExecutionId.getOrDefault(scopeId, new ArrayList<>()));
+            }
+        }
+    }
+
+}
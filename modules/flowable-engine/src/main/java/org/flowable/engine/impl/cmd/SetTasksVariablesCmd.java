@@ -0,0 +1,153 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.compatibility.Flowable5CompatibilityHandler;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.Flowable5Util;
+import org.flowable.task.api.Task;
+import org.flowable.task.service.TaskService;
+import org.flowable.task.service.impl.persistence.entity.TaskEntity;
+import org.flowable.variable.service.VariableService;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.persistence.entity.VariableScopeImpl;
+
+/**
+ * Sets the variables of multiple tasks in one transaction.
+ * The existing variables of the tasks, their executions and their process instances are fetched with two queries up front,
+ * instead of per task, and all inserts and updates are written in the single flush of this command.
+ */
+public class SetTasksVariablesCmd implements Command<Void>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected Map<String, ? extends Map<String, ? extends Object>> variablesByTaskId;
+
+    public SetTasksVariablesCmd(Map<String, ? extends Map<String, ? extends Object>> variablesByTaskId) {
+        this.variablesByTaskId = variablesByTaskId;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        if (variablesByTaskId == null) {
+            throw new FlowableIllegalArgumentException("variablesByTaskId is null");
+        }
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        TaskService taskService = processEngineConfiguration.getTaskServiceConfiguration().getTaskService();
+
+        Map<String, TaskEntity> tasks = new LinkedHashMap<>();
+        for (String taskId : variablesByTaskId.keySet()) {
+            if (taskId == null) {
+                throw new FlowableIllegalArgumentException("taskId is null");
+            }
+
+            TaskEntity task = taskService.getTask(taskId);
+            if (task == null) {
+                throw new FlowableObjectNotFoundException("Cannot find task with id " + taskId, Task.class);
+            }
+
+            if (task.isSuspended()) {
+                throw new FlowableException("Cannot add variables to a suspended task");
+            }
+
+            tasks.put(taskId, task);
+        }
+
+        prefetchVariableInstances(tasks.values(), processEngineConfiguration);
+
+        for (TaskEntity task : tasks.values()) {
+            Map<String, ? extends Object> variables = variablesByTaskId.get(task.getId());
+            if (variables == null || variables.isEmpty()) {
+                continue;
+            }
+
+            if (task.getProcessDefinitionId() != null && Flowable5Util.isFlowable5ProcessDefinitionId(commandContext, task.getProcessDefinitionId())) {
+                Flowable5CompatibilityHandler compatibilityHandler = Flowable5Util.getFlowable5CompatibilityHandler();
+                compatibilityHandler.setTaskVariables(task.getId(), variables, false);
+                continue;
+            }
+
+            // The variables are fetched already, so the variables can be set without extra lookups
+            for (String variableName : variables.keySet()) {
+                task.setVariable(variableName, variables.get(variableName), false);
+            }
+
+            // Same as when setting the variables of a single task: force an update of the revision
+            // to prevent simultaneous inserts of the same variable
+            task.forceUpdate();
+        }
+
+        return null;
+    }
+
+    protected void prefetchVariableInstances(Iterable<TaskEntity> tasks, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        VariableService variableService = processEngineConfiguration.getVariableServiceConfiguration().getVariableService();
+
+        Set<String> taskIds = new LinkedHashSet<>();
+        Set<String> executionIds = new LinkedHashSet<>();
+        for (TaskEntity task : tasks) {
+            taskIds.add(task.getId());
+            if (task.getExecutionId() != null) {
+                executionIds.add(task.getExecutionId());
+                executionIds.add(task.getProcessInstanceId());
+            }
+        }
+
+        Map<String, List<VariableInstanceEntity>> variableInstancesByTaskId = new HashMap<>();
+        for (VariableInstanceEntity variableInstance : variableService.createInternalVariableInstanceQuery().taskIds(taskIds).list()) {
+            variableInstancesByTaskId.computeIfAbsent(variableInstance.getTaskId(), key -> new ArrayList<>()).add(variableInstance);
+        }
+
+        for (TaskEntity task : tasks) {
+            if (task instanceof VariableScopeImpl) {
+                ((VariableScopeImpl) task).internalInitializeVariableInstances(variableInstancesByTaskId.getOrDefault(task.getId(), new ArrayList<>()));
+            }
+        }
+
+        if (executionIds.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<VariableInstanceEntity>> variableInstancesByExecutionId = new HashMap<>();
+        for (VariableInstanceEntity variableInstance : variableService.createInternalVariableInstanceQuery().executionIds(executionIds).withoutTaskId().list()) {
+            variableInstancesByExecutionId.computeIfAbsent(variableInstance.getExecutionId(), key -> new ArrayList<>()).add(variableInstance);
+        }
+
+        ExecutionEntityManager executionEntityManager = processEngineConfiguration.getExecutionEntityManager();
+        for (String executionId : executionIds) {
+            ExecutionEntity execution = executionEntityManager.findById(executionId);
+            if (execution instanceof VariableScopeImpl) {
+                ((VariableScopeImpl) execution).internalInitializeVariableInstances(variableInstancesByExecutionId.getOrDefault(executionId, new ArrayList<>()));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,59 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flowable.engine.impl.cmd;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchService;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.jobexecutor.AbstractSignalEventBroadcastJobHandler;
+import org.flowable.engine.impl.util.CommandContextUtil;
+
+/**
+ * Creates a signal broadcast batch. The subscriptions are not touched here,
+ * the paging through them and the delivery of the signal is done by the async executor.
+ */
+public class SignalEventReceivedBatchCmd implements Command<Batch> {
+
+    protected final String eventName;
+    protected final String tenantId;
+
+    public SignalEventReceivedBatchCmd(String eventName, String tenantId) {
+        this.eventName = eventName;
+        this.tenantId = tenantId;
+    }
+
+    @Override
+    public Batch execute(CommandContext commandContext) {
+        if (eventName == null) {
+            throw new FlowableIllegalArgumentException("signal name is null");
+        }
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        BatchService batchService = processEngineConfiguration.getBatchServiceConfiguration().getBatchService();
+        Batch batch = batchService.createBatchBuilder().batchType(Batch.SIGNAL_BROADCAST_TYPE)
+            .searchKey(eventName)
+            .tenantId(tenantId)
+            .status(AbstractSignalEventBroadcastJobHandler.STATUS_IN_PROGRESS)
+            .batchDocumentJson(AbstractSignalEventBroadcastJobHandler.createBatchDocumentJson(eventName, tenantId, processEngineConfiguration.getObjectMapper()))
+            .create();
+
+        AbstractSignalEventBroadcastJobHandler.scheduleBroadcastJob(batch.getId(), null, processEngineConfiguration);
+
+        return batch;
+    }
+
+}
@@ -13,18 +13,25 @@
 package org.flowable.engine.impl.jobexecutor;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.job.service.JobHandler;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 public abstract class AbstractProcessInstanceMigrationJobHandler implements JobHandler {
 
     public static final String BATCH_RESULT_STATUS_LABEL = "resultStatus";
     public static final String BATCH_RESULT_MESSAGE_LABEL = "resultMessage";
+    public static final String BATCH_RESULT_PROCESS_INSTANCES_LABEL = "processInstances";
+    public static final String BATCH_RESULT_PROCESS_INSTANCE_ID_LABEL = "processInstanceId";
+    public static final String BATCH_PART_PROCESS_INSTANCE_IDS_LABEL = "processInstanceIds";
 
     protected static final String CFG_LABEL_BATCH_ID = "batchId";
     protected static final String CFG_LABEL_BATCH_PART_ID = "batchPartId";
@@ -72,5 +79,33 @@ public abstract class AbstractProcessInstanceMigrationJobHandler implements JobH
             return new ObjectMapper();
         }
     }
-}
 
+    /**
+     * The document of a batch part with more than one process instance lists the ids of its process instances,
+     * until the batch part is completed and the document is replaced by the result of every process instance.
+     */
+    public static String createBatchPartDocumentJson(List<String> processInstanceIds) {
+        ObjectNode batchPartDocument = getObjectMapper().createObjectNode();
+        ArrayNode processInstanceIdsNode = batchPartDocument.putArray(BATCH_PART_PROCESS_INSTANCE_IDS_LABEL);
+        for (String processInstanceId : processInstanceIds) {
+            processInstanceIdsNode.add(processInstanceId);
+        }
+        return batchPartDocument.toString();
+    }
+
+    public static List<String> getProcessInstanceIdsFromBatchPartDocument(JsonNode batchPartDocument) {
+        List<String> processInstanceIds = new ArrayList<>();
+        for (JsonNode processInstanceIdNode : batchPartDocument.path(BATCH_PART_PROCESS_INSTANCE_IDS_LABEL)) {
+            processInstanceIds.add(processInstanceIdNode.asText());
+        }
+        return processInstanceIds;
+    }
+
+    protected static JsonNode readJson(String json) {
+        try {
+            return getObjectMapper().readTree(json);
+        } catch (IOException e) {
+            throw new FlowableException("Error reading json " + json, e);
+        }
+    }
+}
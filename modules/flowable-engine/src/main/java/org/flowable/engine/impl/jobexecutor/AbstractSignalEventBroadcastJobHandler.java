@@ -0,0 +1,134 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.io.IOException;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.calendar.BusinessCalendar;
+import org.flowable.common.engine.impl.calendar.CycleBusinessCalendar;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.TimerJobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Base class for the job handlers that deliver a signal as a {@link Batch#SIGNAL_BROADCAST_TYPE} batch.
+ *
+ * The signal subscriptions are paged through by id: every {@link SignalEventBroadcastJobHandler} job fetches one page,
+ * creates a batch part with the id range of the page in its document, creates a {@link SignalEventBroadcastPartJobHandler} job for that part and
+ * schedules the job for the next page. The {@link SignalEventBroadcastStatusJobHandler} completes the batch.
+ *
+ * The part jobs only complete their own batch part (with the number of signaled subscriptions in the result of the part),
+ * the batch itself is never updated by them, so that parts can be executed in parallel without conflicting on the batch.
+ * The progress of the batch is derived from the status of its parts.
+ */
+public abstract class AbstractSignalEventBroadcastJobHandler implements JobHandler {
+
+    public static final String STATUS_IN_PROGRESS = "inProgress";
+    public static final String STATUS_WAITING = "waiting";
+    public static final String STATUS_COMPLETED = "completed";
+    public static final String RESULT_SUCCESS = "success";
+
+    public static final String BATCH_DOCUMENT_SIGNAL_NAME = "signalName";
+    public static final String BATCH_DOCUMENT_TENANT_ID = "tenantId";
+    public static final String BATCH_RESULT_STATUS_LABEL = "resultStatus";
+    public static final String BATCH_RESULT_COUNT_LABEL = "signaledSubscriptionCount";
+
+    protected static final String CFG_LABEL_BATCH_ID = "batchId";
+    protected static final String CFG_LABEL_BATCH_PART_ID = "batchPartId";
+    protected static final String CFG_LABEL_AFTER_ID = "afterId";
+    protected static final String CFG_LABEL_LAST_ID = "lastId";
+
+    protected JsonNode readJson(String json, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        try {
+            return processEngineConfiguration.getObjectMapper().readTree(json);
+        } catch (IOException e) {
+            throw new FlowableException("Could not read signal broadcast configuration " + json, e);
+        }
+    }
+
+    protected String getText(JsonNode jsonNode, String fieldName) {
+        JsonNode fieldNode = jsonNode.get(fieldName);
+        if (fieldNode == null || fieldNode.isNull()) {
+            return null;
+        }
+        return fieldNode.asText();
+    }
+
+    protected JsonNode readBatchDocument(Batch batch, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        return readJson(batch.getBatchDocumentJson(processEngineConfiguration.getEngineCfgKey()), processEngineConfiguration);
+    }
+
+    public static String createBatchDocumentJson(String signalName, String tenantId, ObjectMapper objectMapper) {
+        ObjectNode document = objectMapper.createObjectNode();
+        document.put(BATCH_DOCUMENT_SIGNAL_NAME, signalName);
+        document.put(BATCH_DOCUMENT_TENANT_ID, tenantId);
+        return document.toString();
+    }
+
+    public static String createBatchPartDocumentJson(String afterId, String lastId, ObjectMapper objectMapper) {
+        ObjectNode document = objectMapper.createObjectNode();
+        document.put(CFG_LABEL_AFTER_ID, afterId);
+        document.put(CFG_LABEL_LAST_ID, lastId);
+        return document.toString();
+    }
+
+    public static void scheduleBroadcastJob(String batchId, String afterId, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        ObjectNode handlerCfg = processEngineConfiguration.getObjectMapper().createObjectNode();
+        handlerCfg.put(CFG_LABEL_BATCH_ID, batchId);
+        handlerCfg.put(CFG_LABEL_AFTER_ID, afterId);
+        scheduleAsyncJob(SignalEventBroadcastJobHandler.TYPE, handlerCfg.toString(), processEngineConfiguration);
+    }
+
+    public static void scheduleBroadcastPartJob(String batchPartId, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        ObjectNode handlerCfg = processEngineConfiguration.getObjectMapper().createObjectNode();
+        handlerCfg.put(CFG_LABEL_BATCH_PART_ID, batchPartId);
+        scheduleAsyncJob(SignalEventBroadcastPartJobHandler.TYPE, handlerCfg.toString(), processEngineConfiguration);
+    }
+
+    public static void scheduleBroadcastStatusJob(String batchId, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        ObjectNode handlerCfg = processEngineConfiguration.getObjectMapper().createObjectNode();
+        handlerCfg.put(CFG_LABEL_BATCH_ID, batchId);
+
+        TimerJobService timerJobService = processEngineConfiguration.getJobServiceConfiguration().getTimerJobService();
+        TimerJobEntity timerJob = timerJobService.createTimerJob();
+        timerJob.setJobType(JobEntity.JOB_TYPE_TIMER);
+        timerJob.setRevision(1);
+        timerJob.setJobHandlerType(SignalEventBroadcastStatusJobHandler.TYPE);
+        timerJob.setJobHandlerConfiguration(handlerCfg.toString());
+
+        BusinessCalendar businessCalendar = processEngineConfiguration.getBusinessCalendarManager().getBusinessCalendar(CycleBusinessCalendar.NAME);
+        timerJob.setDuedate(businessCalendar.resolveDuedate(processEngineConfiguration.getBatchStatusTimeCycleConfig()));
+        timerJob.setRepeat(processEngineConfiguration.getBatchStatusTimeCycleConfig());
+
+        timerJobService.scheduleTimerJob(timerJob);
+    }
+
+    protected static void scheduleAsyncJob(String jobHandlerType, String jobHandlerConfiguration, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        JobService jobService = processEngineConfiguration.getJobServiceConfiguration().getJobService();
+        JobEntity job = jobService.createJob();
+        job.setJobHandlerType(jobHandlerType);
+        job.setJobHandlerConfiguration(jobHandlerConfiguration);
+        jobService.createAsyncJob(job, false);
+        jobService.scheduleAsyncJob(job);
+    }
+
+}
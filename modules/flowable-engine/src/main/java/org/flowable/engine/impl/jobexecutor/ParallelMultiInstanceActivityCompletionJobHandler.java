@@ -47,7 +47,7 @@ public class ParallelMultiInstanceActivityCompletionJobHandler  implements JobHa
                 Object behavior = ((Activity) currentFlowElement).getBehavior();
                 if (behavior instanceof ParallelMultiInstanceBehavior) {
                     ParallelMultiInstanceBehavior parallelMultiInstanceBehavior = (ParallelMultiInstanceBehavior) behavior;
-                    parallelMultiInstanceBehavior.leaveAsync(completingExecution);
+                    parallelMultiInstanceBehavior.leaveAsync(completingExecution, job);
                 }
             }
         }
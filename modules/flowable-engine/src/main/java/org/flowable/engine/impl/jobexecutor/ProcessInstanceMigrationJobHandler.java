@@ -12,6 +12,8 @@
  */
 package org.flowable.engine.impl.jobexecutor;
 
+import java.util.List;
+
 import org.flowable.batch.api.Batch;
 import org.flowable.batch.api.BatchPart;
 import org.flowable.batch.api.BatchService;
@@ -26,6 +28,7 @@ import org.flowable.engine.migration.ProcessInstanceMigrationManager;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
 import org.flowable.variable.api.delegate.VariableScope;
 
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 public class ProcessInstanceMigrationJobHandler extends AbstractProcessInstanceMigrationJobHandler {
@@ -48,22 +51,67 @@ public class ProcessInstanceMigrationJobHandler extends AbstractProcessInstanceM
         Batch batch = batchService.getBatch(batchPart.getBatchId());
         ProcessInstanceMigrationDocument migrationDocument = ProcessInstanceMigrationDocumentImpl.fromJson(batch.getBatchDocumentJson(processEngineConfiguration.getEngineCfgKey()));
 
-        String exceptionMessage = null;
-        try {
-            processInstanceMigrationManager.migrateProcessInstance(batchPart.getScopeId(), migrationDocument, commandContext);
-        } catch (FlowableException e) {
-            exceptionMessage = e.getMessage();
-        }
+        // Only the batch part itself is updated: the status job counts the completed batch parts, so that parallel part jobs don't update the same batch
+        if (batchPart.getScopeId() == null) {
+            migrateProcessInstances(batchPart, migrationDocument, processEngineConfiguration, commandContext);
 
-        String resultAsJsonString = prepareResultAsJsonString(exceptionMessage);
-        
-        if (exceptionMessage != null) {
-            batchService.completeBatchPart(batchPartId, ProcessInstanceBatchMigrationResult.RESULT_FAIL, resultAsJsonString);
         } else {
-            batchService.completeBatchPart(batchPartId, ProcessInstanceBatchMigrationResult.RESULT_SUCCESS, resultAsJsonString);
+            String exceptionMessage = null;
+            try {
+                processInstanceMigrationManager.migrateProcessInstance(batchPart.getScopeId(), migrationDocument, commandContext);
+            } catch (FlowableException e) {
+                exceptionMessage = e.getMessage();
+            }
+
+            String resultAsJsonString = prepareResultAsJsonString(exceptionMessage);
+            
+            if (exceptionMessage != null) {
+                batchService.completeBatchPart(batchPartId, ProcessInstanceBatchMigrationResult.RESULT_FAIL, resultAsJsonString);
+            } else {
+                batchService.completeBatchPart(batchPartId, ProcessInstanceBatchMigrationResult.RESULT_SUCCESS, resultAsJsonString);
+            }
         }
     }
 
+    /**
+     * Migrates the process instances of a batch part with more than one process instance.
+     * The ids of the process instances are listed in the document of the batch part.
+     */
+    protected BatchPart migrateProcessInstances(BatchPart batchPart, ProcessInstanceMigrationDocument migrationDocument,
+            ProcessEngineConfigurationImpl processEngineConfiguration, CommandContext commandContext) {
+
+        BatchService batchService = processEngineConfiguration.getBatchServiceConfiguration().getBatchService();
+        ProcessInstanceMigrationManager processInstanceMigrationManager = processEngineConfiguration.getProcessInstanceMigrationManager();
+
+        List<String> processInstanceIds = getProcessInstanceIdsFromBatchPartDocument(
+                readJson(batchPart.getResultDocumentJson(processEngineConfiguration.getEngineCfgKey())));
+
+        ObjectNode resultNode = getObjectMapper().createObjectNode();
+        ArrayNode processInstanceResultsNode = resultNode.putArray(BATCH_RESULT_PROCESS_INSTANCES_LABEL);
+        boolean failed = false;
+        for (String processInstanceId : processInstanceIds) {
+            String exceptionMessage = null;
+            try {
+                processInstanceMigrationManager.migrateProcessInstance(processInstanceId, migrationDocument, commandContext);
+            } catch (FlowableException e) {
+                exceptionMessage = e.getMessage();
+                failed = true;
+            }
+
+            ObjectNode processInstanceResultNode = processInstanceResultsNode.addObject();
+            processInstanceResultNode.put(BATCH_RESULT_PROCESS_INSTANCE_ID_LABEL, processInstanceId);
+            processInstanceResultNode.put(BATCH_RESULT_STATUS_LABEL, exceptionMessage != null ?
+                    ProcessInstanceBatchMigrationResult.RESULT_FAIL : ProcessInstanceBatchMigrationResult.RESULT_SUCCESS);
+            if (exceptionMessage != null) {
+                processInstanceResultNode.put(BATCH_RESULT_MESSAGE_LABEL, exceptionMessage);
+            }
+        }
+
+        String resultStatus = failed ? ProcessInstanceBatchMigrationResult.RESULT_FAIL : ProcessInstanceBatchMigrationResult.RESULT_SUCCESS;
+        resultNode.put(BATCH_RESULT_STATUS_LABEL, resultStatus);
+        return batchService.completeBatchPart(batchPart.getId(), resultStatus, resultNode.toString());
+    }
+
     protected static String prepareResultAsJsonString(String exceptionMessage) {
         ObjectNode objectNode = getObjectMapper().createObjectNode();
         if (exceptionMessage == null) {
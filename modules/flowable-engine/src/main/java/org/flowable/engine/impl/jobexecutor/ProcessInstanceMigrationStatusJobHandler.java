@@ -12,10 +12,9 @@
  */
 package org.flowable.engine.impl.jobexecutor;
 
-import java.util.List;
+import java.util.Map;
 
 import org.flowable.batch.api.Batch;
-import org.flowable.batch.api.BatchPart;
 import org.flowable.batch.api.BatchService;
 import org.flowable.batch.service.impl.persistence.entity.BatchEntity;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
@@ -42,37 +41,28 @@ public class ProcessInstanceMigrationStatusJobHandler extends AbstractProcessIns
         String batchId = getBatchIdFromHandlerCfg(configuration);
         Batch batch = batchService.getBatch(batchId);
         
-        List<BatchPart> batchParts = batchService.findBatchPartsByBatchId(batchId);
-        int completedBatchParts = 0;
-        int failedBatchParts = 0;
-        for (BatchPart batchPart : batchParts) {
-            if (batchPart.getCompleteTime() != null) {
-                completedBatchParts++;
-                
-                if (ProcessInstanceBatchMigrationResult.RESULT_FAIL.equals(batchPart.getStatus())) {
-                    failedBatchParts++;
-                }
-            }
+        // Only counted in the database with one query, the batch parts themselves are not fetched
+        long batchPartCount = 0;
+        Map<String, Long> batchPartCountsByStatus = batchService.countBatchPartsByBatchIdGroupedByStatus(batchId);
+        for (Long statusCount : batchPartCountsByStatus.values()) {
+            batchPartCount += statusCount;
         }
+        long waitingBatchParts = batchPartCountsByStatus.getOrDefault(ProcessInstanceBatchMigrationResult.STATUS_WAITING, 0L);
+        long completedBatchParts = batchPartCount - waitingBatchParts;
         
-        if (completedBatchParts == batchParts.size()) {
+        if (completedBatchParts == batchPartCount) {
             updateBatchStatus(batch, ProcessInstanceBatchMigrationResult.STATUS_COMPLETED, batchService);
             job.setRepeat(null);
         
         } else {
-            if (batchParts.size() == 0) {
-                updateBatchStatus(batch, "No batch parts", batchService);
-                job.setRepeat(null);
-            
-            } else {
-                int completedPercentage = completedBatchParts / batchParts.size() * 100;
-                updateBatchStatus(batch, completedPercentage + "% completed, " + failedBatchParts + " failed", batchService);
-            }
+            long failedBatchParts = batchPartCountsByStatus.getOrDefault(ProcessInstanceBatchMigrationResult.RESULT_FAIL, 0L);
+            long completedPercentage = completedBatchParts * 100 / batchPartCount;
+            updateBatchStatus(batch, completedPercentage + "% completed, " + failedBatchParts + " failed", batchService);
         }
     }
     
     protected void updateBatchStatus(Batch batch, String status, BatchService batchService) {
-        ((BatchEntity) batch).setStatus(ProcessInstanceBatchMigrationResult.STATUS_COMPLETED);
+        ((BatchEntity) batch).setStatus(status);
         batchService.updateBatch(batch);
     }
 
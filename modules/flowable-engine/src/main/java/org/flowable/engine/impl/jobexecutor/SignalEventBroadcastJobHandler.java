@@ -0,0 +1,95 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.util.List;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.batch.api.BatchService;
+import org.flowable.batch.service.impl.persistence.entity.BatchEntity;
+import org.flowable.batch.service.impl.persistence.entity.BatchPartEntity;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.eventsubscription.service.EventSubscriptionService;
+import org.flowable.eventsubscription.service.impl.persistence.entity.SignalEventSubscriptionEntity;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Fetches the next page of signal event subscriptions of a signal broadcast batch and creates a batch part (and job) for it.
+ * The page is identified by the id of the last subscription of the previous page, so fetching a page has the same cost for every page.
+ */
+public class SignalEventBroadcastJobHandler extends AbstractSignalEventBroadcastJobHandler {
+
+    public static final String TYPE = "signal-broadcast";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        BatchService batchService = processEngineConfiguration.getBatchServiceConfiguration().getBatchService();
+        EventSubscriptionService eventSubscriptionService = processEngineConfiguration.getEventSubscriptionServiceConfiguration().getEventSubscriptionService();
+
+        JsonNode handlerCfg = readJson(configuration, processEngineConfiguration);
+        String batchId = getText(handlerCfg, CFG_LABEL_BATCH_ID);
+        String afterId = getText(handlerCfg, CFG_LABEL_AFTER_ID);
+
+        Batch batch = batchService.getBatch(batchId);
+        if (batch == null) {
+            // The batch has been deleted in the meantime, nothing left to broadcast
+            return;
+        }
+
+        JsonNode batchDocument = readBatchDocument(batch, processEngineConfiguration);
+        String signalName = getText(batchDocument, BATCH_DOCUMENT_SIGNAL_NAME);
+        String tenantId = getText(batchDocument, BATCH_DOCUMENT_TENANT_ID);
+
+        int partSize = processEngineConfiguration.getSignalEventBroadcastBatchPartSize();
+        List<SignalEventSubscriptionEntity> subscriptions = eventSubscriptionService.findSignalEventSubscriptionsByEventName(
+                signalName, tenantId, afterId, null, partSize);
+
+        if (!subscriptions.isEmpty()) {
+            String lastId = subscriptions.get(subscriptions.size() - 1).getId();
+            BatchPart batchPart = batchService.createBatchPart(batch, STATUS_WAITING, null, null, ScopeTypes.BPMN);
+            ((BatchPartEntity) batchPart).setResultDocumentJson(createBatchPartDocumentJson(afterId, lastId, processEngineConfiguration.getObjectMapper()),
+                    processEngineConfiguration.getEngineCfgKey());
+            scheduleBroadcastPartJob(batchPart.getId(), processEngineConfiguration);
+
+            if (subscriptions.size() == partSize) {
+                scheduleBroadcastJob(batchId, lastId, processEngineConfiguration);
+                return;
+            }
+        }
+
+        // All subscriptions have been divided over batch parts
+        if (afterId == null && subscriptions.isEmpty()) {
+            BatchEntity batchEntity = (BatchEntity) batch;
+            batchEntity.setStatus(STATUS_COMPLETED);
+            batchEntity.setCompleteTime(processEngineConfiguration.getClock().getCurrentTime());
+            batchService.updateBatch(batchEntity);
+
+        } else {
+            scheduleBroadcastStatusJob(batchId, processEngineConfiguration);
+        }
+    }
+
+}
@@ -0,0 +1,102 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.util.List;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.batch.api.BatchService;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.compatibility.Flowable5CompatibilityHandler;
+import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.EventSubscriptionUtil;
+import org.flowable.engine.impl.util.Flowable5Util;
+import org.flowable.eventsubscription.service.EventSubscriptionService;
+import org.flowable.eventsubscription.service.impl.persistence.entity.SignalEventSubscriptionEntity;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Delivers the signal of a signal broadcast batch to the subscriptions of one batch part,
+ * being the subscriptions with an id after the afterId and up to (and including) the lastId of the document of the part.
+ * Only the batch part is completed, the batch is left untouched so that parts of the same batch don't conflict with each other.
+ *
+ * An exception is not caught: the job is retried and the batch part stays incomplete,
+ * so that a failing execution never leaves the other executions of the part in a half signaled state.
+ */
+public class SignalEventBroadcastPartJobHandler extends AbstractSignalEventBroadcastJobHandler {
+
+    public static final String TYPE = "signal-broadcast-part";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        BatchService batchService = processEngineConfiguration.getBatchServiceConfiguration().getBatchService();
+        EventSubscriptionService eventSubscriptionService = processEngineConfiguration.getEventSubscriptionServiceConfiguration().getEventSubscriptionService();
+
+        String batchPartId = getText(readJson(configuration, processEngineConfiguration), CFG_LABEL_BATCH_PART_ID);
+        BatchPart batchPart = batchService.getBatchPart(batchPartId);
+        if (batchPart == null) {
+            // The batch has been deleted in the meantime
+            return;
+        }
+
+        Batch batch = batchService.getBatch(batchPart.getBatchId());
+        JsonNode batchDocument = readBatchDocument(batch, processEngineConfiguration);
+        String signalName = getText(batchDocument, BATCH_DOCUMENT_SIGNAL_NAME);
+        String tenantId = getText(batchDocument, BATCH_DOCUMENT_TENANT_ID);
+
+        JsonNode batchPartDocument = readJson(batchPart.getResultDocumentJson(processEngineConfiguration.getEngineCfgKey()), processEngineConfiguration);
+        List<SignalEventSubscriptionEntity> subscriptions = eventSubscriptionService.findSignalEventSubscriptionsByEventName(
+                signalName, tenantId, getText(batchPartDocument, CFG_LABEL_AFTER_ID), getText(batchPartDocument, CFG_LABEL_LAST_ID), -1);
+
+        int signaledSubscriptionCount = 0;
+        for (SignalEventSubscriptionEntity signalEventSubscriptionEntity : subscriptions) {
+            // Same as a regular signal broadcast: process instance scoped signals must be thrown within the process itself
+            if (signalEventSubscriptionEntity.isGlobalScoped()) {
+
+                if (Flowable5Util.isFlowable5ProcessDefinitionId(commandContext, signalEventSubscriptionEntity.getProcessDefinitionId())) {
+                    Flowable5CompatibilityHandler compatibilityHandler = Flowable5Util.getFlowable5CompatibilityHandler();
+                    compatibilityHandler.signalEventReceived(signalEventSubscriptionEntity, null, false);
+
+                } else {
+                    processEngineConfiguration.getEventDispatcher().dispatchEvent(
+                            FlowableEventBuilder.createSignalEvent(FlowableEngineEventType.ACTIVITY_SIGNALED, signalEventSubscriptionEntity.getActivityId(), signalName,
+                                    null, signalEventSubscriptionEntity.getExecutionId(), signalEventSubscriptionEntity.getProcessInstanceId(),
+                                    signalEventSubscriptionEntity.getProcessDefinitionId()), processEngineConfiguration.getEngineCfgKey());
+
+                    EventSubscriptionUtil.eventReceived(signalEventSubscriptionEntity, null, false);
+                }
+                signaledSubscriptionCount++;
+            }
+        }
+
+        ObjectNode result = processEngineConfiguration.getObjectMapper().createObjectNode();
+        result.put(BATCH_RESULT_STATUS_LABEL, RESULT_SUCCESS);
+        result.put(BATCH_RESULT_COUNT_LABEL, signaledSubscriptionCount);
+        batchService.completeBatchPart(batchPartId, RESULT_SUCCESS, result.toString());
+    }
+
+}
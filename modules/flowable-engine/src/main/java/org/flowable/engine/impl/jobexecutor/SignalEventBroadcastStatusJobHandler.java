@@ -0,0 +1,61 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.util.Map;
+
+import org.flowable.batch.api.BatchService;
+import org.flowable.batch.service.impl.persistence.entity.BatchEntity;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+/**
+ * Repeating timer job, scheduled once all batch parts of a signal broadcast batch have been created,
+ * that completes the batch when none of its batch parts is waiting anymore.
+ * The parts are counted by status, so the parts themselves never have to update the batch.
+ */
+public class SignalEventBroadcastStatusJobHandler extends AbstractSignalEventBroadcastJobHandler {
+
+    public static final String TYPE = "signal-broadcast-status";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        BatchService batchService = processEngineConfiguration.getBatchServiceConfiguration().getBatchService();
+
+        String batchId = getText(readJson(configuration, processEngineConfiguration), CFG_LABEL_BATCH_ID);
+        BatchEntity batch = (BatchEntity) batchService.getBatch(batchId);
+        if (batch == null) {
+            job.setRepeat(null);
+            return;
+        }
+
+        Map<String, Long> partCountsByStatus = batchService.countBatchPartsByBatchIdGroupedByStatus(batchId);
+        Long waitingPartCount = partCountsByStatus.get(STATUS_WAITING);
+        if (waitingPartCount == null || waitingPartCount == 0) {
+            batch.setStatus(STATUS_COMPLETED);
+            batch.setCompleteTime(processEngineConfiguration.getClock().getCurrentTime());
+            batchService.updateBatch(batch);
+            job.setRepeat(null);
+        }
+    }
+
+}
@@ -29,6 +29,7 @@ import java.util.stream.Collectors;
 import org.flowable.batch.api.Batch;
 import org.flowable.batch.api.BatchPart;
 import org.flowable.batch.api.BatchService;
+import org.flowable.batch.service.impl.persistence.entity.BatchPartEntity;
 import org.flowable.bpmn.model.BoundaryEvent;
 import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.bpmn.model.CallActivity;
@@ -317,8 +318,8 @@ public class ProcessInstanceMigrationManagerImpl extends AbstractDynamicStateMan
 
         ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
         ExecutionEntityManager executionEntityManager = processEngineConfiguration.getExecutionEntityManager();
-        List<ProcessInstance> processInstances = executionEntityManager.findProcessInstanceByQueryCriteria(
-                new ProcessInstanceQueryImpl(commandContext, processEngineConfiguration).processDefinitionId(sourceProcDefId));
+        List<String> processInstanceIds = executionEntityManager.findProcessInstanceIdsByProcessDefinitionId(sourceProcDefId);
+        int batchPartSize = Math.max(processEngineConfiguration.getProcessInstanceMigrationBatchPartSize(), 1);
 
         BatchService batchService = processEngineConfiguration.getBatchServiceConfiguration().getBatchService();
         Batch batch = batchService.createBatchBuilder().batchType(Batch.PROCESS_MIGRATION_TYPE)
@@ -329,19 +330,31 @@ public class ProcessInstanceMigrationManagerImpl extends AbstractDynamicStateMan
             .create();
         
         JobService jobService = processEngineConfiguration.getJobServiceConfiguration().getJobService();
-        for (ProcessInstance processInstance : processInstances) {
-            BatchPart batchPart = batchService.createBatchPart(batch, ProcessInstanceBatchMigrationResult.STATUS_WAITING, 
-                            processInstance.getId(), null, ScopeTypes.BPMN);
+        for (int i = 0; i < processInstanceIds.size(); i += batchPartSize) {
+            List<String> batchPartProcessInstanceIds = processInstanceIds.subList(i, Math.min(i + batchPartSize, processInstanceIds.size()));
+
+            // A batch part of one process instance has the process instance as scope, a batch part of more process instances lists them in its document
+            BatchPart batchPart;
+            if (batchPartProcessInstanceIds.size() == 1) {
+                batchPart = batchService.createBatchPart(batch, ProcessInstanceBatchMigrationResult.STATUS_WAITING, 
+                                batchPartProcessInstanceIds.get(0), null, ScopeTypes.BPMN);
+            } else {
+                batchPart = batchService.createBatchPart(batch, ProcessInstanceBatchMigrationResult.STATUS_WAITING, null, null, ScopeTypes.BPMN);
+                ((BatchPartEntity) batchPart).setResultDocumentJson(ProcessInstanceMigrationJobHandler.createBatchPartDocumentJson(batchPartProcessInstanceIds),
+                        processEngineConfiguration.getEngineCfgKey());
+            }
             
             JobEntity job = jobService.createJob();
             job.setJobHandlerType(ProcessInstanceMigrationJobHandler.TYPE);
-            job.setProcessInstanceId(processInstance.getId());
+            if (batchPart.getScopeId() != null) {
+                job.setProcessInstanceId(batchPart.getScopeId());
+            }
             job.setJobHandlerConfiguration(ProcessInstanceMigrationJobHandler.getHandlerCfgForBatchPartId(batchPart.getId()));
             jobService.createAsyncJob(job, false);
             jobService.scheduleAsyncJob(job);
         }
         
-        if (!processInstances.isEmpty()) {
+        if (!processInstanceIds.isEmpty()) {
             TimerJobService timerJobService = processEngineConfiguration.getJobServiceConfiguration().getTimerJobService();
             TimerJobEntity timerJob = timerJobService.createTimerJob();
             timerJob.setJobType(JobEntity.JOB_TYPE_TIMER);
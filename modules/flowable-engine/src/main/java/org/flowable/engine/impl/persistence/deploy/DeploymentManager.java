@@ -219,6 +219,10 @@ public class DeploymentManager {
 
         appResourceCache.remove(deploymentId);
         knowledgeBaseCache.remove(deploymentId);
+
+        if (processEngineConfiguration.getScriptingEngines() != null) {
+            processEngineConfiguration.getScriptingEngines().clearCompiledScriptCache();
+        }
     }
 
     // getters and setters
@@ -58,4 +58,12 @@ public interface DeploymentEntity extends Deployment, Entity {
 
     void setEngineVersion(String engineVersion);
 
+    /**
+     * The hash of the resources of the deployment, used by the duplicate filtering to compare deployments without reading their resources.
+     * Null for deployments that were deployed before the hash was stored.
+     */
+    String getContentHash();
+
+    void setContentHash(String contentHash);
+
 }
\ No newline at end of file
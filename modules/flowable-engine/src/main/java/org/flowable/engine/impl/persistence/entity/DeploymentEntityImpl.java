@@ -46,6 +46,8 @@ public class DeploymentEntityImpl extends AbstractBpmnEngineNoRevisionEntity imp
     // Backwards compatibility
     protected String engineVersion;
 
+    protected String contentHash;
+
     /**
      * Will only be used during actual deployment to pass deployed artifacts (eg process definitions). Will be null otherwise.
      */
@@ -195,6 +197,16 @@ public class DeploymentEntityImpl extends AbstractBpmnEngineNoRevisionEntity imp
     public void setEngineVersion(String engineVersion) {
         this.engineVersion = engineVersion;
     }
+
+    @Override
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    @Override
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
     
     @Override
     public String getDerivedFrom() {
@@ -60,6 +60,8 @@ public interface ExecutionEntityManager extends EntityManager<ExecutionEntity> {
 
     List<ProcessInstance> findProcessInstanceByQueryCriteria(ProcessInstanceQueryImpl executionQuery);
 
+    List<String> findProcessInstanceIdsByProcessDefinitionId(String processDefinitionId);
+
     List<ProcessInstance> findProcessInstanceAndVariablesByQueryCriteria(ProcessInstanceQueryImpl executionQuery);
 
     Collection<ExecutionEntity> findInactiveExecutionsByProcessInstanceId(String processInstanceId);
@@ -146,6 +146,11 @@ public class ExecutionEntityManagerImpl
         return dataManager.findProcessInstanceByQueryCriteria(executionQuery);
     }
 
+    @Override
+    public List<String> findProcessInstanceIdsByProcessDefinitionId(String processDefinitionId) {
+        return dataManager.findProcessInstanceIdsByProcessDefinitionId(processDefinitionId);
+    }
+
     @Override
     public ExecutionEntity findByRootProcessInstanceId(String rootProcessInstanceId) {
         List<ExecutionEntity> executions = dataManager.findExecutionsByRootProcessInstanceId(rootProcessInstanceId);
@@ -64,6 +64,7 @@ public class ProcessDefinitionEntityImpl extends AbstractBpmnEngineEntity implem
         Map<String, Object> persistentState = new HashMap<>();
         persistentState.put("suspensionState", this.suspensionState);
         persistentState.put("category", this.category);
+        persistentState.put("diagramResourceName", this.diagramResourceName);
         return persistentState;
     }
 
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -27,6 +28,8 @@ public interface ProcessDefinitionEntityManager extends EntityManager<ProcessDef
     ProcessDefinitionEntity findLatestProcessDefinitionByKey(String processDefinitionKey);
 
     ProcessDefinitionEntity findLatestProcessDefinitionByKeyAndTenantId(String processDefinitionKey, String tenantId);
+
+    List<ProcessDefinitionEntity> findLatestProcessDefinitionsByKeys(Collection<String> processDefinitionKeys, String tenantId);
     
     ProcessDefinitionEntity findLatestDerivedProcessDefinitionByKey(String processDefinitionKey);
 
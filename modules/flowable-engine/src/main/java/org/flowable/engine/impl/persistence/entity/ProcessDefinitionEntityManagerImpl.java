@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -45,6 +46,11 @@ public class ProcessDefinitionEntityManagerImpl
     public ProcessDefinitionEntity findLatestProcessDefinitionByKeyAndTenantId(String processDefinitionKey, String tenantId) {
         return dataManager.findLatestProcessDefinitionByKeyAndTenantId(processDefinitionKey, tenantId);
     }
+
+    @Override
+    public List<ProcessDefinitionEntity> findLatestProcessDefinitionsByKeys(Collection<String> processDefinitionKeys, String tenantId) {
+        return dataManager.findLatestProcessDefinitionsByKeys(processDefinitionKeys, tenantId);
+    }
     
     @Override
     public ProcessDefinitionEntity findLatestDerivedProcessDefinitionByKey(String processDefinitionKey) {
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -28,6 +29,8 @@ public interface ProcessDefinitionDataManager extends DataManager<ProcessDefinit
     ProcessDefinitionEntity findLatestProcessDefinitionByKey(String processDefinitionKey);
 
     ProcessDefinitionEntity findLatestProcessDefinitionByKeyAndTenantId(String processDefinitionKey, String tenantId);
+
+    List<ProcessDefinitionEntity> findLatestProcessDefinitionsByKeys(Collection<String> processDefinitionKeys, String tenantId);
     
     ProcessDefinitionEntity findLatestDerivedProcessDefinitionByKey(String processDefinitionKey);
 
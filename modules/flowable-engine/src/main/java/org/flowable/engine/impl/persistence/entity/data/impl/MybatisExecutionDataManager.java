@@ -111,11 +111,16 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
         // Need to get the cache result before doing the findById
         ExecutionEntity cachedExecutionEntity = getEntityCache().findInCache(getManagedEntityClass(), executionId);
         
-        // Find execution in db or cache to check process definition setting for execution fetch.
-        // If not set, no extra work is done. The execution is in the cache however now as a side-effect of calling this method.
-        ExecutionEntity executionEntity = (cachedExecutionEntity != null) ? cachedExecutionEntity : super.findById(executionId);
-        if (!ProcessDefinitionUtil.getProcess(executionEntity.getProcessDefinitionId()).isEnableEagerExecutionTreeFetching()) {
-            return false;
+        // When enabled for all process definitions, there is no need to fetch the execution first to check the process definition setting:
+        // the execution tree is fetched directly, which also fetches the execution itself.
+        if (!performanceSettings.isEnableEagerExecutionTreeFetchingForAllProcessDefinitions()) {
+
+            // Find execution in db or cache to check process definition setting for execution fetch.
+            // If not set, no extra work is done. The execution is in the cache however now as a side-effect of calling this method.
+            ExecutionEntity executionEntity = (cachedExecutionEntity != null) ? cachedExecutionEntity : super.findById(executionId);
+            if (executionEntity == null || !ProcessDefinitionUtil.getProcess(executionEntity.getProcessDefinitionId()).isEnableEagerExecutionTreeFetching()) {
+                return false;
+            }
         }
         
         // If it's in the cache, the execution and its tree have been fetched before. No need to do anything more.
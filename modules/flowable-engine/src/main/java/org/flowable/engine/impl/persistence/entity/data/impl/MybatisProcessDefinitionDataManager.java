@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -57,6 +58,15 @@ public class MybatisProcessDefinitionDataManager extends AbstractProcessDataMana
         return (ProcessDefinitionEntity) getDbSqlSession().selectOne("selectLatestProcessDefinitionByKeyAndTenantId", params);
     }
     
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ProcessDefinitionEntity> findLatestProcessDefinitionsByKeys(Collection<String> processDefinitionKeys, String tenantId) {
+        Map<String, Object> params = new HashMap<>(2);
+        params.put("processDefinitionKeys", processDefinitionKeys);
+        params.put("tenantId", tenantId);
+        return getDbSqlSession().selectList("selectLatestProcessDefinitionsByKeys", params);
+    }
+
     @Override
     public ProcessDefinitionEntity findLatestDerivedProcessDefinitionByKey(String processDefinitionKey) {
         return (ProcessDefinitionEntity) getDbSqlSession().selectOne("selectLatestDerivedProcessDefinitionByKey", processDefinitionKey);
@@ -71,6 +71,12 @@ public interface ExecutionQuery extends Query<ExecutionQuery, Execution> {
     /** Only select executions with the given id. **/
     ExecutionQuery executionId(String executionId);
 
+    /**
+     * Only select executions with an id after the given id, in the ordering of the ids in the database.
+     * Combined with an ascending order by execution id, this allows to page through executions by remembering the id of the last execution of a page.
+     */
+    ExecutionQuery executionIdAfter(String executionId);
+
     /** Only select executions which contain an activity with the given id. **/
     ExecutionQuery activityId(String activityId);
 
@@ -32,6 +32,13 @@ public interface ProcessInstanceQuery extends Query<ProcessInstanceQuery, Proces
     /** Select the process instance with the given id */
     ProcessInstanceQuery processInstanceId(String processInstanceId);
 
+    /**
+     * Only select process instances with an id after the given id, in the ordering of the ids in the database.
+     * Combined with an ascending order by process instance id, this allows to page through process instances
+     * by remembering the id of the last instance of a page.
+     */
+    ProcessInstanceQuery processInstanceIdAfter(String processInstanceId);
+
     /** Select process instances whose id is in the given set of ids */
     ProcessInstanceQuery processInstanceIds(Set<String> processInstanceIds);
 
@@ -9,6 +9,7 @@ CREATE TABLE ACT_RE_DEPLOYMENT (
     DERIVED_FROM_ROOT_ varchar(64),
     PARENT_DEPLOYMENT_ID_ varchar(255),
     ENGINE_VERSION_ varchar(255),
+    CONTENT_HASH_ varchar(255),
     primary key (ID_)
 );
 
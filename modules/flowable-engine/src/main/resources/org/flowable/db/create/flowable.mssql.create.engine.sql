@@ -9,6 +9,7 @@ create table ACT_RE_DEPLOYMENT (
     DERIVED_FROM_ROOT_ nvarchar(64),
     PARENT_DEPLOYMENT_ID_ nvarchar(255),
     ENGINE_VERSION_ nvarchar(255),
+    CONTENT_HASH_ nvarchar(255),
     primary key (ID_)
 );
 
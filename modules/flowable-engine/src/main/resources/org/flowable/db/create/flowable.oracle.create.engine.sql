@@ -9,6 +9,7 @@ create table ACT_RE_DEPLOYMENT (
     DERIVED_FROM_ROOT_ NVARCHAR2(64),
     PARENT_DEPLOYMENT_ID_ NVARCHAR2(255),
     ENGINE_VERSION_ NVARCHAR2(255),
+    CONTENT_HASH_ NVARCHAR2(255),
     primary key (ID_)
 );
 
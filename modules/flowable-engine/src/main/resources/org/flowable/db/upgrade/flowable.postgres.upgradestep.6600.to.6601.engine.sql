@@ -1 +1,3 @@
+alter table ACT_RE_DEPLOYMENT add column CONTENT_HASH_ varchar(255);
+
 update ACT_GE_PROPERTY set VALUE_ = '6.6.0.1' where NAME_ = 'schema.version';
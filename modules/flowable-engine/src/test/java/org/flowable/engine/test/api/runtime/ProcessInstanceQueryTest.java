@@ -157,6 +157,22 @@ public class ProcessInstanceQueryTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    public void testQueryByProcessInstanceIdAfter() {
+        List<ProcessInstance> processInstances = runtimeService.createProcessInstanceQuery().orderByProcessInstanceId().asc().list();
+        assertThat(processInstances).hasSize(PROCESS_DEPLOY_COUNT);
+
+        assertThat(runtimeService.createProcessInstanceQuery().processInstanceIdAfter(processInstances.get(1).getId()).orderByProcessInstanceId().asc().list())
+                .extracting(ProcessInstance::getId)
+                .containsExactly(processInstances.get(2).getId(), processInstances.get(3).getId(), processInstances.get(4).getId());
+        assertThat(runtimeService.createProcessInstanceQuery().or().processInstanceIdAfter(processInstances.get(3).getId()).processInstanceId("undefined").endOr()
+                .count()).isEqualTo(1);
+        assertThat(runtimeService.createExecutionQuery().executionIdAfter(processInstances.get(4).getId()).onlyProcessInstanceExecutions().count()).isZero();
+
+        assertThatThrownBy(() -> runtimeService.createProcessInstanceQuery().processInstanceIdAfter(null))
+                .isExactlyInstanceOf(FlowableIllegalArgumentException.class);
+    }
+
     @Test
     public void testQueryByProcessDefinitionCategory() {
         assertThat(runtimeService.createProcessInstanceQuery().processDefinitionCategory(PROCESS_DEFINITION_CATEGORY).count())
@@ -15,6 +15,7 @@ package org.flowable.engine.test.api.runtime;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assertions.fail;
 
 import java.util.Arrays;
@@ -700,6 +701,51 @@ public class RuntimeServiceTest extends PluggableFlowableTestCase {
                 .hasMessage("executionId is null");
     }
 
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testSetVariablesForExecutions() {
+        ProcessInstance processInstance1 = runtimeService.startProcessInstanceByKey("oneTaskProcess", CollectionUtil.singletonMap("existingVar", "old value"));
+        ProcessInstance processInstance2 = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        Execution childExecution = runtimeService.createExecutionQuery().processInstanceId(processInstance2.getId()).onlyChildExecutions().singleResult();
+
+        Map<String, Map<String, Object>> variablesByExecutionId = new HashMap<>();
+        Map<String, Object> variables1 = new HashMap<>();
+        variables1.put("existingVar", "new value");
+        variables1.put("newVar", 1);
+        variablesByExecutionId.put(processInstance1.getId(), variables1);
+        variablesByExecutionId.put(childExecution.getId(), CollectionUtil.singletonMap("newVar", 2));
+
+        runtimeService.setVariablesForExecutions(variablesByExecutionId);
+
+        assertThat(runtimeService.getVariables(processInstance1.getId()))
+                .containsOnly(entry("existingVar", "new value"), entry("newVar", 1));
+        // New variables are created on the process instance, as with setVariables
+        assertThat(runtimeService.getVariablesLocal(processInstance2.getId())).containsOnly(entry("newVar", 2));
+        assertThat(runtimeService.getVariablesLocal(childExecution.getId())).isEmpty();
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            assertThat(historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstance1.getId()).variableName("existingVar")
+                    .singleResult().getValue()).isEqualTo("new value");
+            assertThat(historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstance2.getId()).variableName("newVar")
+                    .singleResult().getValue()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testSetVariablesForExecutionsUnexistingExecutionId() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        Map<String, Map<String, Object>> variablesByExecutionId = new HashMap<>();
+        variablesByExecutionId.put(processInstance.getId(), CollectionUtil.singletonMap("newVar", 1));
+        variablesByExecutionId.put("unexistingexecution", CollectionUtil.singletonMap("newVar", 2));
+
+        assertThatThrownBy(() -> runtimeService.setVariablesForExecutions(variablesByExecutionId))
+                .isInstanceOf(FlowableObjectNotFoundException.class)
+                .hasMessage("execution unexistingexecution doesn't exist");
+        assertThat(runtimeService.getVariables(processInstance.getId())).isEmpty();
+    }
+
     private void checkHistoricVariableUpdateEntity(String variableName, String processInstanceId) {
         if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.FULL, processEngineConfiguration)) {
             boolean deletedVariableUpdateFound = false;
@@ -28,13 +28,19 @@ package org.flowable.engine.test.api.runtime.migration;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.flowable.batch.api.Batch;
 import org.flowable.batch.api.BatchPart;
 import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationJobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationStatusJobHandler;
 import org.flowable.engine.impl.test.JobTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
@@ -428,4 +434,158 @@ public class ProcessInstanceMigrationBatchTest extends PluggableFlowableTestCase
         managementService.deleteBatch(migrationBatch.getId());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testProcessMigrationBatchWithMultipleProcessInstancesPerPart() {
+        ProcessDefinition version1ProcessDef = deployProcessDefinition("my deploy",
+                "org/flowable/engine/test/api/runtime/migration/two-tasks-simple-process.bpmn20.xml");
+
+        List<String> successInstances = new ArrayList<>();
+        List<String> failedInstances = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            successInstances.add(runtimeService.startProcessInstanceByKey("MP").getId());
+        }
+        for (int i = 0; i < 3; i++) {
+            String processInstanceId = runtimeService.startProcessInstanceByKey("MP").getId();
+            taskService.complete(taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult().getId());
+            failedInstances.add(processInstanceId);
+        }
+
+        List<String> allInstances = new ArrayList<>(successInstances);
+        allInstances.addAll(failedInstances);
+
+        ProcessDefinition version2ProcessDef = deployProcessDefinition("my deploy",
+                "org/flowable/engine/test/api/runtime/migration/one-task-simple-process.bpmn20.xml");
+
+        int originalBatchPartSize = processEngineConfiguration.getProcessInstanceMigrationBatchPartSize();
+        Batch migrationBatch;
+        try {
+            processEngineConfiguration.setProcessInstanceMigrationBatchPartSize(4);
+            migrationBatch = processMigrationService.createProcessInstanceMigrationBuilder()
+                    .migrateToProcessDefinition(version2ProcessDef.getId())
+                    .batchMigrateProcessInstances(version1ProcessDef.getId());
+        } finally {
+            processEngineConfiguration.setProcessInstanceMigrationBatchPartSize(originalBatchPartSize);
+        }
+
+        // 10 process instances in parts of 4, the parts list their process instances in their document
+        List<BatchPart> batchParts = managementService.findBatchPartsByBatchId(migrationBatch.getId());
+        assertThat(batchParts).hasSize(3);
+        for (BatchPart batchPart : batchParts) {
+            assertThat(batchPart.getScopeId()).isNull();
+            assertThat(batchPart.getSubScopeId()).isNull();
+        }
+        assertThat(managementService.createJobQuery().count()).isEqualTo(3);
+
+        // Every process instance still has its own (waiting) part result
+        ProcessInstanceBatchMigrationResult migrationResult = processMigrationService.getResultsOfBatchProcessInstanceMigration(migrationBatch.getId());
+        assertThat(migrationResult.getAllMigrationParts())
+                .extracting(ProcessInstanceBatchMigrationPartResult::getProcessInstanceId)
+                .containsExactlyInAnyOrderElementsOf(allInstances);
+        assertThat(migrationResult.getWaitingMigrationParts()).hasSize(10);
+
+        JobTestHelper.waitForJobExecutorToProcessAllJobs(processEngineConfiguration, managementService, 10000L, 500L, true);
+
+        List<Job> timerJobs = managementService.createTimerJobQuery().handlerType(ProcessInstanceMigrationStatusJobHandler.TYPE).list();
+        for (Job timerJob : timerJobs) {
+            Job executableJob = managementService.moveTimerToExecutableJob(timerJob.getId());
+            managementService.executeJob(executableJob.getId());
+        }
+
+        migrationResult = processMigrationService.getResultsOfBatchProcessInstanceMigration(migrationBatch.getId());
+        assertThat(migrationResult.getStatus()).isEqualTo(ProcessInstanceBatchMigrationResult.STATUS_COMPLETED);
+        assertThat(migrationResult.getWaitingMigrationParts()).isEmpty();
+        assertThat(migrationResult.getSuccessfulMigrationParts())
+                .extracting(ProcessInstanceBatchMigrationPartResult::getProcessInstanceId)
+                .containsExactlyInAnyOrderElementsOf(successInstances);
+        assertThat(migrationResult.getFailedMigrationParts())
+                .extracting(ProcessInstanceBatchMigrationPartResult::getProcessInstanceId)
+                .containsExactlyInAnyOrderElementsOf(failedInstances);
+        for (ProcessInstanceBatchMigrationPartResult part : migrationResult.getFailedMigrationParts()) {
+            assertThat(part.getMigrationMessage()).isEqualTo("Migration Activity mapping missing for activity definition Id:'userTask2Id' or its MI Parent");
+        }
+
+        for (String processInstanceId : successInstances) {
+            Task task = taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult();
+            assertThat(task.getProcessDefinitionId()).isEqualTo(version2ProcessDef.getId());
+        }
+        for (String processInstanceId : failedInstances) {
+            Task task = taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult();
+            assertThat(task.getProcessDefinitionId()).isEqualTo(version1ProcessDef.getId());
+        }
+
+        for (String processInstanceId : allInstances) {
+            completeProcessInstanceTasks(processInstanceId);
+            assertProcessEnded(processInstanceId);
+        }
+
+        managementService.deleteBatch(migrationBatch.getId());
+    }
+
+    @Test
+    public void testProcessMigrationBatchPartsExecutedConcurrently() throws Exception {
+        ProcessDefinition version1ProcessDef = deployProcessDefinition("my deploy",
+                "org/flowable/engine/test/api/runtime/migration/two-tasks-simple-process.bpmn20.xml");
+
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            processInstanceIds.add(runtimeService.startProcessInstanceByKey("MP").getId());
+        }
+
+        ProcessDefinition version2ProcessDef = deployProcessDefinition("my deploy",
+                "org/flowable/engine/test/api/runtime/migration/two-tasks-simple-process.bpmn20.xml");
+
+        Batch migrationBatch = processMigrationService.createProcessInstanceMigrationBuilder()
+                .migrateToProcessDefinition(version2ProcessDef.getId())
+                .batchMigrateProcessInstances(version1ProcessDef.getId());
+
+        List<Job> partJobs = managementService.createJobQuery().handlerType(ProcessInstanceMigrationJobHandler.TYPE).list();
+        assertThat(partJobs).hasSize(8);
+
+        // The part jobs only update their own batch part, so they don't fail on the revision of the shared batch when executed in parallel
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch startLatch = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            for (Job partJob : partJobs) {
+                executorService.execute(() -> {
+                    try {
+                        startLatch.await();
+                        managementService.executeJob(partJob.getId());
+                    } catch (Throwable e) {
+                        failures.add(e);
+                    }
+                });
+            }
+            startLatch.countDown();
+            executorService.shutdown();
+            assertThat(executorService.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(failures).isEmpty();
+        assertThat(managementService.createJobQuery().handlerType(ProcessInstanceMigrationJobHandler.TYPE).count()).isZero();
+        assertThat(managementService.createDeadLetterJobQuery().count()).isZero();
+
+        List<Job> timerJobs = managementService.createTimerJobQuery().handlerType(ProcessInstanceMigrationStatusJobHandler.TYPE).list();
+        for (Job timerJob : timerJobs) {
+            Job executableJob = managementService.moveTimerToExecutableJob(timerJob.getId());
+            managementService.executeJob(executableJob.getId());
+        }
+
+        ProcessInstanceBatchMigrationResult migrationResult = processMigrationService.getResultsOfBatchProcessInstanceMigration(migrationBatch.getId());
+        assertThat(migrationResult.getStatus()).isEqualTo(ProcessInstanceBatchMigrationResult.STATUS_COMPLETED);
+        assertThat(migrationResult.getSuccessfulMigrationParts())
+                .extracting(ProcessInstanceBatchMigrationPartResult::getProcessInstanceId)
+                .containsExactlyInAnyOrderElementsOf(processInstanceIds);
+
+        for (String processInstanceId : processInstanceIds) {
+            completeProcessInstanceTasks(processInstanceId);
+            assertProcessEnded(processInstanceId);
+        }
+
+        managementService.deleteBatch(migrationBatch.getId());
+    }
+
+}
@@ -40,6 +40,7 @@ import org.flowable.task.api.Task;
 import org.flowable.task.api.TaskInfo;
 import org.flowable.task.api.TaskQuery;
 import org.flowable.task.api.history.HistoricTaskInstance;
+import org.flowable.task.service.impl.TaskQueryImpl;
 import org.flowable.task.service.impl.persistence.entity.TaskEntity;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 import org.junit.jupiter.api.AfterEach;
@@ -118,6 +119,41 @@ public class TaskQueryTest extends PluggableFlowableTestCase {
         assertThat(query.count()).isEqualTo(1);
     }
 
+    @Test
+    public void testQueryByTaskIdAfter() {
+        List<Task> tasks = taskService.createTaskQuery().orderByTaskId().asc().list();
+        assertThat(tasks).hasSize(12);
+
+        List<Task> tasksAfter = taskService.createTaskQuery().taskIdAfter(tasks.get(4).getId()).orderByTaskId().asc().listPage(0, 3);
+        assertThat(tasksAfter)
+                .extracting(Task::getId)
+                .containsExactly(tasks.get(5).getId(), tasks.get(6).getId(), tasks.get(7).getId());
+        assertThat(taskService.createTaskQuery().taskIdAfter(tasks.get(4).getId()).count()).isEqualTo(7);
+        assertThat(taskService.createTaskQuery().or().taskIdAfter(tasks.get(10).getId()).taskName("INVALID NAME").endOr().count()).isEqualTo(1);
+
+        assertThatThrownBy(() -> taskService.createTaskQuery().taskIdAfter(null))
+                .isExactlyInstanceOf(FlowableIllegalArgumentException.class);
+    }
+
+    @Test
+    public void testQueryWithSelectedColumns() {
+        TaskQueryImpl query = (TaskQueryImpl) taskService.createTaskQuery().taskName("gonzoTask").orderByTaskName().asc().orderByTaskPriority().asc();
+        query.setSelectedColumns(Arrays.asList("RES.NAME_", "RES.DESCRIPTION_"));
+
+        // The ordered columns are added to the selected columns, but only once
+        assertThat(query.getSelectedColumnsSql()).isEqualTo("RES.ID_, RES.NAME_, RES.DESCRIPTION_, RES.PRIORITY_");
+
+        Task task = query.singleResult();
+        assertThat(task.getId()).isEqualTo(taskIds.get(6));
+        assertThat(task.getName()).isEqualTo("gonzoTask");
+        assertThat(task.getDescription()).isEqualTo("gonzo description");
+        assertThat(task.getPriority()).isEqualTo(4);
+
+        // The columns that are not selected are not set
+        assertThat(task.getAssignee()).isNull();
+        assertThat(task.getCreateTime()).isNull();
+    }
+
     @Test
     public void testQueryByInvalidTaskId() {
         TaskQuery query = taskService.createTaskQuery().taskId("invalid");
@@ -1625,6 +1625,35 @@ public class TaskServiceTest extends PluggableFlowableTestCase {
         checkHistoricVariableUpdateEntity("variable1", processInstance.getId());
     }
 
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testSetVariablesForTasks() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        org.flowable.task.api.Task processTask = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.setVariableLocal(processTask.getId(), "localVar", "old value");
+
+        org.flowable.task.api.Task standaloneTask = taskService.newTask();
+        taskService.saveTask(standaloneTask);
+
+        try {
+            Map<String, Map<String, Object>> variablesByTaskId = new HashMap<>();
+            Map<String, Object> processTaskVariables = new HashMap<>();
+            processTaskVariables.put("localVar", "new value");
+            processTaskVariables.put("processVar", "process value");
+            variablesByTaskId.put(processTask.getId(), processTaskVariables);
+            variablesByTaskId.put(standaloneTask.getId(), CollectionUtil.singletonMap("taskVar", "task value"));
+
+            taskService.setVariablesForTasks(variablesByTaskId);
+
+            assertThat(taskService.getVariablesLocal(processTask.getId())).containsOnly(entry("localVar", "new value"));
+            assertThat(runtimeService.getVariablesLocal(processInstance.getId())).containsOnly(entry("processVar", "process value"));
+            assertThat(taskService.getVariablesLocal(standaloneTask.getId())).containsOnly(entry("taskVar", "task value"));
+
+        } finally {
+            taskService.deleteTask(standaloneTask.getId(), true);
+        }
+    }
+
     @Test
     public void testRemoveVariableNullTaskId() {
         assertThatThrownBy(() -> taskService.removeVariable(null, "variable"))
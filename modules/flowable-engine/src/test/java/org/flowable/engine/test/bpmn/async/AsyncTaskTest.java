@@ -551,6 +551,32 @@ public class AsyncTaskTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/async/AsyncTaskTest.testMultiInstanceAsyncTask.bpmn20.xml")
+    public void testMultiInstanceAsyncTaskCompletionJobsAreBatched() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("asyncTask");
+
+        // complete 2 of the 3 parallel multi instance tasks
+        for (int i = 0; i < 2; i++) {
+            managementService.executeJob(managementService.createJobQuery().processInstanceId(processInstance.getId())
+                    .handlerType(AsyncContinuationJobHandler.TYPE).list().get(0).getId());
+        }
+        List<Job> completionJobs = managementService.createJobQuery().processInstanceId(processInstance.getId())
+                .handlerType(ParallelMultiInstanceActivityCompletionJobHandler.TYPE).list();
+        assertThat(completionJobs).hasSize(2);
+
+        // a single completion job evaluates both completions, the other pending completion job is not needed anymore
+        managementService.executeJob(completionJobs.get(0).getId());
+        assertThat(managementService.createJobQuery().processInstanceId(processInstance.getId()).list())
+                .extracting(Job::getJobHandlerType)
+                .containsExactly(AsyncContinuationJobHandler.TYPE);
+
+        // completing the last instance completes the multi instance
+        managementService.executeJob(managementService.createJobQuery().processInstanceId(processInstance.getId()).singleResult().getId());
+        assertThat(managementService.createJobQuery().processInstanceId(processInstance.getId()).count()).isZero();
+        assertProcessEnded(processInstance.getId());
+    }
+
     @Test
     @Deployment
     public void testMultiInstanceTask() {
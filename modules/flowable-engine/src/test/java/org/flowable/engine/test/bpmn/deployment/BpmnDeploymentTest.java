@@ -15,22 +15,40 @@ package org.flowable.engine.test.bpmn.deployment;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.flowable.bpmn.exceptions.XMLException;
 import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.bpmn.model.SequenceFlow;
 import org.flowable.bpmn.model.StartEvent;
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.db.DbSqlSession;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.util.IoUtil;
 import org.flowable.common.engine.impl.util.ReflectUtil;
 import org.flowable.engine.impl.RepositoryServiceImpl;
+import org.flowable.engine.impl.bpmn.deployer.ParallelDeploymentUtil;
 import org.flowable.engine.impl.context.Context;
+import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.repository.DeploymentProperties;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.test.Deployment;
@@ -207,6 +225,33 @@ public class BpmnDeploymentTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    public void testDeploySameFileTwiceWithoutContentHash() {
+        String bpmnResourceName = "org/flowable/engine/test/bpmn/deployment/BpmnDeploymentTest.testGetBpmnXmlFileThroughService.bpmn20.xml";
+        String deploymentId = repositoryService.createDeployment().enableDuplicateFiltering().addClasspathResource(bpmnResourceName).name("twice").deploy().getId();
+
+        DeploymentEntity deployment = (DeploymentEntity) repositoryService.createDeploymentQuery().deploymentId(deploymentId).singleResult();
+        assertThat(deployment.getContentHash()).hasSize(64);
+
+        // Deployments that were deployed before the content hash was stored are compared by their resources
+        managementService.executeCommand(commandContext -> {
+            Connection connection = CommandContextUtil.getDbSqlSession(commandContext).getSqlSession().getConnection();
+            try (PreparedStatement statement = connection.prepareStatement("update ACT_RE_DEPLOYMENT set CONTENT_HASH_ = null where ID_ = ?")) {
+                statement.setString(1, deploymentId);
+                statement.executeUpdate();
+            } catch (SQLException e) {
+                throw new FlowableException("Could not clear content hash", e);
+            }
+            return null;
+        });
+
+        assertThat(repositoryService.createDeployment().enableDuplicateFiltering().addClasspathResource(bpmnResourceName).name("twice").deploy().getId())
+                .isEqualTo(deploymentId);
+        assertThat(repositoryService.createDeploymentQuery().count()).isEqualTo(1);
+
+        repositoryService.deleteDeployment(deploymentId);
+    }
+
     @Test
     @Deployment
     public void testStartFormKey() {
@@ -224,6 +269,149 @@ public class BpmnDeploymentTest extends PluggableFlowableTestCase {
         assertThat(processDefinition.hasStartFormKey()).isTrue();
     }
 
+    @Test
+    public void testParallelParsingOfDeploymentResources() {
+        ExecutorService executorService = Executors.newFixedThreadPool(3);
+        processEngineConfiguration.getParsedDeploymentBuilderFactory().setExecutorService(executorService);
+
+        try {
+            String deploymentId = repositoryService.createDeployment()
+                    .addClasspathResource("org/flowable/engine/test/bpmn/deployment/BpmnDeploymentTest.testGetBpmnXmlFileThroughService.bpmn20.xml")
+                    .addClasspathResource("org/flowable/engine/test/bpmn/deployment/BpmnDeploymentTest.testProcessDefinitionDescription.bpmn20.xml")
+                    .addClasspathResource("org/flowable/engine/test/bpmn/parse/BpmnParseTest.testParseDiagramInterchangeElements.bpmn20.xml")
+                    .deploy()
+                    .getId();
+            deploymentIdsForAutoCleanup.add(deploymentId);
+
+            assertThat(repositoryService.createProcessDefinitionQuery().deploymentId(deploymentId).list())
+                    .extracting(ProcessDefinition::getKey)
+                    .containsExactlyInAnyOrder("emptyProcess", "processDescription", "myProcess");
+
+            // The diagram is generated on a worker thread, but persisted as part of the deployment
+            ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().processDefinitionKey("myProcess").singleResult();
+            assertThat(processDefinition.getDiagramResourceName()).isNotNull();
+            assertThat(repositoryService.getDeploymentResourceNames(deploymentId)).contains(processDefinition.getDiagramResourceName());
+
+            // Errors on a worker thread fail the complete deployment
+            assertThatThrownBy(() -> repositoryService.createDeployment()
+                    .addClasspathResource("org/flowable/engine/test/bpmn/deployment/BpmnDeploymentTest.testProcessDefinitionDescription.bpmn20.xml")
+                    .addString("invalid.bpmn20.xml", "<definitions")
+                    .deploy())
+                    .isInstanceOf(XMLException.class);
+            assertThat(repositoryService.createDeploymentQuery().count()).isEqualTo(1);
+
+        } finally {
+            processEngineConfiguration.getParsedDeploymentBuilderFactory().setExecutorService(null);
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelDeploymentWorkRunsConcurrently() {
+        ExecutorService executorService = Executors.newFixedThreadPool(3);
+        try {
+            CyclicBarrier barrier = new CyclicBarrier(3);
+            List<String> results = managementService.executeCommand(commandContext -> ParallelDeploymentUtil.map(Arrays.asList("a", "b", "c"), item -> {
+                // The barrier is only passed when all items are processed at the same time
+                try {
+                    barrier.await(10, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    throw new FlowableException("Items are not processed in parallel", e);
+                }
+
+                // Every worker has its own command context, which can't be used to access the database
+                CommandContext workerCommandContext = CommandContextUtil.getCommandContext();
+                assertThat(workerCommandContext).isNotSameAs(commandContext);
+                assertThat(CommandContextUtil.getProcessEngineConfiguration(workerCommandContext)).isSameAs(processEngineConfiguration);
+                assertThatThrownBy(() -> workerCommandContext.getSession(DbSqlSession.class)).isInstanceOf(FlowableException.class);
+                return item;
+            }, executorService));
+            assertThat(results).containsExactly("a", "b", "c");
+
+            // A failure is only rethrown once the other started items have finished
+            CountDownLatch failed = new CountDownLatch(1);
+            AtomicBoolean slowItemFinished = new AtomicBoolean();
+            assertThatThrownBy(() -> managementService.executeCommand(commandContext -> ParallelDeploymentUtil.map(Arrays.asList("fail", "slow"), item -> {
+                if ("fail".equals(item)) {
+                    failed.countDown();
+                    throw new FlowableException("failed item");
+                }
+                try {
+                    failed.await(10, TimeUnit.SECONDS);
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                slowItemFinished.set(true);
+                return item;
+            }, executorService)))
+                    .isInstanceOf(FlowableException.class)
+                    .hasMessage("failed item");
+            assertThat(slowItemFinished).isTrue();
+
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void testBulkDeploy() {
+        String emptyProcessResourceName = "org/flowable/engine/test/bpmn/deployment/BpmnDeploymentTest.testGetBpmnXmlFileThroughService.bpmn20.xml";
+        String emptyProcessXml = new String(IoUtil.readInputStream(ReflectUtil.getResourceAsStream(emptyProcessResourceName), null), StandardCharsets.UTF_8);
+
+        List<org.flowable.engine.repository.Deployment> deployments = repositoryService.bulkDeploy(Arrays.asList(
+                repositoryService.createDeployment()
+                        .name("first")
+                        .enableDuplicateFiltering()
+                        .addClasspathResource(emptyProcessResourceName)
+                        .addClasspathResource("org/flowable/engine/test/bpmn/deployment/BpmnDeploymentTest.testProcessDefinitionDescription.bpmn20.xml"),
+                repositoryService.createDeployment()
+                        .name("second")
+                        .addClasspathResource(emptyProcessResourceName),
+                repositoryService.createDeployment()
+                        .name("third")
+                        .addString("renamed.bpmn20.xml", emptyProcessXml),
+                repositoryService.createDeployment()
+                        .name("first")
+                        .enableDuplicateFiltering()
+                        .addClasspathResource(emptyProcessResourceName)
+                        .addClasspathResource("org/flowable/engine/test/bpmn/deployment/BpmnDeploymentTest.testProcessDefinitionDescription.bpmn20.xml")));
+
+        // The last deployment is filtered as duplicate of the first one, deployed in the same transaction
+        assertThat(deployments)
+                .extracting(org.flowable.engine.repository.Deployment::getName)
+                .containsExactly("first", "second", "third", "first");
+        assertThat(deployments.get(3).getId()).isEqualTo(deployments.get(0).getId());
+        for (org.flowable.engine.repository.Deployment deployment : deployments.subList(0, 3)) {
+            deploymentIdsForAutoCleanup.add(deployment.getId());
+        }
+        assertThat(repositoryService.createDeploymentQuery().count()).isEqualTo(3);
+
+        // Each deployment gets the next version, also when the previous version was deployed in the same transaction
+        assertThat(repositoryService.createProcessDefinitionQuery().processDefinitionKey("emptyProcess").orderByProcessDefinitionVersion().asc().list())
+                .extracting(ProcessDefinition::getVersion, ProcessDefinition::getDeploymentId)
+                .containsExactly(
+                        tuple(1, deployments.get(0).getId()),
+                        tuple(2, deployments.get(1).getId()),
+                        tuple(3, deployments.get(2).getId()));
+        assertThat(repositoryService.createProcessDefinitionQuery().processDefinitionKey("processDescription").singleResult().getVersion()).isEqualTo(1);
+
+        // The previous versions of all process definitions of a deployment are looked up at once
+        deploymentIdsForAutoCleanup.add(repositoryService.bulkDeploy(Collections.singletonList(repositoryService.createDeployment()
+                .addClasspathResource(emptyProcessResourceName)
+                .addClasspathResource("org/flowable/engine/test/bpmn/deployment/BpmnDeploymentTest.testProcessDefinitionDescription.bpmn20.xml")))
+                .get(0).getId());
+        assertThat(repositoryService.createProcessDefinitionQuery().processDefinitionKey("emptyProcess").latestVersion().singleResult().getVersion()).isEqualTo(4);
+        assertThat(repositoryService.createProcessDefinitionQuery().processDefinitionKey("processDescription").latestVersion().singleResult().getVersion()).isEqualTo(2);
+
+        // When one of the deployments fails, none of the deployments is deployed
+        assertThatThrownBy(() -> repositoryService.bulkDeploy(Arrays.asList(
+                repositoryService.createDeployment().addClasspathResource(emptyProcessResourceName),
+                repositoryService.createDeployment().addString("invalid.bpmn20.xml", "<definitions"))))
+                .isInstanceOf(XMLException.class);
+        assertThat(repositoryService.createDeploymentQuery().count()).isEqualTo(4);
+    }
+
     @Test
     public void testDiagramCreationDisabled() {
         // disable diagram generation
@@ -257,6 +445,45 @@ public class BpmnDeploymentTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    public void testDiagramCreationOnFirstAccess() throws Exception {
+        processEngineConfiguration.setCreateDiagramOnFirstAccess(true);
+
+        try {
+            String deploymentId = repositoryService.createDeployment()
+                    .addClasspathResource("org/flowable/engine/test/bpmn/parse/BpmnParseTest.testParseDiagramInterchangeElements.bpmn20.xml")
+                    .deploy()
+                    .getId();
+            deploymentIdsForAutoCleanup.add(deploymentId);
+
+            // No diagram is created on deploy
+            ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().deploymentId(deploymentId).singleResult();
+            assertThat(processDefinition.getDiagramResourceName()).isNull();
+            assertThat(repositoryService.getDeploymentResourceNames(deploymentId)).hasSize(1);
+
+            // The diagram is created and stored when it is requested the first time
+            try (InputStream diagram = repositoryService.getProcessDiagram(processDefinition.getId())) {
+                assertThat(diagram).isNotNull();
+            }
+
+            String diagramResourceName = repositoryService.getProcessDefinition(processDefinition.getId()).getDiagramResourceName();
+            assertThat(diagramResourceName).isEqualTo("org/flowable/engine/test/bpmn/parse/BpmnParseTest.testParseDiagramInterchangeElements.myProcess.png");
+            assertThat(repositoryService.createProcessDefinitionQuery().deploymentId(deploymentId).singleResult().getDiagramResourceName())
+                    .isEqualTo(diagramResourceName);
+            assertThat(repositoryService.getDeploymentResourceNames(deploymentId)).containsExactlyInAnyOrder(
+                    "org/flowable/engine/test/bpmn/parse/BpmnParseTest.testParseDiagramInterchangeElements.bpmn20.xml", diagramResourceName);
+
+            // Requesting the diagram again returns the stored diagram
+            try (InputStream diagram = repositoryService.getProcessDiagram(processDefinition.getId())) {
+                assertThat(diagram).isNotNull();
+            }
+            assertThat(repositoryService.getDeploymentResourceNames(deploymentId)).hasSize(2);
+
+        } finally {
+            processEngineConfiguration.setCreateDiagramOnFirstAccess(false);
+        }
+    }
+
     @Test
     @Deployment(resources = { "org/flowable/engine/test/bpmn/deployment/BpmnDeploymentTest.testProcessDiagramResource.bpmn20.xml",
             "org/flowable/engine/test/bpmn/deployment/BpmnDeploymentTest.testProcessDiagramResource.jpg" })
@@ -18,17 +18,29 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.tuple;
 import static org.assertj.core.data.MapEntry.entry;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.assertj.core.groups.Tuple;
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.util.CollectionUtil;
+import org.flowable.engine.impl.jobexecutor.SignalEventBroadcastJobHandler;
+import org.flowable.engine.impl.jobexecutor.SignalEventBroadcastPartJobHandler;
+import org.flowable.engine.impl.jobexecutor.SignalEventBroadcastStatusJobHandler;
 import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.JobTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.runtime.Execution;
@@ -42,6 +54,8 @@ import org.flowable.task.api.Task;
 import org.flowable.validation.validator.Problems;
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 /**
  * @author Tijs Rademakers
  * @author Joram Barrez
@@ -221,6 +235,136 @@ public class SignalEventTest extends PluggableFlowableTestCase {
         }
     }
     
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.catchAlertSignal.bpmn20.xml" })
+    public void testSignalCatchIntermediateAsBatch() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            runtimeService.startProcessInstanceByKey("catchSignal");
+        }
+        assertThat(createEventSubscriptionQuery().count()).isEqualTo(5);
+
+        int originalPartSize = processEngineConfiguration.getSignalEventBroadcastBatchPartSize();
+        processEngineConfiguration.setSignalEventBroadcastBatchPartSize(2);
+        Batch batch = null;
+        try {
+            batch = runtimeService.signalEventReceivedAsBatch("alert");
+            assertThat(batch.getBatchType()).isEqualTo(Batch.SIGNAL_BROADCAST_TYPE);
+            assertThat(batch.getBatchSearchKey()).isEqualTo("alert");
+
+            // Nothing is signaled before the jobs are executed
+            assertThat(createEventSubscriptionQuery().count()).isEqualTo(5);
+
+            JobTestHelper.waitForJobExecutorToProcessAllJobs(processEngineConfiguration, managementService, 10000L, 200L, true);
+
+            assertThat(createEventSubscriptionQuery().count()).isZero();
+            assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+
+            List<BatchPart> batchParts = managementService.findBatchPartsByBatchId(batch.getId());
+            assertThat(batchParts)
+                    .extracting(BatchPart::getStatus)
+                    .containsOnly("success");
+            assertThat(batchParts).hasSize(3);
+            assertThat(batchParts)
+                    .extracting(BatchPart::getScopeId, BatchPart::getSubScopeId)
+                    .containsOnly(tuple(null, null));
+            assertThat(managementService.getBatchPart(batchParts.get(0).getId()).getCompleteTime()).isNotNull();
+
+            // The parts don't touch the batch, the number of signaled subscriptions is kept in the result of every part
+            Batch inProgressBatch = managementService.createBatchQuery().batchId(batch.getId()).singleResult();
+            assertThat(inProgressBatch.getStatus()).isEqualTo("inProgress");
+            int signaledSubscriptionCount = 0;
+            for (BatchPart batchPart : batchParts) {
+                JsonNode resultDocument = processEngineConfiguration.getObjectMapper()
+                        .readTree(batchPart.getResultDocumentJson(processEngineConfiguration.getEngineCfgKey()));
+                signaledSubscriptionCount += resultDocument.path("signaledSubscriptionCount").asInt();
+            }
+            assertThat(signaledSubscriptionCount).isEqualTo(5);
+
+            Job timerJob = managementService.createTimerJobQuery().handlerType(SignalEventBroadcastStatusJobHandler.TYPE).singleResult();
+            assertThat(timerJob).isNotNull();
+            managementService.executeJob(managementService.moveTimerToExecutableJob(timerJob.getId()).getId());
+
+            Batch completedBatch = managementService.createBatchQuery().batchId(batch.getId()).singleResult();
+            assertThat(completedBatch.getStatus()).isEqualTo("completed");
+            assertThat(completedBatch.getCompleteTime()).isNotNull();
+            assertThat(managementService.createTimerJobQuery().count()).isZero();
+
+        } finally {
+            processEngineConfiguration.setSignalEventBroadcastBatchPartSize(originalPartSize);
+            if (batch != null) {
+                managementService.deleteBatch(batch.getId());
+            }
+        }
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.catchAlertSignal.bpmn20.xml" })
+    public void testSignalCatchIntermediateAsBatchPartsExecutedConcurrently() throws Exception {
+        for (int i = 0; i < 8; i++) {
+            runtimeService.startProcessInstanceByKey("catchSignal");
+        }
+
+        int originalPartSize = processEngineConfiguration.getSignalEventBroadcastBatchPartSize();
+        processEngineConfiguration.setSignalEventBroadcastBatchPartSize(1);
+        Batch batch = null;
+        try {
+            batch = runtimeService.signalEventReceivedAsBatch("alert");
+
+            // Divide all subscriptions over batch parts, without executing the part jobs yet
+            Job broadcastJob = managementService.createJobQuery().handlerType(SignalEventBroadcastJobHandler.TYPE).singleResult();
+            while (broadcastJob != null) {
+                managementService.executeJob(broadcastJob.getId());
+                broadcastJob = managementService.createJobQuery().handlerType(SignalEventBroadcastJobHandler.TYPE).singleResult();
+            }
+
+            List<Job> partJobs = managementService.createJobQuery().handlerType(SignalEventBroadcastPartJobHandler.TYPE).list();
+            assertThat(partJobs).hasSize(8);
+
+            // The part jobs only update their own batch part, so they don't fail on the revision of the shared batch when executed in parallel
+            List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch startLatch = new CountDownLatch(1);
+            ExecutorService executorService = Executors.newFixedThreadPool(4);
+            try {
+                for (Job partJob : partJobs) {
+                    executorService.execute(() -> {
+                        try {
+                            startLatch.await();
+                            managementService.executeJob(partJob.getId());
+                        } catch (Throwable e) {
+                            failures.add(e);
+                        }
+                    });
+                }
+                startLatch.countDown();
+                executorService.shutdown();
+                assertThat(executorService.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+            } finally {
+                executorService.shutdownNow();
+            }
+
+            assertThat(failures).isEmpty();
+            assertThat(managementService.createDeadLetterJobQuery().count()).isZero();
+            assertThat(createEventSubscriptionQuery().count()).isZero();
+            assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+
+            Job timerJob = managementService.createTimerJobQuery().handlerType(SignalEventBroadcastStatusJobHandler.TYPE).singleResult();
+            assertThat(timerJob).isNotNull();
+            managementService.executeJob(managementService.moveTimerToExecutableJob(timerJob.getId()).getId());
+
+            assertThat(managementService.createBatchQuery().batchId(batch.getId()).singleResult().getStatus()).isEqualTo("completed");
+            assertThat(managementService.findBatchPartsByBatchId(batch.getId()))
+                    .extracting(BatchPart::getStatus)
+                    .containsOnly("success");
+
+        } finally {
+            processEngineConfiguration.setSignalEventBroadcastBatchPartSize(originalPartSize);
+            if (batch != null) {
+                managementService.deleteBatch(batch.getId());
+            }
+        }
+    }
+
     @Test
     @Deployment(resources = { "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.catchAlertSignalBoundaryWithInParameters.bpmn20.xml",
             "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.throwAlertSignalAsynchWithOutParameters.bpmn20.xml" })
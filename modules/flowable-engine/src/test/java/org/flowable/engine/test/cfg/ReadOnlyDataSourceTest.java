@@ -0,0 +1,178 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cfg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.query.AbstractQuery;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ReadOnlyDataSourceTest {
+
+    protected static final String JDBC_URL = "jdbc:h2:mem:flowable-bpmn-" + ReadOnlyDataSourceTest.class.getName();
+
+    protected ProcessEngine processEngine;
+
+    @AfterEach
+    public void closeProcessEngine() {
+        if (processEngine != null) {
+            processEngine.getRepositoryService().createDeploymentQuery().list()
+                    .forEach(deployment -> processEngine.getRepositoryService().deleteDeployment(deployment.getId(), true));
+            processEngine.close();
+        }
+    }
+
+    @Test
+    public void testQueryCommandsUseReadOnlyDataSource() {
+        CountingDataSource readOnlyDataSource = new CountingDataSource(false);
+        processEngine = buildProcessEngine(readOnlyDataSource, 0);
+
+        int connectionCount = readOnlyDataSource.getConnectionCount();
+        ProcessInstance processInstance = startOneTaskProcess();
+        assertThat(readOnlyDataSource.getConnectionCount()).isEqualTo(connectionCount);
+
+        assertThat(processEngine.getTaskService().createTaskQuery().processInstanceId(processInstance.getId()).list()).hasSize(1);
+        assertThat(processEngine.getHistoryService().createHistoricProcessInstanceQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(1);
+        assertThat(readOnlyDataSource.getConnectionCount()).isEqualTo(connectionCount + 2);
+
+        Task task = processEngine.getTaskService().createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertThat(readOnlyDataSource.getConnectionCount()).isEqualTo(connectionCount + 3);
+
+        // The queries within the complete command are done on the primary data source
+        processEngine.getTaskService().complete(task.getId());
+        assertThat(readOnlyDataSource.getConnectionCount()).isEqualTo(connectionCount + 3);
+        assertThat(processEngine.getRuntimeService().createProcessInstanceQuery().processInstanceId(processInstance.getId()).count()).isZero();
+    }
+
+    @Test
+    public void testQueryCommandsUsePrimaryDataSourceWithinStalenessWindow() {
+        CountingDataSource readOnlyDataSource = new CountingDataSource(false);
+        processEngine = buildProcessEngine(readOnlyDataSource, 60000);
+
+        ProcessInstance processInstance = startOneTaskProcess();
+        int connectionCount = readOnlyDataSource.getConnectionCount();
+
+        assertThat(processEngine.getTaskService().createTaskQuery().processInstanceId(processInstance.getId()).list()).hasSize(1);
+        assertThat(readOnlyDataSource.getConnectionCount()).isEqualTo(connectionCount);
+    }
+
+    @Test
+    public void testFallbackToPrimaryDataSource() {
+        CountingDataSource readOnlyDataSource = new CountingDataSource(true);
+        processEngine = buildProcessEngine(readOnlyDataSource, 0);
+
+        ProcessInstance processInstance = startOneTaskProcess();
+
+        assertThat(processEngine.getTaskService().createTaskQuery().processInstanceId(processInstance.getId()).list()).hasSize(1);
+        int connectionCount = readOnlyDataSource.getConnectionCount();
+        assertThat(connectionCount).isPositive();
+
+        // The read-only data source isn't tried again during the failure backoff
+        assertThat(processEngine.getTaskService().createTaskQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(1);
+        assertThat(readOnlyDataSource.getConnectionCount()).isEqualTo(connectionCount);
+    }
+
+    @Test
+    public void testQueryCommandsWithinOuterCommandUsePrimaryDataSource() {
+        CountingDataSource readOnlyDataSource = new CountingDataSource(false);
+        processEngine = buildProcessEngine(readOnlyDataSource, 0);
+
+        ProcessInstance processInstance = startOneTaskProcess();
+        int connectionCount = readOnlyDataSource.getConnectionCount();
+
+        CommandExecutor commandExecutor = getProcessEngineConfiguration().getCommandExecutor();
+        AbstractQuery<?, ?> query = (AbstractQuery<?, ?>) processEngine.getTaskService().createTaskQuery().processInstanceId(processInstance.getId());
+        Object count = processEngine.getManagementService().executeCommand(commandContext -> commandExecutor.execute(new CommandConfig().transactionRequiresNew(), query));
+        assertThat(count).isEqualTo(1L);
+        assertThat(readOnlyDataSource.getConnectionCount()).isEqualTo(connectionCount);
+    }
+
+    @Test
+    public void testQueryCommandsWithExternallyManagedTransactions() {
+        CountingDataSource readOnlyDataSource = new CountingDataSource(false);
+        processEngine = buildProcessEngine(readOnlyDataSource, 0);
+        getProcessEngineConfiguration().getDbSqlSessionFactory().setTransactionsExternallyManaged(true);
+
+        ProcessInstance processInstance = startOneTaskProcess();
+        int connectionCount = readOnlyDataSource.getConnectionCount();
+
+        // A query with a required transaction can join an outer transaction, so it uses the primary data source
+        assertThat(processEngine.getTaskService().createTaskQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(1);
+        assertThat(readOnlyDataSource.getConnectionCount()).isEqualTo(connectionCount);
+
+        CommandExecutor commandExecutor = getProcessEngineConfiguration().getCommandExecutor();
+        AbstractQuery<?, ?> query = (AbstractQuery<?, ?>) processEngine.getTaskService().createTaskQuery().processInstanceId(processInstance.getId());
+        assertThat(commandExecutor.execute(new CommandConfig().transactionRequiresNew(), query)).isEqualTo(1L);
+        assertThat(readOnlyDataSource.getConnectionCount()).isEqualTo(connectionCount + 1);
+
+        assertThat(commandExecutor.execute(new CommandConfig().transactionNotSupported(), query)).isEqualTo(1L);
+        assertThat(readOnlyDataSource.getConnectionCount()).isEqualTo(connectionCount + 2);
+    }
+
+    protected ProcessEngineConfigurationImpl getProcessEngineConfiguration() {
+        return (ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration();
+    }
+
+    protected ProcessEngine buildProcessEngine(CountingDataSource readOnlyDataSource, long stalenessWindow) {
+        StandaloneInMemProcessEngineConfiguration processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl(JDBC_URL);
+        processEngineConfiguration.setReadOnlyDataSource(readOnlyDataSource);
+        processEngineConfiguration.setReadOnlyDataSourceStalenessWindow(stalenessWindow);
+        return processEngineConfiguration.buildProcessEngine();
+    }
+
+    protected ProcessInstance startOneTaskProcess() {
+        processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+                .deploy();
+        return processEngine.getRuntimeService().startProcessInstanceByKey("oneTaskProcess");
+    }
+
+    protected static class CountingDataSource extends PooledDataSource {
+
+        protected final AtomicInteger connectionCount = new AtomicInteger();
+        protected final boolean failing;
+
+        public CountingDataSource(boolean failing) {
+            super("org.h2.Driver", JDBC_URL, "sa", "");
+            this.failing = failing;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            connectionCount.incrementAndGet();
+            if (failing) {
+                throw new SQLException("Read-only data source not available");
+            }
+            return super.getConnection();
+        }
+
+        public int getConnectionCount() {
+            return connectionCount.get();
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cfg.executioncount;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.engine.impl.cfg.PerformanceSettings;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.Execution;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class EagerExecutionTreeFetchTest extends PluggableFlowableTestCase {
+
+    protected boolean oldExecutionTreeFetchValue;
+    protected boolean oldExecutionTreeFetchForAllProcessDefinitionsValue;
+
+    @BeforeEach
+    protected void enableEagerExecutionTreeFetching() {
+        PerformanceSettings performanceSettings = processEngineConfiguration.getPerformanceSettings();
+        this.oldExecutionTreeFetchValue = performanceSettings.isEnableEagerExecutionTreeFetching();
+        this.oldExecutionTreeFetchForAllProcessDefinitionsValue = performanceSettings.isEnableEagerExecutionTreeFetchingForAllProcessDefinitions();
+
+        performanceSettings.setEnableEagerExecutionTreeFetching(true);
+        performanceSettings.setEnableEagerExecutionTreeFetchingForAllProcessDefinitions(true);
+    }
+
+    @AfterEach
+    protected void resetEagerExecutionTreeFetching() {
+        PerformanceSettings performanceSettings = processEngineConfiguration.getPerformanceSettings();
+        performanceSettings.setEnableEagerExecutionTreeFetching(oldExecutionTreeFetchValue);
+        performanceSettings.setEnableEagerExecutionTreeFetchingForAllProcessDefinitions(oldExecutionTreeFetchForAllProcessDefinitionsValue);
+    }
+
+    @Test
+    @Deployment
+    public void testExecutionTreeFetchedWithoutProcessDefinitionSetting() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("nestedSubProcesses");
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        List<Execution> executions = runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).list();
+        assertThat(executions).hasSize(4);
+
+        managementService.executeCommand(commandContext -> {
+            ExecutionEntity executionEntity = CommandContextUtil.getExecutionEntityManager(commandContext).findById(task.getExecutionId());
+
+            // All executions of the tree are in the cache after fetching the execution of the task
+            EntityCache entityCache = CommandContextUtil.getEntityCache(commandContext);
+            assertThat(entityCache.findInCache(ExecutionEntityImpl.class))
+                    .extracting(ExecutionEntity::getId)
+                    .containsExactlyInAnyOrderElementsOf(executions.stream().map(Execution::getId).collect(Collectors.toList()));
+
+            assertThat(executionEntity.getParent().getParent().getParent().getId()).isEqualTo(processInstance.getId());
+            assertThat(executionEntity.getProcessInstance().getId()).isEqualTo(processInstance.getId());
+            return null;
+        });
+
+        taskService.complete(task.getId());
+        assertProcessEnded(processInstance.getId());
+    }
+
+}
@@ -26,10 +26,12 @@ import java.util.GregorianCalendar;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
@@ -424,6 +426,43 @@ public class HistoricProcessInstanceTest extends PluggableFlowableTestCase {
                 .isExactlyInstanceOf(FlowableIllegalArgumentException.class);
     }
 
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/history/oneTaskProcess.bpmn20.xml" })
+    public void testStreamHistoricProcessInstances() {
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            List<String> processInstanceIds = new ArrayList<>();
+            for (int i = 0; i < 7; i++) {
+                processInstanceIds.add(runtimeService.startProcessInstanceByKey("oneTaskProcess", "key" + (i % 2)).getId());
+            }
+
+            waitForHistoryJobExecutorToProcessAllJobs(7000, 100);
+
+            HistoricProcessInstanceQueryImpl query = (HistoricProcessInstanceQueryImpl) historyService.createHistoricProcessInstanceQuery();
+            assertThat(query.stream(3))
+                    .extracting(HistoricProcessInstance::getId)
+                    .containsExactlyElementsOf(historyService.createHistoricProcessInstanceQuery().list().stream()
+                            .map(HistoricProcessInstance::getId)
+                            .collect(Collectors.toList()))
+                    .containsExactlyInAnyOrderElementsOf(processInstanceIds);
+
+            // The page size is a multiple of the number of results
+            query = (HistoricProcessInstanceQueryImpl) historyService.createHistoricProcessInstanceQuery().processInstanceBusinessKey("key1");
+            assertThat(query.stream(3)).hasSize(3);
+
+            // Iterating doesn't change the query itself
+            assertThat(query.getIdAfter()).isNull();
+            assertThat(query.list()).hasSize(3);
+
+            query = (HistoricProcessInstanceQueryImpl) historyService.createHistoricProcessInstanceQuery().processInstanceBusinessKey("other");
+            assertThat(query.iterate(3)).isExhausted();
+
+            HistoricProcessInstanceQueryImpl sortedQuery = (HistoricProcessInstanceQueryImpl) historyService.createHistoricProcessInstanceQuery()
+                    .orderByProcessInstanceStartTime().asc();
+            assertThatThrownBy(() -> sortedQuery.stream(3))
+                    .isExactlyInstanceOf(FlowableIllegalArgumentException.class);
+        }
+    }
+
     @Test
     @Deployment(resources = { "org/flowable/engine/test/history/oneTaskProcess.bpmn20.xml" })
     // ACT-1098
@@ -0,0 +1,175 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.flowable.common.engine.impl.cfg.TransactionPropagation;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntity;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.test.Deployment;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.AcquiredJobEntities;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.job.service.impl.asyncexecutor.JobPartitionLeaseRunnable;
+import org.flowable.job.service.impl.asyncexecutor.LeaseJobPartitionsCmd;
+import org.flowable.job.service.impl.asyncexecutor.ReleaseJobPartitionsCmd;
+import org.flowable.job.service.impl.cmd.AcquireJobsCmd;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class JobPartitioningTest extends PluggableFlowableTestCase {
+
+    protected JobServiceConfiguration jobServiceConfiguration;
+
+    @BeforeEach
+    protected void setUp() {
+        jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+    }
+
+    @AfterEach
+    protected void tearDown() {
+        jobServiceConfiguration.setJobPartitionCount(0);
+
+        String partitionPrefix = LeaseJobPartitionsCmd.getPartitionPropertyPrefix(jobServiceConfiguration);
+        String nodePrefix = LeaseJobPartitionsCmd.getNodePropertyPrefix(jobServiceConfiguration);
+        managementService.executeCommand(commandContext -> {
+            for (PropertyEntity property : CommandContextUtil.getPropertyEntityManager(commandContext).findByNamePrefix(partitionPrefix)) {
+                CommandContextUtil.getPropertyEntityManager(commandContext).delete(property);
+            }
+            for (PropertyEntity property : CommandContextUtil.getPropertyEntityManager(commandContext).findByNamePrefix(nodePrefix)) {
+                CommandContextUtil.getPropertyEntityManager(commandContext).delete(property);
+            }
+            return null;
+        });
+    }
+
+    @Test
+    @Deployment
+    public void testJobsAreAssignedToPartitions() {
+        jobServiceConfiguration.setJobPartitionCount(2);
+
+        for (int i = 0; i < 10; i++) {
+            runtimeService.startProcessInstanceByKey("partitionedProcess");
+        }
+
+        List<Job> jobs = managementService.createJobQuery().list();
+        assertThat(jobs).hasSize(10);
+        for (Job job : jobs) {
+            assertThat(((JobEntity) job).getPartition())
+                    .isEqualTo(Math.floorMod(job.getProcessInstanceId().hashCode(), 2));
+        }
+
+        DefaultAsyncJobExecutor asyncExecutor = createAsyncExecutor("node1");
+        asyncExecutor.setMaxAsyncJobsDuePerAcquisition(10);
+        asyncExecutor.setOwnedJobPartitions(Collections.singleton(0));
+
+        AcquiredJobEntities acquiredJobs = managementService.executeCommand(new AcquireJobsCmd(asyncExecutor));
+        long jobsInPartition = jobs.stream().filter(job -> ((JobEntity) job).getPartition() == 0).count();
+        assertThat(acquiredJobs.size()).isEqualTo((int) jobsInPartition);
+        for (JobInfoEntity job : acquiredJobs.getJobs()) {
+            assertThat(((JobEntity) job).getPartition()).isZero();
+        }
+    }
+
+    @Test
+    public void testLeasePartitionsIsRebalancedBetweenNodes() {
+        jobServiceConfiguration.setJobPartitionCount(4);
+
+        DefaultAsyncJobExecutor asyncExecutor1 = createAsyncExecutor("node1");
+        DefaultAsyncJobExecutor asyncExecutor2 = createAsyncExecutor("node2");
+
+        // A single node owns all partitions
+        Set<Integer> partitions1 = leasePartitions(asyncExecutor1);
+        assertThat(partitions1).containsExactlyInAnyOrder(0, 1, 2, 3);
+
+        // A second node can only claim partitions once the first node released its surplus
+        assertThat(leasePartitions(asyncExecutor2)).isEmpty();
+        partitions1 = leasePartitions(asyncExecutor1);
+        assertThat(partitions1).hasSize(2);
+        Set<Integer> partitions2 = leasePartitions(asyncExecutor2);
+        assertThat(partitions2).hasSize(2);
+
+        Set<Integer> allPartitions = new HashSet<>(partitions1);
+        allPartitions.addAll(partitions2);
+        assertThat(allPartitions).containsExactlyInAnyOrder(0, 1, 2, 3);
+
+        // Renewing the lease keeps the same partitions
+        assertThat(leasePartitions(asyncExecutor1)).isEqualTo(partitions1);
+
+        // When a node leaves, the remaining node takes over its partitions
+        managementService.executeCommand(new ReleaseJobPartitionsCmd(asyncExecutor2));
+        assertThat(leasePartitions(asyncExecutor1)).containsExactlyInAnyOrder(0, 1, 2, 3);
+    }
+
+    @Test
+    public void testConcurrentFirstLeaseOfPartitionsIsLost() {
+        jobServiceConfiguration.setJobPartitionCount(4);
+
+        DefaultAsyncJobExecutor asyncExecutor1 = createAsyncExecutor("node1");
+        DefaultAsyncJobExecutor asyncExecutor2 = createAsyncExecutor("node2");
+
+        // The first node inserts the leases of all partitions while the second node, which inserts the same leases, is leasing
+        AtomicBoolean concurrentLease = new AtomicBoolean(true);
+        JobPartitionLeaseRunnable leaseRunnable = new JobPartitionLeaseRunnable("node2-lease", asyncExecutor2) {
+
+            @Override
+            protected LeaseJobPartitionsCmd createLeaseJobPartitionsCmd() {
+                return new LeaseJobPartitionsCmd(asyncExecutor2, asyncExecutor2.getJobPartitionLeaseTimeInMillis()) {
+
+                    @Override
+                    public Set<Integer> execute(CommandContext commandContext) {
+                        Set<Integer> ownedPartitions = super.execute(commandContext);
+                        if (concurrentLease.getAndSet(false)) {
+                            jobServiceConfiguration.getCommandExecutor().execute(new CommandConfig(false, TransactionPropagation.REQUIRES_NEW),
+                                    new LeaseJobPartitionsCmd(asyncExecutor1, asyncExecutor1.getJobPartitionLeaseTimeInMillis()));
+                        }
+                        return ownedPartitions;
+                    }
+                };
+            }
+        };
+
+        // The duplicate leases are lost to the first node, the lease is retried and registers the second node
+        leaseRunnable.leasePartitions();
+        assertThat(concurrentLease).isFalse();
+        assertThat(asyncExecutor2.getOwnedJobPartitions()).isEmpty();
+
+        assertThat(leasePartitions(asyncExecutor1)).hasSize(2);
+        assertThat(leasePartitions(asyncExecutor2)).hasSize(2);
+    }
+
+    protected Set<Integer> leasePartitions(DefaultAsyncJobExecutor asyncExecutor) {
+        return managementService.executeCommand(new LeaseJobPartitionsCmd(asyncExecutor, asyncExecutor.getJobPartitionLeaseTimeInMillis()));
+    }
+
+    protected DefaultAsyncJobExecutor createAsyncExecutor(String lockOwner) {
+        DefaultAsyncJobExecutor asyncExecutor = new DefaultAsyncJobExecutor();
+        asyncExecutor.setJobServiceConfiguration(jobServiceConfiguration);
+        asyncExecutor.setLockOwner(lockOwner);
+        return asyncExecutor;
+    }
+}
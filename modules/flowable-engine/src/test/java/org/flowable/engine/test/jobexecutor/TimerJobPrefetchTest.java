@@ -0,0 +1,213 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.impl.asyncexecutor.AcquireTimerJobsRunnable;
+import org.flowable.job.service.impl.asyncexecutor.AcquiredTimerJobEntities;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.job.service.impl.asyncexecutor.TimerJobTimingWheel;
+import org.flowable.job.service.impl.cmd.AcquireTimerJobsCmd;
+import org.flowable.job.service.impl.cmd.UnlockTimerJobsCmd;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TimerJobPrefetchTest extends JobExecutorTestCase {
+
+    protected int originalMaxTimerJobsPerAcquisition;
+    protected int originalDefaultTimerJobAcquireWaitTime;
+
+    @BeforeEach
+    void setUp() {
+        // The async executor of the test configuration is not created by the engine, so it is configured directly
+        DefaultAsyncJobExecutor asyncExecutor = (DefaultAsyncJobExecutor) processEngineConfiguration.getAsyncExecutor();
+        originalMaxTimerJobsPerAcquisition = asyncExecutor.getMaxTimerJobsPerAcquisition();
+        originalDefaultTimerJobAcquireWaitTime = asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis();
+
+        asyncExecutor.setTimerJobPrefetchWindowInMillis(60 * 1000);
+        asyncExecutor.setMaxTimerJobsPerAcquisition(10);
+        asyncExecutor.setDefaultTimerJobAcquireWaitTimeInMillis(200);
+    }
+
+    @AfterEach
+    void resetAsyncExecutor() {
+        DefaultAsyncJobExecutor asyncExecutor = (DefaultAsyncJobExecutor) processEngineConfiguration.getAsyncExecutor();
+        asyncExecutor.setTimerJobPrefetchWindowInMillis(0);
+        asyncExecutor.setMaxTimerJobsPerAcquisition(originalMaxTimerJobsPerAcquisition);
+        asyncExecutor.setDefaultTimerJobAcquireWaitTimeInMillis(originalDefaultTimerJobAcquireWaitTime);
+    }
+
+    @Test
+    void testTimingWheelReturnsTimerJobsWhenDue() {
+        TimerJobTimingWheel timingWheel = new TimerJobTimingWheel(100, 8, 10_000);
+
+        TimerJobEntity dueNow = createTweetTimer("due now", new Date(10_000));
+        TimerJobEntity dueInOneTick = createTweetTimer("due in one tick", new Date(10_050));
+        TimerJobEntity dueInFirstLevel = createTweetTimer("due in first level", new Date(10_500));
+        TimerJobEntity dueInOverflowLevel = createTweetTimer("due in overflow level", new Date(12_345));
+        TimerJobEntity dueInSecondOverflowLevel = createTweetTimer("due in second overflow level", new Date(20_000));
+
+        assertThat(timingWheel.add(dueNow)).isFalse();
+        assertThat(timingWheel.add(dueInOneTick)).isTrue();
+        assertThat(timingWheel.add(dueInFirstLevel)).isTrue();
+        assertThat(timingWheel.add(dueInOverflowLevel)).isTrue();
+        assertThat(timingWheel.add(dueInSecondOverflowLevel)).isTrue();
+        assertThat(timingWheel.size()).isEqualTo(4);
+        assertThat(timingWheel.getNextExpirationTime()).isEqualTo(10_100);
+
+        assertThat(timingWheel.advanceClock(10_099)).isEmpty();
+        assertThat(timingWheel.advanceClock(10_100)).containsExactly(dueInOneTick);
+        assertThat(timingWheel.advanceClock(10_499)).isEmpty();
+        assertThat(timingWheel.advanceClock(10_500)).containsExactly(dueInFirstLevel);
+
+        // Timer jobs of the overflow levels are moved down the levels and are never returned before their due date
+        assertThat(timingWheel.advanceClock(12_000)).isEmpty();
+        assertThat(timingWheel.advanceClock(12_344)).isEmpty();
+        assertThat(timingWheel.advanceClock(12_400)).containsExactly(dueInOverflowLevel);
+        assertThat(timingWheel.advanceClock(19_999)).isEmpty();
+        assertThat(timingWheel.size()).isEqualTo(1);
+
+        // The clock can also advance beyond multiple levels at once
+        assertThat(timingWheel.advanceClock(30_000)).containsExactly(dueInSecondOverflowLevel);
+        assertThat(timingWheel.isEmpty()).isTrue();
+        assertThat(timingWheel.getNextExpirationTime()).isEqualTo(-1);
+    }
+
+    @Test
+    void testTimingWheelRemoveAll() {
+        TimerJobTimingWheel timingWheel = new TimerJobTimingWheel(100, 8, 0);
+        TimerJobEntity timer1 = createTweetTimer("timer 1", new Date(500));
+        TimerJobEntity timer2 = createTweetTimer("timer 2", new Date(50_000));
+        timingWheel.add(timer1);
+        timingWheel.add(timer2);
+
+        assertThat(timingWheel.removeAll()).containsExactlyInAnyOrder(timer1, timer2);
+        assertThat(timingWheel.isEmpty()).isTrue();
+        assertThat(timingWheel.advanceClock(100_000)).isEmpty();
+    }
+
+    @Test
+    void testAcquireTimerJobsWithinPrefetchWindow() {
+        Instant now = Instant.now();
+        processEngineConfiguration.getClock().setCurrentTime(Date.from(now));
+
+        AsyncExecutor asyncExecutor = processEngineConfiguration.getAsyncExecutor();
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+
+        scheduleTweetTimer("within window", Date.from(now.plusSeconds(30)));
+        scheduleTweetTimer("outside window", Date.from(now.plusSeconds(90)));
+
+        AcquiredTimerJobEntities acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor));
+        assertThat(acquiredJobs.getJobs())
+                .extracting(TimerJobEntity::getJobHandlerConfiguration)
+                .containsExactly("within window");
+
+        // The lock of a prefetched timer job only expires the lock time after its due date
+        TimerJobEntity acquiredJob = (TimerJobEntity) managementService.createTimerJobQuery().jobId(acquiredJobs.getJobs().iterator().next().getId()).singleResult();
+        assertThat(acquiredJob.getLockOwner()).isEqualTo(asyncExecutor.getLockOwner());
+        assertThat(acquiredJob.getLockExpirationTime()).isEqualTo(Date.from(now.plusSeconds(30).plusMillis(asyncExecutor.getAsyncJobLockTimeInMillis())));
+
+        commandExecutor.execute(new UnlockTimerJobsCmd(acquiredJobs.getJobs(), processEngineConfiguration.getJobServiceConfiguration()));
+        for (Job timerJob : managementService.createTimerJobQuery().list()) {
+            managementService.deleteTimerJob(timerJob.getId());
+        }
+    }
+
+    @Test
+    void testPrefetchedTimerJobIsMovedWhenDue() throws Exception {
+        processEngineConfiguration.getClock().reset();
+
+        AsyncExecutor asyncExecutor = processEngineConfiguration.getAsyncExecutor();
+        Date dueDate = new Date(System.currentTimeMillis() + 1000);
+        String correlationId = scheduleTweetTimer("prefetched", dueDate);
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        AcquireTimerJobsRunnable runnable = new AcquireTimerJobsRunnable(asyncExecutor, processEngineConfiguration.getJobServiceConfiguration().getJobManager());
+        CompletableFuture.runAsync(runnable, executorService);
+
+        try {
+            long maxWaitTime = System.currentTimeMillis() + 10_000;
+            Job job = null;
+            while (job == null && System.currentTimeMillis() < maxWaitTime) {
+                Thread.sleep(50);
+                job = managementService.createJobQuery().singleResult();
+            }
+
+            assertThat(job).isNotNull();
+            assertThat(job.getCorrelationId()).isEqualTo(correlationId);
+            assertThat(System.currentTimeMillis()).isGreaterThanOrEqualTo(dueDate.getTime());
+            assertThat(managementService.createTimerJobQuery().count()).isZero();
+
+            managementService.deleteJob(job.getId());
+
+        } finally {
+            runnable.stop();
+            executorService.shutdown();
+            executorService.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void testPrefetchedTimerJobsAreUnlockedOnStop() throws Exception {
+        processEngineConfiguration.getClock().reset();
+
+        AsyncExecutor asyncExecutor = processEngineConfiguration.getAsyncExecutor();
+        scheduleTweetTimer("prefetched", new Date(System.currentTimeMillis() + 30_000));
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        AcquireTimerJobsRunnable runnable = new AcquireTimerJobsRunnable(asyncExecutor, processEngineConfiguration.getJobServiceConfiguration().getJobManager());
+        CompletableFuture<Void> future = CompletableFuture.runAsync(runnable, executorService);
+
+        long maxWaitTime = System.currentTimeMillis() + 10_000;
+        while (getLockOwner(managementService.createTimerJobQuery().singleResult()) == null && System.currentTimeMillis() < maxWaitTime) {
+            Thread.sleep(50);
+        }
+        assertThat(getLockOwner(managementService.createTimerJobQuery().singleResult())).isEqualTo(asyncExecutor.getLockOwner());
+
+        runnable.stop();
+        future.get(5, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        Job timerJob = managementService.createTimerJobQuery().singleResult();
+        assertThat(getLockOwner(timerJob)).isNull();
+
+        managementService.deleteTimerJob(timerJob.getId());
+    }
+
+    protected String getLockOwner(Job timerJob) {
+        return ((TimerJobEntity) timerJob).getLockOwner();
+    }
+
+    protected String scheduleTweetTimer(String msg, Date dueDate) {
+        return processEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+            TimerJobEntity timer = createTweetTimer(msg, dueDate);
+            CommandContextUtil.getProcessEngineConfiguration(commandContext).getJobServiceConfiguration().getTimerJobService().scheduleTimerJob(timer);
+            return timer.getCorrelationId();
+        });
+    }
+
+}
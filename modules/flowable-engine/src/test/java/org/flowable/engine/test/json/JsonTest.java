@@ -38,6 +38,8 @@ import org.flowable.engine.test.Deployment;
 import org.flowable.task.api.Task;
 import org.flowable.variable.api.history.HistoricVariableInstance;
 import org.flowable.variable.api.persistence.entity.VariableInstance;
+import org.flowable.variable.api.types.VariableType;
+import org.flowable.variable.api.types.VariableTypes;
 import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 import org.flowable.variable.service.impl.types.JsonType;
@@ -1072,6 +1074,97 @@ public class JsonTest extends PluggableFlowableTestCase {
                         + "}]");
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    void testNestedChangeOfReadJsonValueIsTracked() {
+        ObjectNode customer = objectMapper.createObjectNode();
+        customer.put("name", "Kermit");
+        customer.putObject("address").put("street", "Main Street");
+        customer.putArray("tags").add("frog");
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("customer", customer)
+                .start();
+
+        int revision = ((VariableInstanceEntity) runtimeService.getVariableInstance(processInstance.getId(), "customer")).getRevision();
+
+        // Only reading the value should not update the variable
+        managementService.executeCommand(commandContext -> CommandContextUtil.getExecutionEntityManager(commandContext)
+                .findById(processInstance.getId()).getVariable("customer"));
+        assertThat(((VariableInstanceEntity) runtimeService.getVariableInstance(processInstance.getId(), "customer")).getRevision()).isEqualTo(revision);
+
+        managementService.executeCommand(commandContext -> {
+            JsonNode customerNode = (JsonNode) CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId())
+                    .getVariable("customer");
+            ((ObjectNode) customerNode.get("address")).put("street", "Sesame Street");
+            ((ArrayNode) customerNode.get("tags")).add("green");
+            return null;
+        });
+
+        assertThatJson(runtimeService.getVariable(processInstance.getId(), "customer"))
+                .isEqualTo("{"
+                        + "  name: 'Kermit',"
+                        + "  address: {"
+                        + "    street: 'Sesame Street'"
+                        + "  },"
+                        + "  tags: [ 'frog', 'green' ]"
+                        + "}");
+
+        managementService.executeCommand(commandContext -> {
+            JsonNode customerNode = (JsonNode) CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId())
+                    .getVariable("customer");
+            ((ObjectNode) customerNode).without("tags");
+            return null;
+        });
+
+        assertThatJson(runtimeService.getVariable(processInstance.getId(), "customer"))
+                .isEqualTo("{"
+                        + "  name: 'Kermit',"
+                        + "  address: {"
+                        + "    street: 'Sesame Street'"
+                        + "  }"
+                        + "}");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    void testCompressLargeJsonValue() {
+        VariableTypes variableTypes = processEngineConfiguration.getVariableTypes();
+        VariableType originalJsonType = variableTypes.getVariableType(JsonType.TYPE_NAME);
+        int jsonTypeIndex = variableTypes.getTypeIndex(originalJsonType);
+        variableTypes.removeType(originalJsonType);
+        variableTypes.addType(new JsonType(processEngineConfiguration.getMaxLengthString(), objectMapper, true, true), jsonTypeIndex);
+
+        try {
+            ObjectNode bigJsonObject = createBigJsonObject();
+            ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                    .processDefinitionKey("oneTaskProcess")
+                    .variable(BIG_JSON_OBJ, bigJsonObject)
+                    .start();
+
+            VariableInstanceEntity variableInstance = (VariableInstanceEntity) runtimeService.getVariableInstance(processInstance.getId(), BIG_JSON_OBJ);
+            byte[] bytes = managementService.executeCommand(commandContext -> variableInstance.getBytes());
+            assertThat(bytes.length).isLessThan(bigJsonObject.toString().length());
+            assertThat(bytes[0]).isEqualTo((byte) 0x1f);
+            assertThat(bytes[1]).isEqualTo((byte) 0x8b);
+            assertThat(runtimeService.getVariable(processInstance.getId(), BIG_JSON_OBJ)).isEqualTo(bigJsonObject);
+
+            managementService.executeCommand(commandContext -> {
+                JsonNode value = (JsonNode) CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId())
+                        .getVariable(BIG_JSON_OBJ);
+                ((ObjectNode) value.get("var1")).put("test", "changed");
+                return null;
+            });
+
+            bigJsonObject.with("var1").put("test", "changed");
+            assertThat(runtimeService.getVariable(processInstance.getId(), BIG_JSON_OBJ)).isEqualTo(bigJsonObject);
+
+        } finally {
+            variableTypes.removeType(variableTypes.getVariableType(JsonType.TYPE_NAME));
+            variableTypes.addType(originalJsonType, jsonTypeIndex);
+        }
+    }
+
     protected ObjectNode createBigJsonObject() {
         ObjectNode valueNode = objectMapper.createObjectNode();
         for (int i = 0; i < 1000; i++) {
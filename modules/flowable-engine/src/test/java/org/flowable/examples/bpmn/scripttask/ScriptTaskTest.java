@@ -19,8 +19,13 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import java.util.HashMap;
 import java.util.Map;
 
+import javax.script.CompiledScript;
+
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.common.engine.impl.scripting.ScriptingEngines;
 import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
@@ -76,6 +81,32 @@ public class ScriptTaskTest extends PluggableFlowableTestCase {
         assertThat(((Number) runtimeService.getVariable(id, "sum")).intValue()).isEqualTo(42);
     }
 
+    @Test
+    @Deployment
+    public void testCompiledScriptCache() {
+        // The compiled script cache is opt-in
+        ScriptingEngines scriptingEngines = processEngineConfiguration.getScriptingEngines();
+        DeploymentCache<CompiledScript> originalCompiledScriptCache = scriptingEngines.getCompiledScriptCache();
+        scriptingEngines.setCompiledScriptCache(new DefaultDeploymentCache<>(16));
+        try {
+            long compilations = scriptingEngines.getScriptCompilations();
+            long hits = scriptingEngines.getCompiledScriptCacheHits();
+
+            String id1 = runtimeService.startProcessInstanceByKey("testCompiledScriptCache", CollectionUtil.map("a", 20, "b", 22)).getId();
+            String id2 = runtimeService.startProcessInstanceByKey("testCompiledScriptCache", CollectionUtil.map("a", 1, "b", 2)).getId();
+
+            // The script is compiled once and the compiled version is reused, with the variables of the second process instance
+            assertThat(((Number) runtimeService.getVariable(id1, "sum")).intValue()).isEqualTo(42);
+            assertThat(((Number) runtimeService.getVariable(id2, "sum")).intValue()).isEqualTo(3);
+            assertThat(scriptingEngines.getScriptCompilations()).isEqualTo(compilations + 1);
+            assertThat(scriptingEngines.getCompiledScriptCacheHits()).isEqualTo(hits + 1);
+            assertThat(scriptingEngines.getCompiledScriptCache().size()).isEqualTo(1);
+
+        } finally {
+            scriptingEngines.setCompiledScriptCache(originalCompiledScriptCache);
+        }
+    }
+
     @Test
     public void testNoScriptProvided() {
         assertThatThrownBy(() ->  deploymentIdsForAutoCleanup.add(
@@ -0,0 +1,142 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.history.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntity;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntityManager;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.test.Deployment;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.job.service.impl.history.async.writebehind.WriteBehindAsyncHistoryListener;
+import org.flowable.job.service.impl.history.async.writebehind.WriteBehindHistoryLog;
+import org.flowable.job.service.impl.history.async.writebehind.WriteBehindHistoryWriter;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class WriteBehindHistoryTest extends CustomConfigurationFlowableTestCase {
+
+    protected File historyLogDirectory;
+    protected WriteBehindHistoryWriter historyWriter;
+
+    public WriteBehindHistoryTest() {
+        super("writeBehindHistoryTest");
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        try {
+            historyLogDirectory = Files.createTempDirectory("flowable-write-behind-history").toFile();
+        } catch (IOException e) {
+            throw new FlowableException("Could not create write-behind history log directory", e);
+        }
+
+        WriteBehindHistoryLog historyLog = new WriteBehindHistoryLog(historyLogDirectory, 64 * 1024);
+        historyWriter = new WriteBehindHistoryWriter(historyLog, processEngineConfiguration);
+        historyWriter.setAutoStart(false);
+
+        processEngineConfiguration.setAsyncHistoryEnabled(true);
+        processEngineConfiguration.setAsyncHistoryExecutorActivate(false);
+        processEngineConfiguration.setAsyncExecutorActivate(false);
+        processEngineConfiguration.setAsyncHistoryListener(new WriteBehindAsyncHistoryListener(historyLog));
+        processEngineConfiguration.addEngineLifecycleListener(historyWriter);
+    }
+
+    @AfterEach
+    protected void tearDown() {
+        managementService.executeCommand(commandContext -> {
+            PropertyEntityManager propertyEntityManager = processEngineConfiguration.getPropertyEntityManager();
+            PropertyEntity positionProperty = propertyEntityManager.findById(historyWriter.getPositionPropertyName());
+            if (positionProperty != null) {
+                propertyEntityManager.delete(positionProperty);
+            }
+            return null;
+        });
+
+        File[] files = historyLogDirectory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        historyLogDirectory.delete();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/history/oneTaskProcess.bpmn20.xml")
+    public void testHistoryIsAppliedFromLog() {
+        String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+
+        // No history jobs, and no history yet until the log is applied
+        assertThat(managementService.createHistoryJobQuery().count()).isZero();
+        assertThat(historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).count()).isZero();
+
+        flushHistoryLog();
+        assertThat(historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).count()).isEqualTo(1);
+
+        Task task = taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult();
+        taskService.complete(task.getId());
+        flushHistoryLog();
+
+        HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).singleResult();
+        assertThat(historicProcessInstance.getEndTime()).isNotNull();
+        assertThat(historyService.createHistoricTaskInstanceQuery().processInstanceId(processInstanceId).finished().count()).isEqualTo(1);
+
+        // Applying the log again doesn't apply the same records twice
+        assertThat(historyWriter.flush()).isZero();
+        assertThat(managementService.createHistoryJobQuery().count()).isZero();
+
+        // The position is stored in a property of its own for the log
+        String positionPropertyName = historyWriter.getPositionPropertyName();
+        assertThat(positionPropertyName).isEqualTo(WriteBehindHistoryWriter.POSITION_PROPERTY_NAME_PREFIX + historyWriter.getHistoryLog().getLogId());
+        assertThat(managementService.getProperties().get(positionPropertyName)).startsWith(historyWriter.getHistoryLog().getLogId() + ":");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/history/oneTaskProcess.bpmn20.xml")
+    public void testPositionOfOtherLogIsNotUsed() {
+        historyWriter.setPositionPropertyName("writebehind.history.test");
+        managementService.executeCommand(commandContext -> {
+            PropertyEntityManager propertyEntityManager = processEngineConfiguration.getPropertyEntityManager();
+            PropertyEntity positionProperty = propertyEntityManager.create();
+            positionProperty.setName("writebehind.history.test");
+            positionProperty.setValue("otherLog:0:1024");
+            propertyEntityManager.insert(positionProperty);
+            return null;
+        });
+
+        String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+
+        assertThatThrownBy(() -> historyWriter.flush())
+                .isInstanceOf(FlowableException.class)
+                .hasMessageContaining("otherLog:0:1024");
+        assertThat(historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).count()).isZero();
+        assertThat(managementService.getProperties().get("writebehind.history.test")).isEqualTo("otherLog:0:1024");
+    }
+
+    protected void flushHistoryLog() {
+        while (historyWriter.flush() > 0) {
+            // Apply until the log is empty
+        }
+    }
+
+}
@@ -22,6 +22,7 @@ import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.util.DeploymentContentHashUtil;
 import org.flowable.eventregistry.api.EventDeployment;
 import org.flowable.eventregistry.impl.EventDeploymentQueryImpl;
 import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
@@ -50,6 +51,7 @@ public class DeployCmd<T> implements Command<EventDeployment>, Serializable {
 
         EventRegistryEngineConfiguration eventRegistryConfiguration = CommandContextUtil.getEventRegistryConfiguration(commandContext);
         deployment.setDeploymentTime(eventRegistryConfiguration.getClock().getCurrentTime());
+        deployment.setContentHash(DeploymentContentHashUtil.computeContentHash(deployment.getResources(), EventResourceEntity::getBytes));
 
         if (deploymentBuilder.isDuplicateFilterEnabled()) {
 
@@ -78,13 +80,16 @@ public class DeployCmd<T> implements Command<EventDeployment>, Serializable {
             if (!existingDeployments.isEmpty()) {
                 EventDeploymentEntity existingDeployment = (EventDeploymentEntity) existingDeployments.get(0);
 
-                Map<String, EventResourceEntity> resourceMap = new HashMap<>();
-                List<EventResourceEntity> resourceList = eventRegistryConfiguration.getResourceEntityManager().findResourcesByDeploymentId(existingDeployment.getId());
-                for (EventResourceEntity resourceEntity : resourceList) {
-                    resourceMap.put(resourceEntity.getName(), resourceEntity);
+                // The resources only need to be read when one of the deployments has no content hash
+                if (deployment.getContentHash() == null || existingDeployment.getContentHash() == null) {
+                    Map<String, EventResourceEntity> resourceMap = new HashMap<>();
+                    List<EventResourceEntity> resourceList = eventRegistryConfiguration.getResourceEntityManager().findResourcesByDeploymentId(existingDeployment.getId());
+                    for (EventResourceEntity resourceEntity : resourceList) {
+                        resourceMap.put(resourceEntity.getName(), resourceEntity);
+                    }
+                    existingDeployment.setResources(resourceMap);
                 }
-                existingDeployment.setResources(resourceMap);
-                
+
                 if (!deploymentsDiffer(deployment, existingDeployment)) {
                     return existingDeployment;
                 }
@@ -111,6 +116,10 @@ public class DeployCmd<T> implements Command<EventDeployment>, Serializable {
 
     protected boolean deploymentsDiffer(EventDeploymentEntity deployment, EventDeploymentEntity saved) {
 
+        if (deployment.getContentHash() != null && saved.getContentHash() != null) {
+            return !deployment.getContentHash().equals(saved.getContentHash());
+        }
+
         if (deployment.getResources() == null || saved.getResources() == null) {
             return true;
         }
@@ -36,6 +36,7 @@ public class EventDeploymentEntityImpl extends AbstractEventRegistryNoRevisionEn
     protected String parentDeploymentId;
     protected Map<String, EventResourceEntity> resources;
     protected Date deploymentTime;
+    protected String contentHash;
     protected boolean isNew;
 
     /**
@@ -155,6 +156,16 @@ public class EventDeploymentEntityImpl extends AbstractEventRegistryNoRevisionEn
         this.deploymentTime = deploymentTime;
     }
 
+    @Override
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    @Override
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
     @Override
     public boolean isNew() {
         return isNew;
@@ -51,6 +51,12 @@ public interface EventSubscriptionService {
     
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(String eventName, String tenantId);
     
+    /**
+     * Returns the signal event subscriptions for the given event name ordered by id, with an id greater than idAfter (when not null)
+     * and smaller than or equal to idUpTo (when not null). At most maxResults subscriptions are returned, unless maxResults is negative.
+     */
+    List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(String eventName, String tenantId, String idAfter, String idUpTo, int maxResults);
+    
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByNameAndExecution(String eventName, String executionId);
     
     List<MessageEventSubscriptionEntity> findMessageEventSubscriptionsByProcessInstanceAndEventName(String processInstanceId, String eventName);
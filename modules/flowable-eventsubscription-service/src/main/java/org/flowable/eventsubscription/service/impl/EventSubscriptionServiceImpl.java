@@ -88,6 +88,11 @@ public class EventSubscriptionServiceImpl extends CommonServiceImpl<EventSubscri
     public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(String eventName, String tenantId) {
         return getEventSubscriptionEntityManager().findSignalEventSubscriptionsByEventName(eventName, tenantId);
     }
+    
+    @Override
+    public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(String eventName, String tenantId, String idAfter, String idUpTo, int maxResults) {
+        return getEventSubscriptionEntityManager().findSignalEventSubscriptionsByEventName(eventName, tenantId, idAfter, idUpTo, maxResults);
+    }
 
     @Override
     public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByNameAndExecution(String eventName, String executionId) {
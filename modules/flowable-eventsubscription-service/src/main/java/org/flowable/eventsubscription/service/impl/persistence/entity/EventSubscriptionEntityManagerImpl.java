@@ -124,6 +124,11 @@ public class EventSubscriptionEntityManagerImpl
         return dataManager.findSignalEventSubscriptionsByEventName(eventName, tenantId);
     }
 
+    @Override
+    public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(String eventName, String tenantId, String idAfter, String idUpTo, int maxResults) {
+        return dataManager.findSignalEventSubscriptionsByEventName(eventName, tenantId, idAfter, idUpTo, maxResults);
+    }
+
     @Override
     public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByProcessInstanceAndEventName(String processInstanceId, String eventName) {
         return dataManager.findSignalEventSubscriptionsByProcessInstanceAndEventName(processInstanceId, eventName);
@@ -19,6 +19,7 @@ import java.util.Map;
 
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.db.ListQueryParameterObject;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.eventsubscription.service.EventSubscriptionServiceConfiguration;
@@ -164,6 +165,25 @@ public class MybatisEventSubscriptionDataManager extends AbstractEventSubscripti
         return toSignalEventSubscriptionEntityList(result);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(final String eventName, final String tenantId,
+            final String idAfter, final String idUpTo, final int maxResults) {
+
+        final Map<String, String> params = new HashMap<>();
+        params.put("eventName", eventName);
+        if (tenantId != null && !tenantId.equals(EventSubscriptionServiceConfiguration.NO_TENANT_ID)) {
+            params.put("tenantId", tenantId);
+        }
+        params.put("idAfter", idAfter);
+        params.put("idUpTo", idUpTo);
+
+        // Ordered by id (the default order of the list query parameter object), which makes keyset pagination on the id possible
+        ListQueryParameterObject parameterObject = maxResults >= 0 ? new ListQueryParameterObject(params, 0, maxResults) : new ListQueryParameterObject(params, -1, -1);
+        List<EventSubscriptionEntity> result = getDbSqlSession().selectList("selectSignalEventSubscriptionsByEventNameAndIdRange", parameterObject);
+        return toSignalEventSubscriptionEntityList(result);
+    }
+
     @Override
     public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByProcessInstanceAndEventName(final String processInstanceId, final String eventName) {
         final String query = "selectSignalEventSubscriptionsByProcessInstanceAndEventName";
@@ -145,7 +145,7 @@ public class AbstractGetFormInstanceModelCmd implements Command<FormInstanceInfo
                     OptionFormField optionFormField = (OptionFormField) field;
                     if (optionFormField.getOptionsExpression() != null) {
                         // Drop down options to be populated from an expression
-                        Expression optionsExpression = formEngineConfiguration.getExpressionManager().createExpression(optionFormField.getOptionsExpression());
+                        Expression optionsExpression = getExpression(optionFormField.getOptionsExpression(), formInstanceModel.getId(), formEngineConfiguration);
                         Object value = null;
                         try {
                             value = optionsExpression.getValue(new VariableContainerWrapper(variables));
@@ -180,7 +180,7 @@ public class AbstractGetFormInstanceModelCmd implements Command<FormInstanceInfo
                         // No value set, process as expression
                         if (field.getParam("hyperlinkUrl") != null) {
                             String hyperlinkUrl = field.getParam("hyperlinkUrl").toString();
-                            Expression formExpression = formEngineConfiguration.getExpressionManager().createExpression(hyperlinkUrl);
+                            Expression formExpression = getExpression(hyperlinkUrl, formInstanceModel.getId(), formEngineConfiguration);
                             try {
                                 field.setValue(formExpression.getValue(new VariableContainerWrapper(variables)));
                             } catch (Exception e) {
@@ -191,7 +191,7 @@ public class AbstractGetFormInstanceModelCmd implements Command<FormInstanceInfo
                     
                 } else if (field instanceof ExpressionFormField) {
                     ExpressionFormField expressionField = (ExpressionFormField) field;
-                    Expression formExpression = formEngineConfiguration.getExpressionManager().createExpression(expressionField.getExpression());
+                    Expression formExpression = getExpression(expressionField.getExpression(), formInstanceModel.getId(), formEngineConfiguration);
                     try {
                         field.setValue(formExpression.getValue(new VariableContainerWrapper(variables)));
                     } catch (Exception e) {
@@ -230,6 +230,17 @@ public class AbstractGetFormInstanceModelCmd implements Command<FormInstanceInfo
         }
     }
 
+    /**
+     * Returns the expression for the given expression text, which is only created once per cached form definition.
+     */
+    protected Expression getExpression(String expressionText, String formDefinitionId, FormEngineConfiguration formEngineConfiguration) {
+        FormDefinitionCacheEntry formCacheEntry = formEngineConfiguration.getFormDefinitionCache().get(formDefinitionId);
+        if (formCacheEntry != null) {
+            return formCacheEntry.getExpression(expressionText, formEngineConfiguration.getExpressionManager());
+        }
+        return formEngineConfiguration.getExpressionManager().createExpression(expressionText);
+    }
+
     protected FormDefinitionCacheEntry resolveFormDefinition(CommandContext commandContext) {
         FormEngineConfiguration formEngineConfiguration = CommandContextUtil.getFormEngineConfiguration();
         DeploymentManager deploymentManager = formEngineConfiguration.getDeploymentManager();
@@ -447,7 +458,7 @@ public class AbstractGetFormInstanceModelCmd implements Command<FormInstanceInfo
 
         FormDefinitionEntity formDefinitionEntity = formCacheEntry.getFormDefinitionEntity();
         FormJsonConverter formJsonConverter = CommandContextUtil.getFormEngineConfiguration().getFormJsonConverter();
-        SimpleFormModel formModel = formJsonConverter.convertToFormModel(formCacheEntry.getFormDefinitionJson());
+        SimpleFormModel formModel = formCacheEntry.getFormModel(formJsonConverter);
         FormInstanceInfo formInstanceModel = new FormInstanceInfo();
         formInstanceModel.setId(formDefinitionEntity.getId());
         formInstanceModel.setName(formDefinitionEntity.getName());
@@ -22,6 +22,7 @@ import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.util.DeploymentContentHashUtil;
 import org.flowable.form.api.FormDeployment;
 import org.flowable.form.engine.FormEngineConfiguration;
 import org.flowable.form.engine.impl.FormDeploymentQueryImpl;
@@ -49,6 +50,7 @@ public class DeployCmd<T> implements Command<FormDeployment>, Serializable {
 
         FormEngineConfiguration formEngineConfiguration = CommandContextUtil.getFormEngineConfiguration();
         deployment.setDeploymentTime(formEngineConfiguration.getClock().getCurrentTime());
+        deployment.setContentHash(DeploymentContentHashUtil.computeContentHash(deployment.getResources(), FormResourceEntity::getBytes));
 
         if (deploymentBuilder.isDuplicateFilterEnabled()) {
 
@@ -78,13 +80,16 @@ public class DeployCmd<T> implements Command<FormDeployment>, Serializable {
             if (!existingDeployments.isEmpty()) {
                 FormDeploymentEntity existingDeployment = (FormDeploymentEntity) existingDeployments.get(0);
 
-                Map<String, FormResourceEntity> resourceMap = new HashMap<>();
-                List<FormResourceEntity> resourceList = formEngineConfiguration.getResourceEntityManager().findResourcesByDeploymentId(existingDeployment.getId());
-                for (FormResourceEntity resourceEntity : resourceList) {
-                    resourceMap.put(resourceEntity.getName(), resourceEntity);
+                // The resources only need to be read when one of the deployments has no content hash
+                if (deployment.getContentHash() == null || existingDeployment.getContentHash() == null) {
+                    Map<String, FormResourceEntity> resourceMap = new HashMap<>();
+                    List<FormResourceEntity> resourceList = formEngineConfiguration.getResourceEntityManager().findResourcesByDeploymentId(existingDeployment.getId());
+                    for (FormResourceEntity resourceEntity : resourceList) {
+                        resourceMap.put(resourceEntity.getName(), resourceEntity);
+                    }
+                    existingDeployment.setResources(resourceMap);
                 }
-                existingDeployment.setResources(resourceMap);
-                
+
                 if (!deploymentsDiffer(deployment, existingDeployment)) {
                     return existingDeployment;
                 }
@@ -111,6 +116,10 @@ public class DeployCmd<T> implements Command<FormDeployment>, Serializable {
 
     protected boolean deploymentsDiffer(FormDeploymentEntity deployment, FormDeploymentEntity saved) {
 
+        if (deployment.getContentHash() != null && saved.getContentHash() != null) {
+            return !deployment.getContentHash().equals(saved.getContentHash());
+        }
+
         if (deployment.getResources() == null || saved.getResources() == null) {
             return true;
         }
@@ -152,7 +152,7 @@ public class GetFormModelCmd implements Command<FormInfo>, Serializable {
         }
 
         FormDefinitionCacheEntry formDefinitionCacheEntry = deploymentManager.resolveFormDefinition(formDefinitionEntity);
-        SimpleFormModel formModel = CommandContextUtil.getFormEngineConfiguration(commandContext).getFormJsonConverter().convertToFormModel(formDefinitionCacheEntry.getFormDefinitionJson());
+        SimpleFormModel formModel = formDefinitionCacheEntry.getFormModel(CommandContextUtil.getFormEngineConfiguration(commandContext).getFormJsonConverter());
         FormInfo formInfo = new FormInfo();
         formInfo.setId(formDefinitionEntity.getId());
         formInfo.setName(formDefinitionEntity.getName());
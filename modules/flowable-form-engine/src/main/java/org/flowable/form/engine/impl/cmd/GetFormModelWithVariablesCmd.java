@@ -134,7 +134,7 @@ public class GetFormModelWithVariablesCmd implements Command<FormInfo>, Serializ
                     // Drop down options to be populated from an expression
                     OptionFormField optionFormField = (OptionFormField) field;
                     if (optionFormField.getOptionsExpression() != null) {
-                        Expression optionsExpression = formEngineConfiguration.getExpressionManager().createExpression(optionFormField.getOptionsExpression());
+                        Expression optionsExpression = getExpression(optionFormField.getOptionsExpression(), formInfo.getId(), formEngineConfiguration);
                         Object value = null;
                         try {
                             value = optionsExpression.getValue(new VariableContainerWrapper(variables));
@@ -168,7 +168,7 @@ public class GetFormModelWithVariablesCmd implements Command<FormInfo>, Serializ
                         // No value set, process as expression
                         if (field.getParam("hyperlinkUrl") != null) {
                             String hyperlinkUrl = field.getParam("hyperlinkUrl").toString();
-                            Expression formExpression = formEngineConfiguration.getExpressionManager().createExpression(hyperlinkUrl);
+                            Expression formExpression = getExpression(hyperlinkUrl, formInfo.getId(), formEngineConfiguration);
                             try {
                                 field.setValue(formExpression.getValue(new VariableContainerWrapper(variables)));
                             } catch (Exception e) {
@@ -178,7 +178,7 @@ public class GetFormModelWithVariablesCmd implements Command<FormInfo>, Serializ
                     }
                 } else if (field instanceof ExpressionFormField) {
                     ExpressionFormField expressionField = (ExpressionFormField) field;
-                    Expression formExpression = formEngineConfiguration.getExpressionManager().createExpression(expressionField.getExpression());
+                    Expression formExpression = getExpression(expressionField.getExpression(), formInfo.getId(), formEngineConfiguration);
                     try {
                         field.setValue(formExpression.getValue(new VariableContainerWrapper(variables)));
                     } catch (Exception e) {
@@ -206,6 +206,17 @@ public class GetFormModelWithVariablesCmd implements Command<FormInfo>, Serializ
         }
     }
 
+    /**
+     * Returns the expression for the given expression text, which is only created once per cached form definition.
+     */
+    protected Expression getExpression(String expressionText, String formDefinitionId, FormEngineConfiguration formEngineConfiguration) {
+        FormDefinitionCacheEntry formCacheEntry = formEngineConfiguration.getFormDefinitionCache().get(formDefinitionId);
+        if (formCacheEntry != null) {
+            return formCacheEntry.getExpression(expressionText, formEngineConfiguration.getExpressionManager());
+        }
+        return formEngineConfiguration.getExpressionManager().createExpression(expressionText);
+    }
+
     protected FormDefinitionCacheEntry resolveFormDefinition(CommandContext commandContext) {
         FormEngineConfiguration formEngineConfiguration = CommandContextUtil.getFormEngineConfiguration();
         DeploymentManager deploymentManager = formEngineConfiguration.getDeploymentManager();
@@ -389,7 +400,7 @@ public class GetFormModelWithVariablesCmd implements Command<FormInfo>, Serializ
     protected FormInfo resolveFormModel(FormDefinitionCacheEntry formCacheEntry, CommandContext commandContext) {
         FormDefinitionEntity formEntity = formCacheEntry.getFormDefinitionEntity();
         FormJsonConverter formJsonConverter = CommandContextUtil.getFormEngineConfiguration().getFormJsonConverter();
-        SimpleFormModel formModel = formJsonConverter.convertToFormModel(formCacheEntry.getFormDefinitionJson());
+        SimpleFormModel formModel = formCacheEntry.getFormModel(formJsonConverter);
         FormInfo formInfo = new FormInfo();
         formInfo.setId(formEntity.getId());
         formInfo.setName(formEntity.getName());
@@ -38,7 +38,7 @@ public class CachingAndArtifactsManager {
 
         for (FormDefinitionEntity formDefinition : parsedDeployment.getAllFormDefinitions()) {
             SimpleFormModel formModel = parsedDeployment.getFormModelForFormDefinition(formDefinition);
-            FormDefinitionCacheEntry cacheEntry = new FormDefinitionCacheEntry(formDefinition, formJsonConverter.convertToJson(formModel));
+            FormDefinitionCacheEntry cacheEntry = new FormDefinitionCacheEntry(formDefinition, formJsonConverter.convertToJson(formModel), formModel.clone());
             formDefinitionCache.add(formDefinition.getId(), cacheEntry);
 
             // Add to deployment for further usage
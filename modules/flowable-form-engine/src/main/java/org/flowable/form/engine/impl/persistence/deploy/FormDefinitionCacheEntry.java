@@ -13,8 +13,14 @@
 package org.flowable.form.engine.impl.persistence.deploy;
 
 import java.io.Serializable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.editor.form.converter.FormJsonConverter;
 import org.flowable.form.engine.impl.persistence.entity.FormDefinitionEntity;
+import org.flowable.form.model.SimpleFormModel;
 
 /**
  * @author Tijs Rademakers
@@ -26,11 +32,46 @@ public class FormDefinitionCacheEntry implements Serializable {
     protected FormDefinitionEntity formDefinitionEntity;
     protected String formDefinitionJson;
 
+    // The parsed form model is shared by all users of the cache entry and should never be changed, see getFormModel
+    protected volatile SimpleFormModel formModel;
+    protected transient ConcurrentMap<String, Expression> expressions = new ConcurrentHashMap<>();
+
     public FormDefinitionCacheEntry(FormDefinitionEntity formDefinitionEntity, String formDefinitionJson) {
         this.formDefinitionEntity = formDefinitionEntity;
         this.formDefinitionJson = formDefinitionJson;
     }
 
+    public FormDefinitionCacheEntry(FormDefinitionEntity formDefinitionEntity, String formDefinitionJson, SimpleFormModel formModel) {
+        this(formDefinitionEntity, formDefinitionJson);
+        this.formModel = formModel;
+    }
+
+    /**
+     * Returns a copy of the form model of the form definition, which can be filled with values without changing the cached form model.
+     * The form definition json is only parsed the first time the form model is requested.
+     */
+    public SimpleFormModel getFormModel(FormJsonConverter formJsonConverter) {
+        SimpleFormModel cachedFormModel = formModel;
+        if (cachedFormModel == null) {
+            cachedFormModel = formJsonConverter.convertToFormModel(formDefinitionJson);
+            formModel = cachedFormModel;
+        }
+        return cachedFormModel.clone();
+    }
+
+    /**
+     * Returns the expression for the given expression text of this form definition, which is only created the first time it is requested.
+     */
+    public Expression getExpression(String expressionText, ExpressionManager expressionManager) {
+        ConcurrentMap<String, Expression> cachedExpressions = expressions;
+        if (cachedExpressions == null) {
+            // Only possible when the cache entry was deserialized
+            cachedExpressions = new ConcurrentHashMap<>();
+            expressions = cachedExpressions;
+        }
+        return cachedExpressions.computeIfAbsent(expressionText, expressionManager::createExpression);
+    }
+
     public FormDefinitionEntity getFormDefinitionEntity() {
         return formDefinitionEntity;
     }
@@ -45,5 +86,9 @@ public class FormDefinitionCacheEntry implements Serializable {
 
     public void setFormDefinitionJson(String formDefinitionJson) {
         this.formDefinitionJson = formDefinitionJson;
+        this.formModel = null;
+        if (expressions != null) {
+            expressions.clear();
+        }
     }
 }
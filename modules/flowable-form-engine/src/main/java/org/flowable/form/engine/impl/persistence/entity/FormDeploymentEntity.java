@@ -46,6 +46,14 @@ public interface FormDeploymentEntity extends FormDeployment, Entity {
 
     void setDeploymentTime(Date deploymentTime);
 
+    /**
+     * The hash of the resources of the deployment, used by the duplicate filtering to compare deployments without reading their resources.
+     * Null for deployments that were deployed before the hash was stored.
+     */
+    String getContentHash();
+
+    void setContentHash(String contentHash);
+
     boolean isNew();
 
     void setNew(boolean isNew);
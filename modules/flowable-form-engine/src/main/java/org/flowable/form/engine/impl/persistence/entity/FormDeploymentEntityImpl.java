@@ -36,6 +36,7 @@ public class FormDeploymentEntityImpl extends AbstractFormEngineNoRevisionEntity
     protected String parentDeploymentId;
     protected Map<String, FormResourceEntity> resources;
     protected Date deploymentTime;
+    protected String contentHash;
     protected boolean isNew;
 
     /**
@@ -155,6 +156,16 @@ public class FormDeploymentEntityImpl extends AbstractFormEngineNoRevisionEntity
         this.deploymentTime = deploymentTime;
     }
 
+    @Override
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    @Override
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
     @Override
     public boolean isNew() {
         return isNew;
@@ -53,14 +53,14 @@ public class FormUtil {
         // This will check the cache in the findDeployedFormDefinitionById and resolveFormDefinition method
         FormDefinitionEntity formDefinitionEntity = deploymentManager.findDeployedFormDefinitionById(formDefinitionId);
         FormDefinitionCacheEntry cacheEntry = deploymentManager.resolveFormDefinition(formDefinitionEntity);
-        return formEngineConfiguration.getFormJsonConverter().convertToFormModel(cacheEntry.getFormDefinitionJson());
+        return cacheEntry.getFormModel(formEngineConfiguration.getFormJsonConverter());
     }
 
     public static SimpleFormModel getFormDefinitionFromCache(String formId) {
         FormEngineConfiguration formEngineConfiguration = CommandContextUtil.getFormEngineConfiguration();
         FormDefinitionCacheEntry cacheEntry = formEngineConfiguration.getFormDefinitionCache().get(formId);
         if (cacheEntry != null) {
-            return formEngineConfiguration.getFormJsonConverter().convertToFormModel(cacheEntry.getFormDefinitionJson());
+            return cacheEntry.getFormModel(formEngineConfiguration.getFormJsonConverter());
         }
         return null;
     }
@@ -168,6 +168,25 @@ public class FormModelTest extends AbstractFlowableFormTest {
         }
     }
     
+    @Test
+    @FormDeploymentAnnotation(resources = "org/flowable/form/engine/test/deployment/simple.form")
+    public void getSimpleFormModelWithVariablesDoesNotChangeCachedFormModel() throws Exception {
+        String formDefinitionId = repositoryService.getFormModelByKey("form1").getId();
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("input1", "test");
+
+        FormInfo formInfo = formService.getFormModelWithVariablesById(formDefinitionId, null, variables, null, false);
+        assertFormModel(formInfo);
+
+        FormInfo otherFormInfo = formService.getFormModelWithVariablesById(formDefinitionId, null, new HashMap<>(), null, false);
+        assertThat(otherFormInfo.getFormModel()).isNotSameAs(formInfo.getFormModel());
+        assertThat(((SimpleFormModel) otherFormInfo.getFormModel()).getFields().get(0).getValue()).isNull();
+
+        SimpleFormModel formModel = (SimpleFormModel) repositoryService.getFormModelById(formDefinitionId).getFormModel();
+        assertThat(formModel.getFields().get(0).getValue()).isNull();
+    }
+
     protected void assertFormModel(FormInfo formInfo) {
         SimpleFormModel formModel = (SimpleFormModel) formInfo.getFormModel();
         assertThat(formModel.getFields()).hasSize(1);
@@ -15,6 +15,8 @@ package org.flowable.form.model;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 /**
  * @author Erik Winlof
  *
@@ -32,4 +34,31 @@ public class FormContainer extends FormField {
     public void setFields(List<List<FormField>> fields) {
         this.fields = fields;
     }
+
+    @Override
+    public FormContainer clone() {
+        FormContainer clone = new FormContainer();
+        clone.setValues(this);
+        return clone;
+    }
+
+    @JsonIgnore
+    public void setValues(FormContainer otherContainer) {
+        super.setValues(otherContainer);
+
+        fields = null;
+        if (otherContainer.getFields() != null) {
+            fields = new ArrayList<>(otherContainer.getFields().size());
+            for (List<FormField> otherRow : otherContainer.getFields()) {
+                List<FormField> row = null;
+                if (otherRow != null) {
+                    row = new ArrayList<>(otherRow.size());
+                    for (FormField otherField : otherRow) {
+                        row.add(otherField != null ? otherField.clone() : null);
+                    }
+                }
+                fields.add(row);
+            }
+        }
+    }
 }
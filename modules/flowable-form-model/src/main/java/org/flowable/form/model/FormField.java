@@ -13,6 +13,7 @@
 package org.flowable.form.model;
 
 import java.io.Serializable;
+import java.util.HashMap;
 import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -133,4 +134,33 @@ public class FormField implements Serializable {
         }
         return null;
     }
+
+    @Override
+    public FormField clone() {
+        FormField clone = new FormField();
+        clone.setValues(this);
+        return clone;
+    }
+
+    @JsonIgnore
+    public void setValues(FormField otherField) {
+        setId(otherField.getId());
+        setName(otherField.getName());
+        setType(otherField.getType());
+        setValue(otherField.getValue());
+        setRequired(otherField.isRequired());
+        setReadOnly(otherField.isReadOnly());
+        setOverrideId(otherField.isOverrideId());
+        setPlaceholder(otherField.getPlaceholder());
+
+        params = null;
+        if (otherField.getParams() != null) {
+            params = new HashMap<>(otherField.getParams());
+        }
+
+        layout = null;
+        if (otherField.getLayout() != null) {
+            layout = otherField.getLayout().clone();
+        }
+    }
 }
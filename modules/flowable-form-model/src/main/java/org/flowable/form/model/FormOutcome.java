@@ -40,4 +40,11 @@ public class FormOutcome implements Serializable {
         this.name = name;
     }
 
+    @Override
+    public FormOutcome clone() {
+        FormOutcome clone = new FormOutcome();
+        clone.setId(id);
+        clone.setName(name);
+        return clone;
+    }
 }
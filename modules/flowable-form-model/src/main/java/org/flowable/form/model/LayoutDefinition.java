@@ -37,4 +37,9 @@ public class LayoutDefinition implements Serializable {
     public void setRow(Integer row) {
         this.row = row;
     }
+
+    @Override
+    public LayoutDefinition clone() {
+        return new LayoutDefinition(row);
+    }
 }
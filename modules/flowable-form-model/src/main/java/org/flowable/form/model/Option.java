@@ -46,4 +46,11 @@ public class Option implements Serializable {
     public void setName(String name) {
         this.name = name;
     }
+
+    @Override
+    public Option clone() {
+        Option clone = new Option(name);
+        clone.setId(id);
+        return clone;
+    }
 }
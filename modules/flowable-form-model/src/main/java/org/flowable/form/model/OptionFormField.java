@@ -12,8 +12,11 @@
  */
 package org.flowable.form.model;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 /**
  * @author Tijs Rademakers
  */
@@ -58,4 +61,27 @@ public class OptionFormField extends FormField {
         this.optionsExpression = optionsExpression;
     }
     
+
+    @Override
+    public OptionFormField clone() {
+        OptionFormField clone = new OptionFormField();
+        clone.setValues(this);
+        return clone;
+    }
+
+    @JsonIgnore
+    public void setValues(OptionFormField otherField) {
+        super.setValues(otherField);
+        setOptionType(otherField.getOptionType());
+        setHasEmptyValue(otherField.getHasEmptyValue());
+        setOptionsExpression(otherField.getOptionsExpression());
+
+        options = null;
+        if (otherField.getOptions() != null) {
+            options = new ArrayList<>(otherField.getOptions().size());
+            for (Option option : otherField.getOptions()) {
+                options.add(option.clone());
+            }
+        }
+    }
 }
@@ -19,6 +19,7 @@ import java.util.Map;
 
 import org.flowable.form.api.FormModel;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 
@@ -143,4 +144,38 @@ public class SimpleFormModel implements FormModel {
         }
     }
 
+    /**
+     * Creates a copy of this form model, of which the fields can be changed (e.g. filled with values) without changing this form model.
+     */
+    @Override
+    public SimpleFormModel clone() {
+        SimpleFormModel clone = new SimpleFormModel();
+        clone.setValues(this);
+        return clone;
+    }
+
+    @JsonIgnore
+    public void setValues(SimpleFormModel otherModel) {
+        setName(otherModel.getName());
+        setKey(otherModel.getKey());
+        setVersion(otherModel.getVersion());
+        setDescription(otherModel.getDescription());
+        setOutcomeVariableName(otherModel.getOutcomeVariableName());
+
+        fields = null;
+        if (otherModel.getFields() != null) {
+            fields = new ArrayList<>(otherModel.getFields().size());
+            for (FormField field : otherModel.getFields()) {
+                fields.add(field != null ? field.clone() : null);
+            }
+        }
+
+        outcomes = null;
+        if (otherModel.getOutcomes() != null) {
+            outcomes = new ArrayList<>(otherModel.getOutcomes().size());
+            for (FormOutcome outcome : otherModel.getOutcomes()) {
+                outcomes.add(outcome != null ? outcome.clone() : null);
+            }
+        }
+    }
 }
@@ -55,6 +55,8 @@ public interface JobService {
     List<ExternalWorkerJobEntity> findExternalWorkerJobsByExecutionId(String executionId);
 
     List<JobEntity> findJobsByProcessInstanceId(String processInstanceId);
+
+    List<JobEntity> findJobsByTypeAndProcessInstanceId(String jobHandlerType, String processInstanceId);
     
     List<SuspendedJobEntity> findSuspendedJobsByProcessInstanceId(String processInstanceId);
     
@@ -118,6 +118,13 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     protected List<JobProcessor> jobProcessors;
     
     protected List<String> enabledJobCategories;
+
+    /**
+     * The number of partitions async and timer jobs are divided in.
+     * When larger than 0, every new job gets a partition based on its process or case instance
+     * and async executors only acquire the jobs of the partitions they have leased. 0 (default) disables job partitioning.
+     */
+    protected int jobPartitionCount;
     
     protected AsyncExecutor asyncHistoryExecutor;
     protected int asyncHistoryExecutorNumberOfRetries;
@@ -619,6 +626,14 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         enabledJobCategories.add(jobCategory);
     }
 
+    public int getJobPartitionCount() {
+        return jobPartitionCount;
+    }
+
+    public void setJobPartitionCount(int jobPartitionCount) {
+        this.jobPartitionCount = jobPartitionCount;
+    }
+
     public String getJobTypeAsyncHistory() {
         return jobTypeAsyncHistory;
     }
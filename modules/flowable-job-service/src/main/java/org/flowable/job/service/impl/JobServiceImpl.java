@@ -103,6 +103,11 @@ public class JobServiceImpl extends ServiceImpl implements JobService {
         return getJobEntityManager().findJobsByProcessInstanceId(processInstanceId);
     }
 
+    @Override
+    public List<JobEntity> findJobsByTypeAndProcessInstanceId(String jobHandlerType, String processInstanceId) {
+        return getJobEntityManager().findJobsByTypeAndProcessInstanceId(jobHandlerType, processInstanceId);
+    }
+
     @Override
     public List<SuspendedJobEntity> findSuspendedJobsByProcessInstanceId(String processInstanceId) {
         return getSuspendedJobEntityManager().findJobsByProcessInstanceId(processInstanceId);
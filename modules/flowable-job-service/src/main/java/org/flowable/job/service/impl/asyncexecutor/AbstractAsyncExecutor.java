@@ -12,7 +12,10 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
+import java.util.Set;
 import java.util.UUID;
 
 import org.flowable.job.api.JobInfo;
@@ -41,6 +44,8 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
     protected AcquireAsyncJobsDueRunnable asyncJobsDueRunnable;
     protected String resetExpiredRunnableName;
     protected ResetExpiredJobsRunnable resetExpiredJobsRunnable;
+    protected boolean jobPartitionLeaseNeeded = true; // only used when job partitioning is enabled on the job service configuration
+    protected JobPartitionLeaseRunnable jobPartitionLeaseRunnable;
 
     protected ExecuteAsyncRunnableFactory executeAsyncRunnableFactory;
     
@@ -64,6 +69,14 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
     protected int resetExpiredJobsInterval = 60 * 1000;
     protected int resetExpiredJobsPageSize = 3;
 
+    protected int timerJobPrefetchWindowInMillis;
+    protected int timerJobTimingWheelTickInMillis = 100;
+    protected int timerJobTimingWheelSize = 64;
+
+    protected int jobPartitionLeaseTimeInMillis = 60 * 1000;
+    protected int jobPartitionLeaseRenewIntervalInMillis = 15 * 1000;
+    protected volatile Set<Integer> ownedJobPartitions = Collections.emptySet();
+
     // Job queue used when async executor is not yet started and jobs are already added.
     // This is mainly used for testing purpose.
     protected LinkedList<JobInfo> temporaryJobQueue = new LinkedList<>();
@@ -140,6 +153,10 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
             resetExpiredJobsRunnable = createResetExpiredJobsRunnable(resetRunnableName);
         }
 
+        if (isJobPartitioningEnabled() && jobPartitionLeaseRunnable == null) {
+            jobPartitionLeaseRunnable = new JobPartitionLeaseRunnable("flowable-" + getJobServiceConfiguration().getEngineName() + "-lease-job-partitions", this);
+        }
+
         if (!isMessageQueueMode && asyncJobsDueRunnable == null) {
             String acquireJobsRunnableName = acquireRunnableThreadName != null ?
                     acquireRunnableThreadName : "flowable-" + getJobServiceConfiguration().getEngineName() + "-acquire-async-jobs";
@@ -182,14 +199,31 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         if (resetExpiredJobsRunnable != null) {
             resetExpiredJobsRunnable.stop();
         }
+        if (jobPartitionLeaseRunnable != null) {
+            jobPartitionLeaseRunnable.stop();
+        }
 
         timerJobRunnable = null;
         asyncJobsDueRunnable = null;
         resetExpiredJobsRunnable = null;
+        jobPartitionLeaseRunnable = null;
     }
 
     protected abstract void shutdownAdditionalComponents();
 
+    protected boolean isJobPartitioningEnabled() {
+        return jobPartitionLeaseNeeded && jobServiceConfiguration.getJobPartitionCount() > 0;
+    }
+
+    @Override
+    public Collection<Integer> getOwnedJobPartitions() {
+        return isJobPartitioningEnabled() ? ownedJobPartitions : null;
+    }
+
+    public void setOwnedJobPartitions(Set<Integer> ownedJobPartitions) {
+        this.ownedJobPartitions = ownedJobPartitions;
+    }
+
     /* getters and setters */
 
     @Override
@@ -264,6 +298,38 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         this.maxTimerJobsPerAcquisition = maxTimerJobsPerAcquisition;
     }
 
+    @Override
+    public int getTimerJobPrefetchWindowInMillis() {
+        return timerJobPrefetchWindowInMillis;
+    }
+
+    /**
+     * Sets the time window in milliseconds within which timer jobs are acquired (and locked) ahead of their due date.
+     * The acquired timer jobs are kept in an in-memory timing wheel and are moved to the executable jobs when they are due.
+     * By default set to 0, which means timer jobs are only acquired once they are due.
+     */
+    public void setTimerJobPrefetchWindowInMillis(int timerJobPrefetchWindowInMillis) {
+        this.timerJobPrefetchWindowInMillis = timerJobPrefetchWindowInMillis;
+    }
+
+    @Override
+    public int getTimerJobTimingWheelTickInMillis() {
+        return timerJobTimingWheelTickInMillis;
+    }
+
+    public void setTimerJobTimingWheelTickInMillis(int timerJobTimingWheelTickInMillis) {
+        this.timerJobTimingWheelTickInMillis = timerJobTimingWheelTickInMillis;
+    }
+
+    @Override
+    public int getTimerJobTimingWheelSize() {
+        return timerJobTimingWheelSize;
+    }
+
+    public void setTimerJobTimingWheelSize(int timerJobTimingWheelSize) {
+        this.timerJobTimingWheelSize = timerJobTimingWheelSize;
+    }
+
     @Override
     public int getMaxAsyncJobsDuePerAcquisition() {
         return maxAsyncJobsDuePerAcquisition;
@@ -390,6 +456,38 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         return resetExpiredJobsRunnable;
     }
     
+    public boolean isJobPartitionLeaseNeeded() {
+        return jobPartitionLeaseNeeded;
+    }
+
+    public void setJobPartitionLeaseNeeded(boolean jobPartitionLeaseNeeded) {
+        this.jobPartitionLeaseNeeded = jobPartitionLeaseNeeded;
+    }
+
+    public int getJobPartitionLeaseTimeInMillis() {
+        return jobPartitionLeaseTimeInMillis;
+    }
+
+    public void setJobPartitionLeaseTimeInMillis(int jobPartitionLeaseTimeInMillis) {
+        this.jobPartitionLeaseTimeInMillis = jobPartitionLeaseTimeInMillis;
+    }
+
+    public int getJobPartitionLeaseRenewIntervalInMillis() {
+        return jobPartitionLeaseRenewIntervalInMillis;
+    }
+
+    public void setJobPartitionLeaseRenewIntervalInMillis(int jobPartitionLeaseRenewIntervalInMillis) {
+        this.jobPartitionLeaseRenewIntervalInMillis = jobPartitionLeaseRenewIntervalInMillis;
+    }
+
+    public JobPartitionLeaseRunnable getJobPartitionLeaseRunnable() {
+        return jobPartitionLeaseRunnable;
+    }
+
+    public void setJobPartitionLeaseRunnable(JobPartitionLeaseRunnable jobPartitionLeaseRunnable) {
+        this.jobPartitionLeaseRunnable = jobPartitionLeaseRunnable;
+    }
+
     public void setTenantId(String tenantId) {
         this.tenantId = tenantId;
     }
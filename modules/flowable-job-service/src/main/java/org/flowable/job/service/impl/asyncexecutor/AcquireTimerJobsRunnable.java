@@ -12,8 +12,10 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
@@ -42,6 +44,9 @@ public class AcquireTimerJobsRunnable implements Runnable {
 
     protected long millisToWait;
 
+    protected TimerJobTimingWheel timingWheel;
+    protected long nextAcquisitionTime;
+
     public AcquireTimerJobsRunnable(AsyncExecutor asyncExecutor, JobManager jobManager) {
         this.asyncExecutor = asyncExecutor;
         this.jobManager = jobManager;
@@ -56,38 +61,11 @@ public class AcquireTimerJobsRunnable implements Runnable {
 
         while (!isInterrupted) {
 
-            Collection<TimerJobEntity> timerJobs = Collections.emptyList();
-            try {
-                AcquiredTimerJobEntities acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor));
-
-                timerJobs = acquiredJobs.getJobs();
-
-                if (!timerJobs.isEmpty()) {
-                    commandExecutor.execute(new MoveTimerJobsToExecutableJobsCmd(jobManager, timerJobs));
-                }
-
-                // if all jobs were executed
-                millisToWait = asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis();
-                int jobsAcquired = acquiredJobs.size();
-                if (jobsAcquired >= asyncExecutor.getMaxTimerJobsPerAcquisition()) {
-                    millisToWait = 0;
-                }
-
-            } catch (FlowableOptimisticLockingException optimisticLockingException) {
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug("Optimistic locking exception during timer job acquisition. If you have multiple timer executors running against the same database, "
-                            + "this exception means that this thread tried to acquire a timer job, which already was acquired by another timer executor acquisition thread."
-                            + "This is expected behavior in a clustered environment. "
-                            + "You can ignore this message if you indeed have multiple timer executor acquisition threads running against the same database. " + "Exception message: {}",
-                            optimisticLockingException.getMessage());
-                }
+            if (asyncExecutor.getTimerJobPrefetchWindowInMillis() > 0) {
+                millisToWait = acquireAndMovePrefetchedTimerJobs(commandExecutor);
 
-                unlockTimerJobs(commandExecutor, timerJobs);
-            } catch (Throwable e) {
-                LOGGER.error("exception during timer job acquisition: {}", e.getMessage(), e);
-                millisToWait = asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis();
-
-                unlockTimerJobs(commandExecutor, timerJobs);
+            } else {
+                acquireAndMoveTimerJobs(commandExecutor);
             }
 
             if (millisToWait > 0) {
@@ -115,9 +93,129 @@ public class AcquireTimerJobsRunnable implements Runnable {
             }
         }
 
+        if (timingWheel != null && !timingWheel.isEmpty()) {
+            unlockTimerJobs(commandExecutor, timingWheel.removeAll());
+        }
+
         LOGGER.info("stopped async job due acquisition");
     }
 
+    protected void acquireAndMoveTimerJobs(CommandExecutor commandExecutor) {
+        Collection<TimerJobEntity> timerJobs = Collections.emptyList();
+        try {
+            AcquiredTimerJobEntities acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor));
+
+            timerJobs = acquiredJobs.getJobs();
+
+            if (!timerJobs.isEmpty()) {
+                commandExecutor.execute(new MoveTimerJobsToExecutableJobsCmd(jobManager, timerJobs));
+            }
+
+            // if all jobs were executed
+            millisToWait = asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis();
+            int jobsAcquired = acquiredJobs.size();
+            if (jobsAcquired >= asyncExecutor.getMaxTimerJobsPerAcquisition()) {
+                millisToWait = 0;
+            }
+
+        } catch (FlowableOptimisticLockingException optimisticLockingException) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Optimistic locking exception during timer job acquisition. If you have multiple timer executors running against the same database, "
+                        + "this exception means that this thread tried to acquire a timer job, which already was acquired by another timer executor acquisition thread."
+                        + "This is expected behavior in a clustered environment. "
+                        + "You can ignore this message if you indeed have multiple timer executor acquisition threads running against the same database. " + "Exception message: {}",
+                        optimisticLockingException.getMessage());
+            }
+
+            unlockTimerJobs(commandExecutor, timerJobs);
+        } catch (Throwable e) {
+            LOGGER.error("exception during timer job acquisition: {}", e.getMessage(), e);
+            millisToWait = asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis();
+
+            unlockTimerJobs(commandExecutor, timerJobs);
+        }
+    }
+
+    /**
+     * Acquires the timer jobs that are due within the prefetch window into the timing wheel,
+     * and moves the timer jobs of the wheel that are due to the executable jobs.
+     *
+     * @return the time to wait until the next acquisition or until the next timer job in the wheel is due
+     */
+    protected long acquireAndMovePrefetchedTimerJobs(CommandExecutor commandExecutor) {
+        long now = getCurrentTime();
+        if (timingWheel == null) {
+            timingWheel = new TimerJobTimingWheel(asyncExecutor.getTimerJobTimingWheelTickInMillis(), asyncExecutor.getTimerJobTimingWheelSize(), now);
+        }
+
+        if (now >= nextAcquisitionTime) {
+            try {
+                AcquiredTimerJobEntities acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor));
+                for (TimerJobEntity timerJob : acquiredJobs.getJobs()) {
+                    timingWheel.add(timerJob);
+                }
+
+                if (acquiredJobs.size() >= asyncExecutor.getMaxTimerJobsPerAcquisition()) {
+                    nextAcquisitionTime = now;
+                } else {
+                    nextAcquisitionTime = now + asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis();
+                }
+
+            } catch (FlowableOptimisticLockingException optimisticLockingException) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Optimistic locking exception during timer job acquisition. Another timer executor acquisition thread acquired one of the timer jobs. "
+                            + "Exception message: {}", optimisticLockingException.getMessage());
+                }
+                nextAcquisitionTime = now;
+
+            } catch (Throwable e) {
+                LOGGER.error("exception during timer job acquisition: {}", e.getMessage(), e);
+                nextAcquisitionTime = now + asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis();
+            }
+        }
+
+        List<TimerJobEntity> dueTimerJobs = timingWheel.advanceClock(getCurrentTime());
+        int batchSize = Math.max(1, asyncExecutor.getMaxTimerJobsPerAcquisition());
+        for (int i = 0; i < dueTimerJobs.size(); i += batchSize) {
+            moveTimerJobs(commandExecutor, dueTimerJobs.subList(i, Math.min(i + batchSize, dueTimerJobs.size())));
+        }
+
+        now = getCurrentTime();
+        long nextWakeUpTime = nextAcquisitionTime;
+        long nextExpirationTime = timingWheel.getNextExpirationTime();
+        if (nextExpirationTime >= 0 && nextExpirationTime < nextWakeUpTime) {
+            nextWakeUpTime = nextExpirationTime;
+        }
+
+        // The wait is limited, as the clock could be changed in the meantime (e.g. in tests)
+        return Math.max(0, Math.min(nextWakeUpTime - now, asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis()));
+    }
+
+    protected void moveTimerJobs(CommandExecutor commandExecutor, List<TimerJobEntity> timerJobs) {
+        try {
+            commandExecutor.execute(new MoveTimerJobsToExecutableJobsCmd(jobManager, new ArrayList<>(timerJobs)));
+
+        } catch (Throwable e) {
+            if (timerJobs.size() == 1) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Could not move prefetched timer job {}. It was probably changed or deleted after it was acquired", timerJobs.get(0).getId(), e);
+                }
+                unlockTimerJobs(commandExecutor, timerJobs);
+
+            } else {
+                // One of the timer jobs was probably changed or deleted after it was acquired,
+                // move them one by one so that the other timer jobs of the batch are not held back
+                for (TimerJobEntity timerJob : timerJobs) {
+                    moveTimerJobs(commandExecutor, Collections.singletonList(timerJob));
+                }
+            }
+        }
+    }
+
+    protected long getCurrentTime() {
+        return asyncExecutor.getJobServiceConfiguration().getClock().getCurrentTime().getTime();
+    }
+
     protected void unlockTimerJobs(CommandExecutor commandExecutor, Collection<TimerJobEntity> timerJobs) {
         try {
             if (!timerJobs.isEmpty()) {
@@ -12,6 +12,8 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.util.Collection;
+
 import org.flowable.common.engine.api.async.AsyncTaskExecutor;
 import org.flowable.job.api.JobInfo;
 import org.flowable.job.service.JobServiceConfiguration;
@@ -107,4 +109,36 @@ public interface AsyncExecutor {
      */
     void setTaskExecutor(AsyncTaskExecutor taskExecutor);
 
+    /**
+     * The job partitions that are currently owned by this async executor.
+     *
+     * @return the owned partitions, or null when the acquisition of jobs is not limited to partitions
+     */
+    default Collection<Integer> getOwnedJobPartitions() {
+        return null;
+    }
+
+    /**
+     * The time window in milliseconds within which due timer jobs are acquired ahead of their due date.
+     *
+     * @return the prefetch window, or 0 when timer jobs are only acquired once they are due
+     */
+    default int getTimerJobPrefetchWindowInMillis() {
+        return 0;
+    }
+
+    /**
+     * The duration in milliseconds of one tick of the in-memory timing wheel that holds the prefetched timer jobs until they are due.
+     */
+    default int getTimerJobTimingWheelTickInMillis() {
+        return 100;
+    }
+
+    /**
+     * The number of buckets of each level of the in-memory timing wheel that holds the prefetched timer jobs until they are due.
+     */
+    default int getTimerJobTimingWheelSize() {
+        return 64;
+    }
+
 }
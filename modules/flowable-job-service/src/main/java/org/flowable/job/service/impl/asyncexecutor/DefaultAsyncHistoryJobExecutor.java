@@ -16,6 +16,7 @@ public class DefaultAsyncHistoryJobExecutor extends DefaultAsyncJobExecutor {
     
     public DefaultAsyncHistoryJobExecutor() {
         setTimerRunnableNeeded(false);
+        setJobPartitionLeaseNeeded(false);
         setAcquireRunnableThreadName("flowable-acquire-history-jobs");
         setResetExpiredRunnableName("flowable-reset-expired-history-jobs");
         setAsyncRunnableExecutionExceptionHandler(new UnacquireAsyncHistoryJobExceptionHandler());
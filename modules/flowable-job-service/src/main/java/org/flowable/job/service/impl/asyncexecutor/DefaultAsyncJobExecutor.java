@@ -65,6 +65,11 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
      */
     protected Thread resetExpiredJobThread;
 
+    /**
+     * Thread responsible for leasing the job partitions, when job partitioning is enabled.
+     */
+    protected Thread jobPartitionLeaseThread;
+
     /**
      * Whether to unlock jobs that are owned by this executor (have the same
      * lockOwner) at startup or shutdown.
@@ -120,6 +125,8 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
 
     @Override
     protected void startAdditionalComponents() {
+        startJobPartitionLeaseThread();
+
         if (!isMessageQueueMode) {
             initAsyncJobExecutionThreadPool();
             startJobAcquisitionThread();
@@ -140,6 +147,7 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         stopResetExpiredJobsThread();
         stopTimerAcquisitionThread();
         stopJobAcquisitionThread();
+        stopJobPartitionLeaseThread();
         stopExecutingAsyncJobs();
 
         if (unlockOwnedJobs) {
@@ -240,6 +248,32 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         }
     }
 
+    /** Starts the job partition lease thread */
+    protected void startJobPartitionLeaseThread() {
+        if (jobPartitionLeaseRunnable != null) {
+            // Lease the partitions before the acquisition threads are started
+            jobPartitionLeaseRunnable.leasePartitions();
+
+            if (jobPartitionLeaseThread == null) {
+                jobPartitionLeaseThread = new Thread(jobPartitionLeaseRunnable);
+            }
+            jobPartitionLeaseThread.start();
+        }
+    }
+
+    /** Stops the job partition lease thread */
+    protected void stopJobPartitionLeaseThread() {
+        if (jobPartitionLeaseThread != null) {
+            try {
+                jobPartitionLeaseThread.join();
+            } catch (InterruptedException e) {
+                LOGGER.warn("Interrupted while waiting for the job partition lease thread to terminate", e);
+            }
+
+            jobPartitionLeaseThread = null;
+        }
+    }
+
     public boolean isAsyncJobAcquisitionEnabled() {
         return isAsyncJobAcquisitionEnabled;
     }
@@ -288,6 +322,14 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         this.resetExpiredJobThread = resetExpiredJobThread;
     }
 
+    public Thread getJobPartitionLeaseThread() {
+        return jobPartitionLeaseThread;
+    }
+
+    public void setJobPartitionLeaseThread(Thread jobPartitionLeaseThread) {
+        this.jobPartitionLeaseThread = jobPartitionLeaseThread;
+    }
+
     @Override
     public int getRemainingCapacity() {
         //TODO evaluate removing this method
@@ -0,0 +1,169 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.cfg.TransactionPropagation;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runnable that periodically renews and rebalances the job partitions leased by an async executor (see {@link LeaseJobPartitionsCmd}).
+ * The acquisition of async and timer jobs is limited to the partitions that are owned by the async executor.
+ * 
+ * When the leases could not be renewed for longer than the lease time, the executor stops acquiring jobs of its partitions,
+ * as other executors can have taken them over in the meantime.
+ *
+ * When two executors claim a partition that has never been leased before at the same time, both insert its lease and one of them
+ * fails on the unique constraint. For that executor the partition is lost to the other one, and the lease is retried right away,
+ * so that its other leases are still renewed in the same cycle.
+ */
+public class JobPartitionLeaseRunnable implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobPartitionLeaseRunnable.class);
+
+    protected final String name;
+    protected final AbstractAsyncExecutor asyncExecutor;
+
+    protected volatile boolean isInterrupted;
+    protected final Object MONITOR = new Object();
+    protected final AtomicBoolean isWaiting = new AtomicBoolean(false);
+
+    protected long lastSuccessfulLeaseTime;
+
+    public JobPartitionLeaseRunnable(String name, AbstractAsyncExecutor asyncExecutor) {
+        this.name = name;
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    @Override
+    public synchronized void run() {
+        LOGGER.info("starting to lease job partitions for engine {}", asyncExecutor.getJobServiceConfiguration().getEngineName());
+        Thread.currentThread().setName(name);
+
+        while (!isInterrupted) {
+
+            leasePartitions();
+
+            try {
+
+                synchronized (MONITOR) {
+                    if (!isInterrupted) {
+                        isWaiting.set(true);
+                        MONITOR.wait(asyncExecutor.getJobPartitionLeaseRenewIntervalInMillis());
+                    }
+                }
+
+            } catch (InterruptedException e) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("job partition lease wait interrupted");
+                }
+            } finally {
+                isWaiting.set(false);
+            }
+
+        }
+
+        releasePartitions();
+
+        LOGGER.info("stopped leasing job partitions for engine {}", asyncExecutor.getJobServiceConfiguration().getEngineName());
+    }
+
+    public void leasePartitions() {
+        try {
+            Set<Integer> ownedPartitions;
+            try {
+                ownedPartitions = getCommandExecutor().execute(createCommandConfig(), createLeaseJobPartitionsCmd());
+
+            } catch (RuntimeException e) {
+                if (!isConstraintViolation(e)) {
+                    throw e;
+                }
+
+                LOGGER.debug("job partition lease lost to another executor for engine {}", asyncExecutor.getJobServiceConfiguration().getEngineName(), e);
+                ownedPartitions = getCommandExecutor().execute(createCommandConfig(), createLeaseJobPartitionsCmd());
+            }
+
+            asyncExecutor.setOwnedJobPartitions(Collections.unmodifiableSet(ownedPartitions));
+            lastSuccessfulLeaseTime = System.currentTimeMillis();
+
+            LOGGER.debug("owned job partitions for engine {}: {}", asyncExecutor.getJobServiceConfiguration().getEngineName(), ownedPartitions);
+
+        } catch (Throwable e) {
+            if (e instanceof FlowableOptimisticLockingException) {
+                LOGGER.debug("Optimistic lock exception while leasing job partitions for engine {}", asyncExecutor.getJobServiceConfiguration().getEngineName(), e);
+            } else {
+                LOGGER.warn("exception during leasing job partitions: {} for engine {}", e.getMessage(),
+                        asyncExecutor.getJobServiceConfiguration().getEngineName(), e);
+            }
+
+            if (System.currentTimeMillis() - lastSuccessfulLeaseTime > asyncExecutor.getJobPartitionLeaseTimeInMillis()) {
+                // The leases have expired, another executor can own the partitions by now
+                asyncExecutor.setOwnedJobPartitions(Collections.emptySet());
+            }
+        }
+    }
+
+    protected boolean isConstraintViolation(Throwable exception) {
+        Throwable cause = exception;
+        while (cause != null) {
+            // SQL state class 23 is an integrity constraint violation, not every driver throws a SQLIntegrityConstraintViolationException for it
+            if (cause instanceof SQLIntegrityConstraintViolationException
+                    || (cause instanceof SQLException && ((SQLException) cause).getSQLState() != null && ((SQLException) cause).getSQLState().startsWith("23"))) {
+                return true;
+            }
+            cause = cause.getCause() != cause ? cause.getCause() : null;
+        }
+        return false;
+    }
+
+    protected void releasePartitions() {
+        asyncExecutor.setOwnedJobPartitions(Collections.emptySet());
+        try {
+            getCommandExecutor().execute(createCommandConfig(), new ReleaseJobPartitionsCmd(asyncExecutor));
+        } catch (Throwable e) {
+            LOGGER.warn("exception during releasing job partitions: {} for engine {}", e.getMessage(),
+                    asyncExecutor.getJobServiceConfiguration().getEngineName(), e);
+        }
+    }
+
+    protected LeaseJobPartitionsCmd createLeaseJobPartitionsCmd() {
+        return new LeaseJobPartitionsCmd(asyncExecutor, asyncExecutor.getJobPartitionLeaseTimeInMillis());
+    }
+
+    protected CommandExecutor getCommandExecutor() {
+        return asyncExecutor.getJobServiceConfiguration().getCommandExecutor();
+    }
+
+    protected CommandConfig createCommandConfig() {
+        return new CommandConfig(false, TransactionPropagation.REQUIRES_NEW);
+    }
+
+    public void stop() {
+        synchronized (MONITOR) {
+            isInterrupted = true;
+            if (isWaiting.compareAndSet(true, false)) {
+                MONITOR.notifyAll();
+            }
+        }
+    }
+
+}
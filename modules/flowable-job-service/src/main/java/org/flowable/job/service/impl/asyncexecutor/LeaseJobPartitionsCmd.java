@@ -0,0 +1,202 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntity;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntityManager;
+import org.flowable.job.service.JobServiceConfiguration;
+
+/**
+ * Renews and rebalances the job partitions that are leased by an async executor.
+ * <p>
+ * Leases are stored in the ACT_GE_PROPERTY table, next to the locks of the {@link org.flowable.common.engine.impl.lock.LockManager}.
+ * Every async executor registers itself with a node property that expires when it is not renewed.
+ * Based on the number of live nodes, an executor releases the partitions it owns above its fair share
+ * and claims free or expired partitions until it reaches its fair share.
+ * <p>
+ * When two executors try to claim the same partition, one of them fails with an optimistic locking exception
+ * and retries during its next lease cycle. When the partition has never been leased before, both insert its lease
+ * and one of them fails on the unique constraint instead, which the {@link JobPartitionLeaseRunnable} handles as a lost lease.
+ * <p>
+ * Only the partition and node properties of the engine are fetched, the other properties are not read.
+ * <p>
+ * The result of the command are the partitions that are owned by the async executor once the transaction is committed.
+ */
+public class LeaseJobPartitionsCmd implements Command<Set<Integer>> {
+
+    protected static final String VALUE_SEPARATOR = "|";
+
+    protected AsyncExecutor asyncExecutor;
+    protected int leaseTimeInMillis;
+
+    public LeaseJobPartitionsCmd(AsyncExecutor asyncExecutor, int leaseTimeInMillis) {
+        this.asyncExecutor = asyncExecutor;
+        this.leaseTimeInMillis = leaseTimeInMillis;
+    }
+
+    @Override
+    public Set<Integer> execute(CommandContext commandContext) {
+        JobServiceConfiguration jobServiceConfiguration = asyncExecutor.getJobServiceConfiguration();
+        PropertyEntityManager propertyEntityManager = getPropertyEntityManager(commandContext, jobServiceConfiguration);
+
+        String lockOwner = asyncExecutor.getLockOwner();
+        int partitionCount = jobServiceConfiguration.getJobPartitionCount();
+        long now = jobServiceConfiguration.getClock().getCurrentTime().getTime();
+        String leaseExpiration = Instant.ofEpochMilli(now + leaseTimeInMillis).toString();
+
+        String partitionPrefix = getPartitionPropertyPrefix(jobServiceConfiguration);
+        String nodePrefix = getNodePropertyPrefix(jobServiceConfiguration);
+        String ownNodeName = nodePrefix + lockOwner;
+
+        Map<Integer, PropertyEntity> partitionProperties = new HashMap<>();
+        PropertyEntity ownNodeProperty = null;
+        int liveNodes = 1;
+
+        for (PropertyEntity property : propertyEntityManager.findByNamePrefix(partitionPrefix)) {
+            String name = property.getName();
+            if (name.startsWith(partitionPrefix)) {
+                Integer partition = parsePartition(name.substring(partitionPrefix.length()));
+                if (partition != null) {
+                    partitionProperties.put(partition, property);
+                }
+            }
+        }
+
+        for (PropertyEntity property : propertyEntityManager.findByNamePrefix(nodePrefix)) {
+            String name = property.getName();
+            if (name.equals(ownNodeName)) {
+                ownNodeProperty = property;
+
+            } else if (name.startsWith(nodePrefix)) {
+                if (isExpired(property.getValue(), now)) {
+                    propertyEntityManager.delete(property);
+                } else {
+                    liveNodes++;
+                }
+            }
+        }
+
+        // Register or renew the node of this executor, so the other nodes take it into account when rebalancing
+        if (ownNodeProperty == null) {
+            ownNodeProperty = propertyEntityManager.create();
+            ownNodeProperty.setName(ownNodeName);
+            ownNodeProperty.setValue(leaseExpiration);
+            propertyEntityManager.insert(ownNodeProperty);
+        } else {
+            ownNodeProperty.setValue(leaseExpiration);
+        }
+
+        int fairShare = (partitionCount + liveNodes - 1) / liveNodes;
+
+        TreeSet<Integer> ownedPartitions = new TreeSet<>();
+        for (Map.Entry<Integer, PropertyEntity> entry : partitionProperties.entrySet()) {
+            if (entry.getKey() < partitionCount && lockOwner.equals(getOwner(entry.getValue().getValue()))) {
+                ownedPartitions.add(entry.getKey());
+            }
+        }
+
+        // Release the partitions above the fair share, other nodes will pick them up
+        while (ownedPartitions.size() > fairShare) {
+            Integer partition = ownedPartitions.last();
+            partitionProperties.get(partition).setValue(null);
+            ownedPartitions.remove(partition);
+        }
+
+        for (Integer partition : ownedPartitions) {
+            partitionProperties.get(partition).setValue(createPartitionValue(lockOwner, leaseExpiration));
+        }
+
+        // Claim free or expired partitions, starting from a node specific offset to avoid that all nodes compete for the same partitions
+        int offset = Math.floorMod(lockOwner.hashCode(), Math.max(partitionCount, 1));
+        for (int i = 0; i < partitionCount && ownedPartitions.size() < fairShare; i++) {
+            int partition = (offset + i) % partitionCount;
+            if (ownedPartitions.contains(partition)) {
+                continue;
+            }
+
+            PropertyEntity property = partitionProperties.get(partition);
+            if (property == null) {
+                property = propertyEntityManager.create();
+                property.setName(partitionPrefix + partition);
+                property.setValue(createPartitionValue(lockOwner, leaseExpiration));
+                propertyEntityManager.insert(property);
+                ownedPartitions.add(partition);
+
+            } else if (property.getValue() == null || isExpired(getExpiration(property.getValue()), now)) {
+                property.setValue(createPartitionValue(lockOwner, leaseExpiration));
+                ownedPartitions.add(partition);
+            }
+        }
+
+        return ownedPartitions;
+    }
+
+    protected PropertyEntityManager getPropertyEntityManager(CommandContext commandContext, JobServiceConfiguration jobServiceConfiguration) {
+        return commandContext.getEngineConfigurations().get(jobServiceConfiguration.getEngineName()).getPropertyEntityManager();
+    }
+
+    protected Integer parsePartition(String value) {
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    protected String createPartitionValue(String lockOwner, String leaseExpiration) {
+        return lockOwner + VALUE_SEPARATOR + leaseExpiration;
+    }
+
+    protected String getOwner(String partitionValue) {
+        if (partitionValue == null) {
+            return null;
+        }
+        int index = partitionValue.lastIndexOf(VALUE_SEPARATOR);
+        return index >= 0 ? partitionValue.substring(0, index) : null;
+    }
+
+    protected String getExpiration(String partitionValue) {
+        int index = partitionValue.lastIndexOf(VALUE_SEPARATOR);
+        return index >= 0 ? partitionValue.substring(index + 1) : null;
+    }
+
+    protected boolean isExpired(String expiration, long now) {
+        if (expiration == null) {
+            return true;
+        }
+
+        try {
+            return Instant.parse(expiration).toEpochMilli() < now;
+        } catch (DateTimeParseException e) {
+            return true;
+        }
+    }
+
+    public static String getPartitionPropertyPrefix(JobServiceConfiguration jobServiceConfiguration) {
+        return "job." + jobServiceConfiguration.getEngineName() + ".partition.";
+    }
+
+    public static String getNodePropertyPrefix(JobServiceConfiguration jobServiceConfiguration) {
+        return "job." + jobServiceConfiguration.getEngineName() + ".node.";
+    }
+
+}
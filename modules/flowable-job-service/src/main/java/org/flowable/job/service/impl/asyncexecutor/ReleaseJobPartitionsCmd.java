@@ -0,0 +1,59 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntity;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntityManager;
+import org.flowable.job.service.JobServiceConfiguration;
+
+/**
+ * Releases all job partitions leased by an async executor and unregisters its node,
+ * so the remaining executors can take over the partitions without waiting for the leases to expire.
+ */
+public class ReleaseJobPartitionsCmd implements Command<Void> {
+
+    protected AsyncExecutor asyncExecutor;
+
+    public ReleaseJobPartitionsCmd(AsyncExecutor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        JobServiceConfiguration jobServiceConfiguration = asyncExecutor.getJobServiceConfiguration();
+        PropertyEntityManager propertyEntityManager = commandContext.getEngineConfigurations()
+                .get(jobServiceConfiguration.getEngineName()).getPropertyEntityManager();
+
+        String lockOwner = asyncExecutor.getLockOwner();
+        String partitionPrefix = LeaseJobPartitionsCmd.getPartitionPropertyPrefix(jobServiceConfiguration);
+        String ownNodeName = LeaseJobPartitionsCmd.getNodePropertyPrefix(jobServiceConfiguration) + lockOwner;
+        String ownedValuePrefix = lockOwner + LeaseJobPartitionsCmd.VALUE_SEPARATOR;
+
+        PropertyEntity ownNodeProperty = propertyEntityManager.findById(ownNodeName);
+        if (ownNodeProperty != null) {
+            propertyEntityManager.delete(ownNodeProperty);
+        }
+
+        for (PropertyEntity property : propertyEntityManager.findByNamePrefix(partitionPrefix)) {
+            if (property.getName().startsWith(partitionPrefix) && property.getValue() != null
+                    && property.getValue().startsWith(ownedValuePrefix)) {
+                property.setValue(null);
+            }
+        }
+
+        return null;
+    }
+
+}
@@ -0,0 +1,198 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+
+/**
+ * Hierarchical timing wheel that keeps acquired timer jobs in memory until they are due.
+ *
+ * Each level consists of a fixed number of buckets, each bucket covering one tick of the level.
+ * Timer jobs that are due further away than the span of a level are put in the next (overflow) level, of which one tick covers the span of the previous level.
+ * When the clock advances, the buckets that have passed are emptied and their jobs are added again from the lowest level,
+ * moving them down the levels until they end up in a bucket of the lowest level, or are returned as due.
+ * Adding a job and advancing the clock therefore never need to look at more than the buckets of the wheel, independent of the number of jobs.
+ *
+ * A timing wheel is not thread safe, it is meant to be used by the timer job acquisition thread only.
+ */
+public class TimerJobTimingWheel {
+
+    protected final long tickInMillis;
+    protected final int wheelSize;
+    protected final long intervalInMillis;
+    protected final List<List<TimerJobEntity>> buckets;
+    protected final long[] bucketTimes;
+
+    protected long currentTime;
+    protected TimerJobTimingWheel overflowWheel;
+    protected int size;
+
+    public TimerJobTimingWheel(long tickInMillis, int wheelSize, long startTime) {
+        if (tickInMillis <= 0) {
+            throw new IllegalArgumentException("The tick of a timing wheel must be greater than 0");
+        }
+        if (wheelSize <= 0) {
+            throw new IllegalArgumentException("The size of a timing wheel must be greater than 0");
+        }
+
+        this.tickInMillis = tickInMillis;
+        this.wheelSize = wheelSize;
+        this.intervalInMillis = tickInMillis * wheelSize;
+        this.buckets = new ArrayList<>(wheelSize);
+        this.bucketTimes = new long[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayList<>());
+            bucketTimes[i] = -1;
+        }
+        this.currentTime = startTime - (startTime % tickInMillis);
+    }
+
+    /**
+     * Adds the timer job to the wheel.
+     *
+     * @return true when the job was added, false when the job is due already at the current time of the wheel
+     */
+    public boolean add(TimerJobEntity timerJob) {
+        boolean added = add(timerJob, getExpirationTime(timerJob));
+        if (added) {
+            size++;
+        }
+        return added;
+    }
+
+    /**
+     * Advances the clock of the wheel to the given time.
+     *
+     * @return the timer jobs that are due at the given time, these are removed from the wheel
+     */
+    public List<TimerJobEntity> advanceClock(long time) {
+        List<TimerJobEntity> passedTimerJobs = new ArrayList<>();
+        advanceClock(time, passedTimerJobs);
+
+        List<TimerJobEntity> dueTimerJobs = new ArrayList<>();
+        for (TimerJobEntity timerJob : passedTimerJobs) {
+            if (!add(timerJob, getExpirationTime(timerJob))) {
+                dueTimerJobs.add(timerJob);
+            }
+        }
+
+        size -= dueTimerJobs.size();
+        return dueTimerJobs;
+    }
+
+    /**
+     * @return the earliest time at which timer jobs of the wheel can become due, or -1 when the wheel is empty
+     */
+    public long getNextExpirationTime() {
+        long nextExpirationTime = -1;
+        for (long bucketTime : bucketTimes) {
+            if (bucketTime >= 0 && (nextExpirationTime < 0 || bucketTime < nextExpirationTime)) {
+                nextExpirationTime = bucketTime;
+            }
+        }
+
+        if (overflowWheel != null) {
+            long overflowExpirationTime = overflowWheel.getNextExpirationTime();
+            if (overflowExpirationTime >= 0 && (nextExpirationTime < 0 || overflowExpirationTime < nextExpirationTime)) {
+                nextExpirationTime = overflowExpirationTime;
+            }
+        }
+
+        return nextExpirationTime;
+    }
+
+    /**
+     * Removes all timer jobs from the wheel, independent of their due date.
+     */
+    public List<TimerJobEntity> removeAll() {
+        List<TimerJobEntity> timerJobs = new ArrayList<>();
+        removeAll(timerJobs);
+        size = 0;
+        return timerJobs;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    protected boolean add(TimerJobEntity timerJob, long expirationTime) {
+        if (expirationTime <= currentTime) {
+            return false;
+
+        } else if (expirationTime < currentTime + intervalInMillis) {
+            long virtualId = expirationTime / tickInMillis;
+            int bucketIndex = (int) (virtualId % wheelSize);
+            buckets.get(bucketIndex).add(timerJob);
+            bucketTimes[bucketIndex] = virtualId * tickInMillis;
+            return true;
+
+        } else {
+            if (overflowWheel == null) {
+                overflowWheel = new TimerJobTimingWheel(intervalInMillis, wheelSize, currentTime);
+            }
+            return overflowWheel.add(timerJob, expirationTime);
+        }
+    }
+
+    protected void advanceClock(long time, List<TimerJobEntity> passedTimerJobs) {
+        for (int i = 0; i < wheelSize; i++) {
+            if (bucketTimes[i] >= 0 && bucketTimes[i] <= time) {
+                List<TimerJobEntity> bucket = buckets.get(i);
+                passedTimerJobs.addAll(bucket);
+                bucket.clear();
+                bucketTimes[i] = -1;
+            }
+        }
+
+        if (time > currentTime) {
+            currentTime = time - (time % tickInMillis);
+        }
+
+        if (overflowWheel != null) {
+            overflowWheel.advanceClock(time, passedTimerJobs);
+        }
+    }
+
+    protected void removeAll(List<TimerJobEntity> timerJobs) {
+        for (int i = 0; i < wheelSize; i++) {
+            timerJobs.addAll(buckets.get(i));
+            buckets.get(i).clear();
+            bucketTimes[i] = -1;
+        }
+
+        if (overflowWheel != null) {
+            overflowWheel.removeAll(timerJobs);
+        }
+    }
+
+    /**
+     * The due date of the job, rounded up to the tick of the wheel: a job is never returned before its due date.
+     */
+    protected long getExpirationTime(TimerJobEntity timerJob) {
+        if (timerJob.getDuedate() == null) {
+            return currentTime;
+        }
+
+        long dueTime = timerJob.getDuedate().getTime();
+        long remainder = dueTime % tickInMillis;
+        return remainder == 0 ? dueTime : dueTime - remainder + tickInMillis;
+    }
+
+}
@@ -13,6 +13,7 @@
 package org.flowable.job.service.impl.cmd;
 
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.GregorianCalendar;
 import java.util.List;
 
@@ -51,7 +52,8 @@ public class AcquireJobsCmd implements Command<AcquiredJobEntities> {
         int maxResults = Math.min(remainingCapacity, asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
 
         List<String> enabledCategories = asyncExecutor.getJobServiceConfiguration().getEnabledJobCategories();
-        List<? extends JobInfoEntity> jobs = jobEntityManager.findJobsToExecute(enabledCategories, new Page(0, maxResults)); 
+        Collection<Integer> partitions = asyncExecutor.getOwnedJobPartitions();
+        List<? extends JobInfoEntity> jobs = jobEntityManager.findJobsToExecute(enabledCategories, partitions, new Page(0, maxResults));
         AcquiredJobEntities acquiredJobs = new AcquiredJobEntities();
 
         for (JobInfoEntity job : jobs) {
@@ -13,6 +13,8 @@
 package org.flowable.job.service.impl.cmd;
 
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
 
@@ -41,8 +43,16 @@ public class AcquireTimerJobsCmd implements Command<AcquiredTimerJobEntities> {
         
         JobServiceConfiguration jobServiceConfiguration = asyncExecutor.getJobServiceConfiguration();
         List<String> enabledCategories = jobServiceConfiguration.getEnabledJobCategories();
-        List<TimerJobEntity> timerJobs = jobServiceConfiguration.getTimerJobEntityManager()
-                .findJobsToExecute(enabledCategories, new Page(0, asyncExecutor.getMaxTimerJobsPerAcquisition()));
+        Collection<Integer> partitions = asyncExecutor.getOwnedJobPartitions();
+        Page page = new Page(0, asyncExecutor.getMaxTimerJobsPerAcquisition());
+        List<TimerJobEntity> timerJobs;
+        int prefetchWindowInMillis = asyncExecutor.getTimerJobPrefetchWindowInMillis();
+        if (prefetchWindowInMillis > 0) {
+            Date maxDueDate = new Date(jobServiceConfiguration.getClock().getCurrentTime().getTime() + prefetchWindowInMillis);
+            timerJobs = jobServiceConfiguration.getTimerJobEntityManager().findJobsToExecute(enabledCategories, partitions, maxDueDate, page);
+        } else {
+            timerJobs = jobServiceConfiguration.getTimerJobEntityManager().findJobsToExecute(enabledCategories, partitions, page);
+        }
         
         for (TimerJobEntity job : timerJobs) {
             lockJob(commandContext, job, asyncExecutor.getAsyncJobLockTimeInMillis(), jobServiceConfiguration);
@@ -57,8 +67,15 @@ public class AcquireTimerJobsCmd implements Command<AcquiredTimerJobEntities> {
         // This will trigger an optimistic locking exception when two concurrent executors
         // try to lock, as the revision will not match.
 
+        // A timer job that is acquired ahead of its due date stays locked until the lock time has passed after the due date.
+        // When the node crashes before the job is moved, the reset expired jobs runnable will release it again.
+        Date lockStartTime = jobServiceConfiguration.getClock().getCurrentTime();
+        if (job.getDuedate() != null && job.getDuedate().after(lockStartTime)) {
+            lockStartTime = job.getDuedate();
+        }
+
         GregorianCalendar gregorianCalendar = new GregorianCalendar();
-        gregorianCalendar.setTime(jobServiceConfiguration.getClock().getCurrentTime());
+        gregorianCalendar.setTime(lockStartTime);
         gregorianCalendar.add(Calendar.MILLISECOND, lockTimeInMillis);
         job.setLockOwner(asyncExecutor.getLockOwner());
         job.setLockExpirationTime(gregorianCalendar.getTime());
@@ -132,6 +132,14 @@ public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandle
         return job.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes(job.getScopeType());
     }
 
+    /**
+     * Processes a single history json node directly, without it having been stored in a history job first
+     * (e.g. when applying the write-behind history log).
+     */
+    public void handleHistoryJson(CommandContext commandContext, HistoryJobEntity job, JsonNode historyNode) {
+        processHistoryJson(commandContext, job, historyNode);
+    }
+
     protected abstract void processHistoryJson(CommandContext commandContext, HistoryJobEntity job, JsonNode historyNode);
 
     public boolean isAsyncHistoryJsonGroupingEnabled() {
@@ -0,0 +1,145 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async.writebehind;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntity;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntityManager;
+import org.flowable.job.service.HistoryJobHandler;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.history.async.AbstractAsyncHistoryJobHandler;
+import org.flowable.job.service.impl.history.async.AsyncHistoryJobNotApplicableException;
+import org.flowable.job.service.impl.history.async.AsyncHistoryListener;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Applies the next batch of records of the {@link WriteBehindHistoryLog} to the history tables.
+ *
+ * The position up to which the log has been applied is stored as an engine property, in the same transaction
+ * as the history data itself. As such, every record is applied exactly once, even when the engine goes down in the middle of a batch.
+ * A stored position of another log (see {@link WriteBehindHistoryLog#getLogId()}) is never used: the command fails instead.
+ *
+ * History data that can't be applied directly (e.g. because the data it depends on isn't there yet) is handed over
+ * to the fallback {@link AsyncHistoryListener}, which by default turns it into regular history jobs that are retried by the async history executor.
+ * When fallbackOnly is true, this happens for all history data of the batch.
+ */
+public class ApplyWriteBehindHistoryCmd implements Command<WriteBehindHistoryLogBatch> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ApplyWriteBehindHistoryCmd.class);
+
+    protected WriteBehindHistoryLog historyLog;
+    protected JobServiceConfiguration jobServiceConfiguration;
+    protected PropertyEntityManager propertyEntityManager;
+    protected AsyncHistoryListener fallbackAsyncHistoryListener;
+    protected String positionPropertyName;
+    protected int maxRecords;
+    protected boolean fallbackOnly;
+
+    public ApplyWriteBehindHistoryCmd(WriteBehindHistoryLog historyLog, JobServiceConfiguration jobServiceConfiguration,
+            PropertyEntityManager propertyEntityManager, AsyncHistoryListener fallbackAsyncHistoryListener,
+            String positionPropertyName, int maxRecords, boolean fallbackOnly) {
+
+        this.historyLog = historyLog;
+        this.jobServiceConfiguration = jobServiceConfiguration;
+        this.propertyEntityManager = propertyEntityManager;
+        this.fallbackAsyncHistoryListener = fallbackAsyncHistoryListener;
+        this.positionPropertyName = positionPropertyName;
+        this.maxRecords = maxRecords;
+        this.fallbackOnly = fallbackOnly;
+    }
+
+    @Override
+    public WriteBehindHistoryLogBatch execute(CommandContext commandContext) {
+        PropertyEntity positionProperty = propertyEntityManager.findById(positionPropertyName);
+        WriteBehindHistoryLogPosition position = positionProperty != null ? WriteBehindHistoryLogPosition.parse(positionProperty.getValue()) : null;
+        if (position != null && !position.getLogId().equals(historyLog.getLogId())) {
+            // Continuing from the stored position could skip or re-apply records, e.g. when the log was wiped or when the property is shared with another node
+            throw new FlowableException("Write-behind history position " + position + " in property " + positionPropertyName
+                    + " doesn't belong to log " + historyLog.getDirectory() + " with id " + historyLog.getLogId()
+                    + ". Every log needs its own position property: remove the property to apply the log from its start");
+        }
+
+        WriteBehindHistoryLogBatch batch = historyLog.read(position, maxRecords);
+        if (batch.isEmpty()) {
+            return batch;
+        }
+
+        List<ObjectNode> fallbackNodes = new ArrayList<>();
+        for (byte[] record : batch.getRecords()) {
+            JsonNode recordNode = readRecord(record);
+            for (JsonNode historyNode : recordNode) {
+                if (fallbackOnly || !applyHistoryJson(commandContext, historyNode)) {
+                    fallbackNodes.add((ObjectNode) historyNode);
+                }
+            }
+        }
+
+        if (!fallbackNodes.isEmpty()) {
+            fallbackAsyncHistoryListener.historyDataGenerated(jobServiceConfiguration, fallbackNodes);
+        }
+
+        if (positionProperty == null) {
+            positionProperty = propertyEntityManager.create();
+            positionProperty.setName(positionPropertyName);
+            positionProperty.setValue(batch.getEndPosition().toString());
+            propertyEntityManager.insert(positionProperty);
+
+        } else {
+            positionProperty.setValue(batch.getEndPosition().toString());
+            propertyEntityManager.update(positionProperty);
+        }
+
+        return batch;
+    }
+
+    protected JsonNode readRecord(byte[] record) {
+        try {
+            return jobServiceConfiguration.getObjectMapper().readTree(record);
+        } catch (Exception e) {
+            throw new FlowableException("Could not deserialize write-behind history record", e);
+        }
+    }
+
+    protected boolean applyHistoryJson(CommandContext commandContext, JsonNode historyNode) {
+        HistoryJobHandler historyJobHandler = jobServiceConfiguration.getHistoryJobHandlers().get(jobServiceConfiguration.getJobTypeAsyncHistory());
+        if (!(historyJobHandler instanceof AbstractAsyncHistoryJobHandler)) {
+            return false;
+        }
+
+        // A transient job, the history json transformers only use it for logging
+        HistoryJobEntity historyJob = jobServiceConfiguration.getHistoryJobEntityManager().create();
+        historyJob.setJobHandlerType(historyJobHandler.getType());
+        historyJob.setScopeType(jobServiceConfiguration.getHistoryJobExecutionScope());
+
+        try {
+            ((AbstractAsyncHistoryJobHandler) historyJobHandler).handleHistoryJson(commandContext, historyJob, historyNode);
+            return true;
+
+        } catch (AsyncHistoryJobNotApplicableException e) {
+            // Other exceptions roll back the whole batch, which is then retried with fallbackOnly
+            LOGGER.debug("Write-behind history data not applicable yet, creating history job instead: {}", e.getMessage());
+            return false;
+        }
+    }
+
+}
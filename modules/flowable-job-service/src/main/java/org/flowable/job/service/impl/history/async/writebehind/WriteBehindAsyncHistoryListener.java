@@ -0,0 +1,104 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async.writebehind;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.history.async.AsyncHistoryListener;
+import org.flowable.job.service.impl.history.async.AsyncHistorySession;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * An {@link AsyncHistoryListener} that, instead of inserting history jobs in the same transaction as the runtime data,
+ * appends the history data of a transaction to a {@link WriteBehindHistoryLog} once that transaction has committed.
+ * The {@link WriteBehindHistoryWriter} then applies the logged history data to the history tables in batches.
+ *
+ * Note that history data is lost when the node goes down between the commit of the transaction and the append to the log.
+ * Use the default async history job producer when that isn't acceptable.
+ */
+public class WriteBehindAsyncHistoryListener implements AsyncHistoryListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WriteBehindAsyncHistoryListener.class);
+
+    protected WriteBehindHistoryLog historyLog;
+
+    public WriteBehindAsyncHistoryListener(WriteBehindHistoryLog historyLog) {
+        this.historyLog = historyLog;
+    }
+
+    @Override
+    public List<HistoryJobEntity> historyDataGenerated(JobServiceConfiguration jobServiceConfiguration, List<ObjectNode> historyObjectNodes) {
+        ArrayNode arrayNode = jobServiceConfiguration.getObjectMapper().createArrayNode();
+        arrayNode.addAll(historyObjectNodes);
+
+        byte[] bytes;
+        try {
+            bytes = jobServiceConfiguration.getObjectMapper().writeValueAsBytes(arrayNode);
+        } catch (JsonProcessingException e) {
+            throw new FlowableException("Could not serialize historic data for write-behind history", e);
+        }
+
+        TransactionContext transactionContext = getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, commandContext -> appendToLog(bytes));
+        } else {
+            appendToLog(bytes);
+        }
+
+        return Collections.emptyList();
+    }
+
+    protected TransactionContext getTransactionContext() {
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext != null) {
+            AsyncHistorySession asyncHistorySession = commandContext.getSession(AsyncHistorySession.class);
+            if (asyncHistorySession != null && asyncHistorySession.getTransactionContext() != null) {
+                return asyncHistorySession.getTransactionContext();
+            }
+        }
+        return Context.getTransactionContext();
+    }
+
+    protected void appendToLog(byte[] bytes) {
+        try {
+            historyLog.append(bytes);
+        } catch (Exception e) {
+            // The transaction has already been committed at this point, so the data is logged to be able to recover it manually
+            LOGGER.error("Could not append history data to the write-behind history log {}: {}", historyLog.getDirectory(),
+                    new String(bytes, StandardCharsets.UTF_8), e);
+        }
+    }
+
+    public WriteBehindHistoryLog getHistoryLog() {
+        return historyLog;
+    }
+
+    public void setHistoryLog(WriteBehindHistoryLog historyLog) {
+        this.historyLog = historyLog;
+    }
+
+}
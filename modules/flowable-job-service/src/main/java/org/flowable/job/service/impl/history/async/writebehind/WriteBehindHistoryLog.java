@@ -0,0 +1,446 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async.writebehind;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A durable, local, append-only log of history data, stored in memory-mapped segment files.
+ *
+ * Every segment starts with the id of the log, which is generated when the log is created.
+ * Positions in the log contain that id, so that a position stored for a log that has been wiped isn't used for the new log.
+ *
+ * Every record is stored as its length, the CRC32 checksum of its data and the data itself.
+ * A record is forced to disk before {@link #append(byte[])} returns. Records that are appended concurrently
+ * are forced together: while one thread forces the log, the others wait and are then covered by a single force.
+ * When the log is opened again (e.g. after a crash), the records of the last segment are validated
+ * and appending continues after the last complete record.
+ *
+ * Records are read by position, the log itself doesn't keep track of what has been read:
+ * that is up to the reader (see {@link WriteBehindHistoryWriter}), which removes the segments it doesn't need anymore
+ * with {@link #deleteSegmentsBefore(WriteBehindHistoryLogPosition)}.
+ * Only records that have been forced to disk are read.
+ */
+public class WriteBehindHistoryLog {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WriteBehindHistoryLog.class);
+
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    protected static final String SEGMENT_FILE_PREFIX = "history-";
+    protected static final String SEGMENT_FILE_SUFFIX = ".log";
+
+    // log id (32 hexadecimal characters)
+    protected static final int SEGMENT_HEADER_SIZE = 32;
+
+    // length (int) + checksum (int)
+    protected static final int RECORD_HEADER_SIZE = 8;
+
+    protected final File directory;
+    protected final int segmentSize;
+    protected final Object forceMonitor = new Object();
+
+    protected boolean open;
+    protected String logId;
+    protected long writeSegment;
+    protected FileChannel writeChannel;
+    protected MappedByteBuffer writeBuffer;
+    protected WriteBehindHistoryLogPosition appendedPosition;
+    protected volatile WriteBehindHistoryLogPosition forcedPosition;
+
+    public WriteBehindHistoryLog(File directory) {
+        this(directory, DEFAULT_SEGMENT_SIZE);
+    }
+
+    public WriteBehindHistoryLog(File directory, int segmentSize) {
+        if (segmentSize <= SEGMENT_HEADER_SIZE + RECORD_HEADER_SIZE) {
+            throw new FlowableIllegalArgumentException("Segment size of the write-behind history log needs to be larger than "
+                    + (SEGMENT_HEADER_SIZE + RECORD_HEADER_SIZE));
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Appends the data as a new record to the log. Once this method returns, the record has been forced to disk.
+     *
+     * @return the position right after the appended record
+     */
+    public WriteBehindHistoryLogPosition append(byte[] data) {
+        if (data == null || data.length == 0) {
+            throw new FlowableIllegalArgumentException("No data to append to the write-behind history log");
+        }
+
+        WriteBehindHistoryLogPosition position;
+        synchronized (this) {
+            ensureOpen();
+
+            int recordSize = RECORD_HEADER_SIZE + data.length;
+            if (writeBuffer.remaining() < recordSize) {
+                // Forcing the log only covers the current segment, so the records of the previous segment are forced here
+                writeBuffer.force();
+                openWriteSegment(writeSegment + 1, Math.max(segmentSize, SEGMENT_HEADER_SIZE + recordSize));
+            }
+
+            writeBuffer.putInt(data.length);
+            writeBuffer.putInt(checksum(data));
+            writeBuffer.put(data);
+
+            position = new WriteBehindHistoryLogPosition(logId, writeSegment, writeBuffer.position());
+            appendedPosition = position;
+        }
+
+        force(position);
+        return position;
+    }
+
+    /**
+     * Forces the log to disk up to at least the given position.
+     * Everything that has been appended when the force starts is forced, so a thread that was waiting for another one to force the log
+     * usually finds its record already forced.
+     */
+    protected void force(WriteBehindHistoryLogPosition position) {
+        synchronized (forceMonitor) {
+            if (isForced(position)) {
+                return;
+            }
+
+            MappedByteBuffer buffer;
+            WriteBehindHistoryLogPosition positionToForce;
+            synchronized (this) {
+                buffer = writeBuffer;
+                positionToForce = appendedPosition;
+            }
+
+            if (buffer != null) {
+                buffer.force();
+                forcedPosition = positionToForce;
+            }
+        }
+    }
+
+    protected boolean isForced(WriteBehindHistoryLogPosition position) {
+        WriteBehindHistoryLogPosition currentForcedPosition = forcedPosition;
+        return currentForcedPosition != null && currentForcedPosition.getLogId().equals(position.getLogId())
+                && currentForcedPosition.compareTo(position) >= 0;
+    }
+
+    /**
+     * Reads at most maxRecords records, starting at the given position (or at the start of the log when the position is null).
+     *
+     * @throws FlowableException when the position belongs to another log
+     */
+    public synchronized WriteBehindHistoryLogBatch read(WriteBehindHistoryLogPosition from, int maxRecords) {
+        ensureOpen();
+
+        if (from != null && !logId.equals(from.getLogId())) {
+            throw new FlowableException("Position " + from + " doesn't belong to write-behind history log " + directory + " with id " + logId);
+        }
+
+        List<Long> segments = listSegments();
+        long segment = from != null ? from.getSegment() : segments.get(0);
+        int offset = from != null ? from.getOffset() : SEGMENT_HEADER_SIZE;
+        if (segment < segments.get(0)) {
+            segment = segments.get(0);
+            offset = SEGMENT_HEADER_SIZE;
+        }
+
+        // A record that isn't forced yet could still be lost, so it can't be read (and applied) yet
+        WriteBehindHistoryLogPosition readLimit = forcedPosition;
+
+        List<byte[]> records = new ArrayList<>();
+        while (records.size() < maxRecords && segment <= readLimit.getSegment()) {
+            ByteBuffer buffer = getSegmentBuffer(segment);
+            if (buffer == null) {
+                break;
+            }
+
+            int limit = segment < readLimit.getSegment() ? buffer.capacity() : readLimit.getOffset();
+            offset = readRecords(buffer, offset, limit, maxRecords, records);
+
+            // Only move on to the next segment when this segment is completely written
+            if (records.size() >= maxRecords || segment >= readLimit.getSegment()) {
+                break;
+            }
+            segment++;
+            offset = SEGMENT_HEADER_SIZE;
+        }
+
+        return new WriteBehindHistoryLogBatch(records, new WriteBehindHistoryLogPosition(logId, segment, offset));
+    }
+
+    /**
+     * Deletes the segment files that only contain records before the given position.
+     */
+    public synchronized void deleteSegmentsBefore(WriteBehindHistoryLogPosition position) {
+        if (!open || !logId.equals(position.getLogId())) {
+            return;
+        }
+
+        for (Long segment : listSegments()) {
+            if (segment < position.getSegment() && segment != writeSegment) {
+                File segmentFile = getSegmentFile(segment);
+                if (!segmentFile.delete()) {
+                    LOGGER.warn("Could not delete write-behind history log segment {}", segmentFile);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the id of the log, which is generated when the log is created in an empty directory
+     */
+    public synchronized String getLogId() {
+        ensureOpen();
+        return logId;
+    }
+
+    public synchronized void close() {
+        if (open) {
+            writeBuffer.force();
+            closeWriteSegment();
+            open = false;
+        }
+    }
+
+    protected void ensureOpen() {
+        if (!open) {
+            recover();
+            open = true;
+        }
+    }
+
+    protected void recover() {
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new FlowableException("Could not create directory for the write-behind history log: " + directory);
+        }
+
+        List<Long> segments = listSegments();
+        if (segments.isEmpty()) {
+            logId = createLogId();
+            openWriteSegment(0, segmentSize);
+            appendedPosition = new WriteBehindHistoryLogPosition(logId, writeSegment, SEGMENT_HEADER_SIZE);
+            forcedPosition = appendedPosition;
+
+            LOGGER.info("Created write-behind history log {} with id {}", directory, logId);
+            return;
+        }
+
+        long lastSegment = segments.get(segments.size() - 1);
+        logId = readLogId(getSegmentFile(lastSegment));
+        if (logId == null) {
+            // The last segment was created, but its header wasn't written: it doesn't contain any records yet
+            if (segments.size() == 1) {
+                logId = createLogId();
+                LOGGER.info("Created write-behind history log {} with id {}", directory, logId);
+
+            } else {
+                File previousSegmentFile = getSegmentFile(segments.get(segments.size() - 2));
+                logId = readLogId(previousSegmentFile);
+                if (logId == null) {
+                    throw new FlowableException("Write-behind history log segment " + previousSegmentFile + " has no valid header");
+                }
+            }
+        }
+
+        openWriteSegment(lastSegment, segmentSize);
+
+        int offset = SEGMENT_HEADER_SIZE;
+        byte[] data;
+        while ((data = readRecord(writeBuffer, offset)) != null) {
+            offset += RECORD_HEADER_SIZE + data.length;
+        }
+
+        // Invalidate what's left of a record that was only partially written when the log was last used
+        for (int i = offset; i < Math.min(offset + RECORD_HEADER_SIZE, writeBuffer.capacity()); i++) {
+            writeBuffer.put(i, (byte) 0);
+        }
+        writeBuffer.position(offset);
+        writeBuffer.force();
+
+        appendedPosition = new WriteBehindHistoryLogPosition(logId, writeSegment, offset);
+        forcedPosition = appendedPosition;
+
+        LOGGER.debug("Opened write-behind history log {} with id {}, appending at {}", directory, logId, appendedPosition);
+    }
+
+    protected String createLogId() {
+        return UUID.randomUUID().toString().replace("-", "");
+    }
+
+    protected int readRecords(ByteBuffer buffer, int offset, int limit, int maxRecords, List<byte[]> records) {
+        int currentOffset = offset;
+        while (records.size() < maxRecords && currentOffset < limit) {
+            byte[] data = readRecord(buffer, currentOffset);
+            if (data == null) {
+                break;
+            }
+            records.add(data);
+            currentOffset += RECORD_HEADER_SIZE + data.length;
+        }
+        return currentOffset;
+    }
+
+    protected byte[] readRecord(ByteBuffer buffer, int offset) {
+        if (offset + RECORD_HEADER_SIZE > buffer.capacity()) {
+            return null;
+        }
+
+        int length = buffer.getInt(offset);
+        if (length <= 0 || offset + RECORD_HEADER_SIZE + length > buffer.capacity()) {
+            return null;
+        }
+
+        byte[] data = new byte[length];
+        ByteBuffer recordBuffer = buffer.duplicate();
+        recordBuffer.position(offset + RECORD_HEADER_SIZE);
+        recordBuffer.get(data);
+
+        // An invalid checksum means the record wasn't completely written
+        return checksum(data) == buffer.getInt(offset + 4) ? data : null;
+    }
+
+    protected ByteBuffer getSegmentBuffer(long segment) {
+        if (segment == writeSegment) {
+            return writeBuffer.duplicate();
+        }
+
+        File segmentFile = getSegmentFile(segment);
+        if (!segmentFile.exists()) {
+            return null;
+        }
+
+        ByteBuffer buffer = mapSegmentFile(segmentFile);
+        if (!logId.equals(readLogId(buffer))) {
+            throw new FlowableException("Write-behind history log segment " + segmentFile + " doesn't belong to log " + logId);
+        }
+        return buffer;
+    }
+
+    protected ByteBuffer mapSegmentFile(File segmentFile) {
+        try (FileChannel channel = FileChannel.open(segmentFile.toPath(), StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new FlowableException("Could not read write-behind history log segment " + segmentFile, e);
+        }
+    }
+
+    protected String readLogId(File segmentFile) {
+        return readLogId(mapSegmentFile(segmentFile));
+    }
+
+    /**
+     * @return the log id in the header of the segment, or null when the segment has no valid header
+     */
+    protected String readLogId(ByteBuffer buffer) {
+        if (buffer.capacity() < SEGMENT_HEADER_SIZE) {
+            return null;
+        }
+
+        byte[] header = new byte[SEGMENT_HEADER_SIZE];
+        ByteBuffer headerBuffer = buffer.duplicate();
+        headerBuffer.position(0);
+        headerBuffer.get(header);
+
+        for (byte headerByte : header) {
+            if (Character.digit(headerByte, 16) < 0) {
+                return null;
+            }
+        }
+        return new String(header, StandardCharsets.US_ASCII);
+    }
+
+    protected void openWriteSegment(long segment, int minimumSize) {
+        closeWriteSegment();
+
+        File segmentFile = getSegmentFile(segment);
+        try {
+            writeChannel = FileChannel.open(segmentFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            writeBuffer = writeChannel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(writeChannel.size(), minimumSize));
+            writeSegment = segment;
+        } catch (IOException e) {
+            throw new FlowableException("Could not open write-behind history log segment " + segmentFile, e);
+        }
+
+        if (readLogId(writeBuffer) == null) {
+            // The header is forced right away, so that a segment with records always has a valid header
+            writeBuffer.put(logId.getBytes(StandardCharsets.US_ASCII));
+            writeBuffer.force();
+        }
+        writeBuffer.position(SEGMENT_HEADER_SIZE);
+    }
+    protected void closeWriteSegment() {
+        if (writeChannel != null) {
+            try {
+                writeChannel.close();
+            } catch (IOException e) {
+                LOGGER.warn("Could not close write-behind history log segment {}", writeSegment, e);
+            }
+            writeChannel = null;
+            writeBuffer = null;
+        }
+    }
+
+    protected List<Long> listSegments() {
+        List<Long> segments = new ArrayList<>();
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                String name = file.getName();
+                if (name.startsWith(SEGMENT_FILE_PREFIX) && name.endsWith(SEGMENT_FILE_SUFFIX)) {
+                    try {
+                        segments.add(Long.parseLong(name.substring(SEGMENT_FILE_PREFIX.length(), name.length() - SEGMENT_FILE_SUFFIX.length())));
+                    } catch (NumberFormatException e) {
+                        LOGGER.debug("Ignoring file {} in write-behind history log directory", file);
+                    }
+                }
+            }
+        }
+        Collections.sort(segments);
+        return segments;
+    }
+
+    protected File getSegmentFile(long segment) {
+        return new File(directory, String.format("%s%020d%s", SEGMENT_FILE_PREFIX, segment, SEGMENT_FILE_SUFFIX));
+    }
+
+    protected int checksum(byte[] data) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(data);
+        return (int) crc32.getValue();
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+}
@@ -0,0 +1,41 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async.writebehind;
+
+import java.util.List;
+
+/**
+ * Records read from a {@link WriteBehindHistoryLog}, together with the position right after the last record.
+ */
+public class WriteBehindHistoryLogBatch {
+
+    protected final List<byte[]> records;
+    protected final WriteBehindHistoryLogPosition endPosition;
+
+    public WriteBehindHistoryLogBatch(List<byte[]> records, WriteBehindHistoryLogPosition endPosition) {
+        this.records = records;
+        this.endPosition = endPosition;
+    }
+
+    public List<byte[]> getRecords() {
+        return records;
+    }
+
+    public WriteBehindHistoryLogPosition getEndPosition() {
+        return endPosition;
+    }
+
+    public boolean isEmpty() {
+        return records.isEmpty();
+    }
+}
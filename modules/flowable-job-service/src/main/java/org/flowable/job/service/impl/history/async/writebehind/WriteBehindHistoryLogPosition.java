@@ -0,0 +1,91 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async.writebehind;
+
+import java.util.Objects;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+
+/**
+ * A position in a {@link WriteBehindHistoryLog}: the id of the log, the index of a segment file and the offset within that segment.
+ * The id of the log makes sure that a stored position isn't used for another log, e.g. after the log directory has been wiped.
+ */
+public class WriteBehindHistoryLogPosition implements Comparable<WriteBehindHistoryLogPosition> {
+
+    protected static final String SEPARATOR = ":";
+
+    protected final String logId;
+    protected final long segment;
+    protected final int offset;
+
+    public WriteBehindHistoryLogPosition(String logId, long segment, int offset) {
+        this.logId = logId;
+        this.segment = segment;
+        this.offset = offset;
+    }
+
+    public static WriteBehindHistoryLogPosition parse(String value) {
+        String[] parts = value != null ? value.split(SEPARATOR) : new String[0];
+        if (parts.length != 3 || parts[0].isEmpty()) {
+            throw new FlowableIllegalArgumentException("Invalid write-behind history log position: " + value);
+        }
+        try {
+            return new WriteBehindHistoryLogPosition(parts[0], Long.parseLong(parts[1]), Integer.parseInt(parts[2]));
+        } catch (NumberFormatException e) {
+            throw new FlowableIllegalArgumentException("Invalid write-behind history log position: " + value, e);
+        }
+    }
+
+    public String getLogId() {
+        return logId;
+    }
+
+    public long getSegment() {
+        return segment;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Compares the positions within a log, positions of different logs can't be compared in a meaningful way.
+     */
+    @Override
+    public int compareTo(WriteBehindHistoryLogPosition other) {
+        int result = Long.compare(segment, other.segment);
+        return result != 0 ? result : Integer.compare(offset, other.offset);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        WriteBehindHistoryLogPosition that = (WriteBehindHistoryLogPosition) o;
+        return segment == that.segment && offset == that.offset && Objects.equals(logId, that.logId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(logId, segment, offset);
+    }
+
+    @Override
+    public String toString() {
+        return logId + SEPARATOR + segment + SEPARATOR + offset;
+    }
+}
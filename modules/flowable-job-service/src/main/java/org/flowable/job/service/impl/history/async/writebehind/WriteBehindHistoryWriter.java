@@ -0,0 +1,217 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async.writebehind;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.flowable.common.engine.api.Engine;
+import org.flowable.common.engine.api.engine.EngineLifecycleListener;
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.history.async.AsyncHistoryListener;
+import org.flowable.job.service.impl.history.async.DefaultAsyncHistoryJobProducer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Applies the records of a {@link WriteBehindHistoryLog} to the history tables in a background thread,
+ * which is started when the engine has been built and stopped when the engine is closed.
+ *
+ * A batch of records is applied in one transaction (see {@link ApplyWriteBehindHistoryCmd}). When that fails,
+ * the batch is turned into regular history jobs instead, so that one faulty record doesn't block the log.
+ *
+ * The position up to which the log has been applied is stored in an engine property that is named after the id of the log by default,
+ * so that every log has its own property. A log that is created again in a wiped directory gets a new id, and is thus applied from its start.
+ * The property of the previous log is left as it is then.
+ * When another property name is set, it needs to be unique for every node that has its own log.
+ */
+public class WriteBehindHistoryWriter implements EngineLifecycleListener, Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WriteBehindHistoryWriter.class);
+
+    public static final String POSITION_PROPERTY_NAME_PREFIX = "writebehind.history.";
+
+    protected final WriteBehindHistoryLog historyLog;
+    protected final AbstractEngineConfiguration engineConfiguration;
+
+    protected String positionPropertyName;
+    protected int maxRecordsPerBatch = 100;
+    protected long idleWaitTime = 1000L;
+    protected AsyncHistoryListener fallbackAsyncHistoryListener = new DefaultAsyncHistoryJobProducer();
+    protected boolean autoStart = true;
+
+    protected Thread thread;
+    protected volatile boolean isInterrupted;
+    protected final Object MONITOR = new Object();
+    protected final AtomicBoolean isWaiting = new AtomicBoolean(false);
+
+    public WriteBehindHistoryWriter(WriteBehindHistoryLog historyLog, AbstractEngineConfiguration engineConfiguration) {
+        this.historyLog = historyLog;
+        this.engineConfiguration = engineConfiguration;
+    }
+
+    @Override
+    public void onEngineBuilt(Engine engine) {
+        if (autoStart) {
+            start();
+        }
+    }
+
+    @Override
+    public void onEngineClosed(Engine engine) {
+        shutdown();
+    }
+
+    public synchronized void start() {
+        if (thread == null) {
+            isInterrupted = false;
+            thread = new Thread(this, "flowable-write-behind-history-writer");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    public synchronized void shutdown() {
+        if (thread != null) {
+            synchronized (MONITOR) {
+                isInterrupted = true;
+                if (isWaiting.compareAndSet(true, false)) {
+                    MONITOR.notifyAll();
+                }
+            }
+
+            try {
+                thread.join(60000L);
+            } catch (InterruptedException e) {
+                LOGGER.warn("Interrupted while waiting for the write-behind history writer to stop");
+                Thread.currentThread().interrupt();
+            }
+            thread = null;
+        }
+        historyLog.close();
+    }
+
+    @Override
+    public void run() {
+        LOGGER.info("starting to apply write-behind history log {} for engine {}", historyLog.getDirectory(), engineConfiguration.getEngineName());
+
+        while (!isInterrupted) {
+
+            int appliedRecords = 0;
+            try {
+                appliedRecords = flush();
+            } catch (Throwable e) {
+                LOGGER.error("exception while applying write-behind history log {}", historyLog.getDirectory(), e);
+            }
+
+            // Only wait when the log has been applied completely (or when applying it failed)
+            if (appliedRecords < maxRecordsPerBatch) {
+                try {
+                    synchronized (MONITOR) {
+                        if (!isInterrupted) {
+                            isWaiting.set(true);
+                            MONITOR.wait(idleWaitTime);
+                        }
+                    }
+
+                } catch (InterruptedException e) {
+                    LOGGER.debug("write-behind history writer wait interrupted");
+                } finally {
+                    isWaiting.set(false);
+                }
+            }
+        }
+
+        LOGGER.info("stopped applying write-behind history log {} for engine {}", historyLog.getDirectory(), engineConfiguration.getEngineName());
+    }
+
+    /**
+     * Applies the next batch of records of the log.
+     *
+     * @return the number of records that were applied
+     */
+    public synchronized int flush() {
+        WriteBehindHistoryLogBatch batch;
+        try {
+            batch = engineConfiguration.getCommandExecutor().execute(createApplyCommand(false));
+
+        } catch (Exception e) {
+            LOGGER.warn("Could not apply write-behind history batch, creating history jobs for it instead", e);
+            batch = engineConfiguration.getCommandExecutor().execute(createApplyCommand(true));
+        }
+
+        if (!batch.isEmpty()) {
+            historyLog.deleteSegmentsBefore(batch.getEndPosition());
+        }
+        return batch.getRecords().size();
+    }
+
+    protected ApplyWriteBehindHistoryCmd createApplyCommand(boolean fallbackOnly) {
+        JobServiceConfiguration jobServiceConfiguration = (JobServiceConfiguration) engineConfiguration.getServiceConfigurations()
+                .get(EngineConfigurationConstants.KEY_JOB_SERVICE_CONFIG);
+        return new ApplyWriteBehindHistoryCmd(historyLog, jobServiceConfiguration, engineConfiguration.getPropertyEntityManager(),
+                fallbackAsyncHistoryListener, getPositionPropertyName(), maxRecordsPerBatch, fallbackOnly);
+    }
+
+    public WriteBehindHistoryLog getHistoryLog() {
+        return historyLog;
+    }
+
+    /**
+     * @return the name of the property in which the position is stored, which is {@link #POSITION_PROPERTY_NAME_PREFIX} followed by the log id when not set
+     */
+    public String getPositionPropertyName() {
+        if (positionPropertyName == null) {
+            return POSITION_PROPERTY_NAME_PREFIX + historyLog.getLogId();
+        }
+        return positionPropertyName;
+    }
+
+    public void setPositionPropertyName(String positionPropertyName) {
+        this.positionPropertyName = positionPropertyName;
+    }
+
+    public int getMaxRecordsPerBatch() {
+        return maxRecordsPerBatch;
+    }
+
+    public void setMaxRecordsPerBatch(int maxRecordsPerBatch) {
+        this.maxRecordsPerBatch = maxRecordsPerBatch;
+    }
+
+    public long getIdleWaitTime() {
+        return idleWaitTime;
+    }
+
+    public void setIdleWaitTime(long idleWaitTime) {
+        this.idleWaitTime = idleWaitTime;
+    }
+
+    public AsyncHistoryListener getFallbackAsyncHistoryListener() {
+        return fallbackAsyncHistoryListener;
+    }
+
+    public void setFallbackAsyncHistoryListener(AsyncHistoryListener fallbackAsyncHistoryListener) {
+        this.fallbackAsyncHistoryListener = fallbackAsyncHistoryListener;
+    }
+
+    public boolean isAutoStart() {
+        return autoStart;
+    }
+
+    public void setAutoStart(boolean autoStart) {
+        this.autoStart = autoStart;
+    }
+
+}
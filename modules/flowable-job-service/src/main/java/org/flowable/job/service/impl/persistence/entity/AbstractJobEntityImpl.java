@@ -50,6 +50,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
     protected String scopeType;
     protected String scopeDefinitionId;
     protected String correlationId;
+    protected Integer partition;
 
     protected boolean isExclusive = DEFAULT_EXCLUSIVE;
 
@@ -235,6 +236,16 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
     public void setCorrelationId(String correlationId) {
         this.correlationId = correlationId;
     }
+
+    @Override
+    public Integer getPartition() {
+        return partition;
+    }
+
+    @Override
+    public void setPartition(Integer partition) {
+        this.partition = partition;
+    }
     
     @Override
     public String getCategory() {
@@ -44,6 +44,14 @@ public interface AbstractRuntimeJobEntity extends Job, AbstractJobEntity {
 
     void setCorrelationId(String correlationId);
 
+    /**
+     * The partition of the job, used by async executors that only acquire the jobs of the partitions they own.
+     * Null when job partitioning is not enabled.
+     */
+    Integer getPartition();
+
+    void setPartition(Integer partition);
+
     void setDuedate(Date duedate);
 
     void setExclusive(boolean isExclusive);
@@ -36,6 +36,11 @@ public interface JobEntityManager extends EntityManager<JobEntity>, JobInfoEntit
      */
     JobEntity findJobByCorrelationId(String correlationId);
 
+    /**
+     * Find the jobs with the given handler type of the given process instance.
+     */
+    List<JobEntity> findJobsByTypeAndProcessInstanceId(String jobHandlerType, String processInstanceId);
+
     /**
      * Executes a {@link JobQueryImpl} and returns the matching {@link JobEntity} instances.
      */
@@ -22,6 +22,7 @@ import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.event.impl.FlowableJobEventBuilder;
 import org.flowable.job.service.impl.JobQueryImpl;
 import org.flowable.job.service.impl.persistence.entity.data.JobDataManager;
+import org.flowable.job.service.impl.util.JobPartitionUtil;
 
 /**
  * @author Tom Baeyens
@@ -58,6 +59,9 @@ public class JobEntityManagerImpl
         if (jobEntity.getCorrelationId() == null) {
             jobEntity.setCorrelationId(serviceConfiguration.getIdGenerator().getNextId());
         }
+        if (jobEntity.getPartition() == null) {
+            jobEntity.setPartition(JobPartitionUtil.determinePartition(jobEntity, serviceConfiguration.getJobPartitionCount()));
+        }
         super.insert(jobEntity, fireCreateEvent);
         return true;
     }
@@ -67,6 +71,11 @@ public class JobEntityManagerImpl
         return dataManager.findJobByCorrelationId(correlationId);
     }
 
+    @Override
+    public List<JobEntity> findJobsByTypeAndProcessInstanceId(String jobHandlerType, String processInstanceId) {
+        return dataManager.findJobsByTypeAndProcessInstanceId(jobHandlerType, processInstanceId);
+    }
+
     @Override
     public List<Job> findJobsByQueryCriteria(JobQueryImpl jobQuery) {
         return dataManager.findJobsByQueryCriteria(jobQuery);
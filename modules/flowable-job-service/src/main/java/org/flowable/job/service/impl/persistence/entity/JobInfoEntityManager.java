@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.Page;
@@ -28,6 +29,14 @@ public interface JobInfoEntityManager <T extends JobInfoEntity> extends EntityMa
      */
     List<T> findJobsToExecute(List<String> enabledCategories, Page page);
 
+    /**
+     * Returns {@link JobEntity} that are eligible to be executed and that belong to one of the given partitions (or to no partition at all).
+     * When the partitions are null, no partition filtering is done.
+     */
+    default List<T> findJobsToExecute(List<String> enabledCategories, Collection<Integer> partitions, Page page) {
+        return findJobsToExecute(enabledCategories, page);
+    }
+
     /**
      * Returns all {@link JobEntity} instances related to on ExecutionEntity.
      */
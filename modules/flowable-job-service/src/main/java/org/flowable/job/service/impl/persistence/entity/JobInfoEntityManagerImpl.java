@@ -13,6 +13,7 @@
 
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.Page;
@@ -37,6 +38,11 @@ public abstract class JobInfoEntityManagerImpl<T extends JobInfoEntity, DM exten
         return dataManager.findJobsToExecute(enabledCategories, page);
     }
 
+    @Override
+    public List<T> findJobsToExecute(List<String> enabledCategories, Collection<Integer> partitions, Page page) {
+        return dataManager.findJobsToExecute(enabledCategories, partitions, page);
+    }
+
     @Override
     public List<T> findJobsByExecutionId(String executionId) {
         return dataManager.findJobsByExecutionId(executionId);
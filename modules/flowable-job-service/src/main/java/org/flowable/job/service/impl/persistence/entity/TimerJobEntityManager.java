@@ -12,8 +12,11 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
+import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.impl.JobQueryImpl;
@@ -39,6 +42,12 @@ public interface TimerJobEntityManager extends JobInfoEntityManager<TimerJobEnti
      */
     TimerJobEntity findJobByCorrelationId(String correlationId);
 
+    /**
+     * Same as {@link #findJobsToExecute(List, Collection, Page)}, but returns the unlocked timer jobs that are due before or at the given date,
+     * instead of the ones that are due now. Used when timer jobs are acquired ahead of their due date.
+     */
+    List<TimerJobEntity> findJobsToExecute(List<String> enabledCategories, Collection<Integer> partitions, Date maxDueDate, Page page);
+
     /**
      * Returns the {@link TimerJobEntity} for a given process definition.
      * <p>
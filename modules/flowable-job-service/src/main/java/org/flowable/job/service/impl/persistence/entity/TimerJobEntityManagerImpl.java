@@ -14,17 +14,20 @@
 package org.flowable.job.service.impl.persistence.entity;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.calendar.BusinessCalendar;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.event.impl.FlowableJobEventBuilder;
 import org.flowable.job.service.impl.TimerJobQueryImpl;
 import org.flowable.job.service.impl.persistence.entity.data.TimerJobDataManager;
+import org.flowable.job.service.impl.util.JobPartitionUtil;
 import org.flowable.variable.api.delegate.VariableScope;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -64,6 +67,11 @@ public class TimerJobEntityManagerImpl
         return dataManager.findJobByCorrelationId(correlationId);
     }
 
+    @Override
+    public List<TimerJobEntity> findJobsToExecute(List<String> enabledCategories, Collection<Integer> partitions, Date maxDueDate, Page page) {
+        return dataManager.findJobsToExecute(enabledCategories, partitions, maxDueDate, page);
+    }
+
     @Override
     public List<TimerJobEntity> findJobsByTypeAndProcessDefinitionId(String jobHandlerType, String processDefinitionId) {
         return dataManager.findJobsByTypeAndProcessDefinitionId(jobHandlerType, processDefinitionId);
@@ -136,6 +144,9 @@ public class TimerJobEntityManagerImpl
         if (jobEntity.getCorrelationId() == null) {
             jobEntity.setCorrelationId(serviceConfiguration.getIdGenerator().getNextId());
         }
+        if (jobEntity.getPartition() == null) {
+            jobEntity.setPartition(JobPartitionUtil.determinePartition(jobEntity, serviceConfiguration.getJobPartitionCount()));
+        }
         super.insert(jobEntity, fireCreateEvent);
         return true;
     }
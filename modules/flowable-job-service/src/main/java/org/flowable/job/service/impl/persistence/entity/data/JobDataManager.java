@@ -26,6 +26,8 @@ public interface JobDataManager extends DataManager<JobEntity>, JobInfoDataManag
 
     JobEntity findJobByCorrelationId(String correlationId);
 
+    List<JobEntity> findJobsByTypeAndProcessInstanceId(String jobHandlerType, String processInstanceId);
+
     List<Job> findJobsByQueryCriteria(JobQueryImpl jobQuery);
 
     long findJobCountByQueryCriteria(JobQueryImpl jobQuery);
@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.Page;
@@ -22,6 +23,10 @@ public interface JobInfoDataManager<T extends JobInfoEntity> extends DataManager
 
     List<T> findJobsToExecute(List<String> enabledCategories, Page page);
 
+    default List<T> findJobsToExecute(List<String> enabledCategories, Collection<Integer> partitions, Page page) {
+        return findJobsToExecute(enabledCategories, page);
+    }
+
     List<T> findJobsByExecutionId(final String executionId);
 
     List<T> findJobsByProcessInstanceId(final String processInstanceId);
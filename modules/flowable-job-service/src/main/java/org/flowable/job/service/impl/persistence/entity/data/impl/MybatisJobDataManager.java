@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -58,14 +59,22 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public List<JobEntity> findJobsToExecute(List<String> enabledCategories, Page page) {
+        return findJobsToExecute(enabledCategories, null, page);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<JobEntity> findJobsToExecute(List<String> enabledCategories, Collection<Integer> partitions, Page page) {
         HashMap<String, Object> params = new HashMap<>();
         params.put("jobExecutionScope", jobServiceConfiguration.getJobExecutionScope());
         
         if (enabledCategories != null && enabledCategories.size() > 0) {
             params.put("enabledCategories", enabledCategories);
         }
+        if (partitions != null) {
+            params.put("partitions", partitions);
+        }
         return getDbSqlSession().selectList("selectJobsToExecute", params, page);
     }
 
@@ -87,6 +96,15 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
         return getDbSqlSession().selectList("selectJobsByProcessInstanceId", processInstanceId);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<JobEntity> findJobsByTypeAndProcessInstanceId(String jobHandlerType, String processInstanceId) {
+        Map<String, String> params = new HashMap<>(2);
+        params.put("handlerType", jobHandlerType);
+        params.put("processInstanceId", processInstanceId);
+        return getDbSqlSession().selectList("selectJobsByTypeAndProcessInstanceId", params);
+    }
+
     @Override
     public JobEntity findJobByCorrelationId(String correlationId) {
         return getEntity("selectJobByCorrelationId", correlationId, jobByCorrelationIdMatcher, true);
@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -101,18 +102,31 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public List<TimerJobEntity> findJobsToExecute(List<String> enabledCategories, Page page) {
+        return findJobsToExecute(enabledCategories, null, page);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TimerJobEntity> findJobsToExecute(List<String> enabledCategories, Collection<Integer> partitions, Page page) {
+        return findJobsToExecute(enabledCategories, partitions, jobServiceConfiguration.getClock().getCurrentTime(), page);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TimerJobEntity> findJobsToExecute(List<String> enabledCategories, Collection<Integer> partitions, Date maxDueDate, Page page) {
         Map<String, Object> params = new HashMap<>(2);
         String jobExecutionScope = jobServiceConfiguration.getJobExecutionScope();
         params.put("jobExecutionScope", jobExecutionScope);
         
-        Date now = jobServiceConfiguration.getClock().getCurrentTime();
-        params.put("now", now);
+        params.put("now", maxDueDate);
         
         if (enabledCategories != null && enabledCategories.size() > 0) {
             params.put("enabledCategories", enabledCategories);
         }
+        if (partitions != null) {
+            params.put("partitions", partitions);
+        }
         return getDbSqlSession().selectList("selectTimerJobsToExecute", params, page);
     }
 
@@ -0,0 +1,46 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.util;
+
+import org.flowable.job.service.impl.persistence.entity.AbstractRuntimeJobEntity;
+
+/**
+ * Determines the partition of a job when job partitioning is enabled.
+ * All jobs of the same process or case instance end up in the same partition,
+ * so they are acquired by the same async executor.
+ */
+public class JobPartitionUtil {
+
+    public static Integer determinePartition(AbstractRuntimeJobEntity job, int partitionCount) {
+        if (partitionCount <= 0) {
+            return null;
+        }
+
+        String partitionKey;
+        if (job.getProcessInstanceId() != null) {
+            partitionKey = job.getProcessInstanceId();
+        } else if (job.getScopeId() != null) {
+            partitionKey = job.getScopeId();
+        } else {
+            partitionKey = job.getCorrelationId();
+        }
+
+        if (partitionKey == null) {
+            return null;
+        }
+
+        // String#hashCode is specified by the JLS, so every node computes the same partition
+        return Math.floorMod(partitionKey.hashCode(), partitionCount);
+    }
+
+}
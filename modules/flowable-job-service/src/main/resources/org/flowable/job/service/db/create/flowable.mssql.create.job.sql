@@ -16,6 +16,7 @@ create table ACT_RU_JOB (
     SCOPE_TYPE_ nvarchar(255),
     SCOPE_DEFINITION_ID_ nvarchar(255),
     CORRELATION_ID_ nvarchar(255),
+    PARTITION_ int,
     RETRIES_ int,
     EXCEPTION_STACK_ID_ nvarchar(64),
     EXCEPTION_MSG_ nvarchar(4000),
@@ -47,6 +48,7 @@ create table ACT_RU_TIMER_JOB (
     SCOPE_TYPE_ nvarchar(255),
     SCOPE_DEFINITION_ID_ nvarchar(255),
     CORRELATION_ID_ nvarchar(255),
+    PARTITION_ int,
     RETRIES_ int,
     EXCEPTION_STACK_ID_ nvarchar(64),
     EXCEPTION_MSG_ nvarchar(4000),
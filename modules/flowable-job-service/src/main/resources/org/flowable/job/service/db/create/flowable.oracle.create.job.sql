@@ -16,6 +16,7 @@ create table ACT_RU_JOB (
     SCOPE_TYPE_ NVARCHAR2(255),
     SCOPE_DEFINITION_ID_ NVARCHAR2(255),
     CORRELATION_ID_ NVARCHAR2(255),
+    PARTITION_ INTEGER,
     RETRIES_ INTEGER,
     EXCEPTION_STACK_ID_ NVARCHAR2(64),
     EXCEPTION_MSG_ NVARCHAR2(2000),
@@ -47,6 +48,7 @@ create table ACT_RU_TIMER_JOB (
     SCOPE_TYPE_ NVARCHAR2(255),
     SCOPE_DEFINITION_ID_ NVARCHAR2(255),
     CORRELATION_ID_ NVARCHAR2(255),
+    PARTITION_ INTEGER,
     RETRIES_ INTEGER,
     EXCEPTION_STACK_ID_ NVARCHAR2(64),
     EXCEPTION_MSG_ NVARCHAR2(2000),
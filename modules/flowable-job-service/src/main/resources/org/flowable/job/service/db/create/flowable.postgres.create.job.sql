@@ -16,6 +16,7 @@ create table ACT_RU_JOB (
     SCOPE_TYPE_ varchar(255),
     SCOPE_DEFINITION_ID_ varchar(255),
     CORRELATION_ID_ varchar(255),
+    PARTITION_ integer,
     RETRIES_ integer,
     EXCEPTION_STACK_ID_ varchar(64),
     EXCEPTION_MSG_ varchar(4000),
@@ -47,6 +48,7 @@ create table ACT_RU_TIMER_JOB (
     SCOPE_TYPE_ varchar(255),
     SCOPE_DEFINITION_ID_ varchar(255),
     CORRELATION_ID_ varchar(255),
+    PARTITION_ integer,
     RETRIES_ integer,
     EXCEPTION_STACK_ID_ varchar(64),
     EXCEPTION_MSG_ varchar(4000),
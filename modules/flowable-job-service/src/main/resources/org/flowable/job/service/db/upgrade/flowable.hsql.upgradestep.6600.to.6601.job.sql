@@ -0,0 +1,2 @@
+alter table ACT_RU_JOB add column PARTITION_ integer;
+alter table ACT_RU_TIMER_JOB add column PARTITION_ integer;
@@ -0,0 +1,2 @@
+alter table ACT_RU_JOB add PARTITION_ int;
+alter table ACT_RU_TIMER_JOB add PARTITION_ int;
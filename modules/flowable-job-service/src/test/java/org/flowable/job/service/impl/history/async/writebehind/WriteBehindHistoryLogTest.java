@@ -0,0 +1,188 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async.writebehind;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WriteBehindHistoryLogTest {
+
+    @TempDir
+    File directory;
+
+    @Test
+    void appendAndRead() {
+        WriteBehindHistoryLog historyLog = new WriteBehindHistoryLog(directory, 1024);
+        try {
+            historyLog.append(bytes("one"));
+            historyLog.append(bytes("two"));
+            historyLog.append(bytes("three"));
+
+            WriteBehindHistoryLogBatch batch = historyLog.read(null, 2);
+            assertThat(strings(batch)).containsExactly("one", "two");
+
+            batch = historyLog.read(batch.getEndPosition(), 2);
+            assertThat(strings(batch)).containsExactly("three");
+
+            WriteBehindHistoryLogPosition endPosition = batch.getEndPosition();
+            batch = historyLog.read(endPosition, 2);
+            assertThat(batch.isEmpty()).isTrue();
+            assertThat(batch.getEndPosition()).isEqualTo(endPosition);
+
+            historyLog.append(bytes("four"));
+            assertThat(strings(historyLog.read(endPosition, 2))).containsExactly("four");
+
+        } finally {
+            historyLog.close();
+        }
+    }
+
+    @Test
+    void readOverSegments() {
+        WriteBehindHistoryLog historyLog = new WriteBehindHistoryLog(directory, 64);
+        try {
+            for (int i = 0; i < 10; i++) {
+                historyLog.append(bytes("record-" + i));
+            }
+            // A record that is larger than the segment size gets a segment of its own
+            historyLog.append(bytes("a record that doesn't fit in a segment"));
+
+            WriteBehindHistoryLogBatch batch = historyLog.read(null, 4);
+            assertThat(strings(batch)).containsExactly("record-0", "record-1", "record-2", "record-3");
+
+            batch = historyLog.read(batch.getEndPosition(), 100);
+            assertThat(strings(batch)).containsExactly("record-4", "record-5", "record-6", "record-7", "record-8", "record-9",
+                    "a record that doesn't fit in a segment");
+
+            historyLog.deleteSegmentsBefore(batch.getEndPosition());
+            assertThat(directory.listFiles()).hasSize(1);
+            assertThat(historyLog.read(null, 100).isEmpty()).isFalse();
+
+        } finally {
+            historyLog.close();
+        }
+    }
+
+    @Test
+    void recoverAfterPartialWrite() throws Exception {
+        WriteBehindHistoryLog historyLog = new WriteBehindHistoryLog(directory, 1024);
+        WriteBehindHistoryLogPosition position = historyLog.append(bytes("one"));
+        historyLog.append(bytes("two"));
+        historyLog.close();
+
+        // Corrupt the data of the second record, as if the process stopped while it was written
+        File segmentFile = directory.listFiles()[0];
+        try (RandomAccessFile file = new RandomAccessFile(segmentFile, "rw")) {
+            file.seek(position.getOffset() + 8);
+            file.write('x');
+        }
+
+        historyLog = new WriteBehindHistoryLog(directory, 1024);
+        try {
+            assertThat(strings(historyLog.read(null, 10))).containsExactly("one");
+
+            historyLog.append(bytes("three"));
+            assertThat(strings(historyLog.read(null, 10))).containsExactly("one", "three");
+            assertThat(strings(historyLog.read(position, 10))).containsExactly("three");
+
+        } finally {
+            historyLog.close();
+        }
+    }
+
+    @Test
+    void concurrentAppends() throws Exception {
+        WriteBehindHistoryLog historyLog = new WriteBehindHistoryLog(directory, 1024);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<WriteBehindHistoryLogPosition>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                String record = "record-" + i;
+                futures.add(executorService.submit(() -> historyLog.append(bytes(record))));
+            }
+            for (Future<WriteBehindHistoryLogPosition> future : futures) {
+                future.get();
+            }
+
+            assertThat(strings(historyLog.read(null, 1000))).hasSize(100);
+
+        } finally {
+            executorService.shutdownNow();
+            historyLog.close();
+        }
+    }
+
+    @Test
+    void logIdOfWipedLog() {
+        WriteBehindHistoryLog historyLog = new WriteBehindHistoryLog(directory, 1024);
+        WriteBehindHistoryLogPosition position = historyLog.append(bytes("one"));
+        String logId = historyLog.getLogId();
+        assertThat(position.getLogId()).isEqualTo(logId);
+        historyLog.close();
+
+        historyLog = new WriteBehindHistoryLog(directory, 1024);
+        assertThat(historyLog.getLogId()).isEqualTo(logId);
+        historyLog.close();
+
+        for (File file : directory.listFiles()) {
+            assertThat(file.delete()).isTrue();
+        }
+
+        WriteBehindHistoryLog wipedHistoryLog = new WriteBehindHistoryLog(directory, 1024);
+        try {
+            wipedHistoryLog.append(bytes("two"));
+            assertThat(wipedHistoryLog.getLogId()).isNotEqualTo(logId);
+
+            assertThatThrownBy(() -> wipedHistoryLog.read(position, 10))
+                    .isInstanceOf(FlowableException.class)
+                    .hasMessageContaining(logId);
+            assertThat(strings(wipedHistoryLog.read(null, 10))).containsExactly("two");
+
+        } finally {
+            wipedHistoryLog.close();
+        }
+    }
+
+    @Test
+    void positionToString() {
+        WriteBehindHistoryLogPosition position = new WriteBehindHistoryLogPosition("log", 3, 1024);
+        assertThat(WriteBehindHistoryLogPosition.parse(position.toString())).isEqualTo(position);
+        assertThat(position).isGreaterThan(new WriteBehindHistoryLogPosition("log", 2, 4096));
+        assertThat(position).isNotEqualTo(new WriteBehindHistoryLogPosition("otherLog", 3, 1024));
+    }
+
+    protected byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    protected List<String> strings(WriteBehindHistoryLogBatch batch) {
+        return batch.getRecords().stream()
+                .map(record -> new String(record, StandardCharsets.UTF_8))
+                .collect(Collectors.toList());
+    }
+
+}
@@ -16,6 +16,7 @@ import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.flowable.common.engine.impl.EngineConfigurator;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
+import org.flowable.idm.api.User;
 import org.flowable.idm.engine.IdmEngineConfiguration;
 import org.flowable.idm.engine.configurator.IdmEngineConfigurator;
 
@@ -52,15 +53,24 @@ public class LDAPConfigurator extends IdmEngineConfigurator {
             ldapGroupCache = new LDAPGroupCache(ldapConfiguration.getGroupCacheSize(), 
                     ldapConfiguration.getGroupCacheExpirationTime(), engineConfiguration.getClock());
             
+            ldapGroupCache.setRefreshAheadTime(ldapConfiguration.getCacheRefreshAheadTime());
+            
             if (ldapConfiguration.getGroupCacheListener() != null) {
                 ldapGroupCache.setLdapCacheListener(ldapConfiguration.getGroupCacheListener());
             }
         }
+
+        LDAPCache<User> ldapUserCache = null;
+        if (ldapConfiguration.getUserCacheSize() > 0) {
+            ldapUserCache = new LDAPCache<>(ldapConfiguration.getUserCacheSize(),
+                    ldapConfiguration.getUserCacheExpirationTime(), engineConfiguration::getClock);
+            ldapUserCache.setRefreshAheadTime(ldapConfiguration.getCacheRefreshAheadTime());
+        }
         
         super.configure(engineConfiguration);
         
         getIdmEngineConfiguration(engineConfiguration)
-                .setIdmIdentityService(new LDAPIdentityServiceImpl(ldapConfiguration, ldapGroupCache, idmEngineConfiguration));
+                .setIdmIdentityService(new LDAPIdentityServiceImpl(ldapConfiguration, ldapGroupCache, ldapUserCache, idmEngineConfiguration));
     }
 
     // Getters and Setters //////////////////////////////////////////////////
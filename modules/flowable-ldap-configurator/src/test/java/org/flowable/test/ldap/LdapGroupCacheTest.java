@@ -15,6 +15,9 @@ package org.flowable.test.ldap;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Date;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.flowable.engine.impl.util.EngineServiceUtil;
 import org.flowable.engine.test.Deployment;
@@ -29,12 +32,13 @@ import org.springframework.test.context.ContextConfiguration;
 public class LdapGroupCacheTest extends LDAPTestCase {
 
     protected TestLDAPGroupCacheListener cacheListener;
+    protected LDAPGroupCache ldapGroupCache;
 
     @BeforeEach
     protected void setUp() throws Exception {
 
         // Set test cache listener
-        LDAPGroupCache ldapGroupCache = ((LDAPIdentityServiceImpl) 
+        ldapGroupCache = ((LDAPIdentityServiceImpl) 
                         EngineServiceUtil.getIdmIdentityService(processEngineConfiguration)).getLdapGroupCache();
         ldapGroupCache.clear();
 
@@ -98,6 +102,44 @@ public class LdapGroupCacheTest extends LDAPTestCase {
         assertThat(cacheListener.getLastCacheMiss()).isEqualTo("fozzie");
     }
 
+    @Test
+    public void testLdapGroupCacheRefreshAhead() throws Exception {
+        ExecutorService refreshExecutorService = Executors.newSingleThreadExecutor();
+        ldapGroupCache.setRefreshExecutorService(refreshExecutorService);
+        ldapGroupCache.setRefreshAheadTime(10 * 60 * 1000);
+        long refreshCount = ldapGroupCache.getRefreshCount();
+        try {
+            Date now = new Date();
+            processEngineConfiguration.getClock().setCurrentTime(now);
+            assertThat(taskService.createTaskQuery().taskCandidateUser("kermit").count()).isZero();
+            assertThat(cacheListener.getLastCacheMiss()).isEqualTo("kermit");
+
+            // 25 minutes later the entry is within the refresh ahead time (configured to 30 min expiration - 10 min)
+            processEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + (25 * 60 * 1000)));
+            cacheListener.setLastCacheMiss(null);
+            assertThat(taskService.createTaskQuery().taskCandidateUser("kermit").count()).isZero();
+            assertThat(cacheListener.getLastCacheHit()).isEqualTo("kermit");
+            assertThat(cacheListener.getLastCacheRefresh()).isEqualTo("kermit");
+            assertThat(ldapGroupCache.getRefreshCount()).isEqualTo(refreshCount + 1);
+
+            refreshExecutorService.shutdown();
+            assertThat(refreshExecutorService.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+            // 45 minutes after the first fetch, the refreshed entry is not expired yet
+            processEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + (45 * 60 * 1000)));
+            assertThat(taskService.createTaskQuery().taskCandidateUser("kermit").count()).isZero();
+            assertThat(cacheListener.getLastCacheHit()).isEqualTo("kermit");
+            assertThat(cacheListener.getLastCacheMiss()).isNull();
+            assertThat(cacheListener.getLastCacheExpiration()).isNull();
+
+        } finally {
+            ldapGroupCache.setRefreshAheadTime(-1);
+            ldapGroupCache.setRefreshExecutorService(null);
+            refreshExecutorService.shutdownNow();
+            processEngineConfiguration.getClock().reset();
+        }
+    }
+
     // Test cache listener
     static class TestLDAPGroupCacheListener implements LDAPGroupCacheListener {
 
@@ -105,6 +147,7 @@ public class LdapGroupCacheTest extends LDAPTestCase {
         protected String lastCacheHit;
         protected String lastCacheEviction;
         protected String lastCacheExpiration;
+        protected String lastCacheRefresh;
 
         @Override
         public void cacheMiss(String userId) {
@@ -126,6 +169,11 @@ public class LdapGroupCacheTest extends LDAPTestCase {
             this.lastCacheEviction = userId;
         }
 
+        @Override
+        public void cacheRefresh(String userId) {
+            this.lastCacheRefresh = userId;
+        }
+
         public String getLastCacheMiss() {
             return lastCacheMiss;
         }
@@ -158,6 +206,10 @@ public class LdapGroupCacheTest extends LDAPTestCase {
             this.lastCacheEviction = lastCacheEviction;
         }
 
+        public String getLastCacheRefresh() {
+            return lastCacheRefresh;
+        }
+
     }
 
 }
@@ -19,8 +19,11 @@ import static org.assertj.core.api.Assertions.tuple;
 import java.util.List;
 
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.engine.impl.util.EngineServiceUtil;
 import org.flowable.engine.test.Deployment;
 import org.flowable.idm.api.User;
+import org.flowable.ldap.LDAPConfiguration;
+import org.flowable.ldap.LDAPIdentityServiceImpl;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.context.ContextConfiguration;
 
@@ -116,4 +119,29 @@ public class LdapIntegrationTest extends LDAPTestCase {
         assertThat(identityService.createUserQuery().userFullNameLike("The").count()).isEqualTo(3);
     }
 
+    @Test
+    public void testUserQueryWithPagedSearchAndPooledConnections() {
+        LDAPConfiguration ldapConfiguration = ((LDAPIdentityServiceImpl) EngineServiceUtil.getIdmIdentityService(processEngineConfiguration))
+                .getLdapConfigurator();
+        int originalSearchPageSize = ldapConfiguration.getSearchPageSize();
+        boolean originalConnectionPooling = ldapConfiguration.isConnectionPooling();
+        try {
+            ldapConfiguration.setSearchPageSize(2);
+            ldapConfiguration.setConnectionPooling(true);
+
+            // Multiple pages are needed to fetch all users
+            List<User> users = identityService.createUserQuery().userFullNameLike("e").list();
+            assertThat(users).hasSize(5);
+
+            // The pooled connection doesn't keep the paging control of the previous search
+            assertThat(identityService.createUserQuery().userFullNameLike("The").count()).isEqualTo(3);
+            assertThat(identityService.createUserQuery().userId("kermit").singleResult().getLastName()).isEqualTo("The Frog");
+            assertThat(identityService.checkPassword("kermit", "pass")).isTrue();
+
+        } finally {
+            ldapConfiguration.setSearchPageSize(originalSearchPageSize);
+            ldapConfiguration.setConnectionPooling(originalConnectionPooling);
+        }
+    }
+
 }
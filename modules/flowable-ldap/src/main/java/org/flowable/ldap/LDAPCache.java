@@ -0,0 +1,362 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.ldap;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.runtime.ClockReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Thread safe LRU cache for results fetched from the LDAP system, in which every entry expires after a configurable time.
+ *
+ * When the value is fetched through {@link #get(String, Function)}, the cache also takes care of loading missing values:
+ * concurrent misses for the same key result in one LDAP lookup, of which the result is shared by all callers.
+ * When a refresh ahead time is set, an entry that is about to expire is reloaded in the background,
+ * while the current value is still returned, so that callers never wait on the LDAP system for frequently used entries.
+ *
+ * Hits, misses, refreshes, evictions and expirations are counted and can be fetched through the getters.
+ */
+public class LDAPCache<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LDAPCache.class);
+
+    protected final Supplier<ClockReader> clockReader;
+    protected Map<String, LDAPCacheEntry<T>> cache;
+    protected long expirationTime;
+    protected long refreshAheadTime = -1;
+
+    protected ExecutorService refreshExecutorService;
+    protected final ConcurrentMap<String, CompletableFuture<T>> pendingLoads = new ConcurrentHashMap<>();
+
+    protected LDAPCacheListener cacheListener;
+
+    protected final AtomicLong hitCount = new AtomicLong();
+    protected final AtomicLong missCount = new AtomicLong();
+    protected final AtomicLong refreshCount = new AtomicLong();
+    protected final AtomicLong evictionCount = new AtomicLong();
+    protected final AtomicLong expirationCount = new AtomicLong();
+
+    public LDAPCache(final int cacheSize, final long expirationTime, final Supplier<ClockReader> clockReader) {
+        this.clockReader = clockReader;
+        this.expirationTime = expirationTime;
+        this.cache = new LinkedHashMap<String, LDAPCacheEntry<T>>(cacheSize + 1, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LDAPCacheEntry<T>> eldest) {
+                boolean removeEldest = size() > cacheSize;
+
+                if (removeEldest) {
+                    evictionCount.incrementAndGet();
+                    if (cacheListener != null) {
+                        cacheListener.cacheEviction(eldest.getKey());
+                    }
+                }
+
+                return removeEldest;
+            }
+
+        };
+    }
+
+    public void put(String key, T value) {
+        LDAPCacheEntry<T> cacheEntry = new LDAPCacheEntry<>(getCurrentTime(), value);
+        synchronized (cache) {
+            cache.put(key, cacheEntry);
+        }
+    }
+
+    /**
+     * Returns the cached value, or null when there is no (non expired) value for the key. Nothing is loaded.
+     */
+    public T get(String key) {
+        LDAPCacheEntry<T> cacheEntry = getValidEntry(key);
+        if (cacheEntry != null) {
+            return cacheEntry.getValue();
+        }
+
+        registerMiss(key);
+        return null;
+    }
+
+    /**
+     * Returns the cached value, or loads it with the given loader when there is no (non expired) value for the key.
+     * When the entry is about to expire (see {@link #setRefreshAheadTime(long)}), the current value is returned and the entry is reloaded in the background.
+     */
+    public T get(String key, Function<String, T> loader) {
+        LDAPCacheEntry<T> cacheEntry = getValidEntry(key);
+        if (cacheEntry != null) {
+            if (refreshAheadTime > 0 && getAge(cacheEntry) >= expirationTime - refreshAheadTime) {
+                refreshAsync(key, loader);
+            }
+            return cacheEntry.getValue();
+        }
+
+        registerMiss(key);
+        return load(key, loader);
+    }
+
+    public void remove(String key) {
+        synchronized (cache) {
+            cache.remove(key);
+        }
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    protected LDAPCacheEntry<T> getValidEntry(String key) {
+        LDAPCacheEntry<T> cacheEntry;
+        boolean expired = false;
+        synchronized (cache) {
+            cacheEntry = cache.get(key);
+            if (cacheEntry != null && getAge(cacheEntry) >= expirationTime) {
+                cache.remove(key);
+                expired = true;
+            }
+        }
+
+        if (cacheEntry == null) {
+            return null;
+        }
+
+        if (!expired) {
+            hitCount.incrementAndGet();
+            if (cacheListener != null) {
+                cacheListener.cacheHit(key);
+            }
+            return cacheEntry;
+        }
+
+        expirationCount.incrementAndGet();
+        evictionCount.incrementAndGet();
+        if (cacheListener != null) {
+            cacheListener.cacheExpired(key);
+            cacheListener.cacheEviction(key);
+        }
+        return null;
+    }
+
+    protected void registerMiss(String key) {
+        missCount.incrementAndGet();
+        if (cacheListener != null) {
+            cacheListener.cacheMiss(key);
+        }
+    }
+
+    protected T load(String key, Function<String, T> loader) {
+        CompletableFuture<T> loadFuture = new CompletableFuture<>();
+        CompletableFuture<T> pendingLoad = pendingLoads.putIfAbsent(key, loadFuture);
+        if (pendingLoad != null) {
+            // Another thread is already fetching the value, no need to hit the LDAP system twice
+            return waitForPendingLoad(pendingLoad);
+        }
+
+        try {
+            T value = loader.apply(key);
+            put(key, value);
+            loadFuture.complete(value);
+            return value;
+
+        } catch (RuntimeException e) {
+            loadFuture.completeExceptionally(e);
+            throw e;
+
+        } finally {
+            pendingLoads.remove(key, loadFuture);
+        }
+    }
+
+    protected void refreshAsync(String key, Function<String, T> loader) {
+        CompletableFuture<T> refreshFuture = new CompletableFuture<>();
+        if (pendingLoads.putIfAbsent(key, refreshFuture) != null) {
+            return;
+        }
+
+        refreshCount.incrementAndGet();
+        if (cacheListener != null) {
+            cacheListener.cacheRefresh(key);
+        }
+
+        try {
+            getRefreshExecutorService().execute(() -> {
+                try {
+                    T value = loader.apply(key);
+                    put(key, value);
+                    refreshFuture.complete(value);
+
+                } catch (RuntimeException e) {
+                    // The current value expires as usual and will be loaded again on the next access
+                    LOGGER.warn("Could not refresh LDAP cache entry for {}", key, e);
+                    refreshFuture.completeExceptionally(e);
+
+                } finally {
+                    pendingLoads.remove(key, refreshFuture);
+                }
+            });
+
+        } catch (RejectedExecutionException e) {
+            LOGGER.debug("Refresh of LDAP cache entry for {} was rejected", key, e);
+            pendingLoads.remove(key, refreshFuture);
+            refreshFuture.completeExceptionally(e);
+        }
+    }
+
+    protected T waitForPendingLoad(CompletableFuture<T> pendingLoad) {
+        try {
+            return pendingLoad.join();
+
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new FlowableException("Could not fetch value from LDAP", e.getCause());
+        }
+    }
+
+    protected long getAge(LDAPCacheEntry<T> cacheEntry) {
+        return getCurrentTime() - cacheEntry.getTimestamp();
+    }
+
+    protected long getCurrentTime() {
+        return clockReader.get().getCurrentTime().getTime();
+    }
+
+    protected synchronized ExecutorService getRefreshExecutorService() {
+        if (refreshExecutorService == null) {
+            refreshExecutorService = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "flowable-ldap-cache-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return refreshExecutorService;
+    }
+
+    public synchronized void setRefreshExecutorService(ExecutorService refreshExecutorService) {
+        this.refreshExecutorService = refreshExecutorService;
+    }
+
+    public Map<String, LDAPCacheEntry<T>> getCache() {
+        return cache;
+    }
+
+    public void setCache(Map<String, LDAPCacheEntry<T>> cache) {
+        this.cache = cache;
+    }
+
+    public long getExpirationTime() {
+        return expirationTime;
+    }
+
+    public void setExpirationTime(long expirationTime) {
+        this.expirationTime = expirationTime;
+    }
+
+    public long getRefreshAheadTime() {
+        return refreshAheadTime;
+    }
+
+    /**
+     * Sets the time in milliseconds before the expiration of an entry from which on the entry is refreshed in the background when it is accessed.
+     * By default set to -1, so entries are not refreshed ahead of their expiration.
+     */
+    public void setRefreshAheadTime(long refreshAheadTime) {
+        this.refreshAheadTime = refreshAheadTime;
+    }
+
+    public LDAPCacheListener getCacheListener() {
+        return cacheListener;
+    }
+
+    public void setCacheListener(LDAPCacheListener cacheListener) {
+        this.cacheListener = cacheListener;
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getRefreshCount() {
+        return refreshCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    public long getExpirationCount() {
+        return expirationCount.get();
+    }
+
+    // Helper classes ////////////////////////////////////
+
+    public static class LDAPCacheEntry<T> {
+
+        protected final long timestamp;
+        protected final T value;
+
+        public LDAPCacheEntry(long timestamp, T value) {
+            this.timestamp = timestamp;
+            this.value = value;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+    }
+
+    public interface LDAPCacheListener {
+
+        void cacheHit(String key);
+
+        void cacheMiss(String key);
+
+        void cacheEviction(String key);
+
+        void cacheExpired(String key);
+
+        default void cacheRefresh(String key) {
+            // Refreshes are not of interest to most listeners
+        }
+
+    }
+
+}
@@ -52,6 +52,8 @@ public class LDAPConfiguration {
     protected String userBaseDn;
     protected String groupBaseDn;
     protected int searchTimeLimit = 0; // Default '0' == wait forever
+    protected int searchPageSize = -1;
+    protected boolean connectionPooling;
 
     protected String queryUserByUserId;
     protected String queryGroupsForUser;
@@ -77,6 +79,12 @@ public class LDAPConfiguration {
     protected int groupCacheSize = -1;
     protected long groupCacheExpirationTime = 3600000L; // default: one hour
 
+    // User caching
+    protected int userCacheSize = -1;
+    protected long userCacheExpirationTime = 3600000L; // default: one hour
+
+    protected long cacheRefreshAheadTime = -1;
+
     // Cache listener (experimental)
     protected LDAPGroupCacheListener groupCacheListener;
 
@@ -166,6 +174,23 @@ public class LDAPConfiguration {
         this.customConnectionParameters = customConnectionParameters;
     }
 
+    public boolean isConnectionPooling() {
+        return connectionPooling;
+    }
+
+    /**
+     * Enables the connection pooling of the JNDI LDAP provider ('com.sun.jndi.ldap.connect.pool') for the connections that are made with the configured user,
+     * ie all connections except the ones used to verify the password of a user. A connection is returned to the pool when the {@link LDAPTemplate} is done with it.
+     * <p>
+     * The pool itself is configured through the 'com.sun.jndi.ldap.connect.pool.*' system properties, for example 'com.sun.jndi.ldap.connect.pool.maxsize'.
+     * Note that the JNDI provider only pools plain connections by default, for 'ldaps' the 'com.sun.jndi.ldap.connect.pool.protocol' system property needs to include 'ssl'.
+     * <p>
+     * By default set to false.
+     */
+    public void setConnectionPooling(boolean connectionPooling) {
+        this.connectionPooling = connectionPooling;
+    }
+
     public String getBaseDn() {
         return baseDn;
     }
@@ -212,6 +237,21 @@ public class LDAPConfiguration {
         this.searchTimeLimit = searchTimeLimit;
     }
 
+    public int getSearchPageSize() {
+        return searchPageSize;
+    }
+
+    /**
+     * The page size used when searching for multiple users or groups. When set, the results are requested from the LDAP system in pages of this size,
+     * using the paged results control (RFC 2696), which avoids hitting the size limit of the LDAP system when there are a lot of users or groups.
+     * The control is marked as non critical, so systems that do not support it return all results at once.
+     * <p>
+     * By default set to -1, so results are not paged.
+     */
+    public void setSearchPageSize(int searchPageSize) {
+        this.searchPageSize = searchPageSize;
+    }
+
     public String getQueryUserByUserId() {
         return queryUserByUserId;
     }
@@ -446,6 +486,46 @@ public class LDAPConfiguration {
         this.groupCacheExpirationTime = groupCacheExpirationTime;
     }
 
+    public int getUserCacheSize() {
+        return userCacheSize;
+    }
+
+    /**
+     * Allows to set the size of the user cache. This is an LRU cache, like the {@link LDAPGroupCache}, that caches users by id and thus avoids hitting the LDAP system
+     * each time a user is fetched by id.
+     * <p>
+     * The cache will not be instantiated if the value is less then zero. By default set to -1, so no caching is done.
+     */
+    public void setUserCacheSize(int userCacheSize) {
+        this.userCacheSize = userCacheSize;
+    }
+
+    public long getUserCacheExpirationTime() {
+        return userCacheExpirationTime;
+    }
+
+    /**
+     * Sets the expiration time of the user cache in milliseconds (see {@link #setUserCacheSize(int)}). By default set to one hour.
+     */
+    public void setUserCacheExpirationTime(long userCacheExpirationTime) {
+        this.userCacheExpirationTime = userCacheExpirationTime;
+    }
+
+    public long getCacheRefreshAheadTime() {
+        return cacheRefreshAheadTime;
+    }
+
+    /**
+     * Sets the time in milliseconds before the expiration of a group or user cache entry from which on the entry is fetched again in the background when it is used,
+     * while the cached value is still returned. ie. when the expiration time is 30 mins and the refresh ahead time is 5 mins, the groups of a user that were fetched
+     * at 00:00 and that are needed at 00:26 are returned from the cache, and fetched again from the LDAP system in the background.
+     * <p>
+     * By default set to -1, so entries are only fetched again after they have expired.
+     */
+    public void setCacheRefreshAheadTime(long cacheRefreshAheadTime) {
+        this.cacheRefreshAheadTime = cacheRefreshAheadTime;
+    }
+
     public LDAPGroupCacheListener getGroupCacheListener() {
         return groupCacheListener;
     }
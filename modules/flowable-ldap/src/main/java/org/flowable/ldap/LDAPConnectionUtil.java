@@ -17,6 +17,7 @@ import java.util.Properties;
 import javax.naming.Context;
 import javax.naming.NamingException;
 import javax.naming.directory.InitialDirContext;
+import javax.naming.ldap.InitialLdapContext;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.slf4j.Logger;
@@ -31,17 +32,30 @@ public class LDAPConnectionUtil {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LDAPConnectionUtil.class);
 
+    public static final String CONNECTION_POOL_PROPERTY = "com.sun.jndi.ldap.connect.pool";
+
     public static InitialDirContext creatDirectoryContext(LDAPConfiguration ldapConfigurator) {
-        return createDirectoryContext(ldapConfigurator, ldapConfigurator.getUser(), ldapConfigurator.getPassword());
+        return createDirectoryContext(ldapConfigurator, ldapConfigurator.getUser(), ldapConfigurator.getPassword(), ldapConfigurator.isConnectionPooling());
     }
 
     public static InitialDirContext createDirectoryContext(LDAPConfiguration ldapConfigurator, String principal, String credentials) {
+        return createDirectoryContext(ldapConfigurator, principal, credentials, false);
+    }
+
+    /**
+     * Creates a connection to the LDAP system. The returned context is an {@link InitialLdapContext}, so that request controls (eg. for paging) can be used.
+     * When pooled, closing the context returns the connection to the pool of the JNDI LDAP provider.
+     */
+    public static InitialDirContext createDirectoryContext(LDAPConfiguration ldapConfigurator, String principal, String credentials, boolean pooled) {
         Properties properties = new Properties();
         properties.put(Context.INITIAL_CONTEXT_FACTORY, ldapConfigurator.getInitialContextFactory());
         properties.put(Context.PROVIDER_URL, ldapConfigurator.getServer() + ":" + ldapConfigurator.getPort());
         properties.put(Context.SECURITY_AUTHENTICATION, ldapConfigurator.getSecurityAuthentication());
         properties.put(Context.SECURITY_PRINCIPAL, principal);
         properties.put(Context.SECURITY_CREDENTIALS, credentials);
+        if (pooled) {
+            properties.put(CONNECTION_POOL_PROPERTY, "true");
+        }
 
         if (ldapConfigurator.getCustomConnectionParameters() != null) {
             for (String customParameter : ldapConfigurator.getCustomConnectionParameters().keySet()) {
@@ -51,7 +65,7 @@ public class LDAPConnectionUtil {
 
         InitialDirContext context;
         try {
-            context = new InitialDirContext(properties);
+            context = new InitialLdapContext(properties, null);
         } catch (NamingException e) {
             LOGGER.warn("Could not create InitialDirContext for LDAP connection: {}", e.getMessage());
             throw new FlowableException("Could not create InitialDirContext for LDAP connection: " + e.getMessage(), e);
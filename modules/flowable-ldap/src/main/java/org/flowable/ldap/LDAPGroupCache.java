@@ -12,8 +12,6 @@
  */
 package org.flowable.ldap;
 
-import java.util.Date;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
@@ -26,141 +24,40 @@ import org.flowable.idm.api.Group;
  * candidateUser. Configured through the {@link LDAPConfiguration}.
  * 
  * Cached entries have an expiration time. For example when set to one hour, changes to the ldap system around the groups of a user will be visible after that hour.
+ * The cache can be used concurrently and can refresh entries ahead of their expiration, see {@link LDAPCache}.
  * 
  * Experimental: can have a listener for cache events, and instance of {@link LDAPGroupCacheListener}.
  * 
  * @author Joram Barrez
  */
-public class LDAPGroupCache {
-
-    private final Supplier<ClockReader> clockReader;
-    protected Map<String, LDAPGroupCacheEntry> groupCache;
-    protected long expirationTime;
-
-    protected LDAPGroupCacheListener ldapCacheListener;
+public class LDAPGroupCache extends LDAPCache<List<Group>> {
 
     public LDAPGroupCache(final int cacheSize, final long expirationTime, final ClockReader clockReader) {
         this(cacheSize, expirationTime, () -> clockReader);
     }
 
     public LDAPGroupCache(final int cacheSize, final long expirationTime, final Supplier<ClockReader> clockReader) {
-        this.clockReader = clockReader;
-
-        // From
-        // http://stackoverflow.com/questions/224868/easy-simple-to-use-lru-cache-in-java
-        this.groupCache = new LinkedHashMap<String, LDAPGroupCache.LDAPGroupCacheEntry>(cacheSize + 1, 0.75f, true) {
-
-            private static final long serialVersionUID = 5207574193173514579L;
-
-            @Override
-            protected boolean removeEldestEntry(Map.Entry<String, LDAPGroupCacheEntry> eldest) {
-                boolean removeEldest = size() > cacheSize;
-
-                if (removeEldest && ldapCacheListener != null) {
-                    ldapCacheListener.cacheEviction(eldest.getKey());
-                }
-
-                return removeEldest;
-            }
-
-        };
-        this.expirationTime = expirationTime;
+        super(cacheSize, expirationTime, clockReader);
     }
 
     public void add(String userId, List<Group> groups) {
-        this.groupCache.put(userId, new LDAPGroupCacheEntry(clockReader.get().getCurrentTime(), groups));
-    }
-
-    public List<Group> get(String userId) {
-        LDAPGroupCacheEntry cacheEntry = groupCache.get(userId);
-        if (cacheEntry != null) {
-            if ((clockReader.get().getCurrentTime().getTime() - cacheEntry.getTimestamp().getTime()) < expirationTime) {
-
-                if (ldapCacheListener != null) {
-                    ldapCacheListener.cacheHit(userId);
-                }
-
-                return cacheEntry.getGroups();
-
-            } else {
-
-                this.groupCache.remove(userId);
-
-                if (ldapCacheListener != null) {
-                    ldapCacheListener.cacheExpired(userId);
-                    ldapCacheListener.cacheEviction(userId);
-                }
-
-            }
-        }
-
-        if (ldapCacheListener != null) {
-            ldapCacheListener.cacheMiss(userId);
-        }
-
-        return null;
-    }
-
-    public void clear() {
-        groupCache.clear();
+        put(userId, groups);
     }
 
-    public Map<String, LDAPGroupCacheEntry> getGroupCache() {
-        return groupCache;
+    public Map<String, LDAPCacheEntry<List<Group>>> getGroupCache() {
+        return getCache();
     }
 
-    public void setGroupCache(Map<String, LDAPGroupCacheEntry> groupCache) {
-        this.groupCache = groupCache;
-    }
-
-    public long getExpirationTime() {
-        return expirationTime;
-    }
-
-    public void setExpirationTime(long expirationTime) {
-        this.expirationTime = expirationTime;
+    public void setGroupCache(Map<String, LDAPCacheEntry<List<Group>>> groupCache) {
+        setCache(groupCache);
     }
 
     public LDAPGroupCacheListener getLdapCacheListener() {
-        return ldapCacheListener;
+        return cacheListener instanceof LDAPGroupCacheListener ? (LDAPGroupCacheListener) cacheListener : null;
     }
 
     public void setLdapCacheListener(LDAPGroupCacheListener ldapCacheListener) {
-        this.ldapCacheListener = ldapCacheListener;
-    }
-
-    // Helper classes ////////////////////////////////////
-
-    static class LDAPGroupCacheEntry {
-
-        protected Date timestamp;
-        protected List<Group> groups;
-
-        public LDAPGroupCacheEntry() {
-
-        }
-
-        public LDAPGroupCacheEntry(Date timestamp, List<Group> groups) {
-            this.timestamp = timestamp;
-            this.groups = groups;
-        }
-
-        public Date getTimestamp() {
-            return timestamp;
-        }
-
-        public void setTimestamp(Date timestamp) {
-            this.timestamp = timestamp;
-        }
-
-        public List<Group> getGroups() {
-            return groups;
-        }
-
-        public void setGroups(List<Group> groups) {
-            this.groups = groups;
-        }
-
+        setCacheListener(ldapCacheListener);
     }
 
     // Cache listeners. Currently not yet exposed (only programmatically for the
@@ -168,15 +65,7 @@ public class LDAPGroupCache {
 
     // Experimental stuff!
 
-    public static interface LDAPGroupCacheListener {
-
-        void cacheHit(String userId);
-
-        void cacheMiss(String userId);
-
-        void cacheEviction(String userId);
-
-        void cacheExpired(String userId);
+    public static interface LDAPGroupCacheListener extends LDAPCacheListener {
 
     }
 
@@ -44,16 +44,23 @@ public class LDAPIdentityServiceImpl extends IdmIdentityServiceImpl {
 
     protected LDAPConfiguration ldapConfigurator;
     protected LDAPGroupCache ldapGroupCache;
+    protected LDAPCache<User> ldapUserCache;
 
     public LDAPIdentityServiceImpl(LDAPConfiguration ldapConfigurator, LDAPGroupCache ldapGroupCache, IdmEngineConfiguration idmEngineConfiguration) {
+        this(ldapConfigurator, ldapGroupCache, null, idmEngineConfiguration);
+    }
+
+    public LDAPIdentityServiceImpl(LDAPConfiguration ldapConfigurator, LDAPGroupCache ldapGroupCache, LDAPCache<User> ldapUserCache,
+            IdmEngineConfiguration idmEngineConfiguration) {
         super(idmEngineConfiguration);
         this.ldapConfigurator = ldapConfigurator;
         this.ldapGroupCache = ldapGroupCache;
+        this.ldapUserCache = ldapUserCache;
     }
 
     @Override
     public UserQuery createUserQuery() {
-        return new LDAPUserQueryImpl(ldapConfigurator);
+        return new LDAPUserQueryImpl(ldapConfigurator, ldapUserCache);
     }
 
     @Override
@@ -207,6 +214,10 @@ public class LDAPIdentityServiceImpl extends IdmIdentityServiceImpl {
         return searchControls;
     }
 
+    public LDAPConfiguration getLdapConfigurator() {
+        return ldapConfigurator;
+    }
+
     public LDAPGroupCache getLdapGroupCache() {
         return ldapGroupCache;
     }
@@ -214,4 +225,12 @@ public class LDAPIdentityServiceImpl extends IdmIdentityServiceImpl {
     public void setLdapGroupCache(LDAPGroupCache ldapGroupCache) {
         this.ldapGroupCache = ldapGroupCache;
     }
+
+    public LDAPCache<User> getLdapUserCache() {
+        return ldapUserCache;
+    }
+
+    public void setLdapUserCache(LDAPCache<User> ldapUserCache) {
+        this.ldapUserCache = ldapUserCache;
+    }
 }
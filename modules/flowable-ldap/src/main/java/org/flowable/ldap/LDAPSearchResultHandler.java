@@ -0,0 +1,26 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.ldap;
+
+import javax.naming.NamingException;
+import javax.naming.directory.SearchResult;
+
+/**
+ * Handles the results of a search done through {@link LDAPTemplate#search(String, String, javax.naming.directory.SearchControls, LDAPSearchResultHandler)}
+ * one by one, while they are read from the LDAP system.
+ */
+public interface LDAPSearchResultHandler {
+
+    void handleResult(SearchResult searchResult) throws NamingException;
+
+}
@@ -12,8 +12,19 @@
  */
 package org.flowable.ldap;
 
+import java.io.IOException;
+
+import javax.naming.NamingEnumeration;
+import javax.naming.NamingException;
 import javax.naming.directory.InitialDirContext;
+import javax.naming.directory.SearchControls;
+import javax.naming.directory.SearchResult;
+import javax.naming.ldap.Control;
+import javax.naming.ldap.LdapContext;
+import javax.naming.ldap.PagedResultsControl;
+import javax.naming.ldap.PagedResultsResponseControl;
 
+import org.flowable.common.engine.api.FlowableException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,6 +55,61 @@ public class LDAPTemplate {
         return result;
     }
 
+    /**
+     * Executes a search in the given context and passes every result to the handler as soon as it is read,
+     * so the complete result set never needs to be held in memory by the template.
+     *
+     * When a search page size is configured (see {@link LDAPConfiguration#setSearchPageSize(int)}), the results are fetched
+     * in pages using the paged results control. The control is non-critical: servers that don't support it return all results at once.
+     */
+    public void search(InitialDirContext initialDirContext, String baseDn, String searchExpression, SearchControls searchControls,
+            LDAPSearchResultHandler searchResultHandler) throws NamingException {
+
+        int pageSize = ldapConfigurator.getSearchPageSize();
+        if (pageSize <= 0 || !(initialDirContext instanceof LdapContext)) {
+            handleSearchResults(initialDirContext.search(baseDn, searchExpression, searchControls), searchResultHandler);
+            return;
+        }
+
+        LdapContext ldapContext = (LdapContext) initialDirContext;
+        try {
+            byte[] cookie = null;
+            do {
+                ldapContext.setRequestControls(new Control[] { new PagedResultsControl(pageSize, cookie, Control.NONCRITICAL) });
+                handleSearchResults(ldapContext.search(baseDn, searchExpression, searchControls), searchResultHandler);
+                cookie = getPagedResultsCookie(ldapContext.getResponseControls());
+            } while (cookie != null && cookie.length > 0);
+
+        } catch (IOException e) {
+            throw new FlowableException("Could not create paged results control for LDAP search " + searchExpression, e);
+
+        } finally {
+            // Pooled connections are reused, so the paging control must not stick to the context
+            ldapContext.setRequestControls(null);
+        }
+    }
+
+    protected void handleSearchResults(NamingEnumeration<SearchResult> namingEnum, LDAPSearchResultHandler searchResultHandler) throws NamingException {
+        try {
+            while (namingEnum.hasMore()) {
+                searchResultHandler.handleResult(namingEnum.next());
+            }
+        } finally {
+            namingEnum.close();
+        }
+    }
+
+    protected byte[] getPagedResultsCookie(Control[] responseControls) {
+        if (responseControls != null) {
+            for (Control responseControl : responseControls) {
+                if (responseControl instanceof PagedResultsResponseControl) {
+                    return ((PagedResultsResponseControl) responseControl).getCookie();
+                }
+            }
+        }
+        return null;
+    }
+
     public LDAPConfiguration getLdapConfigurator() {
         return ldapConfigurator;
     }
@@ -15,11 +15,9 @@ package org.flowable.ldap.impl;
 import java.util.ArrayList;
 import java.util.List;
 
-import javax.naming.NamingEnumeration;
 import javax.naming.NamingException;
 import javax.naming.directory.InitialDirContext;
 import javax.naming.directory.SearchControls;
-import javax.naming.directory.SearchResult;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
@@ -66,23 +64,17 @@ public class LDAPGroupQueryImpl extends GroupQueryImpl {
 
     protected List<Group> findGroupsByUser(String userId) {
 
-        // First try the cache (if one is defined)
+        // Use the cache (if one is defined), which only hits the LDAP system when the groups are not cached yet
         if (ldapGroupCache != null) {
-            List<Group> groups = ldapGroupCache.get(userId);
-            if (groups != null) {
-                return groups;
-            }
+            return ldapGroupCache.get(userId, this::fetchGroupsByUser);
         }
 
-        String searchExpression = ldapConfigurator.getLdapQueryBuilder().buildQueryGroupsForUser(ldapConfigurator, userId);
-        List<Group> groups = executeGroupQuery(searchExpression);
-
-        // Cache results for later
-        if (ldapGroupCache != null) {
-            ldapGroupCache.add(userId, groups);
-        }
+        return fetchGroupsByUser(userId);
+    }
 
-        return groups;
+    protected List<Group> fetchGroupsByUser(String userId) {
+        String searchExpression = ldapConfigurator.getLdapQueryBuilder().buildQueryGroupsForUser(ldapConfigurator, userId);
+        return executeGroupQuery(searchExpression);
     }
 
     protected List<Group> findGroupsById(String id) {
@@ -106,10 +98,7 @@ public class LDAPGroupQueryImpl extends GroupQueryImpl {
                 List<Group> groups = new ArrayList<>();
                 try {
                     String baseDn = ldapConfigurator.getGroupBaseDn() != null ? ldapConfigurator.getGroupBaseDn() : ldapConfigurator.getBaseDn();
-                    NamingEnumeration<?> namingEnum = initialDirContext.search(baseDn, searchExpression, createSearchControls());
-                    while (namingEnum.hasMore()) { // Should be only one
-                        SearchResult result = (SearchResult) namingEnum.next();
-
+                    ldapTemplate.search(initialDirContext, baseDn, searchExpression, createSearchControls(), result -> {
                         GroupEntity group = new GroupEntityImpl();
                         if (ldapConfigurator.getGroupIdAttribute() != null) {
                             group.setId(result.getAttributes().get(ldapConfigurator.getGroupIdAttribute()).get().toString());
@@ -121,9 +110,7 @@ public class LDAPGroupQueryImpl extends GroupQueryImpl {
                             group.setType(result.getAttributes().get(ldapConfigurator.getGroupTypeAttribute()).get().toString());
                         }
                         groups.add(group);
-                    }
-
-                    namingEnum.close();
+                    });
 
                     return groups;
 
@@ -26,6 +26,7 @@ import org.flowable.idm.api.User;
 import org.flowable.idm.engine.impl.UserQueryImpl;
 import org.flowable.idm.engine.impl.persistence.entity.UserEntity;
 import org.flowable.idm.engine.impl.persistence.entity.UserEntityImpl;
+import org.flowable.ldap.LDAPCache;
 import org.flowable.ldap.LDAPCallBack;
 import org.flowable.ldap.LDAPConfiguration;
 import org.flowable.ldap.LDAPTemplate;
@@ -39,9 +40,15 @@ public class LDAPUserQueryImpl extends UserQueryImpl {
     private static final Logger LOGGER = LoggerFactory.getLogger(LDAPUserQueryImpl.class);
 
     protected LDAPConfiguration ldapConfigurator;
+    protected LDAPCache<User> ldapUserCache;
 
     public LDAPUserQueryImpl(LDAPConfiguration ldapConfigurator) {
+        this(ldapConfigurator, null);
+    }
+
+    public LDAPUserQueryImpl(LDAPConfiguration ldapConfigurator, LDAPCache<User> ldapUserCache) {
         this.ldapConfigurator = ldapConfigurator;
+        this.ldapUserCache = ldapUserCache;
     }
 
     @Override
@@ -57,7 +64,7 @@ public class LDAPUserQueryImpl extends UserQueryImpl {
     protected List<User> executeQuery() {
         if (getId() != null) {
             List<User> result = new ArrayList<>();
-            UserEntity user = findById(getId());
+            User user = findUser(getId());
             if (user != null) {
                 result.add(user);
             }
@@ -65,7 +72,7 @@ public class LDAPUserQueryImpl extends UserQueryImpl {
 
         } else if (getIdIgnoreCase() != null) {
             List<User> result = new ArrayList<>();
-            UserEntity user = findById(getIdIgnoreCase());
+            User user = findUser(getIdIgnoreCase());
             if (user != null) {
                 result.add(user);
             }
@@ -93,6 +100,13 @@ public class LDAPUserQueryImpl extends UserQueryImpl {
         return executeUsersQuery(searchExpression);
     }
 
+    protected User findUser(String userId) {
+        if (ldapUserCache != null) {
+            return ldapUserCache.get(userId, this::findById);
+        }
+        return findById(userId);
+    }
+
     protected UserEntity findById(final String userId) {
         LDAPTemplate ldapTemplate = new LDAPTemplate(ldapConfigurator);
         return ldapTemplate.execute(new LDAPCallBack<UserEntity>() {
@@ -133,17 +147,11 @@ public class LDAPUserQueryImpl extends UserQueryImpl {
                 List<User> result = new ArrayList<>();
                 try {
                     String baseDn = ldapConfigurator.getUserBaseDn() != null ? ldapConfigurator.getUserBaseDn() : ldapConfigurator.getBaseDn();
-                    NamingEnumeration<?> namingEnum = initialDirContext.search(baseDn, searchExpression, createSearchControls());
-
-                    while (namingEnum.hasMore()) {
-                        SearchResult searchResult = (SearchResult) namingEnum.next();
-
+                    ldapTemplate.search(initialDirContext, baseDn, searchExpression, createSearchControls(), searchResult -> {
                         UserEntity user = new UserEntityImpl();
                         mapSearchResultToUser(searchResult, user);
                         result.add(user);
-
-                    }
-                    namingEnum.close();
+                    });
 
                 } catch (NamingException ne) {
                     LOGGER.debug("Could not execute LDAP query: {}", ne.getMessage(), ne);
@@ -288,6 +288,11 @@ public final class RestUrls {
      */
     public static final String[] URL_EXECUTION_VARIABLE_COLLECTION = { SEGMENT_RUNTIME_RESOURCES, SEGMENT_EXECUTION_RESOURCE, "{0}", SEGMENT_VARIABLES };
 
+    /**
+     * URL template for the variables of multiple executions: <i>runtime/executions/variables</i>
+     */
+    public static final String[] URL_EXECUTIONS_VARIABLES = { SEGMENT_RUNTIME_RESOURCES, SEGMENT_EXECUTION_RESOURCE, SEGMENT_VARIABLES };
+
     /**
      * URL template for a single variables for an execution: <i>runtime/executions/{0:executionId}/variables/{1:variableName}</i>
      */
@@ -20,8 +20,12 @@ import java.util.Map;
 
 import org.flowable.common.engine.api.query.QueryProperty;
 import org.flowable.common.rest.api.DataResponse;
+import org.flowable.common.rest.api.FieldProjection;
+import org.flowable.common.rest.api.KeysetPagination;
 import org.flowable.engine.HistoryService;
+import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.history.HistoricActivityInstanceQuery;
+import org.flowable.engine.impl.HistoricActivityInstanceQueryImpl;
 import org.flowable.engine.impl.HistoricActivityInstanceQueryProperty;
 import org.flowable.rest.service.api.BpmnRestApiInterceptor;
 import org.flowable.rest.service.api.RestResponseFactory;
@@ -48,6 +52,25 @@ public class HistoricActivityInstanceBaseResource {
         allowedSortProperties.put("tenantId", HistoricActivityInstanceQueryProperty.TENANT_ID);
     }
 
+    private static final FieldProjection<HistoricActivityInstanceQuery> fieldProjection = new FieldProjection<HistoricActivityInstanceQuery>(
+            (query, columns) -> ((HistoricActivityInstanceQueryImpl) query).setSelectedColumns(columns))
+            .field("id")
+            .field("activityId", "RES.ACT_ID_")
+            .field("activityName", "RES.ACT_NAME_")
+            .field("activityType", "RES.ACT_TYPE_")
+            .field("processDefinitionId", "RES.PROC_DEF_ID_")
+            .field("processDefinitionUrl", "RES.PROC_DEF_ID_")
+            .field("processInstanceId", "RES.PROC_INST_ID_")
+            .field("processInstanceUrl", "RES.PROC_INST_ID_")
+            .field("executionId", "RES.EXECUTION_ID_")
+            .field("taskId", "RES.TASK_ID_")
+            .field("calledProcessInstanceId", "RES.CALL_PROC_INST_ID_")
+            .field("assignee", "RES.ASSIGNEE_")
+            .field("startTime", "RES.START_TIME_")
+            .field("endTime", "RES.END_TIME_")
+            .field("durationInMillis", "RES.DURATION_")
+            .field("tenantId", "RES.TENANT_ID_");
+
     @Autowired
     protected RestResponseFactory restResponseFactory;
 
@@ -119,6 +142,7 @@ public class HistoricActivityInstanceBaseResource {
         }
 
         return paginateList(allRequestParams, queryRequest, query, "startTime", allowedSortProperties,
-            restResponseFactory::createHistoricActivityInstanceResponseList);
+                new KeysetPagination<>("activityInstanceId", HistoricActivityInstanceQuery::activityInstanceIdAfter, HistoricActivityInstance::getId),
+                fieldProjection, restResponseFactory::createHistoricActivityInstanceResponseList);
     }
 }
@@ -54,7 +54,9 @@ public class HistoricActivityInstanceCollectionResource extends HistoricActivity
             @ApiImplicitParam(name = "processDefinitionId", dataType = "string", value = "The process definition id of the historic activity instance.", paramType = "query"),
             @ApiImplicitParam(name = "tenantId", dataType = "string", value = "Only return instances with the given tenantId.", paramType = "query"),
             @ApiImplicitParam(name = "tenantIdLike", dataType = "string", value = "Only return instances with a tenantId like the given value.", paramType = "query"),
-            @ApiImplicitParam(name = "withoutTenantId", dataType = "boolean", value = "If true, only returns instances without a tenantId set. If false, the withoutTenantId parameter is ignored.", paramType = "query")
+            @ApiImplicitParam(name = "withoutTenantId", dataType = "boolean", value = "If true, only returns instances without a tenantId set. If false, the withoutTenantId parameter is ignored.", paramType = "query"),
+            @ApiImplicitParam(name = "cursor", dataType = "string", value = "Pages through the activity instances ordered by activityInstanceId, starting after the given cursor instead of at the start offset. Use an empty value for the first page and the nextCursor of the response for the following pages. The total is not counted and returned as -1.", paramType = "query"),
+            @ApiImplicitParam(name = "fields", dataType = "string", value = "Comma separated list of the activity instance properties to return, all properties are returned when not set.\n", paramType = "query"),
     })
     @GetMapping(value = "/history/historic-activity-instances", produces = "application/json")
     public DataResponse<HistoricActivityInstanceResponse> getHistoricActivityInstances(@ApiParam(hidden = true) @RequestParam Map<String, String> allRequestParams, HttpServletRequest request) {
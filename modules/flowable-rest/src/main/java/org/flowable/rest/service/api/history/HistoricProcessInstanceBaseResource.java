@@ -25,10 +25,13 @@ import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.api.query.QueryProperty;
 import org.flowable.common.rest.api.DataResponse;
+import org.flowable.common.rest.api.FieldProjection;
+import org.flowable.common.rest.api.KeysetPagination;
 import org.flowable.engine.HistoryService;
 import org.flowable.engine.RepositoryService;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.history.HistoricProcessInstanceQuery;
+import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
 import org.flowable.engine.impl.HistoricProcessInstanceQueryProperty;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.rest.service.api.BpmnRestApiInterceptor;
@@ -54,6 +57,31 @@ public class HistoricProcessInstanceBaseResource {
         allowedSortProperties.put("tenantId", HistoricProcessInstanceQueryProperty.TENANT_ID);
     }
 
+    private static final FieldProjection<HistoricProcessInstanceQuery> fieldProjection = new FieldProjection<HistoricProcessInstanceQuery>(
+            (query, columns) -> ((HistoricProcessInstanceQueryImpl) query).setSelectedColumns(columns))
+            .field("id")
+            .field("url")
+            .field("name", "RES.NAME_")
+            .field("businessKey", "RES.BUSINESS_KEY_")
+            .field("processDefinitionId", "RES.PROC_DEF_ID_")
+            .field("processDefinitionUrl", "RES.PROC_DEF_ID_")
+            .field("processDefinitionName", "RES.PROC_DEF_ID_")
+            .field("processDefinitionDescription", "RES.PROC_DEF_ID_")
+            .field("startTime", "RES.START_TIME_")
+            .field("endTime", "RES.END_TIME_")
+            .field("durationInMillis", "RES.DURATION_")
+            .field("startUserId", "RES.START_USER_ID_")
+            .field("startActivityId", "RES.START_ACT_ID_")
+            .field("endActivityId", "RES.END_ACT_ID_")
+            .field("deleteReason", "RES.DELETE_REASON_")
+            .field("superProcessInstanceId", "RES.SUPER_PROCESS_INSTANCE_ID_")
+            .field("callbackId", "RES.CALLBACK_ID_")
+            .field("callbackType", "RES.CALLBACK_TYPE_")
+            .field("referenceId", "RES.REFERENCE_ID_")
+            .field("referenceType", "RES.REFERENCE_TYPE_")
+            .field("propagatedStageInstanceId", "RES.PROPAGATED_STAGE_INST_ID_")
+            .field("tenantId", "RES.TENANT_ID_");
+
     @Autowired
     protected RestResponseFactory restResponseFactory;
 
@@ -187,7 +215,8 @@ public class HistoricProcessInstanceBaseResource {
         }
 
         DataResponse<HistoricProcessInstanceResponse> responseList = paginateList(allRequestParams, queryRequest, query, "processInstanceId", allowedSortProperties,
-                restResponseFactory::createHistoricProcessInstanceResponseList);
+                new KeysetPagination<>("processInstanceId", HistoricProcessInstanceQuery::processInstanceIdAfter, HistoricProcessInstance::getId),
+                fieldProjection, restResponseFactory::createHistoricProcessInstanceResponseList);
         
         Set<String> processDefinitionIds = new HashSet<>();
         List<HistoricProcessInstanceResponse> processInstanceList = responseList.getData();
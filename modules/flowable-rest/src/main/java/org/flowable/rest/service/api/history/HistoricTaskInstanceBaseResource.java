@@ -23,12 +23,15 @@ import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.api.query.QueryProperty;
 import org.flowable.common.rest.api.DataResponse;
+import org.flowable.common.rest.api.FieldProjection;
+import org.flowable.common.rest.api.KeysetPagination;
 import org.flowable.engine.HistoryService;
 import org.flowable.rest.service.api.BpmnRestApiInterceptor;
 import org.flowable.rest.service.api.RestResponseFactory;
 import org.flowable.rest.service.api.engine.variable.QueryVariable;
 import org.flowable.task.api.history.HistoricTaskInstance;
 import org.flowable.task.api.history.HistoricTaskInstanceQuery;
+import org.flowable.task.service.impl.HistoricTaskInstanceQueryImpl;
 import org.flowable.task.service.impl.HistoricTaskInstanceQueryProperty;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -62,6 +65,38 @@ public class HistoricTaskInstanceBaseResource {
         allowedSortProperties.put("startTime", HistoricTaskInstanceQueryProperty.START);
     }
 
+    private static final FieldProjection<HistoricTaskInstanceQuery> fieldProjection = new FieldProjection<HistoricTaskInstanceQuery>(
+            (query, columns) -> ((HistoricTaskInstanceQueryImpl) query).setSelectedColumns(columns))
+            .field("id")
+            .field("url")
+            .field("processDefinitionId", "RES.PROC_DEF_ID_")
+            .field("processDefinitionUrl", "RES.PROC_DEF_ID_")
+            .field("processInstanceId", "RES.PROC_INST_ID_")
+            .field("processInstanceUrl", "RES.PROC_INST_ID_")
+            .field("executionId", "RES.EXECUTION_ID_")
+            .field("name", "RES.NAME_")
+            .field("description", "RES.DESCRIPTION_")
+            .field("deleteReason", "RES.DELETE_REASON_")
+            .field("owner", "RES.OWNER_")
+            .field("assignee", "RES.ASSIGNEE_")
+            .field("startTime", "RES.START_TIME_")
+            .field("endTime", "RES.END_TIME_")
+            .field("durationInMillis", "RES.DURATION_")
+            .field("workTimeInMillis", "RES.CLAIM_TIME_", "RES.END_TIME_")
+            .field("claimTime", "RES.CLAIM_TIME_")
+            .field("taskDefinitionKey", "RES.TASK_DEF_KEY_")
+            .field("formKey", "RES.FORM_KEY_")
+            .field("priority", "RES.PRIORITY_")
+            .field("dueDate", "RES.DUE_DATE_")
+            .field("parentTaskId", "RES.PARENT_TASK_ID_")
+            .field("scopeDefinitionId", "RES.SCOPE_DEFINITION_ID_")
+            .field("scopeId", "RES.SCOPE_ID_")
+            .field("subScopeId", "RES.SUB_SCOPE_ID_")
+            .field("scopeType", "RES.SCOPE_TYPE_")
+            .field("propagatedStageInstanceId", "RES.PROPAGATED_STAGE_INST_ID_")
+            .field("tenantId", "RES.TENANT_ID_")
+            .field("category", "RES.CATEGORY_");
+
     @Autowired
     protected RestResponseFactory restResponseFactory;
 
@@ -278,7 +313,8 @@ public class HistoricTaskInstanceBaseResource {
         }
 
         return paginateList(allRequestParams, queryRequest, query, "taskInstanceId", allowedSortProperties,
-            restResponseFactory::createHistoricTaskInstanceResponseList);
+                new KeysetPagination<>("taskInstanceId", HistoricTaskInstanceQuery::taskIdAfter, HistoricTaskInstance::getId),
+                fieldProjection, restResponseFactory::createHistoricTaskInstanceResponseList);
     }
     
     protected HistoricTaskInstance getHistoricTaskInstanceFromRequest(String taskId) {
@@ -92,7 +92,8 @@ public class HistoricTaskInstanceCollectionResource extends HistoricTaskInstance
             @ApiImplicitParam(name = "tenantId", dataType = "string", value = "Only return historic task instances with the given tenantId.", paramType = "query"),
             @ApiImplicitParam(name = "tenantIdLike", dataType = "string", value = "Only return historic task instances with a tenantId like the given value.", paramType = "query"),
             @ApiImplicitParam(name = "withoutTenantId", dataType = "boolean", value = "If true, only returns historic task instances without a tenantId set. If false, the withoutTenantId parameter is ignored.", paramType = "query"),
-
+            @ApiImplicitParam(name = "cursor", dataType = "string", value = "Pages through the historic task instances ordered by taskInstanceId, starting after the given cursor instead of at the start offset. Use an empty value for the first page and the nextCursor of the response for the following pages. The total is not counted and returned as -1.", paramType = "query"),
+            @ApiImplicitParam(name = "fields", dataType = "string", value = "Comma separated list of the historic task instance properties to return, all properties are returned when not set.\n", paramType = "query"),
     })
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Indicates that historic task instances could be queried."),
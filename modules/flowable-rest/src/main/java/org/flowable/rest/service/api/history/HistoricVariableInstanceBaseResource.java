@@ -22,10 +22,12 @@ import java.util.Map;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.query.QueryProperty;
 import org.flowable.common.rest.api.DataResponse;
+import org.flowable.common.rest.api.KeysetPagination;
 import org.flowable.engine.HistoryService;
 import org.flowable.rest.service.api.BpmnRestApiInterceptor;
 import org.flowable.rest.service.api.RestResponseFactory;
 import org.flowable.rest.service.api.engine.variable.QueryVariable;
+import org.flowable.variable.api.history.HistoricVariableInstance;
 import org.flowable.variable.api.history.HistoricVariableInstanceQuery;
 import org.flowable.variable.service.impl.HistoricVariableInstanceQueryProperty;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -38,6 +40,7 @@ public class HistoricVariableInstanceBaseResource {
     private static Map<String, QueryProperty> allowedSortProperties = new HashMap<>();
 
     static {
+        allowedSortProperties.put("id", HistoricVariableInstanceQueryProperty.VARIABLE_INSTANCE_ID);
         allowedSortProperties.put("processInstanceId", HistoricVariableInstanceQueryProperty.PROCESS_INSTANCE_ID);
         allowedSortProperties.put("variableName", HistoricVariableInstanceQueryProperty.VARIABLE_NAME);
     }
@@ -90,7 +93,9 @@ public class HistoricVariableInstanceBaseResource {
             restApiInterceptor.accessHistoryVariableInfoWithQuery(query, queryRequest);
         }
 
-        return paginateList(allRequestParams, query, "variableName", allowedSortProperties, restResponseFactory::createHistoricVariableInstanceResponseList);
+        return paginateList(allRequestParams, null, query, "variableName", allowedSortProperties,
+                new KeysetPagination<>("id", HistoricVariableInstanceQuery::idAfter, HistoricVariableInstance::getId),
+                null, restResponseFactory::createHistoricVariableInstanceResponseList);
     }
 
     protected void addVariables(HistoricVariableInstanceQuery variableInstanceQuery, List<QueryVariable> variables) {
@@ -44,7 +44,9 @@ public class HistoricVariableInstanceCollectionResource extends HistoricVariable
             @ApiImplicitParam(name = "taskId", dataType = "string", value = "The task id of the historic variable instance.", paramType = "query"),
             @ApiImplicitParam(name = "excludeTaskVariables", dataType = "boolean", value = "Indication to exclude the task variables from the result.", paramType = "query"),
             @ApiImplicitParam(name = "variableName", dataType = "string", value = "The variable name of the historic variable instance.", paramType = "query"),
-            @ApiImplicitParam(name = "variableNameLike", dataType = "string", value = "The variable name using the like operator for the historic variable instance.", paramType = "query")
+            @ApiImplicitParam(name = "variableNameLike", dataType = "string", value = "The variable name using the like operator for the historic variable instance.", paramType = "query"),
+            @ApiImplicitParam(name = "cursor", dataType = "string", value = "Pages through the historic variable instances ordered by id, starting after the given cursor instead of at the start offset. Use an empty value for the first page and the nextCursor of the response for the following pages. The total is not counted and returned as -1.", paramType = "query"),
+            @ApiImplicitParam(name = "fields", dataType = "string", value = "Comma separated list of the historic variable instance properties to return, all properties are returned when not set.\n", paramType = "query"),
     })
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Indicates that historic variable instances could be queried."),
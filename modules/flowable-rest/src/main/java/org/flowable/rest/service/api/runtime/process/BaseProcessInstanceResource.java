@@ -25,6 +25,7 @@ import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.api.query.QueryProperty;
 import org.flowable.common.rest.api.DataResponse;
+import org.flowable.common.rest.api.KeysetPagination;
 import org.flowable.engine.RepositoryService;
 import org.flowable.engine.RuntimeService;
 import org.flowable.engine.impl.ProcessInstanceQueryProperty;
@@ -185,7 +186,9 @@ public class BaseProcessInstanceResource {
             restApiInterceptor.accessProcessInstanceInfoWithQuery(query, queryRequest);
         }
 
-        DataResponse<ProcessInstanceResponse> responseList = paginateList(requestParams, queryRequest, query, "id", allowedSortProperties, restResponseFactory::createProcessInstanceResponseList);
+        DataResponse<ProcessInstanceResponse> responseList = paginateList(requestParams, queryRequest, query, "id", allowedSortProperties,
+                new KeysetPagination<>("id", ProcessInstanceQuery::processInstanceIdAfter, ProcessInstance::getId),
+                null, restResponseFactory::createProcessInstanceResponseList);
         
         Set<String> processDefinitionIds = new HashSet<>();
         List<ProcessInstanceResponse> processInstanceList = responseList.getData();
@@ -23,6 +23,7 @@ import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.api.query.QueryProperty;
 import org.flowable.common.rest.api.DataResponse;
+import org.flowable.common.rest.api.KeysetPagination;
 import org.flowable.engine.RuntimeService;
 import org.flowable.engine.impl.ExecutionQueryProperty;
 import org.flowable.engine.runtime.Execution;
@@ -114,7 +115,9 @@ public class ExecutionBaseResource {
             restApiInterceptor.accessExecutionInfoWithQuery(query, queryRequest);
         }
 
-        return paginateList(requestParams, queryRequest, query, "processInstanceId", allowedSortProperties, restResponseFactory::createExecutionResponseList);
+        return paginateList(requestParams, queryRequest, query, "processInstanceId", allowedSortProperties,
+                new KeysetPagination<>("processInstanceId", ExecutionQuery::executionIdAfter, Execution::getId),
+                null, restResponseFactory::createExecutionResponseList);
     }
 
     protected void addVariables(ExecutionQuery processInstanceQuery, List<QueryVariable> variables, boolean process) {
@@ -58,6 +58,8 @@ public class ExecutionCollectionResource extends ExecutionBaseResource {
             @ApiImplicitParam(name = "tenantIdLike", dataType = "string", value = "Only return process instances with a tenantId like the given value.", paramType = "query"),
             @ApiImplicitParam(name = "withoutTenantId", dataType = "boolean", value = "If true, only returns process instances without a tenantId set. If false, the withoutTenantId parameter is ignored.", paramType = "query"),
             @ApiImplicitParam(name = "sort", dataType = "string", value = "Property to sort on, to be used together with the order.", allowableValues = "processInstanceId ,processDefinitionId,processDefinitionKey ,tenantId", paramType = "query"),
+            @ApiImplicitParam(name = "cursor", dataType = "string", value = "Pages through the executions ordered by processInstanceId, starting after the given cursor instead of at the start offset. Use an empty value for the first page and the nextCursor of the response for the following pages. The total is not counted and returned as -1.", paramType = "query"),
+            @ApiImplicitParam(name = "fields", dataType = "string", value = "Comma separated list of the execution properties to return, all properties are returned when not set.\n", paramType = "query"),
     })
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Indicates request was successful and the executions are returned"),
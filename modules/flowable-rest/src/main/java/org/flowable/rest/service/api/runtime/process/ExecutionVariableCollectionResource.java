@@ -13,19 +13,25 @@
 
 package org.flowable.rest.service.api.runtime.process;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.engine.runtime.Execution;
 import org.flowable.rest.service.api.RestResponseFactory;
 import org.flowable.rest.service.api.engine.variable.RestVariable;
+import org.flowable.rest.service.api.engine.variable.RestVariable.RestVariableScope;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -113,6 +119,47 @@ public class ExecutionVariableCollectionResource extends BaseVariableCollectionR
         return createExecutionVariable(execution, false, RestResponseFactory.VARIABLE_EXECUTION, request, response);
     }
 
+    @ApiOperation(value = "Update variables on multiple executions", tags = { "Executions" }, nickname = "createOrUpdateVariablesOnExecutions",
+            notes = "Sets the variables of all executions in the request body in one transaction. The variables of an execution are set in the same way as "
+            + "with RuntimeService.setVariables: an existing variable is updated in the scope where it exists, a new variable is created on the process instance. "
+            + "Only variables without a scope or with the global scope are allowed.")
+    @ApiResponses(value = {
+            @ApiResponse(code = 204, message = "Indicates the executions were found and the variables are created/updated."),
+            @ApiResponse(code = 400, message = "Indicates the request body is incomplete or contains illegal values. The status description contains additional information about the error."),
+            @ApiResponse(code = 404, message = "Indicates one of the requested executions was not found.")
+    })
+    @PutMapping(value = "/runtime/executions/variables", consumes = "application/json")
+    public void createOrUpdateVariablesOnExecutions(@RequestBody List<ExecutionVariablesRequest> executionVariablesRequests, HttpServletResponse response) {
+        if (executionVariablesRequests == null || executionVariablesRequests.isEmpty()) {
+            throw new FlowableIllegalArgumentException("Request did not contain a list of executions to set the variables on.");
+        }
+
+        Map<String, Map<String, Object>> variablesByExecutionId = new LinkedHashMap<>();
+        for (ExecutionVariablesRequest executionVariablesRequest : executionVariablesRequests) {
+            if (executionVariablesRequest.getExecutionId() == null) {
+                throw new FlowableIllegalArgumentException("Execution id is required");
+            }
+
+            // Also checks if the execution can be accessed
+            Execution execution = getExecutionFromRequest(executionVariablesRequest.getExecutionId());
+            Map<String, Object> variables = variablesByExecutionId.computeIfAbsent(execution.getId(), key -> new LinkedHashMap<>());
+            if (executionVariablesRequest.getVariables() != null) {
+                for (RestVariable variable : executionVariablesRequest.getVariables()) {
+                    if (variable.getName() == null) {
+                        throw new FlowableIllegalArgumentException("Variable name is required");
+                    }
+                    if (variable.getVariableScope() == RestVariableScope.LOCAL) {
+                        throw new FlowableIllegalArgumentException("Only global variables can be set on multiple executions at once.");
+                    }
+                    variables.put(variable.getName(), restResponseFactory.getVariableValue(variable));
+                }
+            }
+        }
+
+        runtimeService.setVariablesForExecutions(variablesByExecutionId);
+        response.setStatus(HttpStatus.NO_CONTENT.value());
+    }
+
     @ApiOperation(value = "Delete all variables for an execution", tags = { "Executions" })
     @ApiResponses(value = {
             @ApiResponse(code = 204, message = "Indicates the execution was found and variables have been deleted."),
@@ -23,6 +23,8 @@ import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.api.query.QueryProperty;
 import org.flowable.common.rest.api.DataResponse;
+import org.flowable.common.rest.api.FieldProjection;
+import org.flowable.common.rest.api.KeysetPagination;
 import org.flowable.engine.HistoryService;
 import org.flowable.engine.TaskService;
 import org.flowable.rest.service.api.BpmnRestApiInterceptor;
@@ -33,6 +35,7 @@ import org.flowable.task.api.DelegationState;
 import org.flowable.task.api.Task;
 import org.flowable.task.api.TaskQuery;
 import org.flowable.task.api.history.HistoricTaskInstance;
+import org.flowable.task.service.impl.TaskQueryImpl;
 import org.flowable.task.service.impl.TaskQueryProperty;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -57,6 +60,38 @@ public class TaskBaseResource {
         properties.put("tenantId", TaskQueryProperty.TENANT_ID);
     }
 
+    protected static final FieldProjection<TaskQuery> fieldProjection = new FieldProjection<TaskQuery>(
+            (query, columns) -> ((TaskQueryImpl) query).setSelectedColumns(columns))
+            .field("id")
+            .field("url")
+            .field("owner", "RES.OWNER_")
+            .field("assignee", "RES.ASSIGNEE_")
+            .field("delegationState", "RES.DELEGATION_")
+            .field("name", "RES.NAME_")
+            .field("description", "RES.DESCRIPTION_")
+            .field("createTime", "RES.CREATE_TIME_")
+            .field("dueDate", "RES.DUE_DATE_")
+            .field("priority", "RES.PRIORITY_")
+            .field("suspended", "RES.SUSPENSION_STATE_")
+            .field("claimTime", "RES.CLAIM_TIME_")
+            .field("taskDefinitionKey", "RES.TASK_DEF_KEY_")
+            .field("scopeDefinitionId", "RES.SCOPE_DEFINITION_ID_")
+            .field("scopeId", "RES.SCOPE_ID_")
+            .field("subScopeId", "RES.SUB_SCOPE_ID_")
+            .field("scopeType", "RES.SCOPE_TYPE_")
+            .field("propagatedStageInstanceId", "RES.PROPAGATED_STAGE_INST_ID_")
+            .field("tenantId", "RES.TENANT_ID_")
+            .field("category", "RES.CATEGORY_")
+            .field("formKey", "RES.FORM_KEY_")
+            .field("parentTaskId", "RES.PARENT_TASK_ID_")
+            .field("parentTaskUrl", "RES.PARENT_TASK_ID_")
+            .field("executionId", "RES.EXECUTION_ID_")
+            .field("executionUrl", "RES.EXECUTION_ID_")
+            .field("processInstanceId", "RES.PROC_INST_ID_")
+            .field("processInstanceUrl", "RES.PROC_INST_ID_")
+            .field("processDefinitionId", "RES.PROC_DEF_ID_")
+            .field("processDefinitionUrl", "RES.PROC_DEF_ID_");
+
     @Autowired
     protected RestResponseFactory restResponseFactory;
 
@@ -329,7 +364,8 @@ public class TaskBaseResource {
             restApiInterceptor.accessTaskInfoWithQuery(taskQuery, request);
         }
 
-        return paginateList(requestParams, request, taskQuery, "id", properties, restResponseFactory::createTaskResponseList);
+        return paginateList(requestParams, request, taskQuery, "id", properties, new KeysetPagination<>("id", TaskQuery::taskIdAfter, Task::getId),
+                fieldProjection, restResponseFactory::createTaskResponseList);
     }
 
     protected void addTaskvariables(TaskQuery taskQuery, List<QueryVariable> variables) {
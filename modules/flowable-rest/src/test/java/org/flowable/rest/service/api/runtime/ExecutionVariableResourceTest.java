@@ -40,6 +40,7 @@ import org.flowable.rest.service.api.RestUrls;
 import org.junit.Test;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import net.javacrumbs.jsonunit.core.Option;
@@ -313,6 +314,48 @@ public class ExecutionVariableResourceTest extends BaseSpringRestTestCase {
     /**
      * Test updating a single execution variable using a binary stream.
      */
+    @Test
+    @Deployment(resources = { "org/flowable/rest/service/api/runtime/ExecutionResourceTest.process-with-subprocess.bpmn20.xml" })
+    public void testUpdateVariablesOnExecutions() throws Exception {
+        ProcessInstance processInstance1 = runtimeService.startProcessInstanceByKey("processOne", Collections.singletonMap("myVar", (Object) "processValue"));
+        ProcessInstance processInstance2 = runtimeService.startProcessInstanceByKey("processOne");
+
+        ArrayNode requestNode = objectMapper.createArrayNode();
+        ObjectNode executionNode = requestNode.addObject();
+        executionNode.put("executionId", processInstance1.getId());
+        ObjectNode variableNode = executionNode.putArray("variables").addObject();
+        variableNode.put("name", "myVar");
+        variableNode.put("value", "updatedValue");
+        variableNode.put("type", "string");
+
+        executionNode = requestNode.addObject();
+        executionNode.put("executionId", processInstance2.getId());
+        variableNode = executionNode.putArray("variables").addObject();
+        variableNode.put("name", "intVar");
+        variableNode.put("value", 123);
+        variableNode.put("type", "integer");
+
+        HttpPut httpPut = new HttpPut(SERVER_URL_PREFIX + RestUrls.createRelativeResourceUrl(RestUrls.URL_EXECUTIONS_VARIABLES));
+        httpPut.setEntity(new StringEntity(requestNode.toString()));
+        closeResponse(executeRequest(httpPut, HttpStatus.SC_NO_CONTENT));
+
+        assertThat(runtimeService.getVariable(processInstance1.getId(), "myVar")).isEqualTo("updatedValue");
+        assertThat(runtimeService.getVariable(processInstance2.getId(), "intVar")).isEqualTo(123);
+
+        // Local variables are not allowed
+        variableNode.put("scope", "local");
+        httpPut = new HttpPut(SERVER_URL_PREFIX + RestUrls.createRelativeResourceUrl(RestUrls.URL_EXECUTIONS_VARIABLES));
+        httpPut.setEntity(new StringEntity(requestNode.toString()));
+        closeResponse(executeRequest(httpPut, HttpStatus.SC_BAD_REQUEST));
+
+        // Unexisting execution
+        executionNode.put("executionId", "unexisting");
+        variableNode.remove("scope");
+        httpPut = new HttpPut(SERVER_URL_PREFIX + RestUrls.createRelativeResourceUrl(RestUrls.URL_EXECUTIONS_VARIABLES));
+        httpPut.setEntity(new StringEntity(requestNode.toString()));
+        closeResponse(executeRequest(httpPut, HttpStatus.SC_NOT_FOUND));
+    }
+
     @Test
     @Deployment(resources = { "org/flowable/rest/service/api/runtime/ExecutionResourceTest.process-with-subprocess.bpmn20.xml" })
     public void testUpdateBinaryExecutionVariable() throws Exception {
@@ -16,6 +16,7 @@ package org.flowable.rest.service.api.runtime;
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.HashMap;
 import java.util.List;
@@ -437,4 +438,53 @@ public class TaskCollectionResourceTest extends BaseSpringRestTestCase {
             }
         }
     }
+
+    @Test
+    public void testGetTasksWithCursorAndFields() throws Exception {
+        try {
+            for (int i = 0; i < 5; i++) {
+                Task task = taskService.newTask();
+                task.setName("Task " + i);
+                taskService.saveTask(task);
+            }
+
+            List<String> expectedTaskIds = new ArrayList<>();
+            for (Task task : taskService.createTaskQuery().orderByTaskId().asc().list()) {
+                expectedTaskIds.add(task.getId());
+            }
+
+            List<String> taskIds = new ArrayList<>();
+            String cursor = "";
+            int pages = 0;
+            while (cursor != null) {
+                String url = RestUrls.createRelativeResourceUrl(RestUrls.URL_TASK_COLLECTION) + "?size=2&fields=id,name&cursor=" + cursor;
+                CloseableHttpResponse response = executeRequest(new HttpGet(SERVER_URL_PREFIX + url), HttpStatus.SC_OK);
+                JsonNode responseNode = objectMapper.readTree(response.getEntity().getContent());
+                closeResponse(response);
+
+                assertThat(responseNode.get("total").asLong()).isEqualTo(-1);
+                for (JsonNode taskNode : responseNode.get("data")) {
+                    // Only the requested fields are returned
+                    assertThat(taskNode.size()).isEqualTo(2);
+                    assertThat(taskNode.get("name").asText()).startsWith("Task ");
+                    taskIds.add(taskNode.get("id").asText());
+                }
+
+                cursor = responseNode.has("nextCursor") ? responseNode.get("nextCursor").asText() : null;
+                pages++;
+            }
+
+            assertThat(pages).isEqualTo(3);
+            assertThat(taskIds).containsExactlyElementsOf(expectedTaskIds);
+
+            String url = RestUrls.createRelativeResourceUrl(RestUrls.URL_TASK_COLLECTION) + "?cursor=&sort=name";
+            closeResponse(executeRequest(new HttpGet(SERVER_URL_PREFIX + url), HttpStatus.SC_BAD_REQUEST));
+
+        } finally {
+            List<Task> tasks = taskService.createTaskQuery().list();
+            for (Task task : tasks) {
+                taskService.deleteTask(task.getId(), true);
+            }
+        }
+    }
 }
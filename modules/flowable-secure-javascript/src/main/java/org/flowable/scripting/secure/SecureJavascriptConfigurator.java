@@ -97,6 +97,20 @@ public class SecureJavascriptConfigurator extends AbstractProcessEngineConfigura
      */
     protected boolean enableAccessToBeans = false;
 
+    /**
+     * When true, the standard objects are created once in a sealed scope that is shared by all scripts,
+     * and scripts are compiled once and cached by their source, instead of initializing the standard objects and parsing the script for every evaluation.
+     * Note that scripts can't change the standard objects (e.g. Object.prototype) in this mode, as they are sealed.
+     *
+     * By default disabled.
+     */
+    protected boolean enableSharedScope = false;
+
+    /**
+     * The maximum number of compiled scripts that are cached when {@link #enableSharedScope} is enabled.
+     */
+    protected int compiledScriptCacheSize = 1024;
+
     @Override
     public void beforeInit(AbstractEngineConfiguration engineConfiguration) {
 
@@ -146,6 +160,8 @@ public class SecureJavascriptConfigurator extends AbstractProcessEngineConfigura
             }
 
             secureScriptContextFactory.setEnableAccessToBeans(isEnableAccessToBeans());
+            secureScriptContextFactory.setEnableSharedScope(isEnableSharedScope());
+            secureScriptContextFactory.setCompiledScriptCacheSize(getCompiledScriptCacheSize());
             ContextFactory.initGlobal(secureScriptContextFactory);
         }
     }
@@ -237,4 +253,22 @@ public class SecureJavascriptConfigurator extends AbstractProcessEngineConfigura
     public boolean isEnableAccessToBeans() {
         return enableAccessToBeans;
     }
+
+    public boolean isEnableSharedScope() {
+        return enableSharedScope;
+    }
+
+    public SecureJavascriptConfigurator setEnableSharedScope(boolean enableSharedScope) {
+        this.enableSharedScope = enableSharedScope;
+        return this;
+    }
+
+    public int getCompiledScriptCacheSize() {
+        return compiledScriptCacheSize;
+    }
+
+    public SecureJavascriptConfigurator setCompiledScriptCacheSize(int compiledScriptCacheSize) {
+        this.compiledScriptCacheSize = compiledScriptCacheSize;
+        return this;
+    }
 }
@@ -15,7 +15,10 @@ package org.flowable.scripting.secure.impl;
 import java.util.Map;
 
 import org.flowable.variable.api.delegate.VariableScope;
+import org.mozilla.javascript.ClassCache;
 import org.mozilla.javascript.Context;
+import org.mozilla.javascript.ContextFactory;
+import org.mozilla.javascript.NativeObject;
 import org.mozilla.javascript.Scriptable;
 
 /**
@@ -30,6 +33,21 @@ public class SecureJavascriptUtil {
     public static Object evaluateScript(VariableScope variableScope, String script, Map<Object, Object> beans) {
         Context context = Context.enter();
         try {
+            ContextFactory contextFactory = context.getFactory();
+            if (contextFactory instanceof SecureScriptContextFactory && ((SecureScriptContextFactory) contextFactory).isEnableSharedScope()) {
+                SecureScriptContextFactory secureScriptContextFactory = (SecureScriptContextFactory) contextFactory;
+
+                // Cheap per call scope: the variables and the sealed standard objects are looked up through its prototype
+                Scriptable sharedScope = secureScriptContextFactory.getSharedScope(context);
+                NativeObject scope = new NativeObject();
+                scope.setPrototype(new SecureScriptScope(variableScope, beans, sharedScope));
+
+                // The Java class members are cached per evaluation, so changes to the white listed classes are always applied
+                new ClassCache().associate(scope);
+
+                return secureScriptContextFactory.getCompiledScript(context, script).exec(context, scope);
+            }
+
             Scriptable scope = context.initStandardObjects();
             SecureScriptScope secureScriptScope = new SecureScriptScope(variableScope, beans);
             scope.setPrototype(secureScriptScope);
@@ -12,10 +12,14 @@
  */
 package org.flowable.scripting.secure.impl;
 
+import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.mozilla.javascript.Callable;
 import org.mozilla.javascript.Context;
 import org.mozilla.javascript.ContextFactory;
+import org.mozilla.javascript.Script;
 import org.mozilla.javascript.Scriptable;
+import org.mozilla.javascript.ScriptableObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,6 +39,11 @@ public class SecureScriptContextFactory extends ContextFactory {
     protected SecureScriptThreadMxBeanWrapper threadMxBeanWrapper;
     protected boolean enableAccessToBeans = false;
 
+    protected boolean enableSharedScope = false;
+    protected int compiledScriptCacheSize = 1024;
+    protected volatile ScriptableObject sharedScope;
+    protected DeploymentCache<Script> compiledScriptCache;
+
     @Override
     protected Context makeContext() {
         SecureScriptContext context = new SecureScriptContext(this);
@@ -104,6 +113,50 @@ public class SecureScriptContextFactory extends ContextFactory {
         return super.doTopCall(callable, cx, scope, thisObj, args);
     }
 
+    /**
+     * Returns the sealed scope with the standard objects, which is created once and shared by all scripts
+     * (instead of calling {@link Context#initStandardObjects()} for every script evaluation).
+     */
+    public ScriptableObject getSharedScope(Context context) {
+        ScriptableObject scope = sharedScope;
+        if (scope == null) {
+            synchronized (this) {
+                scope = sharedScope;
+                if (scope == null) {
+                    scope = context.initStandardObjects(null, true);
+                    scope.sealObject();
+                    sharedScope = scope;
+                }
+            }
+        }
+        return scope;
+    }
+
+    /**
+     * Returns the compiled version of the script, which is compiled once and then reused for every evaluation of the same script source.
+     * The script is compiled with a context of this factory, hence the instruction observer and stack depth settings are applied to it.
+     */
+    public Script getCompiledScript(Context context, String script) {
+        DeploymentCache<Script> cache = getCompiledScriptCache();
+        Script compiledScript = cache.get(script);
+        if (compiledScript == null) {
+            compiledScript = context.compileString(script, "<script>", 0, null);
+            cache.add(script, compiledScript);
+        }
+        return compiledScript;
+    }
+
+    protected DeploymentCache<Script> getCompiledScriptCache() {
+        if (compiledScriptCache == null) {
+            synchronized (this) {
+                if (compiledScriptCache == null) {
+                    compiledScriptCache = new DefaultDeploymentCache<>(compiledScriptCacheSize);
+                }
+            }
+        }
+        return compiledScriptCache;
+    }
+
     public int getOptimizationLevel() {
         return optimizationLevel;
     }
@@ -170,4 +223,20 @@ public class SecureScriptContextFactory extends ContextFactory {
     public void setEnableAccessToBeans(boolean enableAccessToBeans) {
         this.enableAccessToBeans = enableAccessToBeans;
     }
+
+    public boolean isEnableSharedScope() {
+        return enableSharedScope;
+    }
+
+    public void setEnableSharedScope(boolean enableSharedScope) {
+        this.enableSharedScope = enableSharedScope;
+    }
+
+    public int getCompiledScriptCacheSize() {
+        return compiledScriptCacheSize;
+    }
+
+    public void setCompiledScriptCacheSize(int compiledScriptCacheSize) {
+        this.compiledScriptCacheSize = compiledScriptCacheSize;
+    }
 }
\ No newline at end of file
@@ -30,12 +30,22 @@ public class SecureScriptScope implements Scriptable {
     protected VariableScope variableScope;
     protected Map<Object, Object> beans;
 
+    /**
+     * Optional shared (sealed) scope with the standard objects, which takes precedence over the variables.
+     */
+    protected Scriptable standardObjectsScope;
+
     public SecureScriptScope(VariableScope variableScope, Map<Object, Object> beans) {
         super();
         this.variableScope = variableScope;
         this.beans = beans;
     }
 
+    public SecureScriptScope(VariableScope variableScope, Map<Object, Object> beans, Scriptable standardObjectsScope) {
+        this(variableScope, beans);
+        this.standardObjectsScope = standardObjectsScope;
+    }
+
     @Override
     public String getClassName() {
         return variableScope.getClass().getName();
@@ -43,7 +53,9 @@ public class SecureScriptScope implements Scriptable {
 
     @Override
     public Object get(String s, Scriptable scriptable) {
-        if (KEYWORD_EXECUTION.equals(s) && variableScope instanceof DelegateExecution) {
+        if (standardObjectsScope != null && standardObjectsScope.has(s, standardObjectsScope)) {
+            return standardObjectsScope.get(s, standardObjectsScope);
+        } else if (KEYWORD_EXECUTION.equals(s) && variableScope instanceof DelegateExecution) {
             return variableScope;
         } else if (KEYWORD_TASK.equals(s) && variableScope instanceof DelegateTask) {
             return variableScope;
@@ -88,7 +100,8 @@ public class SecureScriptScope implements Scriptable {
 
     @Override
     public Scriptable getPrototype() {
-        return null;
+        // Makes the top level values of the standard objects scope (e.g. the class cache) reachable
+        return standardObjectsScope;
     }
 
     @Override
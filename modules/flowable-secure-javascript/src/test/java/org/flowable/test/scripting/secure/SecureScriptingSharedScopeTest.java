@@ -0,0 +1,62 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.test.scripting.secure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.scripting.secure.SecureJavascriptConfigurator;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Runs all the secure scripting tests with the sealed shared scope and the compiled scripts cache enabled.
+ */
+public class SecureScriptingSharedScopeTest extends SecureScriptingTest {
+
+    @Before
+    public void enableSharedScope() {
+        // The Rhino context factory is global, hence it is reconfigured here instead of through the configurator
+        SecureJavascriptConfigurator.secureScriptContextFactory.setEnableSharedScope(true);
+    }
+
+    @After
+    public void disableSharedScope() {
+        SecureJavascriptConfigurator.secureScriptContextFactory.setEnableSharedScope(false);
+    }
+
+    @Test
+    public void testCompiledScriptIsReusedWithOtherVariables() {
+        deployProcessDefinition("test-secure-script-use-variableScope-and-vars.bpmn20.xml");
+
+        addWhiteListedClass("java.lang.Integer");
+        addWhiteListedClass("org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl");
+
+        Map<String, Object> vars = new HashMap<>();
+        vars.put("a", 123);
+        vars.put("b", 456);
+        ProcessInstance processInstance1 = runtimeService.startProcessInstanceByKey("useExecutionAndVars", vars);
+
+        vars.put("a", 1);
+        vars.put("b", 2);
+        ProcessInstance processInstance2 = runtimeService.startProcessInstanceByKey("useExecutionAndVars", vars);
+
+        assertThat(((Number) runtimeService.getVariable(processInstance1.getId(), "c")).intValue()).isEqualTo(579);
+        assertThat(((Number) runtimeService.getVariable(processInstance2.getId(), "c")).intValue()).isEqualTo(3);
+    }
+
+}
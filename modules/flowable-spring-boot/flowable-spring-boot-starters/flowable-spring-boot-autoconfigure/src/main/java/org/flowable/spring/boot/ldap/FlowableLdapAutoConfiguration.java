@@ -13,7 +13,9 @@
 package org.flowable.spring.boot.ldap;
 
 import org.flowable.idm.api.IdmIdentityService;
+import org.flowable.idm.api.User;
 import org.flowable.idm.spring.SpringIdmEngineConfiguration;
+import org.flowable.ldap.LDAPCache;
 import org.flowable.ldap.LDAPConfiguration;
 import org.flowable.ldap.LDAPGroupCache;
 import org.flowable.ldap.LDAPIdentityServiceImpl;
@@ -86,7 +88,7 @@ public class FlowableLdapAutoConfiguration {
     public EngineConfigurationConfigurer<SpringIdmEngineConfiguration> ldapIdmEngineConfigurer(LDAPConfiguration ldapConfiguration) {
         return idmEngineConfiguration -> idmEngineConfiguration
             .setIdmIdentityService(new LDAPIdentityServiceImpl(ldapConfiguration, 
-                    createCache(idmEngineConfiguration, ldapConfiguration), idmEngineConfiguration));
+                    createCache(idmEngineConfiguration, ldapConfiguration), createUserCache(idmEngineConfiguration, ldapConfiguration), idmEngineConfiguration));
     }
 
     // We need a custom AuthenticationProvider for the LDAP Support
@@ -106,6 +108,7 @@ public class FlowableLdapAutoConfiguration {
             // We need to use a supplier for the clock as the clock would be created later
             ldapGroupCache = new LDAPGroupCache(ldapConfiguration.getGroupCacheSize(),
                 ldapConfiguration.getGroupCacheExpirationTime(), engineConfiguration::getClock);
+            ldapGroupCache.setRefreshAheadTime(ldapConfiguration.getCacheRefreshAheadTime());
 
             if (ldapConfiguration.getGroupCacheListener() != null) {
                 ldapGroupCache.setLdapCacheListener(ldapConfiguration.getGroupCacheListener());
@@ -114,4 +117,14 @@ public class FlowableLdapAutoConfiguration {
         return ldapGroupCache;
     }
 
+    protected LDAPCache<User> createUserCache(SpringIdmEngineConfiguration engineConfiguration, LDAPConfiguration ldapConfiguration) {
+        LDAPCache<User> ldapUserCache = null;
+        if (ldapConfiguration.getUserCacheSize() > 0) {
+            ldapUserCache = new LDAPCache<>(ldapConfiguration.getUserCacheSize(),
+                ldapConfiguration.getUserCacheExpirationTime(), engineConfiguration::getClock);
+            ldapUserCache.setRefreshAheadTime(ldapConfiguration.getCacheRefreshAheadTime());
+        }
+        return ldapUserCache;
+    }
+
 }
@@ -92,6 +92,16 @@ public class FlowableLdapProperties {
      */
     private int searchTimeLimit = 0;
 
+    /**
+     * The number of results fetched per page when doing a search in LDAP. By default set to '-1', which means paging is not used.
+     */
+    private int searchPageSize = -1;
+
+    /**
+     * Whether the connections to LDAP, used for the searches, should be pooled. By default set to 'false'.
+     */
+    private boolean connectionPooling = false;
+
     /**
      * Configuration for the queries performed by the IDM Service.
      */
@@ -206,6 +216,22 @@ public class FlowableLdapProperties {
         this.searchTimeLimit = searchTimeLimit;
     }
 
+    public int getSearchPageSize() {
+        return searchPageSize;
+    }
+
+    public void setSearchPageSize(int searchPageSize) {
+        this.searchPageSize = searchPageSize;
+    }
+
+    public boolean isConnectionPooling() {
+        return connectionPooling;
+    }
+
+    public void setConnectionPooling(boolean connectionPooling) {
+        this.connectionPooling = connectionPooling;
+    }
+
     public Query getQuery() {
         return query;
     }
@@ -230,6 +256,8 @@ public class FlowableLdapProperties {
         configuration.setUserBaseDn(getUserBaseDn());
         configuration.setGroupBaseDn(getGroupBaseDn());
         configuration.setSearchTimeLimit(getSearchTimeLimit());
+        configuration.setSearchPageSize(getSearchPageSize());
+        configuration.setConnectionPooling(isConnectionPooling());
         query.customize(configuration);
         attribute.customize(configuration);
         cache.customize(configuration);
@@ -509,6 +537,26 @@ public class FlowableLdapProperties {
         //TODO once we move to Boot 2.0 we can use Duration as a parameter’
         private long groupExpiration = Duration.of(1, ChronoUnit.HOURS).toMillis();
 
+        /**
+         * Allows to set the size of the LDAP user cache. This is an LRU cache that caches users by id.
+         * <p>
+         * The cache will not be instantiated if the value is less then zero. By default set to -1, so no caching is done.
+         */
+        private int userSize = -1;
+
+        /**
+         * Sets the expiration time of the LDAP user cache in milliseconds. By default set to one hour.
+         */
+        private long userExpiration = Duration.of(1, ChronoUnit.HOURS).toMillis();
+
+        /**
+         * Sets the time in milliseconds before the expiration of a group or user cache entry from which on the entry is fetched again in the background when it is used,
+         * while the cached value is still returned.
+         * <p>
+         * By default set to -1, so entries are only fetched again after they have expired.
+         */
+        private long refreshAhead = -1;
+
         public int getGroupSize() {
             return groupSize;
         }
@@ -525,9 +573,36 @@ public class FlowableLdapProperties {
             this.groupExpiration = groupExpiration;
         }
 
+        public int getUserSize() {
+            return userSize;
+        }
+
+        public void setUserSize(int userSize) {
+            this.userSize = userSize;
+        }
+
+        public long getUserExpiration() {
+            return userExpiration;
+        }
+
+        public void setUserExpiration(long userExpiration) {
+            this.userExpiration = userExpiration;
+        }
+
+        public long getRefreshAhead() {
+            return refreshAhead;
+        }
+
+        public void setRefreshAhead(long refreshAhead) {
+            this.refreshAhead = refreshAhead;
+        }
+
         public void customize(LDAPConfiguration configuration) {
             configuration.setGroupCacheSize(getGroupSize());
             configuration.setGroupCacheExpirationTime(getGroupExpiration());
+            configuration.setUserCacheSize(getUserSize());
+            configuration.setUserCacheExpirationTime(getUserExpiration());
+            configuration.setCacheRefreshAheadTime(getRefreshAhead());
         }
     }
 }
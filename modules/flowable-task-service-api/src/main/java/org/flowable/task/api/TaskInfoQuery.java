@@ -33,6 +33,13 @@ public interface TaskInfoQuery<T extends TaskInfoQuery<?, ?>, V extends TaskInfo
      */
     T taskId(String taskId);
 
+    /**
+     * Only select tasks with an id after the given id, in the ordering of the ids in the database.
+     * Combined with an ascending order by task id, this allows to page through tasks by remembering the id of the last task of a page,
+     * which (unlike paging with a first result) doesn't get slower when paging further.
+     */
+    T taskIdAfter(String taskId);
+
     /** Only select tasks with the given name */
     T taskName(String name);
 
@@ -16,8 +16,10 @@ package org.flowable.task.service.impl;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -144,6 +146,7 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
     protected HistoricTaskInstanceQueryImpl currentOrQueryObject;
 
     protected boolean inOrStatement;
+    protected String idAfter;
 
     public HistoricTaskInstanceQueryImpl() {
     }
@@ -165,6 +168,27 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         this.variableServiceConfiguration = variableServiceConfiguration;
     }
 
+    /**
+     * Iterates over all historic task instances matching this query, fetching them in pages of the given size.
+     * Pages are fetched using the id of the last result of the previous page (keyset pagination),
+     * so only one page is kept in memory and deep pages are as fast as the first one.
+     * The results are ordered by id, other orderings are not supported.
+     */
+    public Iterator<HistoricTaskInstance> iterate(int pageSize) {
+        return iterateByKeyset(pageSize, HistoricTaskInstance::getId, this::getIdAfter, idAfter -> this.idAfter = idAfter);
+    }
+
+    /**
+     * Same as {@link #iterate(int)}, but returns the results as a sequential {@link Stream}.
+     */
+    public Stream<HistoricTaskInstance> stream(int pageSize) {
+        return streamByKeyset(pageSize, HistoricTaskInstance::getId, this::getIdAfter, idAfter -> this.idAfter = idAfter);
+    }
+
+    public String getIdAfter() {
+        return idAfter;
+    }
+
     @Override
     public long executeCount(CommandContext commandContext) {
         ensureVariablesInitialized();
@@ -639,6 +663,20 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         return this;
     }
 
+    @Override
+    public HistoricTaskInstanceQuery taskIdAfter(String taskId) {
+        if (taskId == null) {
+            throw new FlowableIllegalArgumentException("Task id is null");
+        }
+
+        if (inOrStatement) {
+            this.currentOrQueryObject.idAfter = taskId;
+        } else {
+            this.idAfter = taskId;
+        }
+        return this;
+    }
+
     @Override
     public HistoricTaskInstanceQuery taskName(String taskName) {
         if (inOrStatement) {
@@ -52,6 +52,7 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
     protected IdmIdentityService idmIdentityService;
 
     protected String taskId;
+    protected String idAfter;
     protected String name;
     protected String nameLike;
     protected String nameLikeIgnoreCase;
@@ -1502,6 +1503,20 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return this;
     }
 
+    @Override
+    public TaskQuery taskIdAfter(String taskId) {
+        if (taskId == null) {
+            throw new FlowableIllegalArgumentException("Task id is null");
+        }
+
+        if (orActive) {
+            currentOrQueryObject.idAfter = taskId;
+        } else {
+            this.idAfter = taskId;
+        }
+        return this;
+    }
+
     @Override
     public TaskQuery locale(String locale) {
         this.locale = locale;
@@ -1884,6 +1899,10 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return taskId;
     }
 
+    public String getIdAfter() {
+        return idAfter;
+    }
+
     @Override
     public String getId() {
         return taskId;
@@ -28,6 +28,12 @@ public interface HistoricVariableInstanceQuery extends Query<HistoricVariableIns
     /** Only select a historic variable with the given id. */
     HistoricVariableInstanceQuery id(String id);
 
+    /**
+     * Only select historic variables with an id after the given id, in the ordering of the ids in the database.
+     * Combined with an ascending order by variable id, this allows to page through historic variables by remembering the id of the last variable of a page.
+     */
+    HistoricVariableInstanceQuery idAfter(String id);
+
     /** Only select historic process variables with the given process instance. */
     HistoricVariableInstanceQuery processInstanceId(String processInstanceId);
 
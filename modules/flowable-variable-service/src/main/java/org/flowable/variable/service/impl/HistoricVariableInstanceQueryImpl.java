@@ -13,8 +13,10 @@
 
 package org.flowable.variable.service.impl;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
@@ -53,6 +55,7 @@ public class HistoricVariableInstanceQueryImpl extends AbstractQuery<HistoricVar
     protected String subScopeId;
     protected String scopeType;
     protected QueryVariableValue queryVariableValue;
+    protected String idAfter;
 
     public HistoricVariableInstanceQueryImpl() {
     }
@@ -73,6 +76,15 @@ public class HistoricVariableInstanceQueryImpl extends AbstractQuery<HistoricVar
         return this;
     }
 
+    @Override
+    public HistoricVariableInstanceQuery idAfter(String id) {
+        if (id == null) {
+            throw new FlowableIllegalArgumentException("id is null");
+        }
+        this.idAfter = id;
+        return this;
+    }
+
     @Override
     public HistoricVariableInstanceQueryImpl processInstanceId(String processInstanceId) {
         if (processInstanceId == null) {
@@ -247,6 +259,27 @@ public class HistoricVariableInstanceQueryImpl extends AbstractQuery<HistoricVar
         }
     }
 
+    /**
+     * Iterates over all historic variable instances matching this query, fetching them in pages of the given size.
+     * Pages are fetched using the id of the last result of the previous page (keyset pagination),
+     * so only one page is kept in memory and deep pages are as fast as the first one.
+     * The results are ordered by id, other orderings are not supported.
+     */
+    public Iterator<HistoricVariableInstance> iterate(int pageSize) {
+        return iterateByKeyset(pageSize, HistoricVariableInstance::getId, this::getIdAfter, idAfter -> this.idAfter = idAfter);
+    }
+
+    /**
+     * Same as {@link #iterate(int)}, but returns the results as a sequential {@link Stream}.
+     */
+    public Stream<HistoricVariableInstance> stream(int pageSize) {
+        return streamByKeyset(pageSize, HistoricVariableInstance::getId, this::getIdAfter, idAfter -> this.idAfter = idAfter);
+    }
+
+    public String getIdAfter() {
+        return idAfter;
+    }
+
     @Override
     public long executeCount(CommandContext commandContext) {
         ensureVariablesInitialized();
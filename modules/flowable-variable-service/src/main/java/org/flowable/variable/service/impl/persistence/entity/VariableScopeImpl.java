@@ -90,6 +90,19 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
         this.variableInstances = variableInstances;
     }
 
+    /**
+     * Only to be used when the variable instances of this scope have been fetched together with those of other scopes, to avoid an extra call to the database.
+     * Nothing is changed when the variable instances of this scope have already been loaded.
+     */
+    public void internalInitializeVariableInstances(Collection<VariableInstanceEntity> variableInstancesList) {
+        if (variableInstances == null) {
+            variableInstances = new HashMap<>();
+            for (VariableInstanceEntity variableInstance : variableInstancesList) {
+                variableInstances.put(variableInstance.getName(), variableInstance);
+            }
+        }
+    }
+
     @Override
     public Map<String, Object> getVariables() {
         return collectVariables(new HashMap<>());
@@ -705,9 +718,9 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
 
             } else {
 
-                // Not in local cache, check if defined on this scope
+                // Not in local cache, check if defined on this scope (no need to when all variables of this scope are loaded already)
                 // Create it if it doesn't exist yet
-                VariableInstanceEntity variable = getSpecificVariable(variableName);
+                VariableInstanceEntity variable = variableInstances == null ? getSpecificVariable(variableName) : null;
                 if (variable != null) {
                     updateVariableInstance(variable, value);
                 } else {
@@ -12,12 +12,18 @@
  */
 package org.flowable.variable.service.impl.types;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.flowable.common.engine.impl.HasVariableServiceConfiguration;
@@ -33,6 +39,7 @@ import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 
 /**
  * @author Tijs Rademakers
@@ -48,16 +55,29 @@ public class JsonType implements VariableType, MutableVariableType<JsonNode, Jso
 
     protected final int maxLength;
     protected final boolean trackObjects;
+    protected final boolean compressLargeValues;
     protected final String typeName;
     protected ObjectMapper objectMapper;
 
     public JsonType(int maxLength, ObjectMapper objectMapper, boolean trackObjects) {
-        this(maxLength, objectMapper, trackObjects, TYPE_NAME);
+        this(maxLength, objectMapper, trackObjects, false);
+    }
+
+    /**
+     * @param compressLargeValues when true, values that are longer than the max length are stored gzip compressed in the byte array
+     */
+    public JsonType(int maxLength, ObjectMapper objectMapper, boolean trackObjects, boolean compressLargeValues) {
+        this(maxLength, objectMapper, trackObjects, compressLargeValues, TYPE_NAME);
     }
 
     protected JsonType(int maxLength, ObjectMapper objectMapper, boolean trackObjects, String typeName) {
+        this(maxLength, objectMapper, trackObjects, false, typeName);
+    }
+
+    protected JsonType(int maxLength, ObjectMapper objectMapper, boolean trackObjects, boolean compressLargeValues, String typeName) {
         this.maxLength = maxLength;
         this.trackObjects = trackObjects;
+        this.compressLargeValues = compressLargeValues;
         this.objectMapper = objectMapper;
         this.typeName = typeName;
     }
@@ -84,22 +104,24 @@ public class JsonType implements VariableType, MutableVariableType<JsonNode, Jso
         }
 
         JsonNode jsonValue = null;
+        TrackingJsonNodeFactory nodeFactory = createTrackingNodeFactory(valueFields);
+        ObjectReader reader = nodeFactory != null ? objectMapper.reader().with(nodeFactory) : objectMapper.reader();
         String textValue = valueFields.getTextValue();
         if (textValue != null && textValue.length() > 0) {
             try {
-                jsonValue = objectMapper.readTree(textValue);
+                jsonValue = reader.readTree(textValue);
                 valueFields.setCachedValue(jsonValue);
-                traceValue(jsonValue, valueFields);
+                traceValue(jsonValue, nodeFactory, valueFields);
             } catch (Exception e) {
                 LOGGER.error("Error reading json variable {}", valueFields.getName(), e);
             }
         } else {
             byte[] bytes = valueFields.getBytes();
             if (bytes != null && bytes.length > 0) {
-                try {
-                    jsonValue = objectMapper.readTree(bytes);
+                try (InputStream inputStream = createInputStream(bytes)) {
+                    jsonValue = reader.readTree(inputStream);
                     valueFields.setCachedValue(jsonValue);
-                    traceValue(jsonValue, valueFields);
+                    traceValue(jsonValue, nodeFactory, valueFields);
                 } catch (IOException e) {
                     LOGGER.error("Error reading json variable {}", valueFields.getName(), e);
                 }
@@ -121,7 +143,7 @@ public class JsonType implements VariableType, MutableVariableType<JsonNode, Jso
                 valueFields.setTextValue(textValue);
                 valueFields.setBytes(null);
             } else {
-                valueFields.setBytes(textValue.getBytes(StandardCharsets.UTF_8));
+                valueFields.setBytes(toBytes(textValue));
                 valueFields.setTextValue(null);
             }
             valueFields.setCachedValue(jsonNode);
@@ -133,36 +155,92 @@ public class JsonType implements VariableType, MutableVariableType<JsonNode, Jso
     public boolean updateValueIfChanged(JsonNode originalNode, JsonNode originalCopyNode, VariableInstanceEntity variableInstanceEntity) {
         boolean valueChanged = false;
         if (!Objects.equals(originalNode, originalCopyNode)) {
-            String textValue = originalNode.toString();
-            if (textValue.length() <= maxLength) {
-                variableInstanceEntity.setTextValue(textValue);
-                if (variableInstanceEntity.getByteArrayRef() != null) {
-                    variableInstanceEntity.getByteArrayRef().delete(getEngineType(variableInstanceEntity.getScopeType()));
-                }
-            } else {
-                variableInstanceEntity.setTextValue(null);
-                variableInstanceEntity.setBytes(textValue.getBytes(StandardCharsets.UTF_8));
-            }
+            updateValue(originalNode, variableInstanceEntity);
             valueChanged = true;
         }
         return valueChanged;
     }
 
+    protected void updateValue(JsonNode node, VariableInstanceEntity variableInstanceEntity) {
+        String textValue = node.toString();
+        if (textValue.length() <= maxLength) {
+            variableInstanceEntity.setTextValue(textValue);
+            if (variableInstanceEntity.getByteArrayRef() != null) {
+                variableInstanceEntity.getByteArrayRef().delete(getEngineType(variableInstanceEntity.getScopeType()));
+            }
+        } else {
+            variableInstanceEntity.setTextValue(null);
+            variableInstanceEntity.setBytes(toBytes(textValue));
+        }
+    }
+
     protected void traceValue(JsonNode value, ValueFields valueFields) {
+        traceValue(value, null, valueFields);
+    }
+
+    /**
+     * Traces the value for changes. When the value has been read with a {@link TrackingJsonNodeFactory}, the changes are detected by the factory.
+     * Otherwise, e.g. for a value that was passed in by the user, a deep copy of the value is made to compare with.
+     */
+    protected void traceValue(JsonNode value, TrackingJsonNodeFactory nodeFactory, ValueFields valueFields) {
         if (trackObjects && valueFields instanceof VariableInstanceEntity) {
+            if (nodeFactory != null && !value.isContainerNode()) {
+                // Value nodes are immutable, there is nothing to trace
+                return;
+            }
+
             CommandContext commandContext = Context.getCommandContext();
             if (commandContext != null) {
                 VariableServiceConfiguration variableServiceConfiguration = getVariableServiceConfiguration(valueFields);
                 if (variableServiceConfiguration != null) {
-                    commandContext.addCloseListener(new TraceableVariablesCommandContextCloseListener(
-                        new TraceableObject<>(this, value, value.deepCopy(), (VariableInstanceEntity) valueFields)
-                    ));
+                    TraceableObject<JsonNode, JsonNode> traceableObject;
+                    if (nodeFactory != null) {
+                        nodeFactory.resetModified();
+                        traceableObject = new TrackedJsonTraceableObject(this, value, nodeFactory, (VariableInstanceEntity) valueFields);
+                    } else {
+                        traceableObject = new TraceableObject<>(this, value, value.deepCopy(), (VariableInstanceEntity) valueFields);
+                    }
+                    commandContext.addCloseListener(new TraceableVariablesCommandContextCloseListener(traceableObject));
                     
                     variableServiceConfiguration.getInternalHistoryVariableManager().initAsyncHistoryCommandContextCloseListener();
                 }
             }
         }
     }
+
+    protected TrackingJsonNodeFactory createTrackingNodeFactory(ValueFields valueFields) {
+        if (trackObjects && valueFields instanceof VariableInstanceEntity && Context.getCommandContext() != null) {
+            return new TrackingJsonNodeFactory(objectMapper.getNodeFactory());
+        }
+        return null;
+    }
+
+    protected byte[] toBytes(String textValue) {
+        byte[] bytes = textValue.getBytes(StandardCharsets.UTF_8);
+        if (!compressLargeValues) {
+            return bytes;
+        }
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(bytes);
+        } catch (IOException e) {
+            throw new FlowableException("Could not compress json value", e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    protected InputStream createInputStream(byte[] bytes) throws IOException {
+        // Json text can never start with the gzip magic number, hence compressed and uncompressed values can be read independent of the configuration
+        if (bytes.length > 1 && bytes[0] == (byte) GZIPInputStream.GZIP_MAGIC && bytes[1] == (byte) (GZIPInputStream.GZIP_MAGIC >> 8)) {
+            return new GZIPInputStream(new ByteArrayInputStream(bytes));
+        }
+        return new ByteArrayInputStream(bytes);
+    }
+
+    public boolean isCompressLargeValues() {
+        return compressLargeValues;
+    }
     
     protected VariableServiceConfiguration getVariableServiceConfiguration(ValueFields valueFields) {
         String engineType = getEngineType(valueFields.getScopeType());
@@ -49,7 +49,7 @@ public class TraceableObject<O, C> {
 
     public void updateIfValueChanged() {
         if (tracedObject == variableInstanceEntity.getCachedValue()) {
-            if (type.updateValueIfChanged(tracedObject, tracedObjectOriginalValue, variableInstanceEntity)) {
+            if (updateValueIfChanged()) {
                 VariableServiceConfiguration variableServiceConfiguration = getVariableServiceConfiguration();
                 variableServiceConfiguration.getInternalHistoryVariableManager().recordVariableUpdate(
                         variableInstanceEntity, variableServiceConfiguration.getClock().getCurrentTime());
@@ -57,6 +57,10 @@ public class TraceableObject<O, C> {
         }
     }
     
+    protected boolean updateValueIfChanged() {
+        return type.updateValueIfChanged(tracedObject, tracedObjectOriginalValue, variableInstanceEntity);
+    }
+    
     protected VariableServiceConfiguration getVariableServiceConfiguration() {
         String engineType = getEngineType(variableInstanceEntity.getScopeType());
         Map<String, AbstractEngineConfiguration> engineConfigurationMap = Context.getCommandContext().getEngineConfigurations();
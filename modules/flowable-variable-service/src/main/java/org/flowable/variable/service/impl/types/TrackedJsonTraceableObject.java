@@ -0,0 +1,45 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * A {@link TraceableObject} for a json value that has been read with a {@link TrackingJsonNodeFactory}.
+ * Instead of comparing the value with a deep copy, the factory is asked if any of the nodes of the value has been changed.
+ */
+public class TrackedJsonTraceableObject extends TraceableObject<JsonNode, JsonNode> {
+
+    protected JsonType jsonType;
+    protected TrackingJsonNodeFactory nodeFactory;
+
+    public TrackedJsonTraceableObject(JsonType jsonType, JsonNode tracedObject, TrackingJsonNodeFactory nodeFactory,
+                    VariableInstanceEntity variableInstanceEntity) {
+
+        super(jsonType, tracedObject, null, variableInstanceEntity);
+        this.jsonType = jsonType;
+        this.nodeFactory = nodeFactory;
+    }
+
+    @Override
+    protected boolean updateValueIfChanged() {
+        if (nodeFactory.isModified()) {
+            jsonType.updateValue(tracedObject, variableInstanceEntity);
+            nodeFactory.resetModified();
+            return true;
+        }
+        return false;
+    }
+}
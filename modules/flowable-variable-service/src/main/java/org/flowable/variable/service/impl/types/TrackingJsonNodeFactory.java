@@ -0,0 +1,233 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import java.math.BigDecimal;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.ValueNode;
+
+/**
+ * A {@link JsonNodeFactory} that creates {@link ObjectNode}s and {@link ArrayNode}s of which the children are tracked:
+ * any change to the children of a container node created by this factory (or by one of its container nodes, e.g. through {@link ObjectNode#putObject(String)})
+ * marks the factory as modified. This makes it possible to know if a json value has been changed, without making and comparing a deep copy of the value.
+ *
+ * Value nodes (text, numbers, ...) are immutable in Jackson, hence only the container nodes need to be tracked.
+ */
+public class TrackingJsonNodeFactory extends JsonNodeFactory {
+
+    private static final long serialVersionUID = 1L;
+
+    protected final JsonNodeFactory delegate;
+    protected transient boolean modified;
+
+    public TrackingJsonNodeFactory(JsonNodeFactory delegate) {
+        this.delegate = delegate != null ? delegate : JsonNodeFactory.instance;
+    }
+
+    @Override
+    public ObjectNode objectNode() {
+        return new ObjectNode(this, new TrackingMap(new LinkedHashMap<>()));
+    }
+
+    @Override
+    public ArrayNode arrayNode() {
+        return new ArrayNode(this, new TrackingList(new ArrayList<>()));
+    }
+
+    @Override
+    public ArrayNode arrayNode(int capacity) {
+        return new ArrayNode(this, new TrackingList(new ArrayList<>(capacity)));
+    }
+
+    @Override
+    public ValueNode numberNode(BigDecimal value) {
+        // Keep the big decimal configuration of the object mapper
+        return delegate.numberNode(value);
+    }
+
+    public boolean isModified() {
+        return modified;
+    }
+
+    /**
+     * Resets the modified flag, e.g. after the json has been read, as building the tree modifies the container nodes.
+     */
+    public void resetModified() {
+        this.modified = false;
+    }
+
+    protected void markModified() {
+        this.modified = true;
+    }
+
+    protected class TrackingMap extends AbstractMap<String, JsonNode> {
+
+        protected final Map<String, JsonNode> map;
+
+        protected TrackingMap(Map<String, JsonNode> map) {
+            this.map = map;
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return map.containsKey(key);
+        }
+
+        @Override
+        public JsonNode get(Object key) {
+            return map.get(key);
+        }
+
+        @Override
+        public JsonNode put(String key, JsonNode value) {
+            markModified();
+            return map.put(key, value);
+        }
+
+        @Override
+        public JsonNode remove(Object key) {
+            if (map.containsKey(key)) {
+                markModified();
+            }
+            return map.remove(key);
+        }
+
+        @Override
+        public void putAll(Map<? extends String, ? extends JsonNode> m) {
+            if (!m.isEmpty()) {
+                markModified();
+            }
+            map.putAll(m);
+        }
+
+        @Override
+        public void clear() {
+            if (!map.isEmpty()) {
+                markModified();
+            }
+            map.clear();
+        }
+
+        @Override
+        public Set<Entry<String, JsonNode>> entrySet() {
+            // All the views (key set, values, entry set) go through this set, hence removals through them are tracked as well
+            return new AbstractSet<Entry<String, JsonNode>>() {
+
+                @Override
+                public Iterator<Entry<String, JsonNode>> iterator() {
+                    Iterator<Entry<String, JsonNode>> iterator = map.entrySet().iterator();
+                    return new Iterator<Entry<String, JsonNode>>() {
+
+                        @Override
+                        public boolean hasNext() {
+                            return iterator.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, JsonNode> next() {
+                            Entry<String, JsonNode> entry = iterator.next();
+                            return new SimpleEntry<String, JsonNode>(entry) {
+
+                                private static final long serialVersionUID = 1L;
+
+                                @Override
+                                public JsonNode setValue(JsonNode value) {
+                                    markModified();
+                                    super.setValue(value);
+                                    return entry.setValue(value);
+                                }
+                            };
+                        }
+
+                        @Override
+                        public void remove() {
+                            markModified();
+                            iterator.remove();
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return map.size();
+                }
+            };
+        }
+    }
+
+    protected class TrackingList extends AbstractList<JsonNode> {
+
+        protected final List<JsonNode> list;
+
+        protected TrackingList(List<JsonNode> list) {
+            this.list = list;
+        }
+
+        @Override
+        public JsonNode get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+
+        @Override
+        public JsonNode set(int index, JsonNode element) {
+            markModified();
+            return list.set(index, element);
+        }
+
+        @Override
+        public void add(int index, JsonNode element) {
+            markModified();
+            modCount++;
+            list.add(index, element);
+        }
+
+        @Override
+        public JsonNode remove(int index) {
+            markModified();
+            modCount++;
+            return list.remove(index);
+        }
+
+        @Override
+        public void clear() {
+            if (!list.isEmpty()) {
+                markModified();
+                modCount++;
+            }
+            list.clear();
+        }
+    }
+}